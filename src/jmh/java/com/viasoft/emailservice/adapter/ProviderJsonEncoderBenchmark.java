@@ -0,0 +1,125 @@
+package com.viasoft.emailservice.adapter;
+
+import com.viasoft.emailservice.adapter.impl.AwsEmailAdapter;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.util.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo e alocação da codificação do JSON de um email para a AWS, pelo
+ * caminho do pipeline, que cria o DTO da AWS, o serializa em texto
+ * pelo {@link JsonSerializer} e converte o texto em bytes, comparado
+ * com a codificação direta em bytes do {@link ProviderJsonEncoder},
+ * devolvendo um array ({@link #encoderBytes}), escrevendo em um
+ * {@link OutputStream}
+ * ({@link #encoderStream}) ou copiando para um {@link ByteBuffer}
+ * reaproveitado ({@link #encoderByteBuffer}).
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="ProviderJsonEncoderBenchmark -prof gc"} e compare a
+ * coluna {@code gc.alloc.rate.norm}, em bytes por email.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderJsonEncoderBenchmark {
+
+    /**
+     * Adaptador medido.
+     */
+    private final AwsEmailAdapter adapter = new AwsEmailAdapter();
+
+    /**
+     * Serializador do pipeline.
+     */
+    private final JsonSerializer serializer = new JsonSerializer();
+
+    /**
+     * Codificador medido, um por thread.
+     */
+    private final ProviderJsonEncoder encoder = new ProviderJsonEncoder();
+
+    /**
+     * Saída que descarta os bytes.
+     */
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    /**
+     * Buffer de destino reaproveitado.
+     */
+    private final ByteBuffer target = ByteBuffer.allocate(4096);
+
+    /**
+     * Dados do email medido.
+     */
+    private EmailRequestDTO request;
+
+    /**
+     * Cria o email.
+     */
+    @Setup
+    public void setUp() {
+        request = new EmailRequestDTO("destinatario@teste.com",
+                "João Silva", "remetente@teste.com",
+                "Redefinição de senha",
+                "Use o código 123456 para redefinir a sua senha.");
+    }
+
+    /**
+     * Codifica o email pelo caminho do pipeline.
+     *
+     * @return JSON em UTF-8
+     */
+    @Benchmark
+    public byte[] dtoAndString() {
+        return serializer.serialize(adapter.adapt(request))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Codifica o email direto em um novo array.
+     *
+     * @return JSON em UTF-8
+     */
+    @Benchmark
+    public byte[] encoderBytes() {
+        return encoder.encode(adapter, request);
+    }
+
+    /**
+     * Codifica o email direto em uma saída.
+     *
+     * @return quantidade de bytes escritos
+     * @throws IOException se a saída não puder ser escrita
+     */
+    @Benchmark
+    public int encoderStream() throws IOException {
+        return encoder.encode(adapter, request, out);
+    }
+
+    /**
+     * Codifica o email direto em um buffer reaproveitado.
+     *
+     * @return quantidade de bytes copiados
+     */
+    @Benchmark
+    public int encoderByteBuffer() {
+        target.clear();
+        return encoder.encode(adapter, request, target);
+    }
+}
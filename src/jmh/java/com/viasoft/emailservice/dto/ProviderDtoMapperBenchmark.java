@@ -0,0 +1,149 @@
+package com.viasoft.emailservice.dto;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+import com.viasoft.emailservice.validation.ValidationResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da conversão de um email no DTO da AWS com a verificação dos
+ * limites de tamanho, pelo mapeador gerado a partir das anotações do
+ * DTO, pelo Hibernate Validator e pelo caminho escrito à mão que os
+ * adaptadores usavam antes do mapeador. {@link #generated} é o caminho
+ * atual dos adaptadores; {@link #handWritten} verifica os limites no
+ * {@link ProviderLimitValidator} e chama o construtor do DTO;
+ * {@link #hibernateValidator} cria o DTO e o valida pelas suas
+ * anotações, incluindo {@code @NotBlank} e {@code @Email}, como faria
+ * uma validação declarativa em tempo de execução. Cada medição devolve o
+ * DTO ou a falha da validação, sem exceção. O email medido cabe na AWS
+ * ({@code VALIDO}) ou excede o limite do assunto ({@code ASSUNTO_LONGO}).
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="ProviderDtoMapperBenchmark"}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderDtoMapperBenchmark {
+
+    /**
+     * Validador dos limites, guardado como nos adaptadores.
+     */
+    private static final ProviderLimitValidator LIMITS =
+            ProviderLimitValidator.defaults();
+
+    /**
+     * Email medido.
+     */
+    @Param({"VALIDO", "ASSUNTO_LONGO"})
+    private String email;
+
+    /**
+     * Dados do email medido.
+     */
+    private EmailRequestDTO request;
+
+    /**
+     * Fábrica do Hibernate Validator.
+     */
+    private ValidatorFactory factory;
+
+    /**
+     * Validador do Hibernate Validator.
+     */
+    private Validator validator;
+
+    /**
+     * Cria o email e o validador.
+     */
+    @Setup
+    public void setUp() {
+        request = new EmailRequestDTO("destinatario@teste.com",
+                "João Silva", "remetente@teste.com",
+                "VALIDO".equals(email) ? "Redefinição de senha"
+                        : "a".repeat(130),
+                "Use o código 123456 para redefinir a sua senha.");
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    /**
+     * Fecha a fábrica do validador.
+     */
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    /**
+     * Converte o email pelo mapeador gerado.
+     *
+     * @return DTO da AWS, ou o resultado da validação se algum campo
+     *         exceder o limite
+     */
+    @Benchmark
+    public Object generated() {
+        int violations = EmailAwsDTOMapper.violations(request);
+        if (violations != 0) {
+            return LIMITS.result(EmailProvider.AWS, violations);
+        }
+        return EmailAwsDTOMapper.map(request);
+    }
+
+    /**
+     * Converte o email pelo caminho escrito à mão.
+     *
+     * @return DTO da AWS, ou o resultado da validação se algum campo
+     *         exceder o limite
+     */
+    @Benchmark
+    public Object handWritten() {
+        ValidationResult result = LIMITS.validate(request, EmailProvider.AWS);
+        if (!result.isValid()) {
+            return result;
+        }
+        return new EmailAwsDTO(
+                request.getEmailDestinatario(),
+                request.getNomeDestinatario(),
+                request.getEmailRemetente(),
+                request.getAssunto(),
+                request.getConteudo());
+    }
+
+    /**
+     * Converte o email e o valida pelo Hibernate Validator.
+     *
+     * @return DTO da AWS, ou as violações se alguma anotação não for
+     *         atendida
+     */
+    @Benchmark
+    public Object hibernateValidator() {
+        EmailAwsDTO dto = new EmailAwsDTO(
+                request.getEmailDestinatario(),
+                request.getNomeDestinatario(),
+                request.getEmailRemetente(),
+                request.getAssunto(),
+                request.getConteudo());
+        Set<ConstraintViolation<EmailAwsDTO>> violations =
+                validator.validate(dto);
+        return violations.isEmpty() ? dto : violations;
+    }
+}
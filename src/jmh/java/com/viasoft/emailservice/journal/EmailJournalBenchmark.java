@@ -0,0 +1,114 @@
+package com.viasoft.emailservice.journal;
+
+import com.viasoft.emailservice.config.JournalConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.JournalSyncMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do diário de emails aceitos: cada operação grava um email e
+ * em seguida a sua conclusão, como faz um job processado, de forma que
+ * os segmentos antigos são apagados e o diário não cresce. No modo
+ * síncrono, as oito threads disputam a mesma sincronização e medem o
+ * ganho da sincronização em lote; no modo periódico, a gravação não
+ * espera o disco. O diretório é criado em {@code java.io.tmpdir}, que
+ * deve estar no disco a ser medido.
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="EmailJournalBenchmark"}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmailJournalBenchmark {
+
+    /**
+     * Modo de sincronização medido.
+     */
+    @Param({"SINCRONO", "PERIODICO"})
+    private JournalSyncMode sync;
+
+    /**
+     * Diretório temporário do diário.
+     */
+    private Path directory;
+
+    /**
+     * Diário medido.
+     */
+    private EmailJournal journal;
+
+    /**
+     * Email gravado em todas as operações.
+     */
+    private EmailRequestDTO request;
+
+    /**
+     * Cria o diário em um diretório temporário.
+     *
+     * @throws IOException se o diretório não puder ser criado
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("email-journal-bench");
+        JournalConfig config = new JournalConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory.toString());
+        config.setSegmentSize(DataSize.ofMegabytes(64));
+        config.setSync(sync);
+        config.setFlushInterval(Duration.ofMillis(10));
+        journal = new EmailJournal(config, new SimpleMeterRegistry());
+        request = new EmailRequestDTO("destinatario@teste.com",
+                "João Silva", "remetente@teste.com",
+                "Redefinição de senha",
+                "Use o código 123456 para redefinir a sua senha.");
+    }
+
+    /**
+     * Encerra o diário e apaga o diretório.
+     *
+     * @throws IOException se o diretório não puder ser apagado
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.shutdown();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    /**
+     * Grava um email aceito e a sua conclusão, com oito threads.
+     */
+    @Benchmark
+    @Threads(8)
+    public void appendAndComplete() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String jobId = new UUID(random.nextLong(), random.nextLong())
+                .toString();
+        journal.append(jobId, request);
+        journal.complete(jobId);
+    }
+}
@@ -0,0 +1,114 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do disjuntor no caminho de sucesso, com o disjuntor fechado.
+ * {@link #baseline} mede o envio simulado sem disjuntor; as demais
+ * medições acrescentam a liberação e o registro do resultado, com uma
+ * e com quatro threads disputando o mesmo intervalo da janela. O
+ * registro recebe o instante de término, como faz o
+ * {@code ProviderDispatcher}, que já lê o relógio para medir a
+ * latência; {@link #guardedWithClock} inclui a leitura do relógio.
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CircuitBreakerBenchmark {
+
+    /**
+     * Trabalho consumido por envio simulado, em unidades do JMH.
+     */
+    private static final long SEND_TOKENS = 10;
+
+    /**
+     * Disjuntor medido.
+     */
+    private CircuitBreaker breaker;
+
+    /**
+     * Instante de término usado nos registros.
+     */
+    private long now;
+
+    /**
+     * Cria o disjuntor com a configuração padrão.
+     */
+    @Setup
+    public void setUp() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setWindow(Duration.ofSeconds(10));
+        config.setBuckets(10);
+        config.setMinimumCalls(20);
+        config.setFailureRateThreshold(0.5);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        config.setHalfOpenCalls(5);
+        breaker = new CircuitBreaker(EmailProvider.AWS, config);
+        now = System.nanoTime();
+    }
+
+    /**
+     * Envio simulado sem disjuntor.
+     */
+    @Benchmark
+    public void baseline() {
+        Blackhole.consumeCPU(SEND_TOKENS);
+    }
+
+    /**
+     * Envio simulado liberado e registrado pelo disjuntor.
+     *
+     * @return true se o envio foi liberado
+     */
+    @Benchmark
+    public boolean guarded() {
+        boolean acquired = breaker.tryAcquire();
+        Blackhole.consumeCPU(SEND_TOKENS);
+        breaker.onSuccess(now);
+        return acquired;
+    }
+
+    /**
+     * Envio simulado liberado e registrado pelo disjuntor, com a
+     * leitura do relógio feita pelo próprio disjuntor.
+     *
+     * @return true se o envio foi liberado
+     */
+    @Benchmark
+    public boolean guardedWithClock() {
+        boolean acquired = breaker.tryAcquire();
+        Blackhole.consumeCPU(SEND_TOKENS);
+        breaker.onSuccess();
+        return acquired;
+    }
+
+    /**
+     * Envio simulado liberado e registrado pelo disjuntor, com quatro
+     * threads no mesmo disjuntor.
+     *
+     * @return true se o envio foi liberado
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean guardedContended() {
+        return guarded();
+    }
+}
@@ -0,0 +1,157 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão e latência do envio por HTTP aos servidores que imitam o
+ * Amazon SES e o OCI Email Delivery, sem acesso à rede. Cada operação
+ * de {@code writeBatch} envia um lote de emails divididos entre os
+ * dois provedores e aguarda todas as respostas; {@code write} mede a
+ * latência de um envio isolado. A latência simulada de cada provedor
+ * é ajustada por {@code latencyMillis}.
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="HttpEmailSinkBenchmark"}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HttpEmailSinkBenchmark {
+
+    /**
+     * Latência simulada de cada provedor, em milissegundos.
+     */
+    @Param({"0", "20"})
+    private int latencyMillis;
+
+    /**
+     * Versão HTTP preferida pelo cliente.
+     */
+    @Param({"HTTP_1_1", "HTTP_2"})
+    private HttpClient.Version version;
+
+    /**
+     * Quantidade de emails de cada lote.
+     */
+    @Param({"64"})
+    private int batchSize;
+
+    /**
+     * Servidor que imita o Amazon SES.
+     */
+    private ProviderStandInServer ses;
+
+    /**
+     * Servidor que imita o OCI Email Delivery.
+     */
+    private ProviderStandInServer oci;
+
+    /**
+     * Destino medido.
+     */
+    private HttpEmailSink sink;
+
+    /**
+     * Lote enviado em todas as operações.
+     */
+    private List<EmailPayload> batch;
+
+    /**
+     * Inicia os servidores e o destino.
+     *
+     * @throws IOException se os servidores não puderem ser iniciados
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ses = ProviderStandInServer.ses();
+        oci = ProviderStandInServer.ociEmailDelivery();
+        ses.setLatency(Duration.ofMillis(latencyMillis));
+        oci.setLatency(Duration.ofMillis(latencyMillis));
+        sink = new HttpEmailSink(Map.of(EmailProvider.AWS, ses.uri(),
+                EmailProvider.OCI, oci.uri()), version,
+                Duration.ofSeconds(2), Duration.ofSeconds(5), 256, 4);
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(i % 2 == 0 ? awsPayload() : ociPayload());
+        }
+    }
+
+    /**
+     * Encerra o destino e os servidores.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sink.close();
+        ses.close();
+        oci.close();
+    }
+
+    /**
+     * Envia um lote e aguarda todas as respostas.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void writeBatch() {
+        sink.writeBatch(batch);
+    }
+
+    /**
+     * Envia um email e aguarda a resposta.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void write() {
+        sink.write(batch.get(0));
+    }
+
+    /**
+     * Monta um email no formato do Amazon SES.
+     *
+     * @return email processado
+     */
+    private static EmailPayload awsPayload() {
+        return new EmailPayload(EmailProvider.AWS,
+                ("{\"recipient\":\"destinatario@teste.com\","
+                        + "\"recipientName\":\"João Silva\","
+                        + "\"sender\":\"remetente@teste.com\","
+                        + "\"subject\":\"Redefinição de senha\","
+                        + "\"content\":\"Use o código 123456.\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Monta um email no formato do OCI Email Delivery.
+     *
+     * @return email processado
+     */
+    private static EmailPayload ociPayload() {
+        return new EmailPayload(EmailProvider.OCI,
+                ("{\"recipientEmail\":\"destinatario@teste.com\","
+                        + "\"recipientName\":\"João Silva\","
+                        + "\"senderEmail\":\"remetente@teste.com\","
+                        + "\"subject\":\"Redefinição de senha\","
+                        + "\"body\":\"Use o código 123456.\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+}
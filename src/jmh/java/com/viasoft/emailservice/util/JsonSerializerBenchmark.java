@@ -0,0 +1,134 @@
+package com.viasoft.emailservice.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.viasoft.emailservice.dto.EmailAwsDTO;
+import com.viasoft.emailservice.enums.JsonOutputFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo e alocação da serialização do DTO da AWS pelo
+ * {@link JsonSerializer} em cada saída e formato, comparados com a
+ * criação de um {@link ObjectMapper} a cada serialização
+ * ({@link #newMapperPerCall}), como fazia o antigo
+ * {@code serializeCompact}. As saídas são texto ({@link #string}),
+ * bytes em UTF-8 ({@link #bytes}), um {@link OutputStream} que descarta
+ * os bytes ({@link #outputStream}) e um {@link ByteBuffer} reaproveitado
+ * ({@link #byteBuffer}).
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="JsonSerializerBenchmark -prof gc"}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializerBenchmark {
+
+    /**
+     * Formato medido.
+     */
+    @Param({"COMPACT", "PRETTY"})
+    private JsonOutputFormat format;
+
+    /**
+     * Serializador medido.
+     */
+    private final JsonSerializer serializer = new JsonSerializer();
+
+    /**
+     * Saída que descarta os bytes.
+     */
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    /**
+     * Buffer de destino reaproveitado.
+     */
+    private final ByteBuffer target = ByteBuffer.allocate(4096);
+
+    /**
+     * DTO serializado.
+     */
+    private EmailAwsDTO dto;
+
+    /**
+     * Cria o DTO.
+     */
+    @Setup
+    public void setUp() {
+        dto = new EmailAwsDTO("destinatario@teste.com", "João Silva",
+                "remetente@teste.com", "Redefinição de senha",
+                "Use o código 123456 para redefinir a sua senha.");
+    }
+
+    /**
+     * Serializa em texto.
+     *
+     * @return JSON
+     */
+    @Benchmark
+    public String string() {
+        return serializer.serialize(dto, format);
+    }
+
+    /**
+     * Serializa em bytes.
+     *
+     * @return JSON em UTF-8
+     */
+    @Benchmark
+    public byte[] bytes() {
+        return serializer.serializeToBytes(dto, format);
+    }
+
+    /**
+     * Serializa em uma saída.
+     *
+     * @throws IOException se a saída não puder ser escrita
+     */
+    @Benchmark
+    public void outputStream() throws IOException {
+        serializer.serialize(dto, format, out);
+    }
+
+    /**
+     * Serializa em um buffer reaproveitado.
+     *
+     * @return quantidade de bytes escritos
+     */
+    @Benchmark
+    public int byteBuffer() {
+        target.clear();
+        return serializer.serialize(dto, format, target);
+    }
+
+    /**
+     * Serializa em texto com um mapper criado na chamada.
+     *
+     * @return JSON
+     * @throws JsonProcessingException se a serialização falhar
+     */
+    @Benchmark
+    public String newMapperPerCall() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        if (format == JsonOutputFormat.PRETTY) {
+            mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+        return mapper.writeValueAsString(dto);
+    }
+}
@@ -0,0 +1,210 @@
+package com.viasoft.emailservice.validation;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da verificação dos limites dos provedores pelo validador
+ * compilado, comparado com as cadeias de condições escritas à mão que
+ * os adaptadores usavam antes dele. As medições {@code handWritten*}
+ * reproduzem essas cadeias; {@link #tableAllProviders} verifica o email
+ * contra todos os provedores em uma passagem, como faz o roteamento.
+ * {@link #handWrittenRejection} e {@link #tableRejection} comparam a
+ * recusa por exceção, com a mensagem montada a cada email, com o
+ * resultado pré-alocado; a pilha de chamadas aqui é curta, e o custo
+ * da exceção cresce com a profundidade da pilha de uma requisição.
+ * O email medido cabe em todos os provedores ({@code VALIDO}) ou
+ * somente na AWS ({@code ASSUNTO_LONGO}).
+ * Execute com {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="ProviderLimitValidatorBenchmark"}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderLimitValidatorBenchmark {
+
+    /**
+     * Validador medido, guardado como nos adaptadores e no roteamento.
+     */
+    private static final ProviderLimitValidator LIMITS =
+            ProviderLimitValidator.defaults();
+
+    /**
+     * Email medido.
+     */
+    @Param({"VALIDO", "ASSUNTO_LONGO"})
+    private String email;
+
+    /**
+     * Dados do email medido.
+     */
+    private EmailRequestDTO request;
+
+    /**
+     * Cria o email.
+     */
+    @Setup
+    public void setUp() {
+        request = new EmailRequestDTO("destinatario@teste.com",
+                "João Silva", "remetente@teste.com",
+                "VALIDO".equals(email) ? "Redefinição de senha"
+                        : "a".repeat(110),
+                "Use o código 123456 para redefinir a sua senha.");
+    }
+
+    /**
+     * Verifica o email contra a OCI com a cadeia escrita à mão.
+     *
+     * @return true se o email cabe na OCI
+     */
+    @Benchmark
+    public boolean handWrittenSingleProvider() {
+        return handWrittenOci(request);
+    }
+
+    /**
+     * Verifica o email contra a OCI com o validador.
+     *
+     * @return true se o email cabe na OCI
+     */
+    @Benchmark
+    public boolean tableSingleProvider() {
+        return LIMITS.fits(request, EmailProvider.OCI);
+    }
+
+    /**
+     * Verifica o email contra todos os provedores com as cadeias
+     * escritas à mão, uma por provedor.
+     *
+     * @return provedores que comportam o email, um bit por provedor
+     */
+    @Benchmark
+    public int handWrittenAllProviders() {
+        return (handWrittenAws(request) ? 1 : 0)
+                | (handWrittenOci(request) ? 2 : 0);
+    }
+
+    /**
+     * Verifica o email contra todos os provedores com o validador, em
+     * uma passagem.
+     *
+     * @return provedores que comportam o email, um bit por provedor
+     */
+    @Benchmark
+    public int tableAllProviders() {
+        return LIMITS.fittingProviders(request);
+    }
+
+    /**
+     * Recusa o email na OCI como os adaptadores faziam antes do
+     * resultado pré-alocado, lançando a exceção com a mensagem do
+     * primeiro campo excedido.
+     *
+     * @return mensagem de erro, ou null se o email cabe na OCI
+     */
+    @Benchmark
+    public String handWrittenRejection() {
+        try {
+            checkLength(request.getEmailDestinatario(), 40,
+                    "Email do destinatário");
+            checkLength(request.getNomeDestinatario(), 50,
+                    "Nome do destinatário");
+            checkLength(request.getEmailRemetente(), 40,
+                    "Email do remetente");
+            checkLength(request.getAssunto(), 100, "Assunto");
+            checkLength(request.getConteudo(), 250, "Conteúdo");
+            return null;
+        } catch (ProviderLimitExceededException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Valida o email contra a OCI com o resultado pré-alocado, com a
+     * mensagem de todos os campos excedidos.
+     *
+     * @return mensagem de cada campo excedido
+     */
+    @Benchmark
+    public Map<String, String> tableRejection() {
+        return LIMITS.validate(request, EmailProvider.OCI).getErrors();
+    }
+
+    /**
+     * Cadeia de condições do adaptador da AWS.
+     *
+     * @param emailRequest dados do email
+     * @return true se o email cabe na AWS
+     */
+    private static boolean handWrittenAws(final EmailRequestDTO emailRequest) {
+        return emailRequest != null
+                && fitsLength(emailRequest.getEmailDestinatario(), 45)
+                && fitsLength(emailRequest.getNomeDestinatario(), 60)
+                && fitsLength(emailRequest.getEmailRemetente(), 45)
+                && fitsLength(emailRequest.getAssunto(), 120)
+                && fitsLength(emailRequest.getConteudo(), 256);
+    }
+
+    /**
+     * Cadeia de condições do adaptador da OCI.
+     *
+     * @param emailRequest dados do email
+     * @return true se o email cabe na OCI
+     */
+    private static boolean handWrittenOci(final EmailRequestDTO emailRequest) {
+        return emailRequest != null
+                && fitsLength(emailRequest.getEmailDestinatario(), 40)
+                && fitsLength(emailRequest.getNomeDestinatario(), 50)
+                && fitsLength(emailRequest.getEmailRemetente(), 40)
+                && fitsLength(emailRequest.getAssunto(), 100)
+                && fitsLength(emailRequest.getConteudo(), 250);
+    }
+
+    /**
+     * Lança a exceção de limite da OCI se o campo exceder o tamanho
+     * máximo.
+     *
+     * @param value valor do campo, possivelmente nulo
+     * @param maxLength tamanho máximo
+     * @param label nome do campo na mensagem
+     * @throws ProviderLimitExceededException se o campo exceder o
+     *         tamanho máximo
+     */
+    private static void checkLength(final String value, final int maxLength,
+                                    final String label) {
+        if (!fitsLength(value, maxLength)) {
+            throw new ProviderLimitExceededException(EmailProvider.OCI,
+                    label + " excede o limite de " + maxLength
+                            + " caracteres para "
+                            + EmailProvider.OCI.getValue());
+        }
+    }
+
+    /**
+     * Verifica se um campo opcional respeita o tamanho máximo.
+     *
+     * @param value valor do campo, possivelmente nulo
+     * @param maxLength tamanho máximo
+     * @return true se o campo é nulo ou cabe no tamanho máximo
+     */
+    private static boolean fitsLength(final String value,
+                                      final int maxLength) {
+        return value == null || value.length() <= maxLength;
+    }
+}
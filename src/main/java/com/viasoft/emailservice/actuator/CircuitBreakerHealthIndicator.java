@@ -0,0 +1,82 @@
+package com.viasoft.emailservice.actuator;
+
+import com.viasoft.emailservice.adapter.factory.EmailAdapterFactory;
+import com.viasoft.emailservice.enums.CircuitState;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.routing.CircuitBreaker;
+import com.viasoft.emailservice.routing.ProviderCircuitBreakers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Indicador de saúde dos disjuntores dos provedores.
+ * Aparece em {@code /actuator/health} como {@code circuitBreaker}, com
+ * o estado, os envios e as falhas da janela de cada provedor com
+ * adaptador. A aplicação só é reportada como fora do ar quando o
+ * disjuntor de todos esses provedores está aberto, pois com ao menos
+ * um provedor disponível os emails ainda são desviados para ele.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class CircuitBreakerHealthIndicator implements HealthIndicator {
+
+    /**
+     * Disjuntores dos provedores.
+     */
+    private final ProviderCircuitBreakers breakers;
+
+    /**
+     * Factory usada para identificar os provedores com adaptador.
+     */
+    private final EmailAdapterFactory adapterFactory;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param breakersParam disjuntores dos provedores
+     * @param adapterFactoryParam factory de adaptadores
+     */
+    @Autowired
+    public CircuitBreakerHealthIndicator(
+            final ProviderCircuitBreakers breakersParam,
+            final EmailAdapterFactory adapterFactoryParam) {
+        this.breakers = breakersParam;
+        this.adapterFactory = adapterFactoryParam;
+    }
+
+    /**
+     * Avalia o estado dos disjuntores.
+     *
+     * @return saúde com os detalhes de cada disjuntor
+     */
+    @Override
+    public Health health() {
+        if (!breakers.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        boolean available = false;
+        Health.Builder builder = Health.up();
+        for (EmailProvider provider : EmailProvider.values()) {
+            if (!adapterFactory.isProviderSupported(provider)) {
+                continue;
+            }
+            CircuitBreaker breaker = breakers.get(provider);
+            CircuitState state = breaker.getState();
+            available |= state != CircuitState.ABERTO;
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", state);
+            details.put("calls", breaker.getCalls());
+            details.put("failures", breaker.getFailures());
+            builder.withDetail(provider.getValue(), details);
+        }
+        return available ? builder.build() : builder.down().build();
+    }
+}
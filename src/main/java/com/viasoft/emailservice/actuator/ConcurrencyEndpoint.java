@@ -0,0 +1,52 @@
+package com.viasoft.emailservice.actuator;
+
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator com o estado do limite de concorrência.
+ * Disponível em {@code /actuator/concurrency}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Endpoint(id = "concurrency")
+public class ConcurrencyEndpoint {
+
+    /**
+     * Serviço de limite de concorrência.
+     */
+    private final ConcurrencyLimiterService limiter;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param limiterParam serviço de limite de concorrência
+     */
+    @Autowired
+    public ConcurrencyEndpoint(final ConcurrencyLimiterService limiterParam) {
+        this.limiter = limiterParam;
+    }
+
+    /**
+     * Obtém o estado atual do limite de concorrência.
+     *
+     * @return limite atual, requisições em andamento e recusadas
+     */
+    @ReadOperation
+    public Map<String, Object> concurrency() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("limit", limiter.getLimit());
+        state.put("inFlight", limiter.getInFlight());
+        state.put("rejected", limiter.getRejected());
+        return state;
+    }
+}
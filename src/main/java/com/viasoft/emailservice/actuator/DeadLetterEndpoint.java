@@ -0,0 +1,215 @@
+package com.viasoft.emailservice.actuator;
+
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.retry.DeadLetter;
+import com.viasoft.emailservice.retry.DeadLetterFilter;
+import com.viasoft.emailservice.retry.DeadLetterPage;
+import com.viasoft.emailservice.retry.DeadLetterReplayer;
+import com.viasoft.emailservice.retry.DeadLetterStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator para inspeção e reenvio dos emails esgotados.
+ * Disponível em {@code /actuator/deadletters}; um GET lista os emails
+ * por páginas, com {@code cursor} e {@code limit}, e filtra por
+ * {@code provider} e {@code errorType}. Um POST com
+ * {@code {"ids": "id1,id2"}} reenvia os emails informados, e um POST
+ * com {@code {"all": true}}, combinado ou não com {@code provider} e
+ * {@code errorType}, reenvia todos os que atendem ao filtro. O reenvio
+ * é feito em segundo plano, no ritmo configurado, e a resposta traz a
+ * quantidade de emails agendados para reenvio.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Endpoint(id = "deadletters")
+public class DeadLetterEndpoint {
+
+    /**
+     * Quantidade de emails por página quando não informada.
+     */
+    private static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Maior quantidade de emails por página.
+     */
+    private static final int MAX_LIMIT = 500;
+
+    /**
+     * Armazenamento dos emails esgotados.
+     */
+    private final DeadLetterStore store;
+
+    /**
+     * Reenvio dos emails esgotados.
+     */
+    private final DeadLetterReplayer replayer;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param storeParam armazenamento dos emails esgotados
+     * @param replayerParam reenvio dos emails esgotados
+     */
+    @Autowired
+    public DeadLetterEndpoint(final DeadLetterStore storeParam,
+                              final DeadLetterReplayer replayerParam) {
+        this.store = storeParam;
+        this.replayer = replayerParam;
+    }
+
+    /**
+     * Lista uma página dos emails esgotados.
+     *
+     * @param cursor cursor devolvido pela página anterior
+     * @param limit quantidade máxima de emails, até 500
+     * @param provider provedor dos emails
+     * @param errorType motivo do descarte
+     * @return emails da página, cursor da página seguinte, total
+     *         guardado e emails aguardando reenvio
+     * @throws InvalidEndpointRequestException se os parâmetros forem
+     *         inválidos
+     */
+    @ReadOperation
+    public Map<String, Object> deadLetters(@Nullable final Long cursor,
+                                           @Nullable final Integer limit,
+                                           @Nullable final String provider,
+                                           @Nullable final String errorType) {
+        int pageSize = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new InvalidEndpointRequestException(
+                    "Limite inválido: " + pageSize,
+                    "O limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        DeadLetterPage page = store.page(filterOf(provider, errorType),
+                cursor == null ? 0 : cursor, pageSize);
+        List<Map<String, Object>> items =
+                new ArrayList<>(page.getItems().size());
+        for (DeadLetter deadLetter : page.getItems()) {
+            items.add(describe(deadLetter));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("items", items);
+        result.put("nextCursor", page.getNextCursor());
+        result.put("total", store.size());
+        result.put("replayPending", replayer.getPending());
+        return result;
+    }
+
+    /**
+     * Reenvia os emails informados ou todos os que atendem ao filtro.
+     * Exatamente um entre {@code ids} e {@code all} deve ser informado.
+     *
+     * @param ids identificadores dos jobs esgotados, separados por
+     *        vírgulas
+     * @param provider provedor dos emails, com {@code all}
+     * @param errorType motivo do descarte, com {@code all}
+     * @param all true para reenviar todos os que atendem ao filtro
+     * @return emails agendados para reenvio e emails aguardando reenvio
+     * @throws InvalidEndpointRequestException se os parâmetros forem
+     *         inválidos
+     */
+    @WriteOperation
+    public Map<String, Object> replay(@Nullable final String ids,
+                                      @Nullable final String provider,
+                                      @Nullable final String errorType,
+                                      @Nullable final Boolean all) {
+        boolean replayAll = Boolean.TRUE.equals(all);
+        if ((ids == null) == !replayAll) {
+            throw new InvalidEndpointRequestException(
+                    "Informe ids ou all",
+                    "Informe exatamente um dos campos ids ou all");
+        }
+        long scheduled;
+        if (replayAll) {
+            scheduled = replayer.replay(filterOf(provider, errorType));
+        } else {
+            if (provider != null || errorType != null) {
+                throw new InvalidEndpointRequestException(
+                        "Filtro sem all",
+                        "Os campos provider e errorType exigem all");
+            }
+            scheduled = replayer.replay(Arrays.stream(ids.split(","))
+                    .map(String::trim).filter(id -> !id.isEmpty())
+                    .toList());
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scheduled", scheduled);
+        result.put("replayPending", replayer.getPending());
+        return result;
+    }
+
+    /**
+     * Monta o filtro a partir dos parâmetros.
+     *
+     * @param provider provedor, ou null
+     * @param errorType motivo do descarte, ou null
+     * @return filtro dos emails
+     * @throws InvalidEndpointRequestException se algum valor for
+     *         inválido
+     */
+    private static DeadLetterFilter filterOf(final String provider,
+                                             final String errorType) {
+        EmailProvider emailProvider = null;
+        DeadLetterReason reason = null;
+        try {
+            if (provider != null) {
+                emailProvider = EmailProvider.fromValue(provider);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(),
+                    e.getMessage() + ". Provedores válidos: AWS, OCI");
+        }
+        try {
+            if (errorType != null) {
+                reason = DeadLetterReason.valueOf(errorType.trim()
+                        .toUpperCase());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(
+                    "Tipo de erro inválido: " + errorType,
+                    "Tipo de erro inválido: " + errorType
+                            + ". Tipos válidos: "
+                            + Arrays.toString(DeadLetterReason.values()));
+        }
+        return new DeadLetterFilter(emailProvider, reason);
+    }
+
+    /**
+     * Converte um email esgotado na resposta do endpoint, sem o
+     * conteúdo do email.
+     *
+     * @param deadLetter email esgotado
+     * @return identificador, provedor, motivo, tentativas, erro,
+     *         instante do descarte, destinatário e assunto
+     */
+    private static Map<String, Object> describe(final DeadLetter deadLetter) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", deadLetter.getId());
+        item.put("provider", deadLetter.getProvider() == null ? null
+                : deadLetter.getProvider().getValue());
+        item.put("errorType", deadLetter.getReason());
+        item.put("attempts", deadLetter.getAttempts());
+        item.put("error", deadLetter.getErro());
+        item.put("failedAt", deadLetter.getFailedAt().toString());
+        item.put("recipient",
+                deadLetter.getRequest().getEmailDestinatario());
+        item.put("subject", deadLetter.getRequest().getAssunto());
+        return item;
+    }
+}
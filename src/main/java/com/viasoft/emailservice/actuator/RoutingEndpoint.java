@@ -0,0 +1,149 @@
+package com.viasoft.emailservice.actuator;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.routing.ProviderRoute;
+import com.viasoft.emailservice.routing.ProviderRouter;
+import com.viasoft.emailservice.routing.RoutingSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator para consulta e troca do roteamento.
+ * Disponível em {@code /actuator/routing}; um POST com
+ * {@code {"provider": "AWS"}} direciona todo o tráfego a um provedor,
+ * e um POST com {@code {"weights": "AWS=90,OCI=10"}} redefine a divisão
+ * entre eles, ambos sem reinício. Os pesos são recebidos como texto
+ * porque operações do Actuator aceitam apenas parâmetros simples.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Endpoint(id = "routing")
+public class RoutingEndpoint {
+
+    /**
+     * Roteador de emails.
+     */
+    private final ProviderRouter router;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param routerParam roteador de emails
+     */
+    @Autowired
+    public RoutingEndpoint(final ProviderRouter routerParam) {
+        this.router = routerParam;
+    }
+
+    /**
+     * Obtém o roteamento atual.
+     *
+     * @return pesos, provedor principal, versão, data de ativação e
+     *         emails roteados por provedor
+     */
+    @ReadOperation
+    public Map<String, Object> routing() {
+        return describe(router.current());
+    }
+
+    /**
+     * Troca o provedor ativo ou a divisão de tráfego. Exatamente um dos
+     * parâmetros deve ser informado.
+     *
+     * @param provider provedor que passa a receber todo o tráfego
+     * @param weights peso de cada provedor, no formato
+     *        {@code PROVEDOR=peso} separado por vírgulas
+     * @return roteamento após a troca
+     * @throws InvalidEndpointRequestException se os parâmetros forem
+     *         inválidos
+     */
+    @WriteOperation
+    public Map<String, Object> switchProvider(
+            @Nullable final String provider,
+            @Nullable final String weights) {
+        if ((provider == null) == (weights == null)) {
+            throw new InvalidEndpointRequestException(
+                    "Informe provider ou weights",
+                    "Informe exatamente um dos campos provider ou weights");
+        }
+        try {
+            if (provider != null) {
+                return describe(router.switchTo(
+                        EmailProvider.fromValue(provider)));
+            }
+            return describe(router.setWeights(parseWeights(weights)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(),
+                    e.getMessage() + ". Provedores válidos: AWS, OCI");
+        }
+    }
+
+    /**
+     * Interpreta os pesos no formato {@code AWS=90,OCI=10}.
+     *
+     * @param weights pesos em texto
+     * @return peso de cada provedor
+     * @throws IllegalArgumentException se o formato for inválido
+     */
+    private static Map<EmailProvider, Integer> parseWeights(
+            final String weights) {
+        Map<EmailProvider, Integer> providerWeights =
+                new EnumMap<>(EmailProvider.class);
+        for (String entry : weights.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException(
+                        "Peso inválido: " + entry.trim());
+            }
+            try {
+                providerWeights.put(
+                        EmailProvider.fromValue(
+                                entry.substring(0, separator).trim()),
+                        Integer.parseInt(
+                                entry.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                        "Peso inválido: " + entry.trim(), e);
+            }
+        }
+        return providerWeights;
+    }
+
+    /**
+     * Converte o retrato do roteamento na resposta do endpoint.
+     *
+     * @param snapshot retrato do roteamento
+     * @return pesos, provedor principal, versão, data de ativação e
+     *         emails roteados por provedor
+     */
+    private Map<String, Object> describe(final RoutingSnapshot snapshot) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (ProviderRoute route : snapshot.getRoutes()) {
+            weights.put(route.getProvider().getValue(), route.getWeight());
+        }
+        Map<String, Long> routed = new LinkedHashMap<>();
+        for (EmailProvider provider : EmailProvider.values()) {
+            routed.put(provider.getValue(), router.getRoutedCount(provider));
+        }
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("provider", snapshot.getProvider().getValue());
+        state.put("weights", weights);
+        state.put("stickyByDomain", snapshot.isStickyByDomain());
+        state.put("version", snapshot.getVersion());
+        state.put("activatedAt", snapshot.getActivatedAt().toString());
+        state.put("routed", routed);
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Pacote de endpoints do Actuator do serviço de email.
+ *
+ * Este pacote contém os endpoints de gerenciamento que expõem o
+ * estado interno dos componentes do serviço.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.actuator;
@@ -1,6 +1,10 @@
 package com.viasoft.emailservice.adapter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.validation.ValidationResult;
+
+import java.io.IOException;
 
 /**
  * Interface para adaptação de dados de email.
@@ -28,6 +32,44 @@ public interface EmailAdapter<T> {
      */
     T adapt(EmailRequestDTO emailRequest);
 
+    /**
+     * Escreve o JSON do email no formato do provedor diretamente no
+     * gerador, com o mesmo conteúdo da serialização do resultado de
+     * {@link #adapt(EmailRequestDTO)}, sem criar o DTO do provedor nem
+     * texto intermediário. Usado pelo {@link ProviderJsonEncoder}.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @param generator gerador do JSON
+     * @throws IOException se o JSON não puder ser escrito
+     * @throws IllegalArgumentException se os dados forem nulos ou
+     *         excederem os limites do provedor, antes de qualquer
+     *         escrita
+     */
+    void encode(EmailRequestDTO emailRequest, JsonGenerator generator)
+            throws IOException;
+
+    /**
+     * Verifica, sem lançar exceção, se os dados cabem nos limites do
+     * provedor. Usado pelo roteamento para escolher um provedor que
+     * aceite a mensagem.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @return true se {@link #adapt(EmailRequestDTO)} aceitaria os dados
+     */
+    boolean fits(EmailRequestDTO emailRequest);
+
+    /**
+     * Valida, sem lançar exceção, os dados contra os limites do
+     * provedor, reportando todos os campos que excedem o limite. O
+     * resultado é pré-alocado e pode ser compartilhado entre threads.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @return resultado da validação; válido se
+     *         {@link #adapt(EmailRequestDTO)} aceitaria os dados
+     * @throws IllegalArgumentException se os dados forem nulos
+     */
+    ValidationResult validate(EmailRequestDTO emailRequest);
+
     /**
      * Retorna o tipo de provedor suportado por este adaptador.
      *
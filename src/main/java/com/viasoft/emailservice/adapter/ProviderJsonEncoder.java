@@ -0,0 +1,273 @@
+package com.viasoft.emailservice.adapter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Codificador do JSON dos emails no formato de cada provedor direto em
+ * bytes, pelo {@link EmailAdapter#encode} do provedor, sem o DTO do
+ * provedor nem texto intermediário. O gerador JSON e o buffer de saída
+ * são criados uma única vez e reaproveitados em todos os emails, e os
+ * nomes dos campos já estão codificados nos mapeadores gerados: por
+ * email, só o array devolvido por {@link #encode(EmailAdapter,
+ * EmailRequestDTO)} é alocado, e nada quando os bytes são copiados
+ * para um {@link OutputStream} ou {@link ByteBuffer}. O JSON é
+ * compacto, com os campos na ordem do DTO do provedor.
+ * O codificador não é thread-safe: use uma instância por thread, como
+ * a de {@link #forCurrentThread()}, usada pelos workers do pipeline.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class ProviderJsonEncoder {
+
+    /**
+     * Capacidade inicial do buffer, suficiente para um email dentro dos
+     * limites dos provedores.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Fábrica dos geradores, sem separador entre os JSON escritos em
+     * sequência pelo mesmo gerador.
+     */
+    private static final JsonFactory FACTORY = new JsonFactoryBuilder()
+            .rootValueSeparator((String) null)
+            .build();
+
+    /**
+     * Codificador de cada thread, criado no primeiro uso.
+     */
+    private static final ThreadLocal<ProviderJsonEncoder> LOCAL =
+            ThreadLocal.withInitial(ProviderJsonEncoder::new);
+
+    /**
+     * Buffer reaproveitado com o JSON do último email.
+     */
+    private final Buffer buffer = new Buffer(INITIAL_CAPACITY);
+
+    /**
+     * Gerador reaproveitado, que escreve no buffer.
+     */
+    private JsonGenerator generator = newGenerator();
+
+    /**
+     * Obtém o codificador da thread atual, reaproveitado por todos os
+     * emails que ela codifica.
+     *
+     * @return codificador da thread atual
+     */
+    public static ProviderJsonEncoder forCurrentThread() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Codifica o JSON do email no formato do provedor.
+     *
+     * @param adapter adaptador do provedor
+     * @param emailRequest dados do email
+     * @return JSON em UTF-8
+     * @throws IllegalArgumentException se os dados forem nulos ou
+     *         excederem os limites do provedor
+     * @throws EmailProcessingException se a codificação falhar
+     */
+    public byte[] encode(final EmailAdapter<?> adapter,
+                         final EmailRequestDTO emailRequest) {
+        write(adapter, emailRequest);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Codifica o JSON do email no formato do provedor e o escreve na
+     * saída.
+     *
+     * @param adapter adaptador do provedor
+     * @param emailRequest dados do email
+     * @param out saída do JSON
+     * @return quantidade de bytes escritos
+     * @throws IOException se a saída não puder ser escrita
+     * @throws IllegalArgumentException se os dados forem nulos ou
+     *         excederem os limites do provedor
+     * @throws EmailProcessingException se a codificação falhar
+     */
+    public int encode(final EmailAdapter<?> adapter,
+                      final EmailRequestDTO emailRequest,
+                      final OutputStream out) throws IOException {
+        write(adapter, emailRequest);
+        return buffer.writeTo(out);
+    }
+
+    /**
+     * Codifica o JSON do email no formato do provedor e o copia para a
+     * posição atual do buffer de destino.
+     *
+     * @param adapter adaptador do provedor
+     * @param emailRequest dados do email
+     * @param target buffer de destino
+     * @return quantidade de bytes copiados
+     * @throws java.nio.BufferOverflowException se o JSON não couber no
+     *         espaço restante do destino, que não é alterado
+     * @throws IllegalArgumentException se os dados forem nulos ou
+     *         excederem os limites do provedor
+     * @throws EmailProcessingException se a codificação falhar
+     */
+    public int encode(final EmailAdapter<?> adapter,
+                      final EmailRequestDTO emailRequest,
+                      final ByteBuffer target) {
+        write(adapter, emailRequest);
+        return buffer.writeTo(target);
+    }
+
+    /**
+     * Escreve o JSON do email no buffer reaproveitado. Se o adaptador
+     * falhar no meio do JSON, o gerador é substituído, para que o
+     * próximo email comece de um estado limpo.
+     *
+     * @param adapter adaptador do provedor
+     * @param emailRequest dados do email
+     * @throws EmailProcessingException se a codificação falhar
+     */
+    private void write(final EmailAdapter<?> adapter,
+                       final EmailRequestDTO emailRequest) {
+        buffer.reset();
+        try {
+            adapter.encode(emailRequest, generator);
+            generator.flush();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Erro ao codificar email para JSON: " + e.getMessage(),
+                    e);
+        } finally {
+            if (!generator.getOutputContext().inRoot()) {
+                discardGenerator();
+            }
+        }
+    }
+
+    /**
+     * Substitui o gerador por um novo, descartando o JSON incompleto.
+     */
+    private void discardGenerator() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            // O conteúdo do buffer é descartado no próximo email
+        }
+        generator = newGenerator();
+        buffer.reset();
+    }
+
+    /**
+     * Cria um gerador que escreve no buffer.
+     *
+     * @return gerador JSON
+     */
+    private JsonGenerator newGenerator() {
+        try {
+            return FACTORY.createGenerator(buffer);
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Erro ao criar gerador JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saída em memória que cresce conforme necessário e é reaproveitada
+     * entre os emails, sem sincronização.
+     */
+    private static final class Buffer extends OutputStream {
+
+        /**
+         * Bytes escritos.
+         */
+        private byte[] bytes;
+
+        /**
+         * Quantidade de bytes escritos.
+         */
+        private int size;
+
+        /**
+         * Cria o buffer.
+         *
+         * @param capacity capacidade inicial
+         */
+        Buffer(final int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            ensureCapacity(size + len);
+            System.arraycopy(b, off, bytes, size, len);
+            size += len;
+        }
+
+        /**
+         * Descarta os bytes escritos, mantendo a capacidade.
+         */
+        void reset() {
+            size = 0;
+        }
+
+        /**
+         * Copia os bytes escritos para um novo array.
+         *
+         * @return bytes escritos
+         */
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        /**
+         * Escreve os bytes escritos em uma saída.
+         *
+         * @param out saída
+         * @return quantidade de bytes escritos
+         * @throws IOException se a saída não puder ser escrita
+         */
+        int writeTo(final OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+            return size;
+        }
+
+        /**
+         * Copia os bytes escritos para um buffer.
+         *
+         * @param target buffer de destino
+         * @return quantidade de bytes copiados
+         */
+        int writeTo(final ByteBuffer target) {
+            target.put(bytes, 0, size);
+            return size;
+        }
+
+        /**
+         * Garante espaço para a quantidade de bytes, dobrando a
+         * capacidade quando necessário.
+         *
+         * @param capacity quantidade de bytes necessária
+         */
+        private void ensureCapacity(final int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes,
+                        Math.max(capacity, bytes.length << 1));
+            }
+        }
+    }
+}
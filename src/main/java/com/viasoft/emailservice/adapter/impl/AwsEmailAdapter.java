@@ -1,11 +1,18 @@
 package com.viasoft.emailservice.adapter.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.viasoft.emailservice.adapter.EmailAdapter;
 import com.viasoft.emailservice.dto.EmailAwsDTO;
+import com.viasoft.emailservice.dto.EmailAwsDTOMapper;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
 import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+import com.viasoft.emailservice.validation.ValidationResult;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+
 /**
  * Adaptador para conversão de dados de email para o formato AWS.
  *
@@ -25,17 +32,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class AwsEmailAdapter implements EmailAdapter<EmailAwsDTO> {
 
-    /** Limite máximo de caracteres para email do destinatário e remetente. */
-    private static final int EMAIL_MAX_LENGTH = 45;
-
-    /** Limite máximo de caracteres para nome do destinatário. */
-    private static final int NAME_MAX_LENGTH = 60;
-
-    /** Limite máximo de caracteres para assunto do email. */
-    private static final int SUBJECT_MAX_LENGTH = 120;
-
-    /** Limite máximo de caracteres para conteúdo do email. */
-    private static final int CONTENT_MAX_LENGTH = 256;
+    /**
+     * Validador dos limites de tamanho dos provedores, com os resultados
+     * pré-alocados das verificações geradas.
+     */
+    private static final ProviderLimitValidator LIMITS =
+            ProviderLimitValidator.defaults();
 
     /**
      * Adapta os dados de email para o formato AWS.
@@ -50,79 +52,82 @@ public class AwsEmailAdapter implements EmailAdapter<EmailAwsDTO> {
      */
     @Override
     public EmailAwsDTO adapt(final EmailRequestDTO emailRequest) {
-        if (emailRequest == null) {
-            throw new IllegalArgumentException(
-                    "EmailRequestDTO não pode ser nulo");
-        }
-
-        // Validações específicas para AWS
-        validateAwsLimits(emailRequest);
+        checkLimits(emailRequest);
 
-        return new EmailAwsDTO(
-                emailRequest.getEmailDestinatario(),
-                emailRequest.getNomeDestinatario(),
-                emailRequest.getEmailRemetente(),
-                emailRequest.getAssunto(),
-                emailRequest.getConteudo()
-        );
+        return EmailAwsDTOMapper.map(emailRequest);
     }
 
     /**
-     * Retorna o tipo de provedor suportado.
+     * Escreve o JSON do formato AWS diretamente no gerador, sem criar o
+     * DTO da AWS.
      *
-     * @return nome do provedor AWS
+     * @param emailRequest dados de email no formato padrão
+     * @param generator gerador do JSON
+     * @throws IOException se o JSON não puder ser escrito
+     * @throws IllegalArgumentException se os dados excederem os limites
+     *         da AWS
      */
     @Override
-    public String getProviderType() {
-        return EmailProvider.AWS.getValue();
+    public void encode(final EmailRequestDTO emailRequest,
+                       final JsonGenerator generator) throws IOException {
+        checkLimits(emailRequest);
+        EmailAwsDTOMapper.write(emailRequest, generator);
     }
 
     /**
-     * Valida se os dados atendem aos limites específicos da AWS.
+     * Verifica se os dados atendem aos limites da AWS sem lançar
+     * exceção.
      *
-     * @param emailRequest dados a serem validados
-     * @throws IllegalArgumentException se algum limite for excedido
+     * @param emailRequest dados de email no formato padrão
+     * @return true se os dados cabem nos limites da AWS
      */
-    private void validateAwsLimits(final EmailRequestDTO emailRequest) {
-        if (emailRequest.getEmailDestinatario() != null
-                && emailRequest.getEmailDestinatario().length()
-                > EMAIL_MAX_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Email do destinatário excede o limite de "
-                            + EMAIL_MAX_LENGTH
-                            + " caracteres para AWS");
-        }
-
-        if (emailRequest.getNomeDestinatario() != null
-                && emailRequest.getNomeDestinatario().length()
-                > NAME_MAX_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Nome do destinatário excede o limite de "
-                            + NAME_MAX_LENGTH
-                            + " caracteres para AWS");
-        }
+    @Override
+    public boolean fits(final EmailRequestDTO emailRequest) {
+        return emailRequest != null
+                && EmailAwsDTOMapper.violations(emailRequest) == 0;
+    }
 
-        if (emailRequest.getEmailRemetente() != null
-                && emailRequest.getEmailRemetente().length()
-                > EMAIL_MAX_LENGTH) {
+    /**
+     * Valida os dados contra os limites da AWS sem lançar exceção.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @return resultado da validação, com todos os campos que excedem
+     *         os limites da AWS
+     * @throws IllegalArgumentException se os dados forem nulos
+     */
+    @Override
+    public ValidationResult validate(final EmailRequestDTO emailRequest) {
+        if (emailRequest == null) {
             throw new IllegalArgumentException(
-                    "Email do remetente excede o limite de "
-                            + EMAIL_MAX_LENGTH
-                            + " caracteres para AWS");
+                    "EmailRequestDTO não pode ser nulo");
         }
+        return LIMITS.result(EmailProvider.AWS,
+                EmailAwsDTOMapper.violations(emailRequest));
+    }
 
-        if (emailRequest.getAssunto() != null
-                && emailRequest.getAssunto().length() > SUBJECT_MAX_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Assunto excede o limite de " + SUBJECT_MAX_LENGTH
-                            + " caracteres para AWS");
+    /**
+     * Valida os dados contra os limites da AWS, com as verificações
+     * geradas a partir do DTO.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @throws IllegalArgumentException se os dados forem nulos
+     * @throws ProviderLimitExceededException se os dados excederem os
+     *         limites da AWS
+     */
+    private void checkLimits(final EmailRequestDTO emailRequest) {
+        ValidationResult limits = validate(emailRequest);
+        if (!limits.isValid()) {
+            throw new ProviderLimitExceededException(limits);
         }
+    }
 
-        if (emailRequest.getConteudo() != null
-                && emailRequest.getConteudo().length() > CONTENT_MAX_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Conteúdo excede o limite de " + CONTENT_MAX_LENGTH
-                            + " caracteres para AWS");
-        }
+    /**
+     * Retorna o tipo de provedor suportado.
+     *
+     * @return nome do provedor AWS
+     */
+    @Override
+    public String getProviderType() {
+        return EmailProvider.AWS.getValue();
     }
 }
@@ -1,11 +1,18 @@
 package com.viasoft.emailservice.adapter.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.viasoft.emailservice.adapter.EmailAdapter;
 import com.viasoft.emailservice.dto.EmailOciDTO;
+import com.viasoft.emailservice.dto.EmailOciDTOMapper;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
 import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+import com.viasoft.emailservice.validation.ValidationResult;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+
 /**
  * Adaptador para conversão de dados de email para o formato OCI.
  *
@@ -26,24 +33,11 @@ import org.springframework.stereotype.Component;
 public class OciEmailAdapter implements EmailAdapter<EmailOciDTO> {
 
     /**
-     * Limite máximo de caracteres para endereços de email na OCI.
-     */
-    private static final int MAX_EMAIL_LENGTH = 40;
-
-    /**
-     * Limite máximo de caracteres para nomes de destinatário na OCI.
-     */
-    private static final int MAX_NAME_LENGTH = 50;
-
-    /**
-     * Limite máximo de caracteres para assunto do email na OCI.
+     * Validador dos limites de tamanho dos provedores, com os resultados
+     * pré-alocados das verificações geradas.
      */
-    private static final int MAX_SUBJECT_LENGTH = 100;
-
-    /**
-     * Limite máximo de caracteres para conteúdo do email na OCI.
-     */
-    private static final int MAX_CONTENT_LENGTH = 250;
+    private static final ProviderLimitValidator LIMITS =
+            ProviderLimitValidator.defaults();
 
     /**
      * Adapta os dados de email para o formato OCI.
@@ -58,79 +52,82 @@ public class OciEmailAdapter implements EmailAdapter<EmailOciDTO> {
      */
     @Override
     public EmailOciDTO adapt(final EmailRequestDTO emailRequest) {
-        if (emailRequest == null) {
-            throw new IllegalArgumentException(
-                    "EmailRequestDTO não pode ser nulo");
-        }
-
-        // Validações específicas para OCI
-        validateOciLimits(emailRequest);
+        checkLimits(emailRequest);
 
-        return new EmailOciDTO(
-                emailRequest.getEmailDestinatario(),
-                emailRequest.getNomeDestinatario(),
-                emailRequest.getEmailRemetente(),
-                emailRequest.getAssunto(),
-                emailRequest.getConteudo()
-        );
+        return EmailOciDTOMapper.map(emailRequest);
     }
 
     /**
-     * Retorna o tipo de provedor suportado.
+     * Escreve o JSON do formato OCI diretamente no gerador, sem criar o
+     * DTO da OCI.
      *
-     * @return nome do provedor OCI
+     * @param emailRequest dados de email no formato padrão
+     * @param generator gerador do JSON
+     * @throws IOException se o JSON não puder ser escrito
+     * @throws IllegalArgumentException se os dados excederem os limites
+     *         da OCI
      */
     @Override
-    public String getProviderType() {
-        return EmailProvider.OCI.getValue();
+    public void encode(final EmailRequestDTO emailRequest,
+                       final JsonGenerator generator) throws IOException {
+        checkLimits(emailRequest);
+        EmailOciDTOMapper.write(emailRequest, generator);
     }
 
     /**
-     * Valida se os dados atendem aos limites específicos da OCI.
+     * Verifica se os dados atendem aos limites da OCI sem lançar
+     * exceção.
      *
-     * @param emailRequest dados a serem validados
-     * @throws IllegalArgumentException se algum limite for excedido
+     * @param emailRequest dados de email no formato padrão
+     * @return true se os dados cabem nos limites da OCI
      */
-    private void validateOciLimits(final EmailRequestDTO emailRequest) {
-        if (emailRequest.getEmailDestinatario() != null
-                && emailRequest.getEmailDestinatario().length()
-                > MAX_EMAIL_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Email do destinatário excede o limite de "
-                            + MAX_EMAIL_LENGTH
-                            + " caracteres para OCI");
-        }
-
-        if (emailRequest.getNomeDestinatario() != null
-                && emailRequest.getNomeDestinatario().length()
-                > MAX_NAME_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Nome do destinatário excede o limite de "
-                            + MAX_NAME_LENGTH
-                            + " caracteres para OCI");
-        }
+    @Override
+    public boolean fits(final EmailRequestDTO emailRequest) {
+        return emailRequest != null
+                && EmailOciDTOMapper.violations(emailRequest) == 0;
+    }
 
-        if (emailRequest.getEmailRemetente() != null
-                && emailRequest.getEmailRemetente().length()
-                > MAX_EMAIL_LENGTH) {
+    /**
+     * Valida os dados contra os limites da OCI sem lançar exceção.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @return resultado da validação, com todos os campos que excedem
+     *         os limites da OCI
+     * @throws IllegalArgumentException se os dados forem nulos
+     */
+    @Override
+    public ValidationResult validate(final EmailRequestDTO emailRequest) {
+        if (emailRequest == null) {
             throw new IllegalArgumentException(
-                    "Email do remetente excede o limite de "
-                            + MAX_EMAIL_LENGTH
-                            + " caracteres para OCI");
+                    "EmailRequestDTO não pode ser nulo");
         }
+        return LIMITS.result(EmailProvider.OCI,
+                EmailOciDTOMapper.violations(emailRequest));
+    }
 
-        if (emailRequest.getAssunto() != null
-                && emailRequest.getAssunto().length() > MAX_SUBJECT_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Assunto excede o limite de " + MAX_SUBJECT_LENGTH
-                            + " caracteres para OCI");
+    /**
+     * Valida os dados contra os limites da OCI, com as verificações
+     * geradas a partir do DTO.
+     *
+     * @param emailRequest dados de email no formato padrão
+     * @throws IllegalArgumentException se os dados forem nulos
+     * @throws ProviderLimitExceededException se os dados excederem os
+     *         limites da OCI
+     */
+    private void checkLimits(final EmailRequestDTO emailRequest) {
+        ValidationResult limits = validate(emailRequest);
+        if (!limits.isValid()) {
+            throw new ProviderLimitExceededException(limits);
         }
+    }
 
-        if (emailRequest.getConteudo() != null
-                && emailRequest.getConteudo().length() > MAX_CONTENT_LENGTH) {
-            throw new IllegalArgumentException(
-                    "Conteúdo excede o limite de " + MAX_CONTENT_LENGTH
-                            + " caracteres para OCI");
-        }
+    /**
+     * Retorna o tipo de provedor suportado.
+     *
+     * @return nome do provedor OCI
+     */
+    @Override
+    public String getProviderType() {
+        return EmailProvider.OCI.getValue();
     }
 }
@@ -0,0 +1,204 @@
+package com.viasoft.emailservice.config;
+
+import com.viasoft.emailservice.enums.EmailPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do modo de processamento assíncrono de emails.
+ * Esta classe centraliza os parâmetros da fila de trabalho em memória,
+ * dividida em uma faixa por prioridade, e do pool de workers que a
+ * consome.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class AsyncDispatchConfig {
+
+    /**
+     * Quantidade de workers que consomem a fila de emails.
+     */
+    @Value("${mail.async.workers:4}")
+    private int workers;
+
+    /**
+     * Capacidade máxima de cada faixa de prioridade da fila de emails
+     * aguardando processamento.
+     */
+    @Value("${mail.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * Peso da faixa de prioridade alta na escolha da próxima tarefa.
+     */
+    @Value("${mail.async.lanes.alta.weight:8}")
+    private int highLaneWeight;
+
+    /**
+     * Peso da faixa de prioridade normal na escolha da próxima tarefa.
+     */
+    @Value("${mail.async.lanes.normal.weight:3}")
+    private int normalLaneWeight;
+
+    /**
+     * Peso da faixa de prioridade baixa na escolha da próxima tarefa.
+     */
+    @Value("${mail.async.lanes.baixa.weight:1}")
+    private int lowLaneWeight;
+
+    /**
+     * Quantidade máxima de jobs cujo status é mantido para consulta.
+     */
+    @Value("${mail.async.max-tracked-jobs:100000}")
+    private int maxTrackedJobs;
+
+    /**
+     * Prazo para esvaziar a fila durante o desligamento da aplicação.
+     */
+    @Value("${mail.async.shutdown-timeout:30s}")
+    private Duration shutdownTimeout;
+
+    /**
+     * Indica se as threads virtuais foram habilitadas na aplicação.
+     * A mesma propriedade faz o Tomcat atender requisições em
+     * threads virtuais.
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * Obtém a quantidade de workers.
+     *
+     * @return quantidade de workers
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Define a quantidade de workers (usado principalmente para testes).
+     *
+     * @param workersCount quantidade de workers
+     */
+    public void setWorkers(final int workersCount) {
+        this.workers = workersCount;
+    }
+
+    /**
+     * Obtém a capacidade de cada faixa da fila.
+     *
+     * @return capacidade de cada faixa da fila
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Define a capacidade de cada faixa da fila
+     * (usado principalmente para testes).
+     *
+     * @param capacity capacidade de cada faixa da fila
+     */
+    public void setQueueCapacity(final int capacity) {
+        this.queueCapacity = capacity;
+    }
+
+    /**
+     * Obtém o peso da faixa de uma prioridade. Com todas as faixas
+     * ocupadas, cada uma recebe a fração dos workers dada pelo seu peso
+     * dividido pela soma dos pesos.
+     *
+     * @param priority prioridade da faixa
+     * @return peso da faixa
+     */
+    public int getLaneWeight(final EmailPriority priority) {
+        return switch (priority) {
+            case ALTA -> highLaneWeight;
+            case NORMAL -> normalLaneWeight;
+            case BAIXA -> lowLaneWeight;
+        };
+    }
+
+    /**
+     * Define o peso da faixa de uma prioridade
+     * (usado principalmente para testes).
+     *
+     * @param priority prioridade da faixa
+     * @param weight peso da faixa
+     */
+    public void setLaneWeight(final EmailPriority priority,
+                              final int weight) {
+        switch (priority) {
+            case ALTA -> highLaneWeight = weight;
+            case NORMAL -> normalLaneWeight = weight;
+            case BAIXA -> lowLaneWeight = weight;
+            default -> throw new IllegalArgumentException(
+                    "Prioridade desconhecida: " + priority);
+        }
+    }
+
+    /**
+     * Obtém a quantidade máxima de jobs rastreados.
+     *
+     * @return quantidade máxima de jobs rastreados
+     */
+    public int getMaxTrackedJobs() {
+        return maxTrackedJobs;
+    }
+
+    /**
+     * Define a quantidade máxima de jobs rastreados
+     * (usado principalmente para testes).
+     *
+     * @param maxJobs quantidade máxima de jobs rastreados
+     */
+    public void setMaxTrackedJobs(final int maxJobs) {
+        this.maxTrackedJobs = maxJobs;
+    }
+
+    /**
+     * Obtém o prazo de desligamento.
+     *
+     * @return prazo para esvaziar a fila no desligamento
+     */
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    /**
+     * Define o prazo de desligamento (usado principalmente para testes).
+     *
+     * @param timeout prazo para esvaziar a fila no desligamento
+     */
+    public void setShutdownTimeout(final Duration timeout) {
+        this.shutdownTimeout = timeout;
+    }
+
+    /**
+     * Indica se os workers devem usar threads virtuais.
+     * Exige a propriedade habilitada e execução em Java 21 ou superior;
+     * em versões anteriores a propriedade é ignorada, como no Spring Boot.
+     *
+     * @return true se os workers devem rodar em threads virtuais
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreadsEnabled
+                && JavaVersion.getJavaVersion()
+                .isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    /**
+     * Habilita ou desabilita as threads virtuais
+     * (usado principalmente para testes).
+     *
+     * @param enabled true para habilitar as threads virtuais
+     */
+    public void setVirtualThreadsEnabled(final boolean enabled) {
+        this.virtualThreadsEnabled = enabled;
+    }
+}
@@ -0,0 +1,222 @@
+package com.viasoft.emailservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do disjuntor de cada provedor de email.
+ * Esta classe centraliza a janela de falhas, o limite que abre o
+ * disjuntor e o comportamento enquanto ele está aberto.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class CircuitBreakerConfig {
+
+    /**
+     * Indica se o disjuntor está habilitado.
+     */
+    @Value("${mail.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Período coberto pela janela de falhas.
+     */
+    @Value("${mail.circuit-breaker.window:10s}")
+    private Duration window;
+
+    /**
+     * Quantidade de intervalos em que a janela é dividida.
+     */
+    @Value("${mail.circuit-breaker.buckets:10}")
+    private int buckets;
+
+    /**
+     * Quantidade mínima de envios na janela para avaliar as falhas.
+     */
+    @Value("${mail.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    /**
+     * Taxa de falhas, entre 0 e 1, que abre o disjuntor.
+     */
+    @Value("${mail.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    /**
+     * Tempo em que o disjuntor permanece aberto antes dos envios de
+     * teste.
+     */
+    @Value("${mail.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    /**
+     * Quantidade de envios de teste no estado semiaberto.
+     */
+    @Value("${mail.circuit-breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    /**
+     * Indica se, com o disjuntor aberto, o email é desviado para outro
+     * provedor em vez de recusado.
+     */
+    @Value("${mail.circuit-breaker.reroute:true}")
+    private boolean reroute;
+
+    /**
+     * Indica se o disjuntor está habilitado.
+     *
+     * @return true se o disjuntor está habilitado
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Habilita ou desabilita o disjuntor
+     * (usado principalmente para testes).
+     *
+     * @param enabledParam true para habilitar o disjuntor
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * Obtém o período da janela de falhas.
+     *
+     * @return período da janela
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Define o período da janela de falhas
+     * (usado principalmente para testes).
+     *
+     * @param windowParam período da janela
+     */
+    public void setWindow(final Duration windowParam) {
+        this.window = windowParam;
+    }
+
+    /**
+     * Obtém a quantidade de intervalos da janela.
+     *
+     * @return quantidade de intervalos
+     */
+    public int getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Define a quantidade de intervalos da janela
+     * (usado principalmente para testes).
+     *
+     * @param bucketsParam quantidade de intervalos
+     */
+    public void setBuckets(final int bucketsParam) {
+        this.buckets = bucketsParam;
+    }
+
+    /**
+     * Obtém a quantidade mínima de envios para avaliar as falhas.
+     *
+     * @return quantidade mínima de envios
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    /**
+     * Define a quantidade mínima de envios para avaliar as falhas
+     * (usado principalmente para testes).
+     *
+     * @param calls quantidade mínima de envios
+     */
+    public void setMinimumCalls(final int calls) {
+        this.minimumCalls = calls;
+    }
+
+    /**
+     * Obtém a taxa de falhas que abre o disjuntor.
+     *
+     * @return taxa de falhas, entre 0 e 1
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Define a taxa de falhas que abre o disjuntor
+     * (usado principalmente para testes).
+     *
+     * @param threshold taxa de falhas, entre 0 e 1
+     */
+    public void setFailureRateThreshold(final double threshold) {
+        this.failureRateThreshold = threshold;
+    }
+
+    /**
+     * Obtém o tempo em que o disjuntor permanece aberto.
+     *
+     * @return tempo de abertura
+     */
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Define o tempo em que o disjuntor permanece aberto
+     * (usado principalmente para testes).
+     *
+     * @param duration tempo de abertura
+     */
+    public void setOpenDuration(final Duration duration) {
+        this.openDuration = duration;
+    }
+
+    /**
+     * Obtém a quantidade de envios de teste no estado semiaberto.
+     *
+     * @return quantidade de envios de teste
+     */
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    /**
+     * Define a quantidade de envios de teste no estado semiaberto
+     * (usado principalmente para testes).
+     *
+     * @param calls quantidade de envios de teste
+     */
+    public void setHalfOpenCalls(final int calls) {
+        this.halfOpenCalls = calls;
+    }
+
+    /**
+     * Indica se o email é desviado para outro provedor com o
+     * disjuntor aberto.
+     *
+     * @return true se o email é desviado
+     */
+    public boolean isReroute() {
+        return reroute;
+    }
+
+    /**
+     * Define se o email é desviado para outro provedor com o
+     * disjuntor aberto (usado principalmente para testes).
+     *
+     * @param rerouteParam true para desviar o email
+     */
+    public void setReroute(final boolean rerouteParam) {
+        this.reroute = rerouteParam;
+    }
+}
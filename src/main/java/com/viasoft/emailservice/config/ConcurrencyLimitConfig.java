@@ -0,0 +1,168 @@
+package com.viasoft.emailservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do limite adaptativo de concorrência.
+ * Esta classe centraliza os parâmetros do limitador que controla
+ * quantas requisições de envio podem estar em andamento ao mesmo
+ * tempo. O limite parte do valor inicial e é ajustado a cada janela
+ * conforme a latência observada, sempre entre o mínimo e o máximo.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Indica se o limite de concorrência está habilitado.
+     */
+    @Value("${mail.concurrency.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Limite inicial de requisições simultâneas.
+     */
+    @Value("${mail.concurrency.initial-limit:20}")
+    private int initialLimit;
+
+    /**
+     * Limite mínimo de requisições simultâneas.
+     */
+    @Value("${mail.concurrency.min-limit:4}")
+    private int minLimit;
+
+    /**
+     * Limite máximo de requisições simultâneas.
+     */
+    @Value("${mail.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    /**
+     * Duração da janela de amostragem da latência.
+     */
+    @Value("${mail.concurrency.window:1s}")
+    private Duration window;
+
+    /**
+     * Quantidade mínima de amostras para ajustar o limite.
+     */
+    @Value("${mail.concurrency.min-samples:10}")
+    private int minSamples;
+
+    /**
+     * Indica se o limite de concorrência está habilitado.
+     *
+     * @return true se o limite está habilitado
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Habilita ou desabilita o limite de concorrência
+     * (usado principalmente para testes).
+     *
+     * @param enabledParam true para habilitar o limite
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * Obtém o limite inicial.
+     *
+     * @return limite inicial
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Define o limite inicial (usado principalmente para testes).
+     *
+     * @param limit limite inicial
+     */
+    public void setInitialLimit(final int limit) {
+        this.initialLimit = limit;
+    }
+
+    /**
+     * Obtém o limite mínimo.
+     *
+     * @return limite mínimo
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Define o limite mínimo (usado principalmente para testes).
+     *
+     * @param limit limite mínimo
+     */
+    public void setMinLimit(final int limit) {
+        this.minLimit = limit;
+    }
+
+    /**
+     * Obtém o limite máximo.
+     *
+     * @return limite máximo
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Define o limite máximo (usado principalmente para testes).
+     *
+     * @param limit limite máximo
+     */
+    public void setMaxLimit(final int limit) {
+        this.maxLimit = limit;
+    }
+
+    /**
+     * Obtém a duração da janela de amostragem.
+     *
+     * @return duração da janela de amostragem
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Define a duração da janela de amostragem
+     * (usado principalmente para testes).
+     *
+     * @param windowParam duração da janela de amostragem
+     */
+    public void setWindow(final Duration windowParam) {
+        this.window = windowParam;
+    }
+
+    /**
+     * Obtém a quantidade mínima de amostras por janela.
+     *
+     * @return quantidade mínima de amostras
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Define a quantidade mínima de amostras por janela
+     * (usado principalmente para testes).
+     *
+     * @param samples quantidade mínima de amostras
+     */
+    public void setMinSamples(final int samples) {
+        this.minSamples = samples;
+    }
+}
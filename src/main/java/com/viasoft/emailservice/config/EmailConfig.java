@@ -22,6 +22,12 @@ public class EmailConfig {
     @Value("${mail.integracao:AWS}")
     private String mailIntegracao;
 
+    /**
+     * Quantidade máxima de itens aceitos em um único lote.
+     */
+    @Value("${mail.batch.max-size:1000}")
+    private int batchMaxSize;
+
     /**
      * Obtém o provedor de email configurado.
      *
@@ -57,4 +63,23 @@ public class EmailConfig {
     public void setMailIntegracao(final String mailProvider) {
         this.mailIntegracao = mailProvider;
     }
+
+    /**
+     * Obtém a quantidade máxima de itens aceitos em um único lote.
+     *
+     * @return tamanho máximo do lote
+     */
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    /**
+     * Define a quantidade máxima de itens de um lote
+     * (usado principalmente para testes).
+     *
+     * @param maxSize tamanho máximo do lote
+     */
+    public void setBatchMaxSize(final int maxSize) {
+        this.batchMaxSize = maxSize;
+    }
 }
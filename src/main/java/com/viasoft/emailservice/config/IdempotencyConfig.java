@@ -0,0 +1,124 @@
+package com.viasoft.emailservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do suporte ao cabeçalho {@code Idempotency-Key}.
+ * Esta classe centraliza os limites do cache que associa cada chave
+ * ao primeiro resultado do envio. Cada entrada guarda apenas a chave,
+ * uma impressão digital do conteúdo e o prazo de expiração, de modo
+ * que a memória ocupada fica limitada por
+ * {@code maxEntries * maxKeyLength} mais um custo fixo por entrada.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    /**
+     * Quantidade máxima de chaves mantidas no cache, concluídas ou com
+     * requisição em andamento.
+     */
+    @Value("${mail.idempotency.max-entries:100000}")
+    private int maxEntries;
+
+    /**
+     * Tempo durante o qual o resultado de uma chave é reaproveitado.
+     */
+    @Value("${mail.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    /**
+     * Tamanho máximo aceito para uma chave.
+     */
+    @Value("${mail.idempotency.max-key-length:128}")
+    private int maxKeyLength;
+
+    /**
+     * Prazo de espera de uma duplicata pelo resultado da requisição
+     * original ainda em andamento.
+     */
+    @Value("${mail.idempotency.in-flight-timeout:10s}")
+    private Duration inFlightTimeout;
+
+    /**
+     * Obtém a quantidade máxima de chaves.
+     *
+     * @return quantidade máxima de chaves
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Define a quantidade máxima de chaves
+     * (usado principalmente para testes).
+     *
+     * @param entries quantidade máxima de chaves
+     */
+    public void setMaxEntries(final int entries) {
+        this.maxEntries = entries;
+    }
+
+    /**
+     * Obtém o tempo de vida das chaves.
+     *
+     * @return tempo de vida das chaves
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Define o tempo de vida das chaves
+     * (usado principalmente para testes).
+     *
+     * @param ttlParam tempo de vida das chaves
+     */
+    public void setTtl(final Duration ttlParam) {
+        this.ttl = ttlParam;
+    }
+
+    /**
+     * Obtém o tamanho máximo de uma chave.
+     *
+     * @return tamanho máximo de uma chave
+     */
+    public int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    /**
+     * Define o tamanho máximo de uma chave
+     * (usado principalmente para testes).
+     *
+     * @param length tamanho máximo de uma chave
+     */
+    public void setMaxKeyLength(final int length) {
+        this.maxKeyLength = length;
+    }
+
+    /**
+     * Obtém o prazo de espera por uma requisição em andamento.
+     *
+     * @return prazo de espera por uma requisição em andamento
+     */
+    public Duration getInFlightTimeout() {
+        return inFlightTimeout;
+    }
+
+    /**
+     * Define o prazo de espera por uma requisição em andamento
+     * (usado principalmente para testes).
+     *
+     * @param timeout prazo de espera por uma requisição em andamento
+     */
+    public void setInFlightTimeout(final Duration timeout) {
+        this.inFlightTimeout = timeout;
+    }
+}
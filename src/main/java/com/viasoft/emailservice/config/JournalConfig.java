@@ -0,0 +1,148 @@
+package com.viasoft.emailservice.config;
+
+import com.viasoft.emailservice.enums.JournalSyncMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração do diário de emails aceitos.
+ * Esta classe centraliza o diretório dos segmentos do diário, o
+ * tamanho de cada segmento e o modo como as gravações são forçadas ao
+ * disco.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class JournalConfig {
+
+    /**
+     * Indica se os emails aceitos são gravados no diário.
+     */
+    @Value("${mail.journal.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Diretório dos segmentos do diário.
+     */
+    @Value("${mail.journal.directory:data/journal}")
+    private String directory;
+
+    /**
+     * Tamanho de cada segmento, mapeado inteiro em memória.
+     */
+    @Value("${mail.journal.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    /**
+     * Modo como as gravações são forçadas ao disco.
+     */
+    @Value("${mail.journal.sync:SINCRONO}")
+    private JournalSyncMode sync;
+
+    /**
+     * Intervalo entre as sincronizações no modo periódico.
+     */
+    @Value("${mail.journal.flush-interval:10ms}")
+    private Duration flushInterval;
+
+    /**
+     * Indica se o diário está habilitado.
+     *
+     * @return true se os emails aceitos são gravados no diário
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Habilita ou desabilita o diário (usado principalmente para
+     * testes).
+     *
+     * @param enabledParam true para habilitar o diário
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * Obtém o diretório dos segmentos.
+     *
+     * @return caminho do diretório
+     */
+    public Path getDirectory() {
+        return Path.of(directory);
+    }
+
+    /**
+     * Define o diretório dos segmentos (usado principalmente para
+     * testes).
+     *
+     * @param directoryParam caminho do diretório
+     */
+    public void setDirectory(final String directoryParam) {
+        this.directory = directoryParam;
+    }
+
+    /**
+     * Obtém o tamanho de cada segmento.
+     *
+     * @return tamanho do segmento
+     */
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Define o tamanho de cada segmento (usado principalmente para
+     * testes).
+     *
+     * @param size tamanho do segmento
+     */
+    public void setSegmentSize(final DataSize size) {
+        this.segmentSize = size;
+    }
+
+    /**
+     * Obtém o modo de sincronização.
+     *
+     * @return modo como as gravações são forçadas ao disco
+     */
+    public JournalSyncMode getSync() {
+        return sync;
+    }
+
+    /**
+     * Define o modo de sincronização (usado principalmente para
+     * testes).
+     *
+     * @param syncParam modo como as gravações são forçadas ao disco
+     */
+    public void setSync(final JournalSyncMode syncParam) {
+        this.sync = syncParam;
+    }
+
+    /**
+     * Obtém o intervalo entre as sincronizações no modo periódico.
+     *
+     * @return intervalo entre as sincronizações
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Define o intervalo entre as sincronizações no modo periódico
+     * (usado principalmente para testes).
+     *
+     * @param interval intervalo entre as sincronizações
+     */
+    public void setFlushInterval(final Duration interval) {
+        this.flushInterval = interval;
+    }
+}
@@ -0,0 +1,115 @@
+package com.viasoft.emailservice.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuração do pipeline de processamento de emails.
+ * Cada estágio tem sua quantidade de workers e capacidade de fila
+ * definidas em {@code mail.pipeline.stages.<estágio>.workers} e
+ * {@code mail.pipeline.stages.<estágio>.queue-capacity}; estágios sem
+ * configuração própria usam os valores padrão.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class PipelineConfig {
+
+    /**
+     * Prefixo das propriedades de cada estágio.
+     */
+    private static final String STAGE_PREFIX = "mail.pipeline.stages.";
+
+    /**
+     * Quantidade padrão de workers por estágio.
+     */
+    @Value("${mail.pipeline.default-workers:2}")
+    private int defaultWorkers;
+
+    /**
+     * Capacidade padrão da fila de cada estágio.
+     */
+    @Value("${mail.pipeline.default-queue-capacity:1024}")
+    private int defaultQueueCapacity;
+
+    /**
+     * Ambiente usado para ler as propriedades de cada estágio.
+     */
+    private final Environment environment;
+
+    /**
+     * Valores definidos diretamente, com precedência sobre o ambiente.
+     */
+    private final Map<String, Integer> overrides = new HashMap<>();
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param environmentParam ambiente da aplicação
+     */
+    @Autowired
+    public PipelineConfig(final Environment environmentParam) {
+        this.environment = environmentParam;
+    }
+
+    /**
+     * Obtém a quantidade de workers do estágio.
+     *
+     * @param stage nome do estágio
+     * @return quantidade de workers
+     */
+    public int getWorkers(final String stage) {
+        return getStageProperty(stage, "workers", defaultWorkers);
+    }
+
+    /**
+     * Obtém a capacidade da fila do estágio.
+     *
+     * @param stage nome do estágio
+     * @return capacidade da fila
+     */
+    public int getQueueCapacity(final String stage) {
+        return getStageProperty(stage, "queue-capacity",
+                defaultQueueCapacity);
+    }
+
+    /**
+     * Define os workers e a capacidade da fila de um estágio
+     * (usado principalmente para testes).
+     *
+     * @param stage nome do estágio
+     * @param workers quantidade de workers
+     * @param queueCapacity capacidade da fila
+     */
+    public void setStage(final String stage, final int workers,
+                         final int queueCapacity) {
+        overrides.put(STAGE_PREFIX + stage + ".workers", workers);
+        overrides.put(STAGE_PREFIX + stage + ".queue-capacity",
+                queueCapacity);
+    }
+
+    /**
+     * Lê uma propriedade do estágio.
+     *
+     * @param stage nome do estágio
+     * @param property nome da propriedade
+     * @param defaultValue valor padrão
+     * @return valor da propriedade
+     */
+    private int getStageProperty(final String stage, final String property,
+                                 final int defaultValue) {
+        String key = STAGE_PREFIX + stage + "." + property;
+        Integer override = overrides.get(key);
+        if (override != null) {
+            return override;
+        }
+        return environment.getProperty(key, Integer.class, defaultValue);
+    }
+}
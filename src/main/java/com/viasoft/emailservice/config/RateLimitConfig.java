@@ -0,0 +1,201 @@
+package com.viasoft.emailservice.config;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração da limitação de taxa de envio de emails.
+ * Esta classe centraliza as cotas aplicadas por provedor e por
+ * remetente. Cada cota é definida por uma taxa sustentada, em envios
+ * por segundo, e por uma rajada máxima de envios consecutivos.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * Indica se a limitação de taxa está habilitada.
+     */
+    @Value("${mail.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Taxa de envios por segundo permitida pelo provedor AWS.
+     */
+    @Value("${mail.rate-limit.aws.rate:14}")
+    private double awsRate;
+
+    /**
+     * Rajada máxima de envios permitida pelo provedor AWS.
+     */
+    @Value("${mail.rate-limit.aws.burst:14}")
+    private int awsBurst;
+
+    /**
+     * Taxa de envios por segundo permitida pelo provedor OCI.
+     */
+    @Value("${mail.rate-limit.oci.rate:10}")
+    private double ociRate;
+
+    /**
+     * Rajada máxima de envios permitida pelo provedor OCI.
+     */
+    @Value("${mail.rate-limit.oci.burst:10}")
+    private int ociBurst;
+
+    /**
+     * Taxa de envios por segundo permitida a cada remetente.
+     */
+    @Value("${mail.rate-limit.sender.rate:5}")
+    private double senderRate;
+
+    /**
+     * Rajada máxima de envios permitida a cada remetente.
+     */
+    @Value("${mail.rate-limit.sender.burst:10}")
+    private int senderBurst;
+
+    /**
+     * Quantidade máxima de remetentes com cota rastreada; os demais
+     * compartilham uma única cota.
+     */
+    @Value("${mail.rate-limit.sender.max-tracked:100000}")
+    private int maxTrackedSenders;
+
+    /**
+     * Espera máxima por uma cota no modo com espera, usado pelo
+     * processamento assíncrono.
+     */
+    @Value("${mail.rate-limit.max-wait:30s}")
+    private Duration maxWait;
+
+    /**
+     * Indica se a limitação de taxa está habilitada.
+     *
+     * @return true se a limitação de taxa está habilitada
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Habilita ou desabilita a limitação de taxa
+     * (usado principalmente para testes).
+     *
+     * @param enabledParam true para habilitar a limitação de taxa
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * Obtém a taxa de envios por segundo do provedor.
+     *
+     * @param provider provedor de email
+     * @return taxa de envios por segundo
+     */
+    public double getProviderRate(final EmailProvider provider) {
+        return provider == EmailProvider.AWS ? awsRate : ociRate;
+    }
+
+    /**
+     * Obtém a rajada máxima de envios do provedor.
+     *
+     * @param provider provedor de email
+     * @return rajada máxima de envios
+     */
+    public int getProviderBurst(final EmailProvider provider) {
+        return provider == EmailProvider.AWS ? awsBurst : ociBurst;
+    }
+
+    /**
+     * Define a cota do provedor (usado principalmente para testes).
+     *
+     * @param provider provedor de email
+     * @param rate taxa de envios por segundo
+     * @param burst rajada máxima de envios
+     */
+    public void setProviderLimit(final EmailProvider provider,
+                                 final double rate, final int burst) {
+        if (provider == EmailProvider.AWS) {
+            this.awsRate = rate;
+            this.awsBurst = burst;
+        } else {
+            this.ociRate = rate;
+            this.ociBurst = burst;
+        }
+    }
+
+    /**
+     * Obtém a taxa de envios por segundo de cada remetente.
+     *
+     * @return taxa de envios por segundo
+     */
+    public double getSenderRate() {
+        return senderRate;
+    }
+
+    /**
+     * Obtém a rajada máxima de envios de cada remetente.
+     *
+     * @return rajada máxima de envios
+     */
+    public int getSenderBurst() {
+        return senderBurst;
+    }
+
+    /**
+     * Define a cota de cada remetente (usado principalmente para testes).
+     *
+     * @param rate taxa de envios por segundo
+     * @param burst rajada máxima de envios
+     */
+    public void setSenderLimit(final double rate, final int burst) {
+        this.senderRate = rate;
+        this.senderBurst = burst;
+    }
+
+    /**
+     * Obtém a quantidade máxima de remetentes rastreados.
+     *
+     * @return quantidade máxima de remetentes rastreados
+     */
+    public int getMaxTrackedSenders() {
+        return maxTrackedSenders;
+    }
+
+    /**
+     * Define a quantidade máxima de remetentes rastreados
+     * (usado principalmente para testes).
+     *
+     * @param maxSenders quantidade máxima de remetentes rastreados
+     */
+    public void setMaxTrackedSenders(final int maxSenders) {
+        this.maxTrackedSenders = maxSenders;
+    }
+
+    /**
+     * Obtém a espera máxima por uma cota.
+     *
+     * @return espera máxima por uma cota
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Define a espera máxima por uma cota
+     * (usado principalmente para testes).
+     *
+     * @param wait espera máxima por uma cota
+     */
+    public void setMaxWait(final Duration wait) {
+        this.maxWait = wait;
+    }
+}
@@ -0,0 +1,391 @@
+package com.viasoft.emailservice.config;
+
+import com.viasoft.emailservice.enums.DeadLetterStoreType;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.retry.DeadLetterStore;
+import com.viasoft.emailservice.retry.DiskDeadLetterStore;
+import com.viasoft.emailservice.retry.InMemoryDeadLetterStore;
+import com.viasoft.emailservice.retry.RetryPolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuração das novas tentativas de emails assíncronos.
+ * Os valores de {@code mail.retry.*} valem para todos os provedores e
+ * podem ser substituídos por provedor em
+ * {@code mail.retry.providers.<provedor>.*} (por exemplo,
+ * {@code mail.retry.providers.aws.max-attempts=8}). Também define a
+ * resolução da roda de temporização, o armazenamento de emails
+ * esgotados e a taxa com que eles são reenviados.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class RetryConfig {
+
+    /**
+     * Prefixo das propriedades de cada provedor.
+     */
+    private static final String PROVIDER_PREFIX = "mail.retry.providers.";
+
+    /**
+     * Indica se falhas transitórias são tentadas de novo.
+     */
+    @Value("${mail.retry.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Quantidade máxima de tentativas, incluindo a primeira.
+     */
+    @Value("${mail.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * Espera antes da segunda tentativa.
+     */
+    @Value("${mail.retry.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    /**
+     * Espera máxima entre tentativas.
+     */
+    @Value("${mail.retry.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    /**
+     * Fator de crescimento da espera a cada tentativa.
+     */
+    @Value("${mail.retry.multiplier:2.0}")
+    private double multiplier;
+
+    /**
+     * Fração da espera sorteada a cada tentativa, entre 0 e 1.
+     */
+    @Value("${mail.retry.jitter:0.5}")
+    private double jitter;
+
+    /**
+     * Duração de um tick da roda de temporização.
+     */
+    @Value("${mail.retry.tick:10ms}")
+    private Duration tick;
+
+    /**
+     * Quantidade de slots de cada nível da roda de temporização.
+     */
+    @Value("${mail.retry.wheel-size:256}")
+    private int wheelSize;
+
+    /**
+     * Quantidade máxima de emails esgotados mantidos.
+     */
+    @Value("${mail.retry.dead-letter.capacity:10000}")
+    private int deadLetterCapacity;
+
+    /**
+     * Onde os emails esgotados são guardados.
+     */
+    @Value("${mail.retry.dead-letter.store:DISCO}")
+    private DeadLetterStoreType deadLetterStore;
+
+    /**
+     * Arquivo dos emails esgotados, quando guardados em disco.
+     */
+    @Value("${mail.retry.dead-letter.file:data/dead-letters.log}")
+    private String deadLetterFile;
+
+    /**
+     * Quantidade máxima de emails esgotados reenviados por segundo.
+     */
+    @Value("${mail.retry.dead-letter.replay-rate:50}")
+    private double replayRate;
+
+    /**
+     * Ambiente usado para ler os valores de cada provedor.
+     */
+    private final Environment environment;
+
+    /**
+     * Políticas definidas diretamente, com precedência sobre o
+     * ambiente.
+     */
+    private final Map<EmailProvider, RetryPolicy> overrides =
+            new EnumMap<>(EmailProvider.class);
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param environmentParam ambiente da aplicação
+     */
+    @Autowired
+    public RetryConfig(final Environment environmentParam) {
+        this.environment = environmentParam;
+    }
+
+    /**
+     * Cria o armazenamento dos emails esgotados.
+     *
+     * @param meterRegistry registro de métricas
+     * @return armazenamento em disco ou em memória, conforme
+     *         {@code mail.retry.dead-letter.store}, limitado a
+     *         {@code mail.retry.dead-letter.capacity} emails
+     */
+    @Bean
+    public DeadLetterStore deadLetterStore(final MeterRegistry meterRegistry) {
+        DeadLetterStore store = deadLetterStore == DeadLetterStoreType.DISCO
+                ? new DiskDeadLetterStore(getDeadLetterFile(),
+                        deadLetterCapacity)
+                : new InMemoryDeadLetterStore(deadLetterCapacity);
+        Gauge.builder("email.retry.dead.letters", store,
+                        DeadLetterStore::size)
+                .description("Emails esgotados armazenados")
+                .register(meterRegistry);
+        return store;
+    }
+
+    /**
+     * Obtém a política padrão, usada quando o provedor da falha não é
+     * conhecido.
+     *
+     * @return política padrão
+     */
+    public RetryPolicy getDefaultPolicy() {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff,
+                multiplier, jitter);
+    }
+
+    /**
+     * Obtém a política de um provedor.
+     *
+     * @param provider provedor
+     * @return política do provedor, com os valores padrão para o que
+     *         não foi configurado
+     * @throws IllegalArgumentException se os valores forem inválidos
+     */
+    public RetryPolicy getPolicy(final EmailProvider provider) {
+        RetryPolicy override = overrides.get(provider);
+        if (override != null) {
+            return override;
+        }
+        String prefix = PROVIDER_PREFIX + provider.getValue().toLowerCase();
+        return new RetryPolicy(
+                environment.getProperty(prefix + ".max-attempts",
+                        Integer.class, maxAttempts),
+                environment.getProperty(prefix + ".initial-backoff",
+                        Duration.class, initialBackoff),
+                environment.getProperty(prefix + ".max-backoff",
+                        Duration.class, maxBackoff),
+                environment.getProperty(prefix + ".multiplier",
+                        Double.class, multiplier),
+                environment.getProperty(prefix + ".jitter",
+                        Double.class, jitter));
+    }
+
+    /**
+     * Define a política de um provedor (usado principalmente para
+     * testes).
+     *
+     * @param provider provedor
+     * @param policy política do provedor
+     */
+    public void setPolicy(final EmailProvider provider,
+                          final RetryPolicy policy) {
+        overrides.put(provider, policy);
+    }
+
+    /**
+     * Indica se falhas transitórias são tentadas de novo.
+     *
+     * @return true se as novas tentativas estão habilitadas
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Habilita ou desabilita as novas tentativas
+     * (usado principalmente para testes).
+     *
+     * @param enabledParam true para habilitar as novas tentativas
+     */
+    public void setEnabled(final boolean enabledParam) {
+        this.enabled = enabledParam;
+    }
+
+    /**
+     * Define a quantidade máxima de tentativas padrão
+     * (usado principalmente para testes).
+     *
+     * @param attempts quantidade máxima de tentativas
+     */
+    public void setMaxAttempts(final int attempts) {
+        this.maxAttempts = attempts;
+    }
+
+    /**
+     * Define a espera padrão antes da segunda tentativa
+     * (usado principalmente para testes).
+     *
+     * @param backoff espera antes da segunda tentativa
+     */
+    public void setInitialBackoff(final Duration backoff) {
+        this.initialBackoff = backoff;
+    }
+
+    /**
+     * Define a espera padrão máxima entre tentativas
+     * (usado principalmente para testes).
+     *
+     * @param backoff espera máxima entre tentativas
+     */
+    public void setMaxBackoff(final Duration backoff) {
+        this.maxBackoff = backoff;
+    }
+
+    /**
+     * Define o fator padrão de crescimento da espera
+     * (usado principalmente para testes).
+     *
+     * @param multiplierParam fator de crescimento
+     */
+    public void setMultiplier(final double multiplierParam) {
+        this.multiplier = multiplierParam;
+    }
+
+    /**
+     * Define a fração padrão da espera sorteada
+     * (usado principalmente para testes).
+     *
+     * @param jitterParam fração sorteada, entre 0 e 1
+     */
+    public void setJitter(final double jitterParam) {
+        this.jitter = jitterParam;
+    }
+
+    /**
+     * Obtém a duração de um tick da roda de temporização.
+     *
+     * @return duração do tick
+     */
+    public Duration getTick() {
+        return tick;
+    }
+
+    /**
+     * Define a duração de um tick da roda de temporização
+     * (usado principalmente para testes).
+     *
+     * @param tickParam duração do tick
+     */
+    public void setTick(final Duration tickParam) {
+        this.tick = tickParam;
+    }
+
+    /**
+     * Obtém a quantidade de slots de cada nível da roda.
+     *
+     * @return quantidade de slots
+     */
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * Define a quantidade de slots de cada nível da roda
+     * (usado principalmente para testes).
+     *
+     * @param size quantidade de slots
+     */
+    public void setWheelSize(final int size) {
+        this.wheelSize = size;
+    }
+
+    /**
+     * Obtém a quantidade máxima de emails esgotados mantidos.
+     *
+     * @return capacidade do armazenamento de emails esgotados
+     */
+    public int getDeadLetterCapacity() {
+        return deadLetterCapacity;
+    }
+
+    /**
+     * Define a quantidade máxima de emails esgotados mantidos
+     * (usado principalmente para testes).
+     *
+     * @param capacity capacidade do armazenamento
+     */
+    public void setDeadLetterCapacity(final int capacity) {
+        this.deadLetterCapacity = capacity;
+    }
+
+    /**
+     * Obtém onde os emails esgotados são guardados.
+     *
+     * @return tipo do armazenamento
+     */
+    public DeadLetterStoreType getDeadLetterStore() {
+        return deadLetterStore;
+    }
+
+    /**
+     * Define onde os emails esgotados são guardados
+     * (usado principalmente para testes).
+     *
+     * @param storeType tipo do armazenamento
+     */
+    public void setDeadLetterStore(final DeadLetterStoreType storeType) {
+        this.deadLetterStore = storeType;
+    }
+
+    /**
+     * Obtém o arquivo dos emails esgotados.
+     *
+     * @return caminho do arquivo
+     */
+    public Path getDeadLetterFile() {
+        return Path.of(deadLetterFile);
+    }
+
+    /**
+     * Define o arquivo dos emails esgotados
+     * (usado principalmente para testes).
+     *
+     * @param file caminho do arquivo
+     */
+    public void setDeadLetterFile(final String file) {
+        this.deadLetterFile = file;
+    }
+
+    /**
+     * Obtém a quantidade máxima de emails esgotados reenviados por
+     * segundo.
+     *
+     * @return taxa de reenvio
+     */
+    public double getReplayRate() {
+        return replayRate;
+    }
+
+    /**
+     * Define a quantidade máxima de emails esgotados reenviados por
+     * segundo (usado principalmente para testes).
+     *
+     * @param rate taxa de reenvio
+     */
+    public void setReplayRate(final double rate) {
+        this.replayRate = rate;
+    }
+}
@@ -0,0 +1,354 @@
+package com.viasoft.emailservice.config;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuração da divisão de tráfego entre provedores.
+ * O peso de cada provedor é lido de
+ * {@code mail.routing.weights.<provedor>} (por exemplo,
+ * {@code mail.routing.weights.aws=90} e
+ * {@code mail.routing.weights.oci=10}); sem nenhum peso configurado,
+ * todo o tráfego vai para o provedor de {@code mail.integracao}.
+ * Também define a janela de latência e erros usada para avaliar a
+ * saúde de cada provedor ({@code mail.routing.health.*}) e o envio
+ * especulativo de emails de prioridade alta
+ * ({@code mail.routing.hedging.*}).
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class RoutingConfig {
+
+    /**
+     * Prefixo das propriedades de peso de cada provedor.
+     */
+    private static final String WEIGHT_PREFIX = "mail.routing.weights.";
+
+    /**
+     * Peso atribuído ao provedor principal quando não há pesos
+     * configurados.
+     */
+    private static final int FULL_WEIGHT = 100;
+
+    /**
+     * Indica se destinatários de um mesmo domínio vão sempre para o
+     * mesmo provedor.
+     */
+    @Value("${mail.routing.sticky-by-domain:true}")
+    private boolean stickyByDomain;
+
+    /**
+     * Período coberto pela janela de amostras de cada provedor.
+     */
+    @Value("${mail.routing.health.window:30s}")
+    private Duration healthWindow;
+
+    /**
+     * Quantidade máxima de amostras mantidas por provedor.
+     */
+    @Value("${mail.routing.health.samples:512}")
+    private int healthSamples;
+
+    /**
+     * Quantidade mínima de amostras na janela para avaliar um provedor.
+     */
+    @Value("${mail.routing.health.min-samples:20}")
+    private int healthMinSamples;
+
+    /**
+     * Taxa de erros acima da qual o provedor é considerado com falha.
+     */
+    @Value("${mail.routing.health.max-error-rate:0.5}")
+    private double maxErrorRate;
+
+    /**
+     * Quantas vezes o p95 de um provedor deve superar o de outro para
+     * que o tráfego seja desviado por lentidão.
+     */
+    @Value("${mail.routing.health.slow-factor:3.0}")
+    private double slowFactor;
+
+    /**
+     * Intervalo mínimo entre recálculos das estatísticas da janela.
+     */
+    @Value("${mail.routing.health.refresh-interval:100ms}")
+    private Duration healthRefreshInterval;
+
+    /**
+     * Indica se emails de prioridade alta são enviados também ao
+     * provedor secundário quando o principal demora.
+     */
+    @Value("${mail.routing.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    /**
+     * Espera mínima antes do envio ao provedor secundário.
+     */
+    @Value("${mail.routing.hedging.min-delay:5ms}")
+    private Duration hedgingMinDelay;
+
+    /**
+     * Quantidade máxima de envios especulativos em andamento.
+     */
+    @Value("${mail.routing.hedging.max-concurrent:64}")
+    private int hedgingMaxConcurrent;
+
+    /**
+     * Ambiente usado para ler os pesos de cada provedor.
+     */
+    private final Environment environment;
+
+    /**
+     * Pesos definidos diretamente, com precedência sobre o ambiente.
+     */
+    private final Map<EmailProvider, Integer> overrides =
+            new EnumMap<>(EmailProvider.class);
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param environmentParam ambiente da aplicação
+     */
+    @Autowired
+    public RoutingConfig(final Environment environmentParam) {
+        this.environment = environmentParam;
+    }
+
+    /**
+     * Obtém os pesos configurados de cada provedor.
+     *
+     * @param primary provedor que recebe todo o tráfego quando não há
+     *        pesos configurados
+     * @return pesos por provedor
+     */
+    public Map<EmailProvider, Integer> getWeights(
+            final EmailProvider primary) {
+        Map<EmailProvider, Integer> weights =
+                new EnumMap<>(EmailProvider.class);
+        for (EmailProvider provider : EmailProvider.values()) {
+            Integer weight = overrides.get(provider);
+            if (weight == null) {
+                weight = environment.getProperty(WEIGHT_PREFIX
+                                + provider.getValue().toLowerCase(),
+                        Integer.class);
+            }
+            if (weight != null) {
+                weights.put(provider, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            weights.put(primary, FULL_WEIGHT);
+        }
+        return weights;
+    }
+
+    /**
+     * Define o peso de um provedor (usado principalmente para testes).
+     *
+     * @param provider provedor
+     * @param weight peso do provedor
+     */
+    public void setWeight(final EmailProvider provider, final int weight) {
+        overrides.put(provider, weight);
+    }
+
+    /**
+     * Indica se o roteamento é fixo por domínio do destinatário.
+     *
+     * @return true se o roteamento é fixo por domínio
+     */
+    public boolean isStickyByDomain() {
+        return stickyByDomain;
+    }
+
+    /**
+     * Define se o roteamento é fixo por domínio do destinatário
+     * (usado principalmente para testes).
+     *
+     * @param sticky true para fixar o provedor por domínio
+     */
+    public void setStickyByDomain(final boolean sticky) {
+        this.stickyByDomain = sticky;
+    }
+
+    /**
+     * Obtém o período coberto pela janela de amostras.
+     *
+     * @return período da janela
+     */
+    public Duration getHealthWindow() {
+        return healthWindow;
+    }
+
+    /**
+     * Define o período da janela de amostras
+     * (usado principalmente para testes).
+     *
+     * @param window período da janela
+     */
+    public void setHealthWindow(final Duration window) {
+        this.healthWindow = window;
+    }
+
+    /**
+     * Obtém a quantidade máxima de amostras por provedor.
+     *
+     * @return quantidade máxima de amostras
+     */
+    public int getHealthSamples() {
+        return healthSamples;
+    }
+
+    /**
+     * Define a quantidade máxima de amostras por provedor
+     * (usado principalmente para testes).
+     *
+     * @param samples quantidade máxima de amostras
+     */
+    public void setHealthSamples(final int samples) {
+        this.healthSamples = samples;
+    }
+
+    /**
+     * Obtém a quantidade mínima de amostras para avaliar um provedor.
+     *
+     * @return quantidade mínima de amostras
+     */
+    public int getHealthMinSamples() {
+        return healthMinSamples;
+    }
+
+    /**
+     * Define a quantidade mínima de amostras para avaliar um provedor
+     * (usado principalmente para testes).
+     *
+     * @param minSamples quantidade mínima de amostras
+     */
+    public void setHealthMinSamples(final int minSamples) {
+        this.healthMinSamples = minSamples;
+    }
+
+    /**
+     * Obtém a taxa de erros máxima de um provedor saudável.
+     *
+     * @return taxa de erros máxima, entre 0 e 1
+     */
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    /**
+     * Define a taxa de erros máxima de um provedor saudável
+     * (usado principalmente para testes).
+     *
+     * @param errorRate taxa de erros máxima, entre 0 e 1
+     */
+    public void setMaxErrorRate(final double errorRate) {
+        this.maxErrorRate = errorRate;
+    }
+
+    /**
+     * Obtém o fator de lentidão que provoca o desvio de tráfego.
+     *
+     * @return fator de lentidão
+     */
+    public double getSlowFactor() {
+        return slowFactor;
+    }
+
+    /**
+     * Define o fator de lentidão que provoca o desvio de tráfego
+     * (usado principalmente para testes).
+     *
+     * @param factor fator de lentidão
+     */
+    public void setSlowFactor(final double factor) {
+        this.slowFactor = factor;
+    }
+
+    /**
+     * Obtém o intervalo mínimo entre recálculos das estatísticas.
+     *
+     * @return intervalo entre recálculos
+     */
+    public Duration getHealthRefreshInterval() {
+        return healthRefreshInterval;
+    }
+
+    /**
+     * Define o intervalo mínimo entre recálculos das estatísticas
+     * (usado principalmente para testes).
+     *
+     * @param interval intervalo entre recálculos
+     */
+    public void setHealthRefreshInterval(final Duration interval) {
+        this.healthRefreshInterval = interval;
+    }
+
+    /**
+     * Indica se o envio especulativo está habilitado.
+     *
+     * @return true se o envio especulativo está habilitado
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Habilita ou desabilita o envio especulativo
+     * (usado principalmente para testes).
+     *
+     * @param enabled true para habilitar o envio especulativo
+     */
+    public void setHedgingEnabled(final boolean enabled) {
+        this.hedgingEnabled = enabled;
+    }
+
+    /**
+     * Obtém a espera mínima antes do envio ao provedor secundário.
+     *
+     * @return espera mínima
+     */
+    public Duration getHedgingMinDelay() {
+        return hedgingMinDelay;
+    }
+
+    /**
+     * Define a espera mínima antes do envio ao provedor secundário
+     * (usado principalmente para testes).
+     *
+     * @param delay espera mínima
+     */
+    public void setHedgingMinDelay(final Duration delay) {
+        this.hedgingMinDelay = delay;
+    }
+
+    /**
+     * Obtém a quantidade máxima de envios especulativos em andamento.
+     *
+     * @return quantidade máxima de envios especulativos
+     */
+    public int getHedgingMaxConcurrent() {
+        return hedgingMaxConcurrent;
+    }
+
+    /**
+     * Define a quantidade máxima de envios especulativos em andamento
+     * (usado principalmente para testes).
+     *
+     * @param maxConcurrent quantidade máxima de envios especulativos
+     */
+    public void setHedgingMaxConcurrent(final int maxConcurrent) {
+        this.hedgingMaxConcurrent = maxConcurrent;
+    }
+}
@@ -0,0 +1,97 @@
+package com.viasoft.emailservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Configuração dos envios agendados.
+ * Esta classe centraliza o arquivo em que os emails agendados ficam
+ * até a data de envio, o limite de emails pendentes e o tamanho a
+ * partir do qual o arquivo é compactado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class ScheduleConfig {
+
+    /**
+     * Arquivo dos emails agendados.
+     */
+    @Value("${mail.schedule.file:data/scheduled-emails.log}")
+    private String file;
+
+    /**
+     * Quantidade máxima de emails agendados pendentes.
+     */
+    @Value("${mail.schedule.max-pending:10000000}")
+    private int maxPending;
+
+    /**
+     * Tamanho do arquivo a partir do qual ele é compactado, se a maior
+     * parte dos registros já tiver sido liberada.
+     */
+    @Value("${mail.schedule.compaction-threshold:64MB}")
+    private DataSize compactionThreshold;
+
+    /**
+     * Obtém o arquivo dos emails agendados.
+     *
+     * @return caminho do arquivo
+     */
+    public Path getFile() {
+        return Path.of(file);
+    }
+
+    /**
+     * Define o arquivo dos emails agendados
+     * (usado principalmente para testes).
+     *
+     * @param fileParam caminho do arquivo
+     */
+    public void setFile(final String fileParam) {
+        this.file = fileParam;
+    }
+
+    /**
+     * Obtém a quantidade máxima de emails agendados pendentes.
+     *
+     * @return limite de emails pendentes
+     */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * Define a quantidade máxima de emails agendados pendentes
+     * (usado principalmente para testes).
+     *
+     * @param maxPendingParam limite de emails pendentes
+     */
+    public void setMaxPending(final int maxPendingParam) {
+        this.maxPending = maxPendingParam;
+    }
+
+    /**
+     * Obtém o tamanho a partir do qual o arquivo é compactado.
+     *
+     * @return tamanho mínimo para compactação
+     */
+    public DataSize getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Define o tamanho a partir do qual o arquivo é compactado
+     * (usado principalmente para testes).
+     *
+     * @param threshold tamanho mínimo para compactação
+     */
+    public void setCompactionThreshold(final DataSize threshold) {
+        this.compactionThreshold = threshold;
+    }
+}
@@ -0,0 +1,261 @@
+package com.viasoft.emailservice.config;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.EmailSinkType;
+import com.viasoft.emailservice.sink.AsyncEmailSink;
+import com.viasoft.emailservice.sink.ConsoleEmailSink;
+import com.viasoft.emailservice.sink.EmailSink;
+import com.viasoft.emailservice.sink.FileEmailSink;
+import com.viasoft.emailservice.sink.HttpEmailSink;
+import com.viasoft.emailservice.sink.InMemoryEmailSink;
+import com.viasoft.emailservice.sink.StubEmailSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuração do destino de saída dos emails processados.
+ * Esta classe centraliza a escolha do destino (console, arquivo,
+ * memória ou HTTP) e os parâmetros do destino assíncrono que o
+ * envolve, e registra o {@link EmailSink} usado pela aplicação.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+public class SinkConfig {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(SinkConfig.class);
+
+    /**
+     * Destino dos emails processados.
+     */
+    @Value("${mail.sink.type:CONSOLE}")
+    private EmailSinkType type;
+
+    /**
+     * Indica se a entrega é feita fora da thread de processamento.
+     */
+    @Value("${mail.sink.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    /**
+     * Capacidade do buffer de emails aguardando entrega.
+     */
+    @Value("${mail.sink.async.buffer-size:8192}")
+    private int bufferSize;
+
+    /**
+     * Quantidade máxima de emails entregues em um único lote.
+     */
+    @Value("${mail.sink.async.batch-size:256}")
+    private int batchSize;
+
+    /**
+     * Prazo para esvaziar o buffer no desligamento da aplicação.
+     */
+    @Value("${mail.sink.async.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+
+    /**
+     * Arquivo de saída do destino FILE.
+     */
+    @Value("${mail.sink.file.path:logs/emails.log}")
+    private String filePath;
+
+    /**
+     * Tamanho máximo do arquivo antes da rotação.
+     */
+    @Value("${mail.sink.file.max-size:10MB}")
+    private DataSize fileMaxSize;
+
+    /**
+     * Quantidade de arquivos rotacionados mantidos.
+     */
+    @Value("${mail.sink.file.max-files:5}")
+    private int fileMaxFiles;
+
+    /**
+     * Endereço da API da AWS no destino HTTP.
+     */
+    @Value("${mail.sink.http.aws.url:${mail.sink.http.url:"
+            + "http://localhost:8025/emails}}")
+    private String httpAwsUrl;
+
+    /**
+     * Endereço da API da OCI no destino HTTP.
+     */
+    @Value("${mail.sink.http.oci.url:${mail.sink.http.url:"
+            + "http://localhost:8025/emails}}")
+    private String httpOciUrl;
+
+    /**
+     * Versão HTTP preferida no destino HTTP.
+     */
+    @Value("${mail.sink.http.version:HTTP_2}")
+    private HttpClient.Version httpVersion;
+
+    /**
+     * Prazo de conexão de cada envio HTTP.
+     */
+    @Value("${mail.sink.http.connect-timeout:2s}")
+    private Duration httpConnectTimeout;
+
+    /**
+     * Prazo de resposta de cada envio HTTP.
+     */
+    @Value("${mail.sink.http.timeout:5s}")
+    private Duration httpTimeout;
+
+    /**
+     * Quantidade máxima de envios HTTP em andamento por provedor.
+     */
+    @Value("${mail.sink.http.max-in-flight:256}")
+    private int httpMaxInFlight;
+
+    /**
+     * Quantidade de threads que concluem os envios HTTP.
+     */
+    @Value("${mail.sink.http.threads:4}")
+    private int httpThreads;
+
+    /**
+     * Quantidade máxima de emails mantidos pelo destino MEMORY.
+     */
+    @Value("${mail.sink.memory.capacity:10000}")
+    private int memoryCapacity;
+
+    /**
+     * Latência simulada do provedor AWS no destino STUB.
+     */
+    @Value("${mail.sink.stub.latency.aws:20ms}")
+    private Duration stubAwsLatency;
+
+    /**
+     * Latência simulada do provedor OCI no destino STUB.
+     */
+    @Value("${mail.sink.stub.latency.oci:20ms}")
+    private Duration stubOciLatency;
+
+    /**
+     * Fração dos envios lentos no destino STUB.
+     */
+    @Value("${mail.sink.stub.slow-ratio:0.02}")
+    private double stubSlowRatio;
+
+    /**
+     * Latência dos envios lentos no destino STUB.
+     */
+    @Value("${mail.sink.stub.slow-latency:1s}")
+    private Duration stubSlowLatency;
+
+    /**
+     * Fração dos envios com falha no destino STUB.
+     */
+    @Value("${mail.sink.stub.error-rate:0}")
+    private double stubErrorRate;
+
+    /**
+     * Quantidade de mensagens lembradas pelo destino STUB para
+     * descartar repetições.
+     */
+    @Value("${mail.sink.stub.dedupe-capacity:100000}")
+    private int stubDedupeCapacity;
+
+    /**
+     * Registra o destino de saída configurado, envolvido pelo destino
+     * assíncrono quando habilitado. Os destinos que representam a API
+     * de um provedor (HTTP e STUB) nunca são envolvidos: a entrega
+     * assíncrona esconderia as suas falhas do despacho.
+     *
+     * @param meterRegistry registro de métricas
+     * @return destino de saída dos emails
+     */
+    @Bean(destroyMethod = "close")
+    public EmailSink emailSink(final MeterRegistry meterRegistry) {
+        EmailSink sink = createSink();
+        boolean async = asyncEnabled && !type.isProvider();
+        LOGGER.info("Destino de emails: {} (assíncrono: {})", type, async);
+        if (!async) {
+            return sink;
+        }
+        return new AsyncEmailSink(sink, bufferSize, batchSize,
+                shutdownTimeout, meterRegistry);
+    }
+
+    /**
+     * Cria o destino real conforme o tipo configurado.
+     *
+     * @return destino real dos emails
+     */
+    private EmailSink createSink() {
+        return switch (type) {
+            case FILE -> new FileEmailSink(Path.of(filePath),
+                    fileMaxSize.toBytes(), fileMaxFiles);
+            case MEMORY -> new InMemoryEmailSink(memoryCapacity);
+            case HTTP -> new HttpEmailSink(
+                    Map.of(EmailProvider.AWS, URI.create(httpAwsUrl),
+                            EmailProvider.OCI, URI.create(httpOciUrl)),
+                    httpVersion, httpConnectTimeout, httpTimeout,
+                    httpMaxInFlight, httpThreads);
+            case STUB -> new StubEmailSink(
+                    Map.of(EmailProvider.AWS, stubAwsLatency,
+                            EmailProvider.OCI, stubOciLatency),
+                    stubSlowRatio, stubSlowLatency, stubErrorRate,
+                    stubDedupeCapacity);
+            case CONSOLE -> new ConsoleEmailSink();
+        };
+    }
+
+    /**
+     * Obtém o destino dos emails processados.
+     *
+     * @return destino dos emails
+     */
+    public EmailSinkType getType() {
+        return type;
+    }
+
+    /**
+     * Define o destino dos emails (usado principalmente para testes).
+     *
+     * @param sinkType destino dos emails
+     */
+    public void setType(final EmailSinkType sinkType) {
+        this.type = sinkType;
+    }
+
+    /**
+     * Indica se a entrega é assíncrona.
+     *
+     * @return true se a entrega é feita fora da thread de processamento
+     */
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    /**
+     * Habilita ou desabilita a entrega assíncrona
+     * (usado principalmente para testes).
+     *
+     * @param enabled true para entregar fora da thread de processamento
+     */
+    public void setAsyncEnabled(final boolean enabled) {
+        this.asyncEnabled = enabled;
+    }
+}
@@ -0,0 +1,48 @@
+package com.viasoft.emailservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.filter.ConcurrencyLimitFilter;
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração dos filtros servlet da aplicação.
+ * Registra cada filtro apenas nas rotas em que ele se aplica.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebFilterConfig {
+
+    /**
+     * Rota de envio síncrono protegida pelo limite de concorrência.
+     */
+    private static final String SEND_PATH = "/emails/send";
+
+    /**
+     * Registra o filtro de limite de concorrência na rota de envio.
+     *
+     * @param limiter serviço de limite de concorrência
+     * @param config configuração do limite de concorrência
+     * @param objectMapper mapper JSON da aplicação
+     * @return registro do filtro
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter>
+            concurrencyLimitFilter(final ConcurrencyLimiterService limiter,
+                                   final ConcurrencyLimitConfig config,
+                                   final ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(
+                        new ConcurrencyLimitFilter(limiter, objectMapper));
+        registration.addUrlPatterns(SEND_PATH);
+        registration.setEnabled(config.isEnabled());
+        return registration;
+    }
+}
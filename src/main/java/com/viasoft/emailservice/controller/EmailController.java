@@ -1,7 +1,14 @@
 package com.viasoft.emailservice.controller;
 
+import com.viasoft.emailservice.dto.BatchResponseDTO;
+import com.viasoft.emailservice.dto.EmailJobDTO;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.handler.ValidationResponseFactory;
+import com.viasoft.emailservice.service.EmailJobService;
 import com.viasoft.emailservice.service.EmailService;
+import com.viasoft.emailservice.service.IdempotencyService;
+import com.viasoft.emailservice.service.IdempotentResult;
+import com.viasoft.emailservice.validation.ValidationResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,12 +20,19 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
 
 /**
  * Controller REST para operações de email.
@@ -29,15 +43,31 @@ import org.springframework.web.bind.annotation.RestController;
  *   camada de apresentação
  * - Dependency Inversion Principle (DIP): depende da abstração do serviço
  *
+ * Registrado apenas em aplicações servlet; o build com o perfil Maven
+ * {@code webflux} expõe o mesmo contrato de forma reativa.
+ *
  * @author Thiago Bianeck
  * @version 1.0.0
  * @since 2025
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/emails")
 @Tag(name = "Email", description = "API para processamento de emails")
 public class EmailController {
 
+    /**
+     * Cabeçalho com a chave de idempotência informada pelo cliente.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Cabeçalho que sinaliza uma resposta reaproveitada pelo cache
+     * de idempotência.
+     */
+    public static final String IDEMPOTENT_REPLAYED_HEADER =
+            "Idempotent-Replayed";
+
     /**
      * Logger para registrar eventos e operações da classe.
      */
@@ -49,23 +79,59 @@ public class EmailController {
      */
     private final EmailService emailService;
 
+    /**
+     * Serviço responsável pelo processamento assíncrono de emails.
+     */
+    private final EmailJobService emailJobService;
+
+    /**
+     * Serviço responsável pelo envio idempotente de emails.
+     */
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * Fábrica das respostas de erro dos emails recusados.
+     */
+    private final ValidationResponseFactory validationResponses;
+
     /**
      * Construtor com injeção de dependência.
      *
      * @param emailServiceParam serviço de email
+     * @param emailJobServiceParam serviço de processamento assíncrono
+     * @param idempotencyServiceParam serviço de envio idempotente
+     * @param validationResponsesParam fábrica das respostas de erro
      */
     @Autowired
-    public EmailController(final EmailService emailServiceParam) {
+    public EmailController(final EmailService emailServiceParam,
+                           final EmailJobService emailJobServiceParam,
+                           final IdempotencyService idempotencyServiceParam,
+                           final ValidationResponseFactory
+                                   validationResponsesParam) {
         this.emailService = emailServiceParam;
+        this.emailJobService = emailJobServiceParam;
+        this.idempotencyService = idempotencyServiceParam;
+        this.validationResponses = validationResponsesParam;
     }
 
     /**
      * Endpoint para processamento de email.
      * Recebe dados de email, adapta conforme o provedor configurado,
      * serializa em JSON e imprime no console.
+     * Com o cabeçalho {@code Idempotency-Key}, uma nova tentativa com a
+     * mesma chave reaproveita o resultado do primeiro envio em vez de
+     * processar o email novamente.
+     * Com data de envio ({@code enviarEm}), o email segue o fluxo
+     * assíncrono e é aceito como job; com a chave de idempotência, uma
+     * nova tentativa recebe o mesmo job em vez de agendar outro email.
+     * Um email que excede os limites do provedor é recusado sem
+     * exceção, com os erros de todos os campos excedidos.
      *
+     * @param idempotencyKey chave de idempotência opcional
      * @param emailRequest dados do email a ser processado
-     * @return resposta HTTP 204 (No Content) em caso de sucesso
+     * @return resposta HTTP 204 (No Content) em caso de sucesso, 202
+     *         (Accepted) com o job criado para emails agendados, ou 400
+     *         (Bad Request) com os campos que excedem os limites
      */
     @PostMapping("/send")
     @Operation(
@@ -78,6 +144,15 @@ public class EmailController {
                     responseCode = "204",
                     description = "Email processado com sucesso"
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Email agendado aceito como job",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(
+                                    implementation = EmailJobDTO.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Dados inválidos",
@@ -86,6 +161,15 @@ public class EmailController {
                             schema = @Schema(implementation = Object.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Chave de idempotência usada com outro "
+                            + "conteúdo ou ainda em processamento",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Object.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Erro interno do servidor",
@@ -95,7 +179,11 @@ public class EmailController {
                     )
             )
     })
-    public ResponseEntity<Void> sendEmail(
+    public ResponseEntity<?> sendEmail(
+            @Parameter(description = "Chave que identifica o envio entre "
+                    + "novas tentativas do cliente")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+            final String idempotencyKey,
             @Parameter(description = "Dados do email a ser enviado",
                     required = true)
             @Valid @RequestBody final EmailRequestDTO emailRequest) {
@@ -103,8 +191,27 @@ public class EmailController {
         LOGGER.info("Recebida requisição de envio de email para: {}",
                 emailRequest.getEmailDestinatario());
 
-        // Processar o email através do serviço
-        emailService.processEmail(emailRequest);
+        if (emailRequest.getEnviarEm() != null) {
+            return submitScheduled(idempotencyKey, emailRequest);
+        }
+
+        if (idempotencyKey != null) {
+            boolean replayed = idempotencyService.processEmail(
+                    idempotencyKey, emailRequest);
+            if (replayed) {
+                LOGGER.info("Email já processado para a chave informada");
+                return ResponseEntity.noContent()
+                        .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                        .build();
+            }
+        } else {
+            // Processar o email através do serviço
+            ValidationResult limits =
+                    emailService.tryProcessEmail(emailRequest);
+            if (!limits.isValid()) {
+                return validationResponses.limitsExceeded(limits);
+            }
+        }
 
         LOGGER.info("Email processado com sucesso");
 
@@ -112,6 +219,202 @@ public class EmailController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Endpoint para processamento assíncrono de email.
+     * Valida os dados, enfileira o email e retorna imediatamente o job
+     * criado, cuja situação pode ser consultada em {@code /emails/{id}}.
+     * Com data de envio futura ({@code enviarEm}), o email é agendado e
+     * o job fica na situação AGENDADO até essa data.
+     *
+     * @param emailRequest dados do email a ser processado
+     * @return resposta HTTP 202 (Accepted) com o job criado
+     */
+    @PostMapping("/send/async")
+    @Operation(
+            summary = "Processar email de forma assíncrona",
+            description = "Valida e enfileira o email para processamento "
+                    + "em segundo plano, retornando o identificador do job"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Email aceito para processamento",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(
+                                    implementation = EmailJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Dados inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Object.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Fila de processamento ou de "
+                            + "agendamentos cheia",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Object.class)
+                    )
+            )
+    })
+    public ResponseEntity<EmailJobDTO> sendEmailAsync(
+            @Parameter(description = "Dados do email a ser enviado",
+                    required = true)
+            @Valid @RequestBody final EmailRequestDTO emailRequest) {
+
+        LOGGER.info("Recebida requisição assíncrona de envio de email "
+                + "para: {}", emailRequest.getEmailDestinatario());
+
+        return accepted(emailJobService.submit(emailRequest));
+    }
+
+    /**
+     * Endpoint para consulta da situação de um job assíncrono.
+     *
+     * @param id identificador do job
+     * @return resposta HTTP 200 com a situação do job
+     */
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Consultar job de email",
+            description = "Retorna a situação de um email enviado pelo "
+                    + "modo assíncrono"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Situação do job",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(
+                                    implementation = EmailJobDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job não encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Object.class)
+                    )
+            )
+    })
+    public ResponseEntity<EmailJobDTO> getJob(
+            @Parameter(description = "Identificador do job",
+                    required = true)
+            @PathVariable final String id) {
+        return ResponseEntity.ok(emailJobService.getJob(id));
+    }
+
+    /**
+     * Endpoint para processamento de um lote de emails.
+     * Cada item é validado e adaptado individualmente; itens inválidos
+     * são reportados no resultado sem interromper o restante do lote.
+     *
+     * @param emailRequests itens do lote a serem processados
+     * @return resposta HTTP 200 com o resultado de cada item
+     */
+    @PostMapping("/send/batch")
+    @Operation(
+            summary = "Processar lote de emails",
+            description = "Processa um lote de emails adaptando cada item "
+                    + "para o provedor configurado (AWS/OCI) e retorna "
+                    + "o resultado individual de cada item"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote processado; consulte o resultado "
+                            + "de cada item",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(
+                                    implementation = BatchResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lote vazio ou acima do tamanho máximo",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Object.class)
+                    )
+            )
+    })
+    public ResponseEntity<BatchResponseDTO> sendBatch(
+            @Parameter(description = "Itens do lote a serem enviados",
+                    required = true)
+            @RequestBody final List<EmailRequestDTO> emailRequests) {
+
+        LOGGER.info("Recebida requisição de envio de lote com {} itens",
+                emailRequests.size());
+
+        BatchResponseDTO response = emailService.processBatch(emailRequests);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Aceita um email agendado como job, de forma idempotente quando há
+     * chave: a repetição recebe o job aceito na primeira requisição.
+     *
+     * @param idempotencyKey chave de idempotência, ou null
+     * @param emailRequest dados do email
+     * @return resposta HTTP 202 (Accepted) com o job
+     */
+    private ResponseEntity<EmailJobDTO> submitScheduled(
+            final String idempotencyKey, final EmailRequestDTO emailRequest) {
+        if (idempotencyKey == null) {
+            return accepted(emailJobService.submit(emailRequest));
+        }
+        IdempotentResult<EmailJobDTO> result =
+                idempotencyService.submitJob(idempotencyKey, emailRequest);
+        if (result.replayed()) {
+            LOGGER.info("Email já agendado para a chave informada");
+        }
+        return accepted(result.value(), result.replayed());
+    }
+
+    /**
+     * Monta a resposta de um job aceito, com o endereço de consulta.
+     *
+     * @param job job criado
+     * @return resposta HTTP 202 (Accepted) com o job
+     */
+    private ResponseEntity<EmailJobDTO> accepted(final EmailJobDTO job) {
+        return accepted(job, false);
+    }
+
+    /**
+     * Monta a resposta de um job aceito, com o endereço de consulta e,
+     * se o job foi reaproveitado pelo cache de idempotência, o cabeçalho
+     * que sinaliza a repetição.
+     *
+     * @param job job aceito
+     * @param replayed true se o job foi reaproveitado
+     * @return resposta HTTP 202 (Accepted) com o job
+     */
+    private ResponseEntity<EmailJobDTO> accepted(final EmailJobDTO job,
+                                                 final boolean replayed) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/emails/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.accepted().location(location);
+        if (replayed) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(job);
+    }
+
     /**
      * Endpoint para verificação de saúde da API.
      *
@@ -0,0 +1,261 @@
+package com.viasoft.emailservice.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.service.EmailService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller REST para ingestão de emails em fluxo NDJSON.
+ * Esta classe lê o corpo da requisição de forma incremental com o
+ * parser de streaming do Jackson, processando cada registro assim que
+ * ele chega e devolvendo o resultado de cada item também em NDJSON.
+ * O consumo de memória independe do tamanho do corpo da requisição,
+ * pois nenhum registro é mantido após o seu processamento.
+ * Até {@value #MAX_IN_FLIGHT} itens são mantidos em processamento ao
+ * mesmo tempo no pipeline; os resultados são escritos na ordem de
+ * leitura, e a leitura do próximo registro aguarda quando a janela
+ * está cheia.
+ * Aplica os princípios:
+ * - Single Responsibility Principle (SRP): responsável apenas pela
+ *   leitura e escrita do fluxo NDJSON
+ * - Dependency Inversion Principle (DIP): depende da abstração do serviço
+ *
+ * Registrado apenas em aplicações servlet; o build com o perfil Maven
+ * {@code webflux} expõe o mesmo contrato de forma reativa.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/emails")
+@Tag(name = "Email", description = "API para processamento de emails")
+public class EmailStreamController {
+
+    /**
+     * Tipo de mídia NDJSON (um documento JSON por linha).
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * Logger para registrar eventos e operações da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(EmailStreamController.class);
+
+    /**
+     * Chave de erro usada quando um registro não pode ser lido.
+     */
+    private static final String ERRO_JSON = "json";
+
+    /**
+     * Quantidade de resultados escritos entre descargas do buffer
+     * de saída.
+     */
+    private static final int FLUSH_INTERVAL = 100;
+
+    /**
+     * Quantidade máxima de itens em processamento ao mesmo tempo.
+     */
+    private static final int MAX_IN_FLIGHT = 64;
+
+    /**
+     * Serviço responsável pelo processamento de emails.
+     */
+    private final EmailService emailService;
+
+    /**
+     * Leitor pré-configurado para registros de entrada.
+     */
+    private final ObjectReader requestReader;
+
+    /**
+     * Escritor pré-configurado para os resultados de cada item.
+     */
+    private final ObjectWriter resultWriter;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param emailServiceParam serviço de email
+     * @param objectMapperParam mapper JSON da aplicação
+     */
+    @Autowired
+    public EmailStreamController(final EmailService emailServiceParam,
+                                 final ObjectMapper objectMapperParam) {
+        this.emailService = emailServiceParam;
+        this.requestReader =
+                objectMapperParam.readerFor(EmailRequestDTO.class);
+        this.resultWriter = objectMapperParam
+                .writerFor(BatchItemResultDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Endpoint para processamento de um fluxo NDJSON de emails.
+     * Cada linha do corpo é um email; cada linha da resposta é o
+     * resultado do item correspondente. Registros com JSON inválido
+     * para o contrato são rejeitados individualmente; um erro de
+     * sintaxe encerra o fluxo após reportar o item afetado.
+     *
+     * @param request requisição HTTP com o corpo NDJSON
+     * @param response resposta HTTP onde os resultados são escritos
+     * @throws IOException se ocorrer erro de leitura ou escrita
+     */
+    @PostMapping(value = "/send/stream",
+            consumes = APPLICATION_NDJSON,
+            produces = APPLICATION_NDJSON)
+    @Operation(
+            summary = "Processar fluxo NDJSON de emails",
+            description = "Lê um email por linha de forma incremental, "
+                    + "adapta cada item para o provedor configurado "
+                    + "(AWS/OCI) e devolve o resultado de cada item "
+                    + "em NDJSON",
+            requestBody = @RequestBody(
+                    description = "Um EmailRequestDTO por linha",
+                    required = true,
+                    content = @Content(
+                            mediaType = APPLICATION_NDJSON,
+                            schema = @Schema(
+                                    implementation = EmailRequestDTO.class)
+                    )
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Fluxo processado; uma linha de resultado "
+                    + "por item",
+            content = @Content(
+                    mediaType = APPLICATION_NDJSON,
+                    schema = @Schema(
+                            implementation = BatchItemResultDTO.class)
+            )
+    )
+    public void sendStream(final HttpServletRequest request,
+                           final HttpServletResponse response)
+            throws IOException {
+
+        LOGGER.info("Recebida requisição de envio de fluxo NDJSON");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON);
+
+        int indice = 0;
+        Queue<CompletableFuture<BatchItemResultDTO>> pendentes =
+                new ArrayDeque<>(MAX_IN_FLIGHT);
+        try (JsonParser parser =
+                     requestReader.createParser(request.getInputStream());
+             MappingIterator<EmailRequestDTO> records =
+                     requestReader.readValues(parser);
+             JsonGenerator generator = resultWriter.createGenerator(
+                     response.getOutputStream())) {
+
+            generator.setRootValueSeparator(null);
+
+            while (true) {
+                CompletableFuture<BatchItemResultDTO> resultado;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    resultado = emailService.submitItem(indice,
+                            records.nextValue());
+                } catch (JsonMappingException e) {
+                    // Registro sintaticamente válido, mas incompatível
+                    // com o contrato: o iterador se ressincroniza
+                    resultado = CompletableFuture.completedFuture(
+                            BatchItemResultDTO.rejeitado(indice,
+                                    Map.of(ERRO_JSON, String.valueOf(
+                                            e.getOriginalMessage()))));
+                } catch (JsonProcessingException e) {
+                    // Erro de sintaxe: não é possível localizar o
+                    // próximo registro com segurança
+                    writePending(generator, pendentes, 0);
+                    writeResult(generator,
+                            BatchItemResultDTO.rejeitado(indice,
+                                    Map.of(ERRO_JSON, String.valueOf(
+                                            e.getOriginalMessage()))));
+                    LOGGER.warn("Fluxo NDJSON encerrado no item {}: {}",
+                            indice, e.getOriginalMessage());
+                    indice++;
+                    break;
+                }
+
+                pendentes.add(resultado);
+                indice++;
+                writePending(generator, pendentes, MAX_IN_FLIGHT - 1);
+                if (indice % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            writePending(generator, pendentes, 0);
+        }
+
+        LOGGER.info("Fluxo NDJSON processado com {} itens", indice);
+    }
+
+    /**
+     * Aguarda e escreve, em ordem, os resultados pendentes até que
+     * restem no máximo {@code limite} itens em processamento.
+     *
+     * @param generator gerador JSON associado à resposta
+     * @param pendentes resultados em processamento, na ordem de leitura
+     * @param limite quantidade de itens que podem continuar pendentes
+     * @throws IOException se ocorrer erro de escrita
+     */
+    private void writePending(
+            final JsonGenerator generator,
+            final Queue<CompletableFuture<BatchItemResultDTO>> pendentes,
+            final int limite) throws IOException {
+        while (pendentes.size() > limite) {
+            writeResult(generator, pendentes.poll().join());
+        }
+    }
+
+    /**
+     * Escreve o resultado de um item como uma linha NDJSON.
+     *
+     * @param generator gerador JSON associado à resposta
+     * @param resultado resultado do item
+     * @throws IOException se ocorrer erro de escrita
+     */
+    private void writeResult(final JsonGenerator generator,
+                             final BatchItemResultDTO resultado)
+            throws IOException {
+        resultWriter.writeValue(generator, resultado);
+        generator.writeRaw('\n');
+    }
+}
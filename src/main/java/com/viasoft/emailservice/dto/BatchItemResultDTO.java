@@ -0,0 +1,153 @@
+package com.viasoft.emailservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.viasoft.emailservice.enums.BatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * DTO com o resultado do processamento de um item de um lote de emails.
+ *
+ * <p>Esta classe é final para garantir que não seja estendida,
+ * mantendo a integridade do contrato de dados do DTO.</p>
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Schema(description = "Resultado do processamento de um item do lote")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class BatchItemResultDTO {
+
+    /**
+     * Posição do item no lote recebido (iniciando em zero).
+     */
+    @Schema(description = "Posição do item no lote", example = "0")
+    private int indice;
+
+    /**
+     * Situação do item após o processamento.
+     */
+    @Schema(description = "Situação do item", example = "ACEITO")
+    private BatchItemStatus status;
+
+    /**
+     * Erros encontrados no item, indexados por campo.
+     * Ausente quando o item é aceito.
+     */
+    @Schema(description = "Erros do item por campo",
+            example = "{'emailDestinatario': 'Email do destinatário "
+                    + "deve ter formato válido'}")
+    private Map<String, String> errors;
+
+    /**
+     * Construtor padrão.
+     */
+    public BatchItemResultDTO() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param itemIndice posição do item no lote
+     * @param itemStatus situação do item
+     * @param itemErrors erros do item, ou null se aceito
+     */
+    public BatchItemResultDTO(final int itemIndice,
+                              final BatchItemStatus itemStatus,
+                              final Map<String, String> itemErrors) {
+        this.indice = itemIndice;
+        this.status = itemStatus;
+        this.errors = itemErrors;
+    }
+
+    /**
+     * Cria o resultado de um item aceito.
+     *
+     * @param itemIndice posição do item no lote
+     * @return resultado de item aceito
+     */
+    public static BatchItemResultDTO aceito(final int itemIndice) {
+        return new BatchItemResultDTO(itemIndice, BatchItemStatus.ACEITO,
+                null);
+    }
+
+    /**
+     * Cria o resultado de um item rejeitado.
+     *
+     * @param itemIndice posição do item no lote
+     * @param itemErrors erros que causaram a rejeição
+     * @return resultado de item rejeitado
+     */
+    public static BatchItemResultDTO rejeitado(
+            final int itemIndice, final Map<String, String> itemErrors) {
+        return new BatchItemResultDTO(itemIndice, BatchItemStatus.REJEITADO,
+                itemErrors);
+    }
+
+    // Getters e Setters
+
+    /**
+     * Obtém a posição do item no lote.
+     *
+     * @return a posição do item
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    /**
+     * Define a posição do item no lote.
+     *
+     * @param itemIndice a posição do item a ser definida
+     */
+    public void setIndice(final int itemIndice) {
+        this.indice = itemIndice;
+    }
+
+    /**
+     * Obtém a situação do item.
+     *
+     * @return a situação do item
+     */
+    public BatchItemStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Define a situação do item.
+     *
+     * @param itemStatus a situação do item a ser definida
+     */
+    public void setStatus(final BatchItemStatus itemStatus) {
+        this.status = itemStatus;
+    }
+
+    /**
+     * Obtém os erros do item.
+     *
+     * @return os erros do item, ou null se aceito
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Define os erros do item.
+     *
+     * @param itemErrors os erros do item a serem definidos
+     */
+    public void setErrors(final Map<String, String> itemErrors) {
+        this.errors = itemErrors;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchItemResultDTO{"
+                + "indice=" + indice
+                + ", status=" + status
+                + ", errors=" + errors
+                + '}';
+    }
+}
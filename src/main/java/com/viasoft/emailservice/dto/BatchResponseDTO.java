@@ -0,0 +1,153 @@
+package com.viasoft.emailservice.dto;
+
+import com.viasoft.emailservice.enums.BatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para o processamento de um lote de emails.
+ * Reúne os totais do lote e o resultado individual de cada item.
+ *
+ * <p>Esta classe é final para garantir que não seja estendida,
+ * mantendo a integridade do contrato de dados do DTO.</p>
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Schema(description = "Resultado do processamento de um lote de emails")
+public final class BatchResponseDTO {
+
+    /**
+     * Quantidade total de itens recebidos no lote.
+     */
+    @Schema(description = "Total de itens do lote", example = "3")
+    private int total;
+
+    /**
+     * Quantidade de itens aceitos.
+     */
+    @Schema(description = "Total de itens aceitos", example = "2")
+    private int aceitos;
+
+    /**
+     * Quantidade de itens rejeitados.
+     */
+    @Schema(description = "Total de itens rejeitados", example = "1")
+    private int rejeitados;
+
+    /**
+     * Resultado individual de cada item, na ordem de recebimento.
+     */
+    @Schema(description = "Resultado de cada item do lote")
+    private List<BatchItemResultDTO> resultados;
+
+    /**
+     * Construtor padrão.
+     */
+    public BatchResponseDTO() {
+    }
+
+    /**
+     * Construtor que calcula os totais a partir dos resultados.
+     *
+     * @param itemResultados resultados individuais dos itens
+     */
+    public BatchResponseDTO(final List<BatchItemResultDTO> itemResultados) {
+        this.resultados = itemResultados;
+        this.total = itemResultados.size();
+        int aceitosCount = 0;
+        for (BatchItemResultDTO resultado : itemResultados) {
+            if (resultado.getStatus() == BatchItemStatus.ACEITO) {
+                aceitosCount++;
+            }
+        }
+        this.aceitos = aceitosCount;
+        this.rejeitados = total - aceitosCount;
+    }
+
+    // Getters e Setters
+
+    /**
+     * Obtém o total de itens do lote.
+     *
+     * @return o total de itens
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Define o total de itens do lote.
+     *
+     * @param totalItens o total de itens a ser definido
+     */
+    public void setTotal(final int totalItens) {
+        this.total = totalItens;
+    }
+
+    /**
+     * Obtém o total de itens aceitos.
+     *
+     * @return o total de itens aceitos
+     */
+    public int getAceitos() {
+        return aceitos;
+    }
+
+    /**
+     * Define o total de itens aceitos.
+     *
+     * @param totalAceitos o total de itens aceitos a ser definido
+     */
+    public void setAceitos(final int totalAceitos) {
+        this.aceitos = totalAceitos;
+    }
+
+    /**
+     * Obtém o total de itens rejeitados.
+     *
+     * @return o total de itens rejeitados
+     */
+    public int getRejeitados() {
+        return rejeitados;
+    }
+
+    /**
+     * Define o total de itens rejeitados.
+     *
+     * @param totalRejeitados o total de itens rejeitados a ser definido
+     */
+    public void setRejeitados(final int totalRejeitados) {
+        this.rejeitados = totalRejeitados;
+    }
+
+    /**
+     * Obtém os resultados individuais dos itens.
+     *
+     * @return os resultados dos itens
+     */
+    public List<BatchItemResultDTO> getResultados() {
+        return resultados;
+    }
+
+    /**
+     * Define os resultados individuais dos itens.
+     *
+     * @param itemResultados os resultados a serem definidos
+     */
+    public void setResultados(final List<BatchItemResultDTO> itemResultados) {
+        this.resultados = itemResultados;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponseDTO{"
+                + "total=" + total
+                + ", aceitos=" + aceitos
+                + ", rejeitados=" + rejeitados
+                + ", resultados=" + resultados
+                + '}';
+    }
+}
@@ -1,5 +1,10 @@
 package com.viasoft.emailservice.dto;
 
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.mapping.MapFrom;
+import com.viasoft.emailservice.mapping.ProviderDto;
+import com.viasoft.emailservice.validation.ProviderLimits;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,24 +15,33 @@ import jakarta.validation.constraints.Size;
  * Esta classe representa a estrutura de dados necessária
  * para envio de emails através da plataforma Amazon Web Services.
  *
+ * O mapeamento a partir de {@link EmailRequestDTO} e a verificação
+ * dos limites de tamanho são gerados na compilação a partir das
+ * anotações dos campos, em {@code EmailAwsDTOMapper}.
+ *
  * @author Thiago Bianeck
  * @version 1.0.0
  * @since 2025
  */
+@ProviderDto(provider = EmailProvider.AWS, source = EmailRequestDTO.class)
 @Schema(description = "Dados de email formatados para AWS")
 public final class EmailAwsDTO {
 
-    /** Tamanho máximo para campos de email (45 caracteres). */
-    private static final int MAX_EMAIL_LENGTH = 45;
+    /** Tamanho máximo para campos de email. */
+    private static final int MAX_EMAIL_LENGTH =
+            ProviderLimits.AWS_MAX_EMAIL_LENGTH;
 
-    /** Tamanho máximo para nome do destinatário (60 caracteres). */
-    private static final int MAX_RECIPIENT_NAME_LENGTH = 60;
+    /** Tamanho máximo para nome do destinatário. */
+    private static final int MAX_RECIPIENT_NAME_LENGTH =
+            ProviderLimits.AWS_MAX_NAME_LENGTH;
 
-    /** Tamanho máximo para assunto do email (120 caracteres). */
-    private static final int MAX_SUBJECT_LENGTH = 120;
+    /** Tamanho máximo para assunto do email. */
+    private static final int MAX_SUBJECT_LENGTH =
+            ProviderLimits.AWS_MAX_SUBJECT_LENGTH;
 
-    /** Tamanho máximo para conteúdo do email (256 caracteres). */
-    private static final int MAX_CONTENT_LENGTH = 256;
+    /** Tamanho máximo para conteúdo do email. */
+    private static final int MAX_CONTENT_LENGTH =
+            ProviderLimits.AWS_MAX_CONTENT_LENGTH;
 
     /**
      * Email do destinatário.
@@ -38,7 +52,9 @@ public final class EmailAwsDTO {
     @NotBlank(message = "Recipient é obrigatório")
     @Email(message = "Recipient deve ter formato válido")
     @Size(max = MAX_EMAIL_LENGTH,
-            message = "Recipient deve ter no máximo 45 caracteres")
+            message = "Recipient deve ter no máximo "
+                    + MAX_EMAIL_LENGTH + " caracteres")
+    @MapFrom(EmailField.EMAIL_DESTINATARIO)
     private String recipient;
 
     /**
@@ -48,7 +64,9 @@ public final class EmailAwsDTO {
     @Schema(description = "Nome do destinatário", example = "João Silva")
     @NotBlank(message = "RecipientName é obrigatório")
     @Size(max = MAX_RECIPIENT_NAME_LENGTH,
-            message = "RecipientName deve ter no máximo 60 caracteres")
+            message = "RecipientName deve ter no máximo "
+                    + MAX_RECIPIENT_NAME_LENGTH + " caracteres")
+    @MapFrom(EmailField.NOME_DESTINATARIO)
     private String recipientName;
 
     /**
@@ -60,7 +78,9 @@ public final class EmailAwsDTO {
     @NotBlank(message = "Sender é obrigatório")
     @Email(message = "Sender deve ter formato válido")
     @Size(max = MAX_EMAIL_LENGTH,
-            message = "Sender deve ter no máximo 45 caracteres")
+            message = "Sender deve ter no máximo "
+                    + MAX_EMAIL_LENGTH + " caracteres")
+    @MapFrom(EmailField.EMAIL_REMETENTE)
     private String sender;
 
     /**
@@ -71,7 +91,9 @@ public final class EmailAwsDTO {
             example = "Bem-vindo ao nosso sistema")
     @NotBlank(message = "Subject é obrigatório")
     @Size(max = MAX_SUBJECT_LENGTH,
-            message = "Subject deve ter no máximo 120 caracteres")
+            message = "Subject deve ter no máximo "
+                    + MAX_SUBJECT_LENGTH + " caracteres")
+    @MapFrom(EmailField.ASSUNTO)
     private String subject;
 
     /**
@@ -82,7 +104,9 @@ public final class EmailAwsDTO {
             example = "Olá! Seja bem-vindo ao nosso sistema.")
     @NotBlank(message = "Content é obrigatório")
     @Size(max = MAX_CONTENT_LENGTH,
-            message = "Content deve ter no máximo 256 caracteres")
+            message = "Content deve ter no máximo "
+                    + MAX_CONTENT_LENGTH + " caracteres")
+    @MapFrom(EmailField.CONTEUDO)
     private String content;
 
     /**
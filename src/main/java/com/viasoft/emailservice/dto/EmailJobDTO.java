@@ -0,0 +1,203 @@
+package com.viasoft.emailservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com a situação de um job de email assíncrono.
+ *
+ * <p>Esta classe é final para garantir que não seja estendida,
+ * mantendo a integridade do contrato de dados do DTO.</p>
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Schema(description = "Situação de um job de email assíncrono")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class EmailJobDTO {
+
+    /**
+     * Identificador do job.
+     */
+    @Schema(description = "Identificador do job",
+            example = "3f1c2a9e-8d4b-4f7a-9c2e-1b5d6e7f8a90")
+    private String id;
+
+    /**
+     * Situação atual do job.
+     */
+    @Schema(description = "Situação do job", example = "PENDENTE")
+    private EmailJobStatus status;
+
+    /**
+     * Mensagem de erro, presente apenas quando o job falha.
+     */
+    @Schema(description = "Mensagem de erro do job",
+            example = "Erro inesperado durante o processamento do email")
+    private String erro;
+
+    /**
+     * Quantidade de tentativas de processamento já iniciadas.
+     */
+    @Schema(description = "Tentativas de processamento", example = "1")
+    private Integer tentativas;
+
+    /**
+     * Data e hora da última alteração de situação.
+     */
+    @Schema(description = "Data e hora da última atualização",
+            example = "2025-01-15T10:30:00")
+    @JsonFormat(shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime atualizadoEm;
+
+    /**
+     * Construtor padrão.
+     */
+    public EmailJobDTO() {
+    }
+
+    /**
+     * Construtor com todos os parâmetros.
+     *
+     * @param jobId identificador do job
+     * @param jobStatus situação do job
+     * @param jobErro mensagem de erro, ou null
+     * @param jobAtualizadoEm data e hora da última atualização
+     */
+    public EmailJobDTO(final String jobId,
+                       final EmailJobStatus jobStatus,
+                       final String jobErro,
+                       final LocalDateTime jobAtualizadoEm) {
+        this.id = jobId;
+        this.status = jobStatus;
+        this.erro = jobErro;
+        this.atualizadoEm = jobAtualizadoEm;
+    }
+
+    /**
+     * Construtor com todos os parâmetros e a quantidade de tentativas.
+     *
+     * @param jobId identificador do job
+     * @param jobStatus situação do job
+     * @param jobErro mensagem de erro, ou null
+     * @param jobTentativas tentativas de processamento já iniciadas
+     * @param jobAtualizadoEm data e hora da última atualização
+     */
+    public EmailJobDTO(final String jobId,
+                       final EmailJobStatus jobStatus,
+                       final String jobErro,
+                       final Integer jobTentativas,
+                       final LocalDateTime jobAtualizadoEm) {
+        this(jobId, jobStatus, jobErro, jobAtualizadoEm);
+        this.tentativas = jobTentativas;
+    }
+
+    // Getters e Setters
+
+    /**
+     * Obtém o identificador do job.
+     *
+     * @return o identificador do job
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Define o identificador do job.
+     *
+     * @param jobId o identificador a ser definido
+     */
+    public void setId(final String jobId) {
+        this.id = jobId;
+    }
+
+    /**
+     * Obtém a situação do job.
+     *
+     * @return a situação do job
+     */
+    public EmailJobStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Define a situação do job.
+     *
+     * @param jobStatus a situação a ser definida
+     */
+    public void setStatus(final EmailJobStatus jobStatus) {
+        this.status = jobStatus;
+    }
+
+    /**
+     * Obtém a mensagem de erro do job.
+     *
+     * @return a mensagem de erro, ou null
+     */
+    public String getErro() {
+        return erro;
+    }
+
+    /**
+     * Define a mensagem de erro do job.
+     *
+     * @param jobErro a mensagem de erro a ser definida
+     */
+    public void setErro(final String jobErro) {
+        this.erro = jobErro;
+    }
+
+    /**
+     * Obtém a quantidade de tentativas de processamento.
+     *
+     * @return as tentativas já iniciadas, ou null
+     */
+    public Integer getTentativas() {
+        return tentativas;
+    }
+
+    /**
+     * Define a quantidade de tentativas de processamento.
+     *
+     * @param jobTentativas as tentativas a serem definidas
+     */
+    public void setTentativas(final Integer jobTentativas) {
+        this.tentativas = jobTentativas;
+    }
+
+    /**
+     * Obtém a data e hora da última atualização.
+     *
+     * @return a data e hora da última atualização
+     */
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    /**
+     * Define a data e hora da última atualização.
+     *
+     * @param jobAtualizadoEm a data e hora a ser definida
+     */
+    public void setAtualizadoEm(final LocalDateTime jobAtualizadoEm) {
+        this.atualizadoEm = jobAtualizadoEm;
+    }
+
+    @Override
+    public String toString() {
+        return "EmailJobDTO{"
+                + "id='" + id + '\''
+                + ", status=" + status
+                + ", erro='" + erro + '\''
+                + ", tentativas=" + tentativas
+                + ", atualizadoEm=" + atualizadoEm
+                + '}';
+    }
+}
@@ -1,5 +1,10 @@
 package com.viasoft.emailservice.dto;
 
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.mapping.MapFrom;
+import com.viasoft.emailservice.mapping.ProviderDto;
+import com.viasoft.emailservice.validation.ProviderLimits;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,24 +15,33 @@ import jakarta.validation.constraints.Size;
  * Esta classe representa a estrutura de dados necessária
  * para envio de emails através da plataforma Oracle Cloud Infrastructure.
  *
+ * O mapeamento a partir de {@link EmailRequestDTO} e a verificação
+ * dos limites de tamanho são gerados na compilação a partir das
+ * anotações dos campos, em {@code EmailOciDTOMapper}.
+ *
  * @author Thiago Bianeck
  * @version 1.0.0
  * @since 2025
  */
+@ProviderDto(provider = EmailProvider.OCI, source = EmailRequestDTO.class)
 @Schema(description = "Dados de email formatados para OCI")
 public final class EmailOciDTO {
 
     /** Tamanho máximo para campos de email. */
-    private static final int MAX_EMAIL_LENGTH = 40;
+    private static final int MAX_EMAIL_LENGTH =
+            ProviderLimits.OCI_MAX_EMAIL_LENGTH;
 
     /** Tamanho máximo para o nome do destinatário. */
-    private static final int MAX_NAME_LENGTH = 50;
+    private static final int MAX_NAME_LENGTH =
+            ProviderLimits.OCI_MAX_NAME_LENGTH;
 
     /** Tamanho máximo para o assunto do email. */
-    private static final int MAX_SUBJECT_LENGTH = 100;
+    private static final int MAX_SUBJECT_LENGTH =
+            ProviderLimits.OCI_MAX_SUBJECT_LENGTH;
 
     /** Tamanho máximo para o corpo do email. */
-    private static final int MAX_BODY_LENGTH = 250;
+    private static final int MAX_BODY_LENGTH =
+            ProviderLimits.OCI_MAX_CONTENT_LENGTH;
 
     /**
      * Email do destinatário.
@@ -38,7 +52,9 @@ public final class EmailOciDTO {
     @NotBlank(message = "RecipientEmail é obrigatório")
     @Email(message = "RecipientEmail deve ter formato válido")
     @Size(max = MAX_EMAIL_LENGTH,
-            message = "RecipientEmail deve ter no máximo 40 caracteres")
+            message = "RecipientEmail deve ter no máximo "
+                    + MAX_EMAIL_LENGTH + " caracteres")
+    @MapFrom(EmailField.EMAIL_DESTINATARIO)
     private String recipientEmail;
 
     /**
@@ -48,7 +64,9 @@ public final class EmailOciDTO {
     @Schema(description = "Nome do destinatário", example = "João Silva")
     @NotBlank(message = "RecipientName é obrigatório")
     @Size(max = MAX_NAME_LENGTH,
-            message = "RecipientName deve ter no máximo 50 caracteres")
+            message = "RecipientName deve ter no máximo "
+                    + MAX_NAME_LENGTH + " caracteres")
+    @MapFrom(EmailField.NOME_DESTINATARIO)
     private String recipientName;
 
     /**
@@ -60,7 +78,9 @@ public final class EmailOciDTO {
     @NotBlank(message = "SenderEmail é obrigatório")
     @Email(message = "SenderEmail deve ter formato válido")
     @Size(max = MAX_EMAIL_LENGTH,
-            message = "SenderEmail deve ter no máximo 40 caracteres")
+            message = "SenderEmail deve ter no máximo "
+                    + MAX_EMAIL_LENGTH + " caracteres")
+    @MapFrom(EmailField.EMAIL_REMETENTE)
     private String senderEmail;
 
     /**
@@ -71,7 +91,9 @@ public final class EmailOciDTO {
             example = "Bem-vindo ao nosso sistema")
     @NotBlank(message = "Subject é obrigatório")
     @Size(max = MAX_SUBJECT_LENGTH,
-            message = "Subject deve ter no máximo 100 caracteres")
+            message = "Subject deve ter no máximo "
+                    + MAX_SUBJECT_LENGTH + " caracteres")
+    @MapFrom(EmailField.ASSUNTO)
     private String subject;
 
     /**
@@ -82,7 +104,9 @@ public final class EmailOciDTO {
             example = "Olá! Seja bem-vindo ao nosso sistema.")
     @NotBlank(message = "Body é obrigatório")
     @Size(max = MAX_BODY_LENGTH,
-            message = "Body deve ter no máximo 250 caracteres")
+            message = "Body deve ter no máximo "
+                    + MAX_BODY_LENGTH + " caracteres")
+    @MapFrom(EmailField.CONTEUDO)
     private String body;
 
     /**
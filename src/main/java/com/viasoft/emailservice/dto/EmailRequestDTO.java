@@ -1,10 +1,14 @@
 package com.viasoft.emailservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.viasoft.emailservice.enums.EmailPriority;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.OffsetDateTime;
+
 /**
  * DTO para recebimento de dados de email na requisição.
  * Esta classe representa o objeto de entrada padrão que será
@@ -88,6 +92,23 @@ public final class EmailRequestDTO {
                     + MAX_CONTENT_LENGTH + " caracteres")
     private String conteudo;
 
+    /**
+     * Prioridade de entrega do email; opcional, NORMAL por padrão.
+     */
+    @Schema(description = "Prioridade de entrega do email",
+            example = "NORMAL", defaultValue = "NORMAL")
+    private EmailPriority prioridade;
+
+    /**
+     * Data e hora de envio; opcional. Quando informada, o email é
+     * aceito como job e enviado a partir dessa data.
+     */
+    @Schema(description = "Data e hora de envio agendado; datas já "
+            + "passadas são enviadas assim que possível",
+            example = "2025-12-01T09:00:00-03:00")
+    @JsonAlias("sendAt")
+    private OffsetDateTime enviarEm;
+
     /**
      * Construtor padrão.
      */
@@ -207,6 +228,42 @@ public final class EmailRequestDTO {
         this.conteudo = emailConteudo;
     }
 
+    /**
+     * Obtém a prioridade de entrega do email.
+     *
+     * @return a prioridade do email, ou NORMAL se não informada
+     */
+    public EmailPriority getPrioridade() {
+        return prioridade == null ? EmailPriority.NORMAL : prioridade;
+    }
+
+    /**
+     * Define a prioridade de entrega do email.
+     *
+     * @param emailPrioridade a prioridade do email a ser definida
+     */
+    public void setPrioridade(final EmailPriority emailPrioridade) {
+        this.prioridade = emailPrioridade;
+    }
+
+    /**
+     * Obtém a data e hora de envio agendado.
+     *
+     * @return a data de envio, ou null para envio imediato
+     */
+    public OffsetDateTime getEnviarEm() {
+        return enviarEm;
+    }
+
+    /**
+     * Define a data e hora de envio agendado.
+     *
+     * @param dataEnvio a data de envio a ser definida, ou null
+     */
+    public void setEnviarEm(final OffsetDateTime dataEnvio) {
+        this.enviarEm = dataEnvio;
+    }
+
     @Override
     public String toString() {
         return "EmailRequestDTO{"
@@ -215,6 +272,8 @@ public final class EmailRequestDTO {
                 + ", emailRemetente='" + emailRemetente + '\''
                 + ", assunto='" + assunto + '\''
                 + ", conteudo='" + conteudo + '\''
+                + ", prioridade=" + getPrioridade()
+                + ", enviarEm=" + enviarEm
                 + '}';
     }
 }
@@ -0,0 +1,24 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define a situação de cada item de um lote de emails.
+ *
+ * Esta enum é utilizada na resposta do processamento em lote para
+ * indicar, item a item, se o email foi aceito ou rejeitado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum BatchItemStatus {
+
+    /**
+     * Email validado, adaptado e processado com sucesso.
+     */
+    ACEITO,
+
+    /**
+     * Email rejeitado por violação de validação ou erro de processamento.
+     */
+    REJEITADO
+}
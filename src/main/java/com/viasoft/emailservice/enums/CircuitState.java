@@ -0,0 +1,27 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define o estado do disjuntor de um provedor.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum CircuitState {
+
+    /**
+     * Envios liberados; as falhas são contadas na janela.
+     */
+    FECHADO,
+
+    /**
+     * Envios recusados até o fim do período de abertura.
+     */
+    ABERTO,
+
+    /**
+     * Apenas alguns envios de teste são liberados; o sucesso deles
+     * fecha o disjuntor e uma falha o abre novamente.
+     */
+    SEMIABERTO
+}
@@ -0,0 +1,37 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define o motivo pelo qual um email foi para o
+ * armazenamento de emails esgotados.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum DeadLetterReason {
+
+    /**
+     * Um campo do email excede o limite do provedor.
+     */
+    LIMITE_PROVEDOR,
+
+    /**
+     * O email foi rejeitado pela validação.
+     */
+    DADOS_INVALIDOS,
+
+    /**
+     * Falhas transitórias esgotaram as tentativas.
+     */
+    TENTATIVAS_ESGOTADAS,
+
+    /**
+     * Falha definitiva não classificada no processamento.
+     */
+    ERRO_PROCESSAMENTO,
+
+    /**
+     * Nova tentativa cancelada pelo desligamento da aplicação.
+     */
+    DESLIGAMENTO
+}
@@ -0,0 +1,21 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define onde os emails esgotados são guardados.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum DeadLetterStoreType {
+
+    /**
+     * Em memória; os emails são perdidos no reinício.
+     */
+    MEMORIA,
+
+    /**
+     * Em arquivo, preservados entre reinícios.
+     */
+    DISCO
+}
@@ -0,0 +1,76 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define os campos de texto de um email cujo tamanho é
+ * limitado pelos provedores.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum EmailField {
+
+    /**
+     * Email do destinatário.
+     */
+    EMAIL_DESTINATARIO("emailDestinatario", "Email do destinatário"),
+
+    /**
+     * Nome do destinatário.
+     */
+    NOME_DESTINATARIO("nomeDestinatario", "Nome do destinatário"),
+
+    /**
+     * Email do remetente.
+     */
+    EMAIL_REMETENTE("emailRemetente", "Email do remetente"),
+
+    /**
+     * Assunto do email.
+     */
+    ASSUNTO("assunto", "Assunto"),
+
+    /**
+     * Conteúdo do email.
+     */
+    CONTEUDO("conteudo", "Conteúdo");
+
+    /**
+     * Nome do campo na requisição.
+     */
+    private final String field;
+
+    /**
+     * Descrição do campo nas mensagens de erro.
+     */
+    private final String label;
+
+    /**
+     * Construtor do enum.
+     *
+     * @param fieldParam nome do campo na requisição
+     * @param labelParam descrição do campo nas mensagens de erro
+     */
+    EmailField(final String fieldParam, final String labelParam) {
+        this.field = fieldParam;
+        this.label = labelParam;
+    }
+
+    /**
+     * Obtém o nome do campo na requisição.
+     *
+     * @return nome do campo
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Obtém a descrição do campo nas mensagens de erro.
+     *
+     * @return descrição do campo
+     */
+    public String getLabel() {
+        return label;
+    }
+}
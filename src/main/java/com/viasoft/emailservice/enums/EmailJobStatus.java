@@ -0,0 +1,50 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define os estados de um job de email assíncrono.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum EmailJobStatus {
+
+    /**
+     * Job aceito e aguardando na fila.
+     */
+    PENDENTE,
+
+    /**
+     * Job em processamento por um worker.
+     */
+    PROCESSANDO,
+
+    /**
+     * Job agendado, aguardando a data de envio.
+     */
+    AGENDADO,
+
+    /**
+     * Job com falha transitória, aguardando nova tentativa.
+     */
+    REAGENDADO,
+
+    /**
+     * Job processado com sucesso.
+     */
+    CONCLUIDO,
+
+    /**
+     * Job encerrado com erro.
+     */
+    FALHOU;
+
+    /**
+     * Indica se o estado é final.
+     *
+     * @return true se o job não sofrerá mais alterações
+     */
+    public boolean isFinal() {
+        return this == CONCLUIDO || this == FALHOU;
+    }
+}
@@ -0,0 +1,27 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define a prioridade de entrega de um email.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum EmailPriority {
+
+    /**
+     * Email sensível à latência, como códigos de acesso e redefinição
+     * de senha.
+     */
+    ALTA,
+
+    /**
+     * Email transacional comum; prioridade padrão.
+     */
+    NORMAL,
+
+    /**
+     * Email em massa, como campanhas de marketing.
+     */
+    BAIXA
+}
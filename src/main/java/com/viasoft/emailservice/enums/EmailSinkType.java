@@ -0,0 +1,64 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define o destino dos emails processados.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum EmailSinkType {
+
+    /**
+     * Imprime os emails no console, pelo log da aplicação.
+     */
+    CONSOLE(false),
+
+    /**
+     * Grava os emails em arquivo com rotação por tamanho.
+     */
+    FILE(false),
+
+    /**
+     * Mantém os emails em memória, para testes.
+     */
+    MEMORY(false),
+
+    /**
+     * Envia os emails por HTTP à API do provedor.
+     */
+    HTTP(true),
+
+    /**
+     * Simula a entrega por um provedor com latência configurável,
+     * descartando mensagens repetidas, para medir o roteamento.
+     */
+    STUB(true);
+
+    /**
+     * Indica se o destino representa a API de um provedor.
+     */
+    private final boolean provider;
+
+    /**
+     * Construtor do enum.
+     *
+     * @param providerParam true se o destino representa a API de um
+     *                      provedor
+     */
+    EmailSinkType(final boolean providerParam) {
+        this.provider = providerParam;
+    }
+
+    /**
+     * Indica se o destino representa a API de um provedor, cujas falhas
+     * de entrega devem chegar ao despacho do email: ao disjuntor, às
+     * estatísticas de latência, às novas tentativas e ao armazenamento
+     * de emails esgotados.
+     *
+     * @return true se o destino representa a API de um provedor
+     */
+    public boolean isProvider() {
+        return provider;
+    }
+}
@@ -0,0 +1,25 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define quando os emails gravados no diário são
+ * forçados ao disco, equilibrando durabilidade e latência.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum JournalSyncMode {
+
+    /**
+     * O email só é aceito depois de forçado ao disco. As gravações
+     * concorrentes são forçadas juntas, em uma única sincronização.
+     */
+    SINCRONO,
+
+    /**
+     * O email é aceito assim que gravado e o diário é forçado ao disco
+     * a cada intervalo; uma queda do sistema operacional pode perder os
+     * emails do último intervalo.
+     */
+    PERIODICO
+}
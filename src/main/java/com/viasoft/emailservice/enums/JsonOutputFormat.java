@@ -0,0 +1,22 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define o formato do JSON produzido pelo serializador.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum JsonOutputFormat {
+
+    /**
+     * JSON em uma linha, sem espaços entre os elementos; formato
+     * padrão.
+     */
+    COMPACT,
+
+    /**
+     * JSON indentado, um campo por linha, para leitura humana.
+     */
+    PRETTY
+}
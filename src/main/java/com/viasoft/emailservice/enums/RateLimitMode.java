@@ -0,0 +1,22 @@
+package com.viasoft.emailservice.enums;
+
+/**
+ * Enumeração que define o comportamento quando a cota de envio
+ * está esgotada.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public enum RateLimitMode {
+
+    /**
+     * Rejeita imediatamente o envio, informando quando tentar novamente.
+     */
+    REJEITAR,
+
+    /**
+     * Aguarda a liberação da cota, até a espera máxima configurada.
+     */
+    AGUARDAR
+}
@@ -0,0 +1,108 @@
+package com.viasoft.emailservice.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exceção para falha na entrega de parte de um lote de emails.
+ *
+ * Esta exceção é lançada quando o destino entrega um lote email a
+ * email e parte deles falha, e informa a falha de cada posição do
+ * lote, para que apenas os emails que falharam sejam tratados como
+ * não entregues.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class EmailBatchDeliveryException extends EmailProcessingException {
+
+    /**
+     * Falha de cada posição do lote, ou null para os emails entregues.
+     */
+    private final List<RuntimeException> failures;
+
+    /**
+     * Quantidade de emails do lote que falharam.
+     */
+    private final int failedCount;
+
+    /**
+     * Construtor com a falha de cada posição do lote.
+     *
+     * @param failuresParam falha de cada posição do lote, ou null para
+     *                      os emails entregues
+     */
+    public EmailBatchDeliveryException(
+            final List<RuntimeException> failuresParam) {
+        super(message(failuresParam), firstFailure(failuresParam));
+        this.failures = Collections.unmodifiableList(
+                new ArrayList<>(failuresParam));
+        this.failedCount = count(failuresParam);
+    }
+
+    /**
+     * Obtém a falha de cada posição do lote.
+     *
+     * @return falha de cada posição, ou null para os emails entregues
+     */
+    public List<RuntimeException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Obtém a quantidade de emails do lote que falharam.
+     *
+     * @return quantidade de emails que falharam
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Monta a mensagem com a quantidade de falhas do lote.
+     *
+     * @param failures falha de cada posição do lote
+     * @return mensagem de erro
+     */
+    private static String message(final List<RuntimeException> failures) {
+        RuntimeException first = firstFailure(failures);
+        return "Falha na entrega de " + count(failures) + " de "
+                + failures.size()
+                + " emails do lote"
+                + (first == null ? "" : ": " + first.getMessage());
+    }
+
+    /**
+     * Conta as falhas do lote.
+     *
+     * @param failures falha de cada posição do lote
+     * @return quantidade de emails que falharam
+     */
+    private static int count(final List<RuntimeException> failures) {
+        int count = 0;
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Obtém a primeira falha do lote, usada como causa.
+     *
+     * @param failures falha de cada posição do lote
+     * @return primeira falha, ou null se não houver
+     */
+    private static RuntimeException firstFailure(
+            final List<RuntimeException> failures) {
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                return failure;
+            }
+        }
+        return null;
+    }
+}
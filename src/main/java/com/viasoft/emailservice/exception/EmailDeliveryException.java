@@ -0,0 +1,46 @@
+package com.viasoft.emailservice.exception;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+
+/**
+ * Exceção para falha na entrega de um email ao destino de saída.
+ *
+ * Esta exceção é lançada quando o destino recusa ou não responde a
+ * uma entrega, e informa o provedor do envio. Diferente de erros de
+ * validação ou de adaptação, a falha pode ser transitória, e o envio
+ * assíncrono tenta o email de novo.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class EmailDeliveryException extends EmailProcessingException {
+
+    /**
+     * Provedor do envio que falhou.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Construtor com provedor, mensagem e causa.
+     *
+     * @param providerParam provedor do envio
+     * @param message mensagem de erro
+     * @param cause causa da exceção
+     */
+    public EmailDeliveryException(final EmailProvider providerParam,
+                                  final String message,
+                                  final Throwable cause) {
+        super(message, cause);
+        this.provider = providerParam;
+    }
+
+    /**
+     * Obtém o provedor do envio que falhou.
+     *
+     * @return provedor do envio
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+}
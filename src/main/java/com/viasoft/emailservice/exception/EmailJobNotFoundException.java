@@ -0,0 +1,34 @@
+package com.viasoft.emailservice.exception;
+
+/**
+ * Exceção para job de email não encontrado.
+ *
+ * Esta exceção é lançada quando o job consultado não existe
+ * ou já foi descartado do histórico de jobs rastreados.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class EmailJobNotFoundException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem.
+     *
+     * @param message mensagem de erro
+     */
+    public EmailJobNotFoundException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor com mensagem e causa.
+     *
+     * @param message mensagem de erro
+     * @param cause causa da exceção
+     */
+    public EmailJobNotFoundException(final String message,
+                                     final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,35 @@
+package com.viasoft.emailservice.exception;
+
+/**
+ * Exceção para fila de processamento assíncrono cheia.
+ *
+ * Esta exceção é lançada quando um email não pode ser
+ * aceito porque a fila de trabalho atingiu sua capacidade, ou porque
+ * o cache de idempotência está cheio de requisições em andamento.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class EmailQueueFullException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem.
+     *
+     * @param message mensagem de erro
+     */
+    public EmailQueueFullException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor com mensagem e causa.
+     *
+     * @param message mensagem de erro
+     * @param cause causa da exceção
+     */
+    public EmailQueueFullException(final String message,
+                                     final Throwable cause) {
+        super(message, cause);
+    }
+}
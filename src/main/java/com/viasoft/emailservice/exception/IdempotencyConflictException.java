@@ -0,0 +1,35 @@
+package com.viasoft.emailservice.exception;
+
+/**
+ * Exceção para uso conflitante de uma chave de idempotência.
+ *
+ * Esta exceção é lançada quando a chave já foi usada com outro
+ * conteúdo, ou quando a requisição original ainda não terminou
+ * dentro do prazo de espera.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem.
+     *
+     * @param message mensagem de erro
+     */
+    public IdempotencyConflictException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor com mensagem e causa.
+     *
+     * @param message mensagem de erro
+     * @param cause causa da exceção
+     */
+    public IdempotencyConflictException(final String message,
+                                        final Throwable cause) {
+        super(message, cause);
+    }
+}
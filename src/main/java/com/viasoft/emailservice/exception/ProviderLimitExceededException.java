@@ -0,0 +1,76 @@
+package com.viasoft.emailservice.exception;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.validation.ValidationResult;
+
+/**
+ * Exceção para email que excede os limites de um provedor.
+ *
+ * Esta exceção é lançada pelos adaptadores quando um campo do email
+ * ultrapassa o tamanho aceito pelo provedor. Estende
+ * {@link IllegalArgumentException} para manter o tratamento das
+ * demais violações de dados e informa o provedor cujo limite foi
+ * excedido. Quando lançada a partir de um {@link ValidationResult},
+ * traz todos os campos excedidos. No envio síncrono, o resultado é
+ * devolvido sem exceção; ela é lançada apenas por quem precisa
+ * interromper o fluxo, como os jobs assíncronos.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class ProviderLimitExceededException extends IllegalArgumentException {
+
+    /**
+     * Provedor cujo limite foi excedido.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Resultado da validação com os campos excedidos, se conhecido.
+     */
+    private final transient ValidationResult result;
+
+    /**
+     * Construtor com provedor e mensagem.
+     *
+     * @param providerParam provedor cujo limite foi excedido
+     * @param message mensagem de erro
+     */
+    public ProviderLimitExceededException(final EmailProvider providerParam,
+                                          final String message) {
+        super(message);
+        this.provider = providerParam;
+        this.result = null;
+    }
+
+    /**
+     * Construtor com o resultado da validação.
+     *
+     * @param resultParam resultado com os campos excedidos
+     */
+    public ProviderLimitExceededException(final ValidationResult resultParam) {
+        super(resultParam.getMessage());
+        this.provider = resultParam.getProvider();
+        this.result = resultParam;
+    }
+
+    /**
+     * Obtém o provedor cujo limite foi excedido.
+     *
+     * @return provedor
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o resultado da validação com os campos excedidos.
+     *
+     * @return resultado da validação, ou null se a exceção foi criada
+     *         apenas com a mensagem
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+}
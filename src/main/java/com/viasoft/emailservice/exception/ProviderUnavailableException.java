@@ -0,0 +1,63 @@
+package com.viasoft.emailservice.exception;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+
+import java.time.Duration;
+
+/**
+ * Exceção para provedor de email indisponível.
+ *
+ * Esta exceção é lançada quando o disjuntor do provedor está aberto e
+ * não há outro provedor para o email, e informa em quanto tempo o
+ * provedor volta a receber envios de teste.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class ProviderUnavailableException extends RuntimeException {
+
+    /**
+     * Provedor indisponível.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Tempo até que uma nova tentativa possa ser aceita.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Construtor com provedor, mensagem e tempo para nova tentativa.
+     *
+     * @param providerParam provedor indisponível
+     * @param message mensagem de erro
+     * @param retryAfterParam tempo até que uma nova tentativa possa
+     *        ser aceita
+     */
+    public ProviderUnavailableException(final EmailProvider providerParam,
+                                        final String message,
+                                        final Duration retryAfterParam) {
+        super(message);
+        this.provider = providerParam;
+        this.retryAfter = retryAfterParam;
+    }
+
+    /**
+     * Obtém o provedor indisponível.
+     *
+     * @return provedor indisponível
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o tempo até que uma nova tentativa possa ser aceita.
+     *
+     * @return tempo para nova tentativa
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
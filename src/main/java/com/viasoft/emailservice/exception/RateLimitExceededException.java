@@ -0,0 +1,44 @@
+package com.viasoft.emailservice.exception;
+
+import java.time.Duration;
+
+/**
+ * Exceção para cota de envio excedida.
+ *
+ * Esta exceção é lançada quando o provedor ou o remetente atingiu
+ * a taxa de envio configurada, e informa em quanto tempo uma nova
+ * tentativa pode ser aceita.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * Tempo até que uma nova tentativa possa ser aceita.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Construtor com mensagem e tempo para nova tentativa.
+     *
+     * @param message mensagem de erro
+     * @param retryAfterParam tempo até que uma nova tentativa possa
+     *        ser aceita
+     */
+    public RateLimitExceededException(final String message,
+                                      final Duration retryAfterParam) {
+        super(message);
+        this.retryAfter = retryAfterParam;
+    }
+
+    /**
+     * Obtém o tempo até que uma nova tentativa possa ser aceita.
+     *
+     * @return tempo para nova tentativa
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
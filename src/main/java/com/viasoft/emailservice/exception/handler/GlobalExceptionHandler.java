@@ -3,15 +3,24 @@ package com.viasoft.emailservice.exception.handler;
 import com.viasoft.emailservice.dto.ErrorResponseDTO;
 import com.viasoft.emailservice.dto.ValidationErrorResponseDTO;
 import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.EmailJobNotFoundException;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.exception.IdempotencyConflictException;
 import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.exception.ProviderUnavailableException;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +45,27 @@ public class GlobalExceptionHandler {
     private static final Logger LOGGER =
             LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /**
+     * Milissegundos em um segundo.
+     */
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    /**
+     * Fábrica das respostas de erros de validação.
+     */
+    private final ValidationResponseFactory validationResponses;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param validationResponsesParam fábrica das respostas de erros de
+     *                                 validação
+     */
+    public GlobalExceptionHandler(
+            final ValidationResponseFactory validationResponsesParam) {
+        this.validationResponses = validationResponsesParam;
+    }
+
     /**
      * Trata exceções de validação de dados.
      *
@@ -54,16 +84,26 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        ValidationErrorResponseDTO response = new ValidationErrorResponseDTO(
-                HttpStatus.BAD_REQUEST.value(),
-                "Dados inválidos",
-                "Falha na validação dos dados",
-                errors
-        );
-
         LOGGER.warn("Erro de validação: {}", errors);
 
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return validationResponses.validationErrors(errors);
+    }
+
+    /**
+     * Trata exceções de email que excede os limites do provedor, com a
+     * mesma resposta que os controllers devolvem para o email recusado
+     * sem exceção quando os campos excedidos são conhecidos.
+     *
+     * @param ex exceção de limite do provedor excedido
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(ProviderLimitExceededException.class)
+    public ResponseEntity<? extends ErrorResponseDTO> handleProviderLimitExceededException(
+            final ProviderLimitExceededException ex) {
+        if (ex.getResult() == null) {
+            return handleIllegalArgumentException(ex);
+        }
+        return validationResponses.limitsExceeded(ex.getResult());
     }
 
     /**
@@ -108,6 +148,126 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Trata exceções de fila de processamento cheia.
+     *
+     * @param ex exceção de fila cheia
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(EmailQueueFullException.class)
+    public ResponseEntity<ErrorResponseDTO> handleEmailQueueFullException(
+            final EmailQueueFullException ex) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço indisponível",
+                ex.getMessage()
+        );
+
+        LOGGER.warn("Fila de processamento cheia: {}", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Trata exceções de job de email não encontrado.
+     *
+     * @param ex exceção de job não encontrado
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(EmailJobNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleEmailJobNotFoundException(
+            final EmailJobNotFoundException ex) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Recurso não encontrado",
+                ex.getMessage()
+        );
+
+        LOGGER.debug("Job não encontrado: {}", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Trata exceções de conflito de chave de idempotência.
+     *
+     * @param ex exceção de conflito de idempotência
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIdempotencyConflictException(
+            final IdempotencyConflictException ex) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.CONFLICT.value(),
+                "Conflito de idempotência",
+                ex.getMessage()
+        );
+
+        LOGGER.warn("Conflito de idempotência: {}", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Trata exceções de cota de envio esgotada.
+     * O cabeçalho {@code Retry-After} informa, em segundos, quando
+     * uma nova tentativa pode ser aceita.
+     *
+     * @param ex exceção de cota esgotada
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRateLimitExceededException(
+            final RateLimitExceededException ex) {
+        long retryAfterMillis = ex.getRetryAfter().toMillis();
+        long retryAfterSeconds = Math.max(1L,
+                (retryAfterMillis + MILLIS_PER_SECOND - 1)
+                        / MILLIS_PER_SECOND);
+
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Limite de envio excedido",
+                ex.getMessage()
+        );
+
+        LOGGER.warn("Limite de envio excedido: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(retryAfterSeconds))
+                .body(response);
+    }
+
+    /**
+     * Trata exceções de provedor indisponível.
+     * O cabeçalho {@code Retry-After} informa, em segundos, quando o
+     * disjuntor do provedor volta a liberar envios.
+     *
+     * @param ex exceção de provedor indisponível
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(ProviderUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleProviderUnavailableException(
+            final ProviderUnavailableException ex) {
+        long retryAfterMillis = ex.getRetryAfter().toMillis();
+        long retryAfterSeconds = Math.max(1L,
+                (retryAfterMillis + MILLIS_PER_SECOND - 1)
+                        / MILLIS_PER_SECOND);
+
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Provedor indisponível",
+                ex.getMessage()
+        );
+
+        LOGGER.warn("Provedor indisponível: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(retryAfterSeconds))
+                .body(response);
+    }
+
     /**
      * Trata exceções de argumentos ilegais.
      *
@@ -129,6 +289,51 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Trata corpos de requisição que não podem ser lidos, como JSON
+     * malformado ou uma prioridade inexistente.
+     *
+     * @param ex exceção de leitura do corpo
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleHttpMessageNotReadableException(
+            final HttpMessageNotReadableException ex) {
+
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Dados inválidos",
+                "Corpo da requisição inválido"
+        );
+
+        LOGGER.warn("Corpo da requisição inválido: {}", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Trata exceções que já definem o status HTTP da resposta, como as
+     * lançadas pelos endpoints do Actuator para requisições inválidas.
+     *
+     * @param ex exceção com status HTTP
+     * @return resposta com o status da exceção
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponseDTO> handleResponseStatusException(
+            final ResponseStatusException ex) {
+
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                ex.getStatusCode().value(),
+                "Erro na requisição",
+                ex.getReason()
+        );
+
+        LOGGER.warn("Requisição recusada com status {}: {}",
+                ex.getStatusCode().value(), ex.getReason());
+
+        return new ResponseEntity<>(response, ex.getStatusCode());
+    }
+
     /**
      * Trata exceções genéricas não capturadas.
      *
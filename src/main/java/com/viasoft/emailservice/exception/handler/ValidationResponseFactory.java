@@ -0,0 +1,71 @@
+package com.viasoft.emailservice.exception.handler;
+
+import com.viasoft.emailservice.dto.ValidationErrorResponseDTO;
+import com.viasoft.emailservice.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Fábrica das respostas de erros de validação.
+ *
+ * Monta a resposta {@code 400 Bad Request} com a mensagem de cada
+ * campo inválido, tanto para os erros do Bean Validation quanto para o
+ * {@link ValidationResult} dos limites do provedor. Os controllers a
+ * usam quando o serviço recusa o email sem exceção, e os manipuladores
+ * de exceções, quando a recusa chega como exceção, de modo que as duas
+ * variantes respondem no mesmo formato.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class ValidationResponseFactory {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ValidationResponseFactory.class);
+
+    /**
+     * Monta a resposta com os erros de validação dos campos.
+     *
+     * @param errors mensagem de erro de cada campo, pelo nome do campo
+     * @return resposta com detalhes dos erros de validação
+     */
+    public ResponseEntity<ValidationErrorResponseDTO> validationErrors(
+            final Map<String, String> errors) {
+
+        ValidationErrorResponseDTO response = new ValidationErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Dados inválidos",
+                "Falha na validação dos dados",
+                errors
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Converte o resultado da validação dos limites do provedor na
+     * resposta de erros de validação, com a mensagem de cada campo
+     * excedido.
+     *
+     * @param result resultado da validação com os campos excedidos
+     * @return resposta com detalhes dos erros de validação
+     */
+    public ResponseEntity<ValidationErrorResponseDTO> limitsExceeded(
+            final ValidationResult result) {
+
+        LOGGER.warn("Email excede os limites do provedor: {}",
+                result.getMessage());
+
+        return validationErrors(result.getErrors());
+    }
+}
@@ -11,6 +11,8 @@
  *   <li>Tratamento de exceções de processamento de email</li>
  *   <li>Tratamento de exceções de dados inválidos</li>
  *   <li>Tratamento de exceções genéricas</li>
+ *   <li>Respostas de erros de validação compartilhadas pelos controllers
+ *       e manipuladores</li>
  * </ul>
  *
  * @author Thiago Bianeck
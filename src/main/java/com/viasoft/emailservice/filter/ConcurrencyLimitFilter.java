@@ -0,0 +1,135 @@
+package com.viasoft.emailservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.dto.ErrorResponseDTO;
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro de admissão das requisições de envio de email.
+ * Consulta o limite adaptativo de concorrência antes que o corpo da
+ * requisição seja lido: quando o limite é atingido, a requisição é
+ * recusada com 503 sem desserialização nem ocupação de um worker do
+ * processamento. A latência das requisições bem-sucedidas é
+ * informada ao limitador para o ajuste do limite. As recusas são
+ * contadas pelo limitador e registradas apenas em nível debug, para
+ * que a recusa continue barata justamente quando o serviço está
+ * sobrecarregado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    /**
+     * Segundos sugeridos ao cliente antes de uma nova tentativa.
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Serviço de limite adaptativo de concorrência.
+     */
+    private final ConcurrencyLimiterService limiter;
+
+    /**
+     * Mapper usado para escrever o corpo da resposta de erro.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param limiterParam serviço de limite de concorrência
+     * @param objectMapperParam mapper JSON da aplicação
+     */
+    public ConcurrencyLimitFilter(final ConcurrencyLimiterService limiterParam,
+                                  final ObjectMapper objectMapperParam) {
+        this.limiter = limiterParam;
+        this.objectMapper = objectMapperParam;
+    }
+
+    /**
+     * Aplica o filtro apenas às requisições POST.
+     *
+     * @param request requisição HTTP
+     * @return true se a requisição não deve ser filtrada
+     */
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    /**
+     * Admite ou recusa a requisição conforme o limite atual.
+     *
+     * @param request requisição HTTP
+     * @param response resposta HTTP
+     * @param filterChain cadeia de filtros
+     * @throws ServletException se ocorrer erro no processamento
+     * @throws IOException se ocorrer erro de E/S
+     */
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean sample = false;
+        try {
+            filterChain.doFilter(request, response);
+            sample = response.getStatus() / 100 == 2;
+        } finally {
+            limiter.release(System.nanoTime() - start, sample);
+        }
+    }
+
+    /**
+     * Escreve a resposta 503 de requisição recusada.
+     *
+     * @param response resposta HTTP
+     * @throws IOException se ocorrer erro de E/S
+     */
+    private void reject(final HttpServletResponse response)
+            throws IOException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Requisição recusada: limite de {} requisições "
+                    + "simultâneas atingido", limiter.getLimit());
+        }
+
+        ErrorResponseDTO body = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço indisponível",
+                "Limite de requisições simultâneas atingido"
+        );
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Pacote de filtros HTTP do serviço de email.
+ *
+ * Este pacote contém os filtros servlet aplicados antes dos
+ * controllers, como o controle de admissão de requisições, que
+ * atuam antes da leitura e desserialização do corpo.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.filter;
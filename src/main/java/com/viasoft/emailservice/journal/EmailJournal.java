@@ -0,0 +1,751 @@
+package com.viasoft.emailservice.journal;
+
+import com.viasoft.emailservice.config.JournalConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.JournalSyncMode;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.util.EmailRequestCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Diário dos emails aceitos para processamento assíncrono.
+ * Cada email aceito é gravado, antes da resposta ao cliente, em
+ * segmentos de tamanho fixo mapeados em memória
+ * ({@code mail.journal.directory}), com CRC por registro; ao terminar,
+ * o job grava um registro de conclusão. Na inicialização, os segmentos
+ * são relidos e os emails aceitos e não concluídos são devolvidos por
+ * {@link #takeRecovered()} para serem processados de novo.
+ * No modo {@link JournalSyncMode#SINCRONO}, quem grava aguarda a
+ * sincronização com o disco, feita por uma única thread que força de
+ * uma vez tudo o que foi gravado desde a sincronização anterior: com
+ * muitas requisições concorrentes, cada sincronização cobre um lote de
+ * emails. No modo {@link JournalSyncMode#PERIODICO}, a gravação não
+ * espera e o diário é forçado a cada {@code mail.journal.flush-interval}.
+ * Os registros de conclusão não esperam a sincronização: em uma queda,
+ * um email já enviado pode ser enviado de novo.
+ * Os segmentos mais antigos são apagados assim que todos os seus
+ * emails são concluídos. Ao abrir um novo segmento, os emails ainda
+ * pendentes nos segmentos mais antigos e pouco ocupados são copiados
+ * para ele, o que libera esses segmentos. Os segmentos só são criados
+ * no primeiro email gravado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class EmailJournal {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(EmailJournal.class);
+
+    /**
+     * Prazo, em milissegundos, para a thread de sincronização terminar
+     * no desligamento.
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * Fração máxima ocupada por emails pendentes, como divisor da
+     * capacidade, para que um segmento antigo seja compactado.
+     */
+    private static final int COMPACTION_DIVISOR = 4;
+
+    /**
+     * Indica se o diário está habilitado.
+     */
+    private final boolean enabled;
+
+    /**
+     * Diretório dos segmentos.
+     */
+    private final Path directory;
+
+    /**
+     * Tamanho de cada segmento.
+     */
+    private final int segmentSize;
+
+    /**
+     * Indica se a sincronização é periódica em vez de aguardada.
+     */
+    private final boolean periodic;
+
+    /**
+     * Intervalo entre as sincronizações no modo periódico, em
+     * nanossegundos.
+     */
+    private final long flushIntervalNanos;
+
+    /**
+     * Lock que protege os segmentos e as posições.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Condição sinalizada quando há registros a sincronizar.
+     */
+    private final Condition dirty = lock.newCondition();
+
+    /**
+     * Condição sinalizada ao fim de cada sincronização.
+     */
+    private final Condition synced = lock.newCondition();
+
+    /**
+     * Segmentos existentes, do mais antigo ao atual.
+     */
+    private final TreeMap<Long, JournalSegment> segments = new TreeMap<>();
+
+    /**
+     * Registro de cada email aceito e ainda não concluído, na ordem de
+     * aceitação.
+     */
+    private final Map<String, Location> locations = new LinkedHashMap<>();
+
+    /**
+     * Emails recuperados na inicialização e ainda não entregues.
+     */
+    private final Map<String, EmailRequestDTO> recovered =
+            new LinkedHashMap<>();
+
+    /**
+     * Segmento em gravação, ou null antes do primeiro email.
+     */
+    private JournalSegment active;
+
+    /**
+     * Posição do segmento atual até a qual tudo foi sincronizado.
+     */
+    private int syncedOffset;
+
+    /**
+     * Quantidade de registros gravados.
+     */
+    private long appended;
+
+    /**
+     * Quantidade de registros sincronizados com o disco.
+     */
+    private long durable;
+
+    /**
+     * Falha da última sincronização, repassada a quem aguarda.
+     */
+    private RuntimeException failure;
+
+    /**
+     * Indica se a thread de sincronização deve continuar.
+     */
+    private boolean running = true;
+
+    /**
+     * Indica se o diário foi encerrado.
+     */
+    private boolean closed;
+
+    /**
+     * Thread de sincronização, criada com o primeiro segmento.
+     */
+    private Thread flusher;
+
+    /**
+     * Contador de emails gravados.
+     */
+    private final Counter appends;
+
+    /**
+     * Duração de cada sincronização com o disco.
+     */
+    private final Timer syncTime;
+
+    /**
+     * Registros cobertos por cada sincronização.
+     */
+    private final DistributionSummary batchSize;
+
+    /**
+     * Construtor com injeção de dependências. Se o diretório já
+     * existir, os emails não concluídos são recuperados dos segmentos.
+     *
+     * @param configParam configuração do diário
+     * @param meterRegistryParam registro de métricas
+     * @throws EmailProcessingException se os segmentos existentes não
+     *         puderem ser lidos
+     */
+    @Autowired
+    public EmailJournal(final JournalConfig configParam,
+                        final MeterRegistry meterRegistryParam) {
+        this.enabled = configParam.isEnabled();
+        this.directory = configParam.getDirectory();
+        this.segmentSize = (int) Math.min(Integer.MAX_VALUE,
+                configParam.getSegmentSize().toBytes());
+        this.periodic = configParam.getSync() == JournalSyncMode.PERIODICO;
+        this.flushIntervalNanos = configParam.getFlushInterval().toNanos();
+        this.appends = Counter.builder("email.journal.appends")
+                .description("Emails gravados no diário")
+                .register(meterRegistryParam);
+        this.syncTime = Timer.builder("email.journal.sync")
+                .description("Duração da sincronização do diário com o "
+                        + "disco")
+                .register(meterRegistryParam);
+        this.batchSize = DistributionSummary
+                .builder("email.journal.sync.batch")
+                .description("Registros cobertos por sincronização")
+                .register(meterRegistryParam);
+        Gauge.builder("email.journal.pending", this,
+                        EmailJournal::getPending)
+                .description("Emails aceitos no diário e não concluídos")
+                .register(meterRegistryParam);
+        if (enabled && Files.isDirectory(directory)) {
+            recover();
+        }
+    }
+
+    /**
+     * Indica se o diário está habilitado.
+     *
+     * @return true se os emails aceitos são gravados
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retira os emails recuperados na inicialização.
+     *
+     * @return emails aceitos e não concluídos, por identificador do
+     *         job, na ordem de aceitação; vazio nas chamadas seguintes
+     */
+    public Map<String, EmailRequestDTO> takeRecovered() {
+        lock.lock();
+        try {
+            Map<String, EmailRequestDTO> taken =
+                    new LinkedHashMap<>(recovered);
+            recovered.clear();
+            return taken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Grava um email aceito. No modo síncrono, retorna só depois que o
+     * registro foi forçado ao disco.
+     *
+     * @param jobId identificador do job, no formato UUID
+     * @param emailRequest dados do email
+     * @throws EmailProcessingException se a gravação ou a sincronização
+     *         falhar, ou se o diário estiver encerrado
+     */
+    public void append(final String jobId,
+                       final EmailRequestDTO emailRequest) {
+        if (!enabled) {
+            return;
+        }
+        byte[] payload = EmailRequestCodec.encode(emailRequest);
+        int size = JournalSegment.HEADER_SIZE
+                + JournalSegment.FIXED_BODY_SIZE + payload.length;
+        if (size > segmentSize) {
+            throw new EmailProcessingException(
+                    "Email maior que o segmento do diário");
+        }
+        UUID id = UUID.fromString(jobId);
+        lock.lock();
+        try {
+            checkOpen();
+            int offset = write(JournalSegment.ACCEPTED, id, payload);
+            locations.put(jobId, new Location(active, offset, size));
+            active.addLive(size);
+            if (!periodic) {
+                long sequence = appended;
+                dirty.signal();
+                awaitDurable(sequence);
+            }
+        } finally {
+            lock.unlock();
+        }
+        appends.increment();
+    }
+
+    /**
+     * Grava a conclusão de um email, sem aguardar a sincronização, e
+     * apaga os segmentos mais antigos que ficarem sem emails pendentes.
+     * Identificadores desconhecidos são ignorados.
+     *
+     * @param jobId identificador do job
+     */
+    public void complete(final String jobId) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            Location location = locations.remove(jobId);
+            if (location == null) {
+                return;
+            }
+            write(JournalSegment.COMPLETED, UUID.fromString(jobId), null);
+            location.segment.removeLive(location.size);
+            truncate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém a quantidade de emails aceitos e não concluídos.
+     *
+     * @return emails pendentes no diário
+     */
+    public int getPending() {
+        lock.lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sincroniza o que falta com o disco e encerra a thread de
+     * sincronização. Pode ser chamado mais de uma vez.
+     */
+    @PreDestroy
+    public void shutdown() {
+        Thread thread;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            running = false;
+            thread = flusher;
+            dirty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (thread != null) {
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            if (active != null && failure == null) {
+                active.force(syncedOffset, active.getPosition());
+                syncedOffset = active.getPosition();
+                durable = appended;
+            }
+            closed = true;
+            synced.signalAll();
+        } catch (UncheckedIOException e) {
+            LOGGER.error("Falha ao sincronizar o diário no desligamento",
+                    e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Grava um registro no segmento atual, abrindo um novo segmento se
+     * ele não couber. Exige o lock.
+     *
+     * @param type tipo do registro
+     * @param id identificador do job
+     * @param payload dados do email, ou null
+     * @return posição do registro no segmento atual
+     */
+    private int write(final byte type, final UUID id, final byte[] payload) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int offset = active == null ? -1
+                : active.append(type, msb, lsb, payload);
+        if (offset < 0) {
+            roll();
+            offset = active.append(type, msb, lsb, payload);
+        }
+        appended++;
+        return offset;
+    }
+
+    /**
+     * Aguarda a sincronização de um registro. Exige o lock.
+     *
+     * @param sequence quantidade de registros que devem estar
+     *        sincronizados
+     */
+    private void awaitDurable(final long sequence) {
+        boolean interrupted = false;
+        while (durable < sequence) {
+            if (failure != null) {
+                throw new EmailProcessingException(
+                        "Falha ao sincronizar o diário de emails", failure);
+            }
+            if (closed) {
+                throw new EmailProcessingException(
+                        "Diário de emails encerrado");
+            }
+            try {
+                synced.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Verifica se o diário aceita gravações. Exige o lock.
+     *
+     * @throws EmailProcessingException se o diário estiver encerrado
+     *         ou a última sincronização tiver falhado
+     */
+    private void checkOpen() {
+        if (closed || !running) {
+            throw new EmailProcessingException("Diário de emails encerrado");
+        }
+        if (failure != null) {
+            throw new EmailProcessingException(
+                    "Falha ao sincronizar o diário de emails", failure);
+        }
+    }
+
+    /**
+     * Fecha o segmento atual, forçando-o ao disco, e abre o próximo.
+     * Em seguida compacta e apaga os segmentos antigos. Exige o lock.
+     *
+     * @throws EmailProcessingException se o segmento não puder ser
+     *         criado
+     */
+    private void roll() {
+        try {
+            if (active != null) {
+                active.force(syncedOffset, active.getPosition());
+                durable = appended;
+                synced.signalAll();
+            }
+            Files.createDirectories(directory);
+            long number = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+            active = JournalSegment.create(directory, number, segmentSize);
+            segments.put(number, active);
+            syncedOffset = 0;
+            syncDirectory();
+        } catch (IOException | UncheckedIOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao abrir segmento do diário de emails", e);
+        }
+        if (flusher == null) {
+            flusher = new Thread(this::flushLoop, "email-journal-sync");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+        compact();
+        truncate();
+    }
+
+    /**
+     * Copia para o segmento atual os emails pendentes dos segmentos
+     * mais antigos pouco ocupados, do mais antigo em diante, e força a
+     * cópia ao disco antes que esses segmentos sejam apagados. Exige o
+     * lock.
+     */
+    private void compact() {
+        List<JournalSegment> sources = new ArrayList<>();
+        for (JournalSegment segment : segments.values()) {
+            if (segment == active || segment.getLive() > 0
+                    && segment.getLiveBytes() * COMPACTION_DIVISOR
+                    > segment.getCapacity()) {
+                break;
+            }
+            sources.add(segment);
+        }
+        if (sources.isEmpty()) {
+            return;
+        }
+        int copied = 0;
+        for (Map.Entry<String, Location> entry : locations.entrySet()) {
+            Location location = entry.getValue();
+            if (!sources.contains(location.segment)) {
+                continue;
+            }
+            int offset = active.copy(location.segment, location.offset);
+            if (offset < 0) {
+                break;
+            }
+            location.segment.removeLive(location.size);
+            entry.setValue(new Location(active, offset, location.size));
+            active.addLive(location.size);
+            appended++;
+            copied++;
+        }
+        if (copied > 0) {
+            active.force(syncedOffset, active.getPosition());
+            syncedOffset = active.getPosition();
+            durable = appended;
+            LOGGER.info("{} emails pendentes copiados de {} segmentos "
+                    + "antigos do diário", copied, sources.size());
+        }
+    }
+
+    /**
+     * Apaga os segmentos mais antigos sem emails pendentes. Um segmento
+     * só é apagado quando todos os anteriores já foram, pois os seus
+     * registros de conclusão podem se referir a emails desses
+     * segmentos. Exige o lock.
+     */
+    private void truncate() {
+        Iterator<JournalSegment> oldest = segments.values().iterator();
+        while (oldest.hasNext()) {
+            JournalSegment segment = oldest.next();
+            if (segment == active || segment.getLive() > 0) {
+                return;
+            }
+            oldest.remove();
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                LOGGER.warn("Falha ao apagar segmento do diário {}: {}",
+                        segment.getNumber(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Laço da thread de sincronização: força ao disco o trecho do
+     * segmento atual gravado desde a última sincronização e libera
+     * quem aguarda esses registros.
+     */
+    private void flushLoop() {
+        while (true) {
+            JournalSegment segment;
+            int from;
+            int to;
+            long target;
+            lock.lock();
+            try {
+                if (periodic) {
+                    if (running) {
+                        dirty.awaitNanos(flushIntervalNanos);
+                    }
+                } else {
+                    while (running && durable == appended) {
+                        dirty.await();
+                    }
+                }
+                if (durable == appended) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+                segment = active;
+                from = syncedOffset;
+                to = segment.getPosition();
+                target = appended;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            long start = System.nanoTime();
+            RuntimeException error = null;
+            try {
+                segment.force(from, to);
+                syncTime.record(System.nanoTime() - start,
+                        TimeUnit.NANOSECONDS);
+            } catch (UncheckedIOException e) {
+                LOGGER.error("Falha ao sincronizar o diário de emails", e);
+                error = e;
+            }
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else if (target > durable) {
+                    batchSize.record(target - durable);
+                    durable = target;
+                    if (segment == active && to > syncedOffset) {
+                        syncedOffset = to;
+                    }
+                }
+                synced.signalAll();
+                if (error != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Força ao disco a entrada do diretório de um segmento recém-criado.
+     * Em sistemas que não permitem abrir diretórios, é ignorado.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory,
+                StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOGGER.debug("Diretório do diário não sincronizado: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Relê os segmentos existentes e recupera os emails aceitos e não
+     * concluídos. Registros interrompidos no fim de um segmento são
+     * descartados.
+     *
+     * @throws EmailProcessingException se os segmentos não puderem ser
+     *         lidos
+     */
+    private void recover() {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(file -> JournalSegment.parseNumber(file) >= 0)
+                    .sorted(Comparator.comparingLong(
+                            JournalSegment::parseNumber))
+                    .toList();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao listar o diário de emails", e);
+        }
+        for (Path file : files) {
+            JournalSegment segment;
+            try {
+                segment = JournalSegment.open(file);
+            } catch (IOException e) {
+                throw new EmailProcessingException(
+                        "Falha ao ler o diário de emails", e);
+            }
+            segments.put(segment.getNumber(), segment);
+            boolean torn = segment.scan((offset, type, msb, lsb, size) ->
+                    replay(segment, offset, type, new UUID(msb, lsb), size));
+            if (torn) {
+                LOGGER.warn("Registro interrompido descartado no segmento "
+                        + "{} do diário", file.getFileName());
+            }
+        }
+        Iterator<Map.Entry<String, Location>> pending =
+                locations.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<String, Location> entry = pending.next();
+            Location location = entry.getValue();
+            try {
+                recovered.put(entry.getKey(), EmailRequestCodec.decode(
+                        location.segment.payload(location.offset)));
+            } catch (IOException e) {
+                LOGGER.error("Email ilegível no diário descartado: {}",
+                        e.getMessage());
+                location.segment.removeLive(location.size);
+                pending.remove();
+            }
+        }
+        truncate();
+        LOGGER.info("{} emails aceitos recuperados do diário",
+                recovered.size());
+    }
+
+    /**
+     * Aplica um registro lido na recuperação. Um email copiado por
+     * compactação aparece mais de uma vez; vale a cópia mais recente.
+     *
+     * @param segment segmento do registro
+     * @param offset posição do registro
+     * @param type tipo do registro
+     * @param id identificador do job
+     * @param size tamanho do registro
+     */
+    private void replay(final JournalSegment segment, final int offset,
+                        final byte type, final UUID id, final int size) {
+        String jobId = id.toString();
+        Location previous;
+        if (type == JournalSegment.ACCEPTED) {
+            previous = locations.put(jobId,
+                    new Location(segment, offset, size));
+            segment.addLive(size);
+        } else {
+            previous = locations.remove(jobId);
+        }
+        if (previous != null) {
+            previous.segment.removeLive(previous.size);
+        }
+    }
+
+    /**
+     * Posição do registro de um email pendente.
+     */
+    private static final class Location {
+
+        /**
+         * Segmento do registro.
+         */
+        private final JournalSegment segment;
+
+        /**
+         * Posição do registro no segmento.
+         */
+        private final int offset;
+
+        /**
+         * Tamanho total do registro.
+         */
+        private final int size;
+
+        /**
+         * Cria a posição de um registro.
+         *
+         * @param segmentParam segmento do registro
+         * @param offsetParam posição no segmento
+         * @param sizeParam tamanho total do registro
+         */
+        private Location(final JournalSegment segmentParam,
+                         final int offsetParam, final int sizeParam) {
+            this.segment = segmentParam;
+            this.offset = offsetParam;
+            this.size = sizeParam;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.viasoft.emailservice.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmento do diário: um arquivo de tamanho fixo mapeado inteiro em
+ * memória, em que os registros são acrescentados em sequência.
+ * Cada registro tem o formato {@code [int tamanho][int crc32c][corpo]},
+ * com o corpo {@code [byte tipo][long msb][long lsb][dados]}, em que
+ * msb e lsb são os bits do identificador do job e os dados existem só
+ * nos registros de email aceito. O arquivo é criado com o tamanho
+ * final e zerado, de forma que um tamanho zero marca o fim dos
+ * registros; um registro cujo CRC não confere é uma gravação
+ * interrompida e encerra a leitura do segmento.
+ * Não é seguro para uso concorrente, exceto {@link #force}, que pode
+ * ser chamado enquanto outra thread acrescenta registros.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class JournalSegment {
+
+    /**
+     * Tamanho do cabeçalho de cada registro: tamanho do corpo e CRC.
+     */
+    static final int HEADER_SIZE = 8;
+
+    /**
+     * Tamanho fixo do corpo: tipo e identificador.
+     */
+    static final int FIXED_BODY_SIZE = 17;
+
+    /**
+     * Tipo do registro de email aceito.
+     */
+    static final byte ACCEPTED = 1;
+
+    /**
+     * Tipo do registro de email concluído.
+     */
+    static final byte COMPLETED = 2;
+
+    /**
+     * Extensão dos arquivos de segmento.
+     */
+    private static final String EXTENSION = ".journal";
+
+    /**
+     * Número sequencial do segmento.
+     */
+    private final long number;
+
+    /**
+     * Arquivo do segmento.
+     */
+    private final Path file;
+
+    /**
+     * Conteúdo do arquivo mapeado em memória.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Posição do próximo registro.
+     */
+    private int position;
+
+    /**
+     * Quantidade de emails aceitos do segmento ainda não concluídos.
+     */
+    private int live;
+
+    /**
+     * Bytes ocupados pelos registros dos emails ainda não concluídos.
+     */
+    private long liveBytes;
+
+    /**
+     * Cria o segmento a partir do arquivo já mapeado.
+     *
+     * @param numberParam número do segmento
+     * @param fileParam arquivo do segmento
+     * @param bufferParam conteúdo mapeado
+     */
+    private JournalSegment(final long numberParam, final Path fileParam,
+                           final MappedByteBuffer bufferParam) {
+        this.number = numberParam;
+        this.file = fileParam;
+        this.buffer = bufferParam;
+    }
+
+    /**
+     * Cria um segmento vazio para gravação.
+     *
+     * @param directory diretório do diário
+     * @param number número do segmento
+     * @param capacity tamanho do arquivo
+     * @return segmento criado
+     * @throws IOException se o arquivo não puder ser criado
+     */
+    static JournalSegment create(final Path directory, final long number,
+                                 final int capacity) throws IOException {
+        Path file = directory.resolve(fileName(number));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return new JournalSegment(number, file,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                            capacity));
+        }
+    }
+
+    /**
+     * Abre um segmento existente apenas para leitura.
+     *
+     * @param file arquivo do segmento
+     * @return segmento aberto
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    static JournalSegment open(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            return new JournalSegment(parseNumber(file), file,
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                            channel.size()));
+        }
+    }
+
+    /**
+     * Obtém o número de um arquivo de segmento.
+     *
+     * @param file arquivo
+     * @return número do segmento, ou -1 se o nome não for de segmento
+     */
+    static long parseNumber(final Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(EXTENSION)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(0,
+                    name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Monta o nome do arquivo de um segmento, ordenável pelo número.
+     *
+     * @param number número do segmento
+     * @return nome do arquivo
+     */
+    private static String fileName(final long number) {
+        return String.format("%020d%s", number, EXTENSION);
+    }
+
+    /**
+     * Acrescenta um registro, se couber no segmento.
+     *
+     * @param type tipo do registro
+     * @param msb bits mais significativos do identificador
+     * @param lsb bits menos significativos do identificador
+     * @param payload dados do email, ou null
+     * @return posição do registro, ou -1 se não couber
+     */
+    int append(final byte type, final long msb, final long lsb,
+               final byte[] payload) {
+        int length = FIXED_BODY_SIZE
+                + (payload == null ? 0 : payload.length);
+        if (HEADER_SIZE + length > buffer.capacity() - position) {
+            return -1;
+        }
+        int offset = position;
+        int body = offset + HEADER_SIZE;
+        buffer.put(body, type);
+        buffer.putLong(body + 1, msb);
+        buffer.putLong(body + 9, lsb);
+        if (payload != null) {
+            buffer.put(body + FIXED_BODY_SIZE, payload);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(body, length));
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, length);
+        position = body + length;
+        return offset;
+    }
+
+    /**
+     * Copia um registro de outro segmento, se couber neste.
+     *
+     * @param source segmento de origem
+     * @param offset posição do registro na origem
+     * @return posição do registro neste segmento, ou -1 se não couber
+     */
+    int copy(final JournalSegment source, final int offset) {
+        int size = source.recordSize(offset);
+        if (size > buffer.capacity() - position) {
+            return -1;
+        }
+        int target = position;
+        buffer.put(target, source.buffer, offset, size);
+        position += size;
+        return target;
+    }
+
+    /**
+     * Obtém o tamanho total de um registro, com o cabeçalho.
+     *
+     * @param offset posição do registro
+     * @return tamanho em bytes
+     */
+    int recordSize(final int offset) {
+        return HEADER_SIZE + buffer.getInt(offset);
+    }
+
+    /**
+     * Obtém os dados do email de um registro de email aceito.
+     *
+     * @param offset posição do registro
+     * @return buffer com os dados
+     */
+    ByteBuffer payload(final int offset) {
+        int length = buffer.getInt(offset) - FIXED_BODY_SIZE;
+        return buffer.slice(offset + HEADER_SIZE + FIXED_BODY_SIZE,
+                length);
+    }
+
+    /**
+     * Percorre os registros válidos, do início até o fim dos registros
+     * ou até o primeiro registro interrompido.
+     *
+     * @param visitor receptor de cada registro
+     * @return true se a leitura terminou em um registro interrompido
+     */
+    boolean scan(final Visitor visitor) {
+        int offset = 0;
+        int capacity = buffer.capacity();
+        boolean torn = false;
+        while (capacity - offset >= HEADER_SIZE) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            int body = offset + HEADER_SIZE;
+            if (length < FIXED_BODY_SIZE || length > capacity - body) {
+                torn = true;
+                break;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(body, length));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                torn = true;
+                break;
+            }
+            visitor.record(offset, buffer.get(body),
+                    buffer.getLong(body + 1), buffer.getLong(body + 9),
+                    HEADER_SIZE + length);
+            offset = body + length;
+        }
+        position = offset;
+        return torn;
+    }
+
+    /**
+     * Força ao disco uma faixa do segmento.
+     *
+     * @param from posição inicial
+     * @param to posição final, exclusiva
+     */
+    void force(final int from, final int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    /**
+     * Apaga o arquivo do segmento. O mapeamento continua válido até
+     * ser coletado, sem efeito no disco.
+     *
+     * @throws IOException se o arquivo não puder ser apagado
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Obtém o número do segmento.
+     *
+     * @return número sequencial
+     */
+    long getNumber() {
+        return number;
+    }
+
+    /**
+     * Obtém a posição do próximo registro.
+     *
+     * @return bytes ocupados
+     */
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Obtém o tamanho do arquivo.
+     *
+     * @return capacidade em bytes
+     */
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Obtém a quantidade de emails não concluídos.
+     *
+     * @return emails vivos no segmento
+     */
+    int getLive() {
+        return live;
+    }
+
+    /**
+     * Obtém os bytes dos emails não concluídos.
+     *
+     * @return bytes vivos no segmento
+     */
+    long getLiveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * Conta um email aceito no segmento.
+     *
+     * @param size tamanho do registro
+     */
+    void addLive(final int size) {
+        live++;
+        liveBytes += size;
+    }
+
+    /**
+     * Desconta um email do segmento, concluído ou copiado para outro.
+     *
+     * @param size tamanho do registro
+     */
+    void removeLive(final int size) {
+        live--;
+        liveBytes -= size;
+    }
+
+    /**
+     * Receptor dos registros lidos por {@link #scan}.
+     */
+    interface Visitor {
+
+        /**
+         * Recebe um registro válido.
+         *
+         * @param offset posição do registro
+         * @param type tipo do registro
+         * @param msb bits mais significativos do identificador
+         * @param lsb bits menos significativos do identificador
+         * @param size tamanho total do registro
+         */
+        void record(int offset, byte type, long msb, long lsb, int size);
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Pacote do diário de emails aceitos.
+ *
+ * Este pacote contém o diário em que os emails aceitos para
+ * processamento assíncrono são gravados antes da resposta, em
+ * segmentos mapeados em memória, para que sejam retomados após uma
+ * queda da aplicação.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.journal;
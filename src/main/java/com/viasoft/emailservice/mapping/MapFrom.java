@@ -0,0 +1,34 @@
+package com.viasoft.emailservice.mapping;
+
+import com.viasoft.emailservice.enums.EmailField;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indica o campo do email de origem copiado para um campo do DTO de
+ * provedor marcado com {@link ProviderDto}. O campo é lido pelo getter
+ * do tipo de origem com o nome do campo de email em camel case, como
+ * {@code getEmailDestinatario} para
+ * {@link EmailField#EMAIL_DESTINATARIO}, e gravado pelo setter do
+ * campo do DTO.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface MapFrom {
+
+    /**
+     * Campo do email de origem.
+     *
+     * @return campo de origem
+     */
+    EmailField value();
+}
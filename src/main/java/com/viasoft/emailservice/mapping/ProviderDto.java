@@ -0,0 +1,43 @@
+package com.viasoft.emailservice.mapping;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o DTO de um provedor para a geração do seu mapeador na
+ * compilação. O mapeador gerado, com o nome do DTO seguido de
+ * {@code Mapper} e no mesmo pacote, converte o tipo de origem no DTO
+ * pelos campos anotados com {@link MapFrom} e verifica os tamanhos
+ * desses campos contra as anotações {@code @Size} do DTO, que passam a
+ * ser a única declaração dos limites do provedor. A anotação é
+ * descartada após a compilação.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ProviderDto {
+
+    /**
+     * Provedor do DTO.
+     *
+     * @return provedor
+     */
+    EmailProvider provider();
+
+    /**
+     * Tipo convertido no DTO, com um getter de texto por campo de
+     * {@link com.viasoft.emailservice.enums.EmailField}.
+     *
+     * @return tipo de origem
+     */
+    Class<?> source();
+}
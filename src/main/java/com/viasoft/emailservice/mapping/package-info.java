@@ -0,0 +1,14 @@
+/**
+ * Pacote das anotações do mapeamento dos emails para os DTOs dos
+ * provedores.
+ *
+ * Este pacote contém as anotações lidas na compilação pelo processador
+ * do diretório {@code src/processor}, que gera para cada DTO de
+ * provedor um mapeador com a conversão e a verificação dos limites de
+ * tamanho escritas em linha reta, sem reflexão.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.mapping;
@@ -0,0 +1,52 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.adapter.EmailAdapter;
+import com.viasoft.emailservice.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estágio de adaptação do email para o provedor resolvido.
+ * Os limites do provedor são validados pelo adaptador; um email que os
+ * excede é marcado como rejeitado, com todos os campos excedidos, sem
+ * lançar exceção. A conversão para o formato do provedor é feita pelo
+ * {@link SerializationStage}, direto em JSON, sem criar o DTO do
+ * provedor.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Order(AdaptationStage.ORDER)
+public class AdaptationStage implements EmailPipelineStage {
+
+    /**
+     * Posição do estágio no pipeline.
+     */
+    public static final int ORDER = 200;
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(AdaptationStage.class);
+
+    @Override
+    public String getName() {
+        return "adaptation";
+    }
+
+    @Override
+    public void process(final EmailEnvelope envelope) {
+        EmailAdapter<?> adapter = envelope.getAdapter();
+        ValidationResult limits = adapter.validate(envelope.getRequest());
+        envelope.setLimits(limits);
+        if (!limits.isValid()) {
+            LOGGER.debug("Email excede os limites do provedor: {}",
+                    limits.getMessage());
+        }
+    }
+}
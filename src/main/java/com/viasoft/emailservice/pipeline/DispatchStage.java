@@ -0,0 +1,68 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.enums.RateLimitMode;
+import com.viasoft.emailservice.service.RateLimiterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estágio de saída do email serializado.
+ * Consome a cota de envio do provedor e do remetente, exceto quando
+ * ela já foi reservada antes da entrada no pipeline, e entrega o
+ * resultado pelo {@link ProviderDispatcher}.
+ * A cota é sempre consumida no modo {@link RateLimitMode#REJEITAR}
+ * para que os workers deste estágio nunca fiquem bloqueados
+ * aguardando a sua liberação.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Order(DispatchStage.ORDER)
+public class DispatchStage implements EmailPipelineStage {
+
+    /**
+     * Posição do estágio no pipeline.
+     */
+    public static final int ORDER = 400;
+
+    /**
+     * Serviço que controla a cota de envio por provedor e remetente.
+     */
+    private final RateLimiterService rateLimiter;
+
+    /**
+     * Responsável pela entrega dos emails ao destino configurado.
+     */
+    private final ProviderDispatcher dispatcher;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param rateLimiterParam serviço de limitação de taxa
+     * @param dispatcherParam responsável pela entrega dos emails
+     */
+    @Autowired
+    public DispatchStage(final RateLimiterService rateLimiterParam,
+                         final ProviderDispatcher dispatcherParam) {
+        this.rateLimiter = rateLimiterParam;
+        this.dispatcher = dispatcherParam;
+    }
+
+    @Override
+    public String getName() {
+        return "dispatch";
+    }
+
+    @Override
+    public void process(final EmailEnvelope envelope) {
+        if (!envelope.isQuotaReserved()) {
+            rateLimiter.acquire(envelope.getProvider(),
+                    envelope.getRequest().getEmailRemetente(),
+                    RateLimitMode.REJEITAR);
+        }
+        dispatcher.dispatch(envelope);
+    }
+}
@@ -0,0 +1,223 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.adapter.EmailAdapter;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.validation.ValidationResult;
+
+import java.util.Map;
+
+/**
+ * Estado de um email em trânsito pelo pipeline.
+ * Cada estágio lê o que os anteriores produziram e registra o seu
+ * resultado. A passagem entre estágios ocorre pelos executores do
+ * pipeline, o que garante a visibilidade dos campos entre threads.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class EmailEnvelope {
+
+    /**
+     * Dados do email recebido.
+     */
+    private final EmailRequestDTO request;
+
+    /**
+     * Provedor resolvido para o envio.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Adaptador do provedor resolvido.
+     */
+    private final EmailAdapter<?> adapter;
+
+    /**
+     * Indica se a cota de envio já foi reservada antes do pipeline.
+     */
+    private final boolean quotaReserved;
+
+    /**
+     * Indica se os dados já passaram pelo Bean Validation antes do
+     * pipeline, como no corpo validado pelo controller.
+     */
+    private final boolean validated;
+
+    /**
+     * Erros de validação por campo, quando o email é rejeitado.
+     */
+    private Map<String, String> violations;
+
+    /**
+     * Resultado da validação dos limites do provedor, após a
+     * adaptação.
+     */
+    private ValidationResult limits;
+
+    /**
+     * Email no formato do provedor, em JSON codificado em UTF-8.
+     */
+    private byte[] json;
+
+    /**
+     * Cria o envelope de um email ainda não validado.
+     *
+     * @param requestParam dados do email
+     * @param providerParam provedor resolvido
+     * @param adapterParam adaptador do provedor
+     * @param quotaReservedParam true se a cota de envio já foi reservada
+     */
+    public EmailEnvelope(final EmailRequestDTO requestParam,
+                         final EmailProvider providerParam,
+                         final EmailAdapter<?> adapterParam,
+                         final boolean quotaReservedParam) {
+        this(requestParam, providerParam, adapterParam, quotaReservedParam,
+                false);
+    }
+
+    /**
+     * Cria o envelope de um email.
+     *
+     * @param requestParam dados do email
+     * @param providerParam provedor resolvido
+     * @param adapterParam adaptador do provedor
+     * @param quotaReservedParam true se a cota de envio já foi reservada
+     * @param validatedParam true se os dados já foram validados
+     */
+    public EmailEnvelope(final EmailRequestDTO requestParam,
+                         final EmailProvider providerParam,
+                         final EmailAdapter<?> adapterParam,
+                         final boolean quotaReservedParam,
+                         final boolean validatedParam) {
+        this.request = requestParam;
+        this.provider = providerParam;
+        this.adapter = adapterParam;
+        this.quotaReserved = quotaReservedParam;
+        this.validated = validatedParam;
+    }
+
+    /**
+     * Obtém os dados do email.
+     *
+     * @return dados do email
+     */
+    public EmailRequestDTO getRequest() {
+        return request;
+    }
+
+    /**
+     * Obtém o provedor resolvido.
+     *
+     * @return provedor resolvido
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o adaptador do provedor.
+     *
+     * @return adaptador do provedor
+     */
+    public EmailAdapter<?> getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * Indica se a cota de envio já foi reservada antes do pipeline.
+     *
+     * @return true se a cota já foi reservada
+     */
+    public boolean isQuotaReserved() {
+        return quotaReserved;
+    }
+
+    /**
+     * Indica se os dados já foram validados antes do pipeline.
+     *
+     * @return true se os dados já foram validados
+     */
+    public boolean isValidated() {
+        return validated;
+    }
+
+    /**
+     * Indica se o email foi rejeitado na validação.
+     *
+     * @return true se o email foi rejeitado
+     */
+    public boolean isRejected() {
+        return violations != null;
+    }
+
+    /**
+     * Obtém os erros de validação por campo.
+     *
+     * @return erros de validação, ou null se o email é válido
+     */
+    public Map<String, String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Rejeita o email com os erros de validação informados.
+     *
+     * @param violationsParam erros de validação por campo
+     */
+    public void reject(final Map<String, String> violationsParam) {
+        this.violations = violationsParam;
+    }
+
+    /**
+     * Obtém o resultado da validação dos limites do provedor.
+     *
+     * @return resultado da validação, ou null se o email não chegou à
+     *         adaptação
+     */
+    public ValidationResult getLimits() {
+        return limits;
+    }
+
+    /**
+     * Registra o resultado da validação dos limites do provedor,
+     * rejeitando o email com os campos excedidos se ele for inválido.
+     *
+     * @param limitsParam resultado da validação
+     */
+    public void setLimits(final ValidationResult limitsParam) {
+        this.limits = limitsParam;
+        if (!limitsParam.isValid()) {
+            this.violations = limitsParam.getErrors();
+        }
+    }
+
+    /**
+     * Indica se o email foi rejeitado por exceder os limites do
+     * provedor.
+     *
+     * @return true se algum campo excede o limite do provedor
+     */
+    public boolean exceedsLimits() {
+        return limits != null && !limits.isValid();
+    }
+
+    /**
+     * Obtém o JSON do email no formato do provedor.
+     *
+     * @return JSON em UTF-8
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Define o JSON do email no formato do provedor.
+     *
+     * @param jsonParam JSON em UTF-8
+     */
+    public void setJson(final byte[] jsonParam) {
+        this.json = jsonParam;
+    }
+}
@@ -0,0 +1,252 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.config.PipelineConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor do pipeline de processamento de emails.
+ * Cada estágio roda em um pool próprio, com quantidade de workers e
+ * fila de passagem limitada configuráveis, de forma que etapas
+ * intensivas em CPU (serialização) e em E/S (envio) escalem
+ * separadamente. Um envelope avança para o estágio seguinte assim que
+ * o anterior termina, sem ocupar a thread de quem o submeteu.
+ * Quando a fila de um estágio está cheia, a etapa é executada pela
+ * própria thread que tenta entregá-la, o que propaga a contrapressão
+ * até a origem em vez de descartar o email.
+ * A profundidade da fila, os workers ativos e o tempo de serviço de
+ * cada estágio são publicados no Micrometer.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class EmailPipeline {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(EmailPipeline.class);
+
+    /**
+     * Prazo, em segundos, para os estágios terminarem no desligamento.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Estágios na ordem de execução, cada um com seu pool.
+     */
+    private final List<StageRunner> runners;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param stagesParam estágios do pipeline, na ordem de execução
+     * @param configParam configuração do pipeline
+     * @param meterRegistryParam registro de métricas
+     */
+    @Autowired
+    public EmailPipeline(final List<EmailPipelineStage> stagesParam,
+                         final PipelineConfig configParam,
+                         final MeterRegistry meterRegistryParam) {
+        this.runners = new ArrayList<>(stagesParam.size());
+        for (EmailPipelineStage stage : stagesParam) {
+            runners.add(new StageRunner(stage, configParam,
+                    meterRegistryParam));
+        }
+        LOGGER.info("Pipeline de emails com estágios: {}",
+                stagesParam.stream().map(EmailPipelineStage::getName)
+                        .toList());
+    }
+
+    /**
+     * Submete um envelope ao pipeline sem aguardar o seu processamento.
+     * O futuro é concluído com o próprio envelope, possivelmente
+     * rejeitado na validação, ou com a exceção lançada por um estágio.
+     *
+     * @param envelope estado do email a ser processado
+     * @return futuro concluído ao final do último estágio
+     */
+    public CompletableFuture<EmailEnvelope> submit(
+            final EmailEnvelope envelope) {
+        CompletableFuture<EmailEnvelope> future =
+                CompletableFuture.completedFuture(envelope);
+        for (StageRunner runner : runners) {
+            future = future.thenApplyAsync(runner::run, runner.executor);
+        }
+        return future;
+    }
+
+    /**
+     * Submete um envelope ao pipeline e aguarda o seu processamento.
+     *
+     * @param envelope estado do email a ser processado
+     * @return envelope processado
+     * @throws RuntimeException a exceção lançada pelo estágio que falhou
+     */
+    public EmailEnvelope execute(final EmailEnvelope envelope) {
+        try {
+            return submit(envelope).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Obtém a exceção original de uma falha do pipeline.
+     *
+     * @param throwable falha, possivelmente encapsulada
+     * @return exceção lançada pelo estágio
+     */
+    public static RuntimeException unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new CompletionException(cause);
+    }
+
+    /**
+     * Encerra os pools dos estágios no desligamento da aplicação,
+     * aguardando os envelopes em andamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (StageRunner runner : runners) {
+            runner.executor.shutdown();
+        }
+        for (StageRunner runner : runners) {
+            try {
+                if (!runner.executor.awaitTermination(
+                        SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Estágio {} não terminou no prazo",
+                            runner.stage.getName());
+                    runner.executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                runner.executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Executa um estágio no seu pool, medindo o tempo de serviço.
+     */
+    private static final class StageRunner {
+
+        /**
+         * Estágio executado.
+         */
+        private final EmailPipelineStage stage;
+
+        /**
+         * Pool com fila limitada do estágio.
+         */
+        private final ThreadPoolExecutor executor;
+
+        /**
+         * Tempo de serviço do estágio.
+         */
+        private final Timer serviceTime;
+
+        /**
+         * Cria o pool e as métricas do estágio.
+         *
+         * @param stageParam estágio executado
+         * @param configParam configuração do pipeline
+         * @param meterRegistry registro de métricas
+         */
+        private StageRunner(final EmailPipelineStage stageParam,
+                            final PipelineConfig configParam,
+                            final MeterRegistry meterRegistry) {
+            String name = stageParam.getName();
+            int workers = configParam.getWorkers(name);
+            this.stage = stageParam;
+            this.executor = new ThreadPoolExecutor(
+                    workers, workers, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(
+                            configParam.getQueueCapacity(name)),
+                    new CustomizableThreadFactory("email-" + name + "-"),
+                    new CallerRunsUnlessShutdown());
+            this.serviceTime = Timer.builder("email.pipeline.stage.duration")
+                    .description("Tempo de serviço do estágio do pipeline")
+                    .tag("stage", name)
+                    .register(meterRegistry);
+            Gauge.builder("email.pipeline.stage.queue", executor,
+                            pool -> pool.getQueue().size())
+                    .description("Envelopes aguardando o estágio")
+                    .tag("stage", name)
+                    .register(meterRegistry);
+            Gauge.builder("email.pipeline.stage.active", executor,
+                            ThreadPoolExecutor::getActiveCount)
+                    .description("Workers do estágio em execução")
+                    .tag("stage", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Executa o estágio sobre o envelope, exceto se ele já foi
+         * rejeitado por um estágio anterior.
+         *
+         * @param envelope estado do email em trânsito
+         * @return o mesmo envelope, para o próximo estágio
+         */
+        private EmailEnvelope run(final EmailEnvelope envelope) {
+            if (envelope.isRejected()) {
+                return envelope;
+            }
+            long start = System.nanoTime();
+            try {
+                stage.process(envelope);
+            } finally {
+                serviceTime.record(System.nanoTime() - start,
+                        TimeUnit.NANOSECONDS);
+            }
+            return envelope;
+        }
+    }
+
+    /**
+     * Política de rejeição que executa a etapa na thread que tentou
+     * entregá-la quando a fila está cheia. Após o desligamento, a
+     * etapa é recusada para que o futuro falhe em vez de ficar
+     * pendente.
+     */
+    private static final class CallerRunsUnlessShutdown
+            implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(final Runnable task,
+                                      final ThreadPoolExecutor pool) {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException(
+                        "Pipeline de emails encerrado");
+            }
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.viasoft.emailservice.pipeline;
+
+/**
+ * Contrato de um estágio do pipeline de emails.
+ * Os estágios são componentes Spring, executados na ordem definida por
+ * {@link org.springframework.core.annotation.Order}; cada um recebe
+ * seus próprios workers e fila, configurados pelo seu nome em
+ * {@code mail.pipeline.stages.<nome>}. Um novo estágio é incluído no
+ * pipeline apenas por ser declarado como componente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface EmailPipelineStage {
+
+    /**
+     * Retorna o nome do estágio, usado na configuração e nas métricas.
+     *
+     * @return nome do estágio
+     */
+    String getName();
+
+    /**
+     * Processa o envelope. Envelopes rejeitados por um estágio anterior
+     * não são repassados aos seguintes.
+     *
+     * @param envelope estado do email em trânsito
+     * @throws RuntimeException se o email não puder ser processado
+     */
+    void process(EmailEnvelope envelope);
+}
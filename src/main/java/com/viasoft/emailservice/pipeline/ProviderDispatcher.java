@@ -0,0 +1,355 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.adapter.ProviderJsonEncoder;
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailDeliveryException;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.routing.ProviderCircuitBreakers;
+import com.viasoft.emailservice.routing.ProviderHealth;
+import com.viasoft.emailservice.routing.ProviderRoute;
+import com.viasoft.emailservice.routing.ProviderRouter;
+import com.viasoft.emailservice.routing.ProviderStats;
+import com.viasoft.emailservice.service.RateLimiterService;
+import com.viasoft.emailservice.sink.EmailPayload;
+import com.viasoft.emailservice.sink.EmailSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Entrega dos emails serializados ao {@link EmailSink}, medindo a
+ * latência e o resultado de cada envio na {@link ProviderHealth} e no
+ * disjuntor do provedor ({@link ProviderCircuitBreakers}).
+ * Com {@code mail.routing.hedging.enabled}, um email de prioridade
+ * {@link EmailPriority#ALTA} que não é entregue pelo provedor principal
+ * dentro do p95 observado desse provedor é enviado também a um provedor
+ * secundário, e a primeira entrega bem-sucedida encerra o envio. As
+ * duas tentativas levam o mesmo identificador de mensagem; a tentativa
+ * que ainda não começou quando a outra termina é descartada, e o
+ * destino usa o identificador para descartar a repetição de uma
+ * tentativa já em andamento.
+ * As tentativas especulativas rodam em um pool limitado a
+ * {@code mail.routing.hedging.max-concurrent} threads; com o pool
+ * ocupado, ou sem ficha disponível na cota do provedor secundário, o
+ * email é entregue apenas pelo provedor principal.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class ProviderDispatcher {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ProviderDispatcher.class);
+
+    /**
+     * Destino de saída dos emails processados.
+     */
+    private final EmailSink sink;
+
+    /**
+     * Roteador, usado para escolher o provedor secundário.
+     */
+    private final ProviderRouter router;
+
+    /**
+     * Saúde recente de cada provedor.
+     */
+    private final ProviderHealth health;
+
+    /**
+     * Disjuntores dos provedores.
+     */
+    private final ProviderCircuitBreakers breakers;
+
+    /**
+     * Limitação de taxa, consultada antes da tentativa no provedor
+     * secundário.
+     */
+    private final RateLimiterService rateLimiter;
+
+    /**
+     * Indica se o envio especulativo está habilitado.
+     */
+    private final boolean hedgingEnabled;
+
+    /**
+     * Espera mínima antes do envio ao provedor secundário, em
+     * nanossegundos.
+     */
+    private final long minDelayNanos;
+
+    /**
+     * Pool das tentativas de um envio especulativo.
+     */
+    private final ThreadPoolExecutor hedgeExecutor;
+
+    /**
+     * Envios especulativos realizados.
+     */
+    private final Counter hedged;
+
+    /**
+     * Envios especulativos em que o provedor secundário entregou
+     * primeiro.
+     */
+    private final Counter hedgeWins;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param sinkParam destino de saída dos emails
+     * @param routerParam roteador de emails
+     * @param healthParam saúde recente dos provedores
+     * @param breakersParam disjuntores dos provedores
+     * @param rateLimiterParam serviço de limitação de taxa
+     * @param configParam configuração do roteamento
+     * @param meterRegistryParam registro de métricas
+     */
+    @Autowired
+    public ProviderDispatcher(final EmailSink sinkParam,
+                              final ProviderRouter routerParam,
+                              final ProviderHealth healthParam,
+                              final ProviderCircuitBreakers breakersParam,
+                              final RateLimiterService rateLimiterParam,
+                              final RoutingConfig configParam,
+                              final MeterRegistry meterRegistryParam) {
+        this.sink = sinkParam;
+        this.router = routerParam;
+        this.health = healthParam;
+        this.breakers = breakersParam;
+        this.rateLimiter = rateLimiterParam;
+        this.hedgingEnabled = configParam.isHedgingEnabled();
+        this.minDelayNanos = configParam.getHedgingMinDelay().toNanos();
+        this.hedgeExecutor = new ThreadPoolExecutor(
+                0, configParam.getHedgingMaxConcurrent(),
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("email-hedge-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hedged = Counter.builder("email.routing.hedged")
+                .description("Emails enviados também ao provedor secundário")
+                .register(meterRegistryParam);
+        this.hedgeWins = Counter.builder("email.routing.hedge.wins")
+                .description("Envios especulativos vencidos pelo secundário")
+                .register(meterRegistryParam);
+    }
+
+    /**
+     * Entrega o email do envelope, com envio especulativo quando
+     * aplicável.
+     *
+     * @param envelope envelope com o email serializado
+     */
+    public void dispatch(final EmailEnvelope envelope) {
+        if (!hedgingEnabled || envelope.getRequest().getPrioridade()
+                != EmailPriority.ALTA) {
+            send(new EmailPayload(envelope.getProvider(),
+                    envelope.getJson()));
+            return;
+        }
+        dispatchHedged(envelope);
+    }
+
+    /**
+     * Entrega um email, registrando a latência e o resultado.
+     *
+     * @param payload email a ser entregue
+     * @throws EmailDeliveryException se o destino recusar a entrega
+     */
+    private void send(final EmailPayload payload) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            sink.write(payload);
+            success = true;
+        } catch (EmailDeliveryException e) {
+            throw e;
+        } catch (EmailProcessingException e) {
+            throw new EmailDeliveryException(payload.getProvider(),
+                    e.getMessage(), e);
+        } finally {
+            long end = System.nanoTime();
+            health.record(payload.getProvider(), end - start, success);
+            breakers.record(payload.getProvider(), success, end);
+        }
+    }
+
+    /**
+     * Entrega um email de prioridade alta, enviando-o também ao
+     * provedor secundário se o principal passar do seu p95 e a cota
+     * do secundário tiver uma ficha disponível sem espera.
+     * Sem amostras suficientes do provedor principal, o email é
+     * entregue apenas por ele.
+     *
+     * @param envelope envelope com o email serializado
+     */
+    private void dispatchHedged(final EmailEnvelope envelope) {
+        EmailProvider provider = envelope.getProvider();
+        ProviderStats stats = health.stats(provider);
+        if (!health.isKnown(stats)) {
+            send(new EmailPayload(provider, envelope.getJson()));
+            return;
+        }
+        long delay = Math.max(stats.getP95Nanos(), minDelayNanos);
+        String messageId = newMessageId();
+        HedgedSend hedgedSend = new HedgedSend();
+        if (!hedgedSend.submit(new EmailPayload(provider,
+                envelope.getJson(), messageId))) {
+            send(new EmailPayload(provider, envelope.getJson(), messageId));
+            return;
+        }
+        try {
+            hedgedSend.winner.get(delay, TimeUnit.NANOSECONDS);
+            return;
+        } catch (TimeoutException e) {
+            LOGGER.debug("Provedor {} acima do p95; envio especulativo",
+                    provider.getValue());
+        } catch (ExecutionException e) {
+            throw EmailPipeline.unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Envio interrompido ao provedor " + provider.getValue(),
+                    e);
+        }
+
+        EmailRequestDTO request = envelope.getRequest();
+        ProviderRoute secondary = router.secondary(provider, request);
+        if (secondary != null
+                && rateLimiter.tryAcquire(secondary.getProvider())
+                && hedgedSend.hedge(new EmailPayload(
+                secondary.getProvider(),
+                ProviderJsonEncoder.forCurrentThread().encode(
+                        secondary.getAdapter(), request),
+                messageId))) {
+            hedged.increment();
+        }
+        EmailProvider winner;
+        try {
+            winner = hedgedSend.winner.join();
+        } catch (CompletionException e) {
+            throw EmailPipeline.unwrap(e);
+        }
+        if (winner != provider) {
+            hedgeWins.increment();
+        }
+    }
+
+    /**
+     * Gera o identificador de mensagem compartilhado pelas tentativas
+     * de um envio especulativo, imprevisível por ser usado pelos
+     * provedores para descartar envios duplicados.
+     *
+     * @return identificador da mensagem
+     */
+    private static String newMessageId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Encerra o pool de tentativas especulativas no desligamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdown();
+    }
+
+    /**
+     * Tentativas de entrega de um mesmo email em provedores diferentes.
+     * O primeiro envio bem-sucedido completa {@link #winner}; o envio
+     * só falha quando todas as tentativas iniciadas falham.
+     */
+    private final class HedgedSend {
+
+        /**
+         * Provedor que entregou o email primeiro.
+         */
+        private final CompletableFuture<EmailProvider> winner =
+                new CompletableFuture<>();
+
+        /**
+         * Tentativas iniciadas que ainda não terminaram.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * Indica se alguma tentativa já entregou o email.
+         */
+        private final AtomicBoolean delivered = new AtomicBoolean();
+
+        /**
+         * Inicia a tentativa no provedor secundário, se o envio ainda
+         * não terminou.
+         *
+         * @param payload email adaptado ao provedor secundário
+         * @return true se a tentativa foi iniciada
+         */
+        private boolean hedge(final EmailPayload payload) {
+            return !winner.isDone() && submit(payload);
+        }
+
+        /**
+         * Submete uma tentativa ao pool.
+         *
+         * @param payload email a ser entregue
+         * @return false se o pool estiver ocupado
+         */
+        private boolean submit(final EmailPayload payload) {
+            pending.incrementAndGet();
+            try {
+                hedgeExecutor.execute(() -> attempt(payload));
+                return true;
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                return false;
+            }
+        }
+
+        /**
+         * Executa uma tentativa, descartando-a se outra já entregou o
+         * email.
+         *
+         * @param payload email a ser entregue
+         */
+        private void attempt(final EmailPayload payload) {
+            try {
+                if (!delivered.get()) {
+                    send(payload);
+                    delivered.set(true);
+                }
+                winner.complete(payload.getProvider());
+            } catch (RuntimeException e) {
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+                return;
+            }
+            pending.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.adapter.ProviderJsonEncoder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estágio de serialização do email no formato do provedor.
+ * O JSON é escrito em bytes pelo {@link ProviderJsonEncoder} do worker,
+ * reaproveitado entre os emails, sem o DTO do provedor nem texto
+ * intermediário.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Order(SerializationStage.ORDER)
+public class SerializationStage implements EmailPipelineStage {
+
+    /**
+     * Posição do estágio no pipeline.
+     */
+    public static final int ORDER = 300;
+
+    @Override
+    public String getName() {
+        return "serialization";
+    }
+
+    @Override
+    public void process(final EmailEnvelope envelope) {
+        envelope.setJson(ProviderJsonEncoder.forCurrentThread().encode(
+                envelope.getAdapter(), envelope.getRequest()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estágio de validação Bean Validation do email.
+ * Emails inválidos são marcados como rejeitados, com os erros por
+ * campo, e não seguem para os demais estágios. Emails já validados
+ * antes do pipeline, como o corpo de {@code /emails/send} validado
+ * pelo controller, não são validados novamente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+@Order(ValidationStage.ORDER)
+public class ValidationStage implements EmailPipelineStage {
+
+    /**
+     * Posição do estágio no pipeline.
+     */
+    public static final int ORDER = 100;
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ValidationStage.class);
+
+    /**
+     * Validador Bean Validation.
+     */
+    private final Validator validator;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param validatorParam validador Bean Validation
+     */
+    @Autowired
+    public ValidationStage(final Validator validatorParam) {
+        this.validator = validatorParam;
+    }
+
+    @Override
+    public String getName() {
+        return "validation";
+    }
+
+    @Override
+    public void process(final EmailEnvelope envelope) {
+        if (envelope.isValidated()) {
+            return;
+        }
+        Set<ConstraintViolation<EmailRequestDTO>> violations =
+                validator.validate(envelope.getRequest());
+        if (violations.isEmpty()) {
+            return;
+        }
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<EmailRequestDTO> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(),
+                    violation.getMessage());
+        }
+        LOGGER.warn("Email rejeitado na validação: {}", errors);
+        envelope.reject(errors);
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Pacote do pipeline de processamento de emails.
+ *
+ * Este pacote contém o motor que executa o processamento em estágios
+ * (validação, adaptação, serialização e envio), cada um com seus
+ * próprios workers e fila de passagem limitada, e os estágios padrão.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.pipeline;
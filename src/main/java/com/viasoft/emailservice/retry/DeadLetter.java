@@ -0,0 +1,155 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailProvider;
+
+import java.time.Instant;
+
+/**
+ * Email que esgotou as tentativas de envio ou falhou de forma
+ * definitiva, com os dados necessários para reenviá-lo.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class DeadLetter {
+
+    /**
+     * Identificador do job do email.
+     */
+    private final String id;
+
+    /**
+     * Dados do email.
+     */
+    private final EmailRequestDTO request;
+
+    /**
+     * Provedor da última tentativa, ou null se não for conhecido.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Motivo do descarte.
+     */
+    private final DeadLetterReason reason;
+
+    /**
+     * Quantidade de tentativas realizadas.
+     */
+    private final int attempts;
+
+    /**
+     * Mensagem de erro da última tentativa.
+     */
+    private final String erro;
+
+    /**
+     * Instante em que o email foi descartado.
+     */
+    private final Instant failedAt;
+
+    /**
+     * Cria o registro de um email esgotado.
+     *
+     * @param idParam identificador do job do email
+     * @param requestParam dados do email
+     * @param providerParam provedor da última tentativa, ou null
+     * @param reasonParam motivo do descarte
+     * @param attemptsParam quantidade de tentativas realizadas
+     * @param erroParam mensagem de erro da última tentativa
+     * @param failedAtParam instante do descarte
+     */
+    public DeadLetter(final String idParam,
+                      final EmailRequestDTO requestParam,
+                      final EmailProvider providerParam,
+                      final DeadLetterReason reasonParam,
+                      final int attemptsParam,
+                      final String erroParam,
+                      final Instant failedAtParam) {
+        this.id = idParam;
+        this.request = requestParam;
+        this.provider = providerParam;
+        this.reason = reasonParam;
+        this.attempts = attemptsParam;
+        this.erro = erroParam;
+        this.failedAt = failedAtParam;
+    }
+
+    /**
+     * Obtém o identificador do job do email.
+     *
+     * @return identificador do job
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Obtém os dados do email.
+     *
+     * @return dados do email
+     */
+    public EmailRequestDTO getRequest() {
+        return request;
+    }
+
+    /**
+     * Obtém o provedor da última tentativa.
+     *
+     * @return provedor, ou null se não for conhecido
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o motivo do descarte.
+     *
+     * @return motivo do descarte
+     */
+    public DeadLetterReason getReason() {
+        return reason;
+    }
+
+    /**
+     * Obtém a quantidade de tentativas realizadas.
+     *
+     * @return tentativas realizadas
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Obtém a mensagem de erro da última tentativa.
+     *
+     * @return mensagem de erro
+     */
+    public String getErro() {
+        return erro;
+    }
+
+    /**
+     * Obtém o instante em que o email foi descartado.
+     *
+     * @return instante do descarte
+     */
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DeadLetter{"
+                + "id='" + id + '\''
+                + ", provider=" + provider
+                + ", reason=" + reason
+                + ", attempts=" + attempts
+                + ", erro='" + erro + '\''
+                + ", failedAt=" + failedAt
+                + '}';
+    }
+}
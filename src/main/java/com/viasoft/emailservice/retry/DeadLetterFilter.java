@@ -0,0 +1,82 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailProvider;
+
+/**
+ * Filtro dos emails esgotados por provedor e por motivo do descarte.
+ * Um critério nulo aceita qualquer valor.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class DeadLetterFilter {
+
+    /**
+     * Filtro que aceita todos os emails esgotados.
+     */
+    public static final DeadLetterFilter ALL =
+            new DeadLetterFilter(null, null);
+
+    /**
+     * Provedor aceito, ou null para qualquer provedor.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Motivo aceito, ou null para qualquer motivo.
+     */
+    private final DeadLetterReason reason;
+
+    /**
+     * Cria o filtro com os critérios informados.
+     *
+     * @param providerParam provedor aceito, ou null
+     * @param reasonParam motivo aceito, ou null
+     */
+    public DeadLetterFilter(final EmailProvider providerParam,
+                            final DeadLetterReason reasonParam) {
+        this.provider = providerParam;
+        this.reason = reasonParam;
+    }
+
+    /**
+     * Indica se um email esgotado atende ao filtro.
+     *
+     * @param providerValue provedor do email, ou null
+     * @param reasonValue motivo do descarte
+     * @return true se o email atende aos dois critérios
+     */
+    public boolean matches(final EmailProvider providerValue,
+                           final DeadLetterReason reasonValue) {
+        return (provider == null || provider == providerValue)
+                && (reason == null || reason == reasonValue);
+    }
+
+    /**
+     * Obtém o provedor aceito.
+     *
+     * @return provedor, ou null para qualquer provedor
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o motivo aceito.
+     *
+     * @return motivo, ou null para qualquer motivo
+     */
+    public DeadLetterReason getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "DeadLetterFilter{"
+                + "provider=" + provider
+                + ", reason=" + reason
+                + '}';
+    }
+}
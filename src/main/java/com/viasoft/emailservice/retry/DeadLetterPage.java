@@ -0,0 +1,56 @@
+package com.viasoft.emailservice.retry;
+
+import java.util.List;
+
+/**
+ * Página de emails esgotados, com o cursor da página seguinte.
+ * O cursor é o número sequencial do último email da página; a página
+ * seguinte começa no primeiro email posterior a ele, mesmo que emails
+ * tenham sido removidos ou acrescentados entre as consultas.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class DeadLetterPage {
+
+    /**
+     * Emails da página, do mais antigo ao mais recente.
+     */
+    private final List<DeadLetter> items;
+
+    /**
+     * Cursor da página seguinte, ou null se esta for a última.
+     */
+    private final Long nextCursor;
+
+    /**
+     * Cria a página.
+     *
+     * @param itemsParam emails da página
+     * @param nextCursorParam cursor da página seguinte, ou null
+     */
+    public DeadLetterPage(final List<DeadLetter> itemsParam,
+                          final Long nextCursorParam) {
+        this.items = List.copyOf(itemsParam);
+        this.nextCursor = nextCursorParam;
+    }
+
+    /**
+     * Obtém os emails da página.
+     *
+     * @return emails, do mais antigo ao mais recente
+     */
+    public List<DeadLetter> getItems() {
+        return items;
+    }
+
+    /**
+     * Obtém o cursor da página seguinte.
+     *
+     * @return cursor, ou null se esta for a última página
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
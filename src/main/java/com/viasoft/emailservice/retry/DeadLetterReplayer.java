@@ -0,0 +1,398 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.config.RetryConfig;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.service.EmailJobService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reenvio dos emails esgotados pelo fluxo assíncrono.
+ * Os pedidos de reenvio, por identificador ou por filtro, são
+ * atendidos em ordem por uma única thread, que submete no máximo
+ * {@code mail.retry.dead-letter.replay-rate} emails por segundo na
+ * faixa de prioridade baixa da fila de trabalho. Com essa faixa cheia,
+ * a thread aguarda e tenta de novo, sem disputar espaço com os emails
+ * urgentes. Cada email reenviado vira um novo job e é removido do
+ * armazenamento; se falhar de novo, volta a ele com o novo job. O
+ * reenvio por filtro percorre o armazenamento por páginas e ignora os
+ * emails descartados depois do pedido, para não reenviar em ciclo os
+ * que continuam falhando.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class DeadLetterReplayer {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(DeadLetterReplayer.class);
+
+    /**
+     * Quantidade de emails lidos por página no reenvio por filtro.
+     */
+    private static final int PAGE_SIZE = 100;
+
+    /**
+     * Espera antes de tentar de novo com a faixa da fila cheia.
+     */
+    private static final long FULL_QUEUE_BACKOFF_MILLIS = 200;
+
+    /**
+     * Espera máxima pelo fim da thread no desligamento.
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * Armazenamento dos emails esgotados.
+     */
+    private final DeadLetterStore store;
+
+    /**
+     * Serviço de processamento assíncrono que recebe os reenvios.
+     */
+    private final EmailJobService jobService;
+
+    /**
+     * Intervalo mínimo entre dois reenvios, em nanossegundos.
+     */
+    private final long intervalNanos;
+
+    /**
+     * Pedidos de reenvio ainda não atendidos, em ordem de chegada.
+     */
+    private final BlockingQueue<Batch> batches = new LinkedBlockingQueue<>();
+
+    /**
+     * Quantidade estimada de emails aguardando reenvio.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Emails reenviados.
+     */
+    private final Counter replayed;
+
+    /**
+     * Indica se a aplicação está em execução.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Thread que atende os pedidos, criada no primeiro pedido.
+     */
+    private Thread worker;
+
+    /**
+     * Instante mais cedo do próximo reenvio, em nanossegundos.
+     */
+    private long nextSlot = System.nanoTime();
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param storeParam armazenamento dos emails esgotados
+     * @param jobServiceParam serviço de processamento assíncrono
+     * @param retryConfig configuração com a taxa de reenvio
+     * @param meterRegistry registro de métricas
+     * @throws IllegalArgumentException se a taxa não for positiva
+     */
+    @Autowired
+    public DeadLetterReplayer(final DeadLetterStore storeParam,
+                              final EmailJobService jobServiceParam,
+                              final RetryConfig retryConfig,
+                              final MeterRegistry meterRegistry) {
+        if (!(retryConfig.getReplayRate() > 0)) {
+            throw new IllegalArgumentException(
+                    "Taxa de reenvio deve ser positiva: "
+                            + retryConfig.getReplayRate());
+        }
+        this.store = storeParam;
+        this.jobService = jobServiceParam;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1)
+                / retryConfig.getReplayRate());
+        this.replayed = Counter.builder("email.retry.dead.letters.replayed")
+                .description("Emails esgotados reenviados")
+                .register(meterRegistry);
+        Gauge.builder("email.retry.dead.letters.replay.pending", pending,
+                        AtomicLong::get)
+                .description("Emails esgotados aguardando reenvio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pede o reenvio dos emails informados.
+     *
+     * @param ids identificadores dos jobs esgotados
+     * @return quantidade de emails encontrados no armazenamento
+     */
+    public long replay(final List<String> ids) {
+        long found = ids.stream().filter(id -> store.get(id) != null)
+                .count();
+        submit(new Batch(List.copyOf(ids), null, found));
+        return found;
+    }
+
+    /**
+     * Pede o reenvio de todos os emails que atendem ao filtro.
+     *
+     * @param filter filtro dos emails
+     * @return quantidade de emails que atendem ao filtro no momento do
+     *         pedido
+     */
+    public long replay(final DeadLetterFilter filter) {
+        long found = store.count(filter);
+        submit(new Batch(null, filter, found));
+        return found;
+    }
+
+    /**
+     * Obtém a quantidade estimada de emails aguardando reenvio.
+     *
+     * @return emails aguardando reenvio
+     */
+    public long getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Interrompe o reenvio no desligamento da aplicação. Os emails não
+     * reenviados continuam no armazenamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread;
+        synchronized (this) {
+            thread = worker;
+        }
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        batches.clear();
+        pending.set(0);
+    }
+
+    /**
+     * Enfileira um pedido e inicia a thread, se necessário.
+     *
+     * @param batch pedido de reenvio
+     * @throws IllegalStateException se a aplicação estiver em
+     *         desligamento
+     */
+    private synchronized void submit(final Batch batch) {
+        if (!running) {
+            throw new IllegalStateException(
+                    "Reenvio de emails esgotados encerrado");
+        }
+        pending.addAndGet(batch.expected);
+        batches.add(batch);
+        if (worker == null) {
+            worker = new Thread(this::replayLoop,
+                    "email-dead-letter-replay");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Atende os pedidos até o desligamento.
+     */
+    private void replayLoop() {
+        try {
+            while (running) {
+                Batch batch = batches.take();
+                try {
+                    if (batch.ids != null) {
+                        replayIds(batch);
+                    } else {
+                        replayFilter(batch);
+                    }
+                } finally {
+                    pending.addAndGet(batch.done - batch.expected);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reenvia os emails de um pedido por identificador.
+     *
+     * @param batch pedido de reenvio
+     * @throws InterruptedException se a thread for interrompida
+     */
+    private void replayIds(final Batch batch) throws InterruptedException {
+        for (String id : batch.ids) {
+            DeadLetter deadLetter = store.get(id);
+            if (deadLetter != null) {
+                replayOne(deadLetter, batch);
+            }
+        }
+    }
+
+    /**
+     * Reenvia os emails de um pedido por filtro, página a página.
+     *
+     * @param batch pedido de reenvio
+     * @throws InterruptedException se a thread for interrompida
+     */
+    private void replayFilter(final Batch batch)
+            throws InterruptedException {
+        long cursor = 0;
+        while (true) {
+            DeadLetterPage page = store.page(batch.filter, cursor,
+                    PAGE_SIZE);
+            for (DeadLetter deadLetter : page.getItems()) {
+                if (!deadLetter.getFailedAt().isAfter(batch.requestedAt)) {
+                    replayOne(deadLetter, batch);
+                }
+            }
+            if (page.getNextCursor() == null) {
+                return;
+            }
+            cursor = page.getNextCursor();
+        }
+    }
+
+    /**
+     * Reenvia um email no ritmo configurado, aguardando enquanto a
+     * faixa da fila estiver cheia, e o remove do armazenamento.
+     * Outras falhas na submissão mantêm o email no armazenamento.
+     *
+     * @param deadLetter email esgotado
+     * @param batch pedido de reenvio
+     * @throws InterruptedException se a thread for interrompida
+     */
+    private void replayOne(final DeadLetter deadLetter, final Batch batch)
+            throws InterruptedException {
+        pace();
+        EmailRequestDTO request = copyOf(deadLetter.getRequest());
+        while (true) {
+            try {
+                EmailJobDTO job = jobService.submit(request);
+                store.remove(deadLetter.getId());
+                replayed.increment();
+                LOGGER.info("Email esgotado {} reenviado como job {}",
+                        deadLetter.getId(), job.getId());
+                break;
+            } catch (EmailQueueFullException e) {
+                TimeUnit.MILLISECONDS.sleep(FULL_QUEUE_BACKOFF_MILLIS);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Email esgotado {} não reenviado: {}",
+                        deadLetter.getId(), e.getMessage());
+                break;
+            }
+        }
+        if (batch.expected > batch.done) {
+            batch.done++;
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Aguarda o próximo intervalo de reenvio.
+     *
+     * @throws InterruptedException se a thread for interrompida
+     */
+    private void pace() throws InterruptedException {
+        long now = System.nanoTime();
+        if (nextSlot - now > 0) {
+            TimeUnit.NANOSECONDS.sleep(nextSlot - now);
+            now = nextSlot;
+        }
+        nextSlot = now + intervalNanos;
+    }
+
+    /**
+     * Copia os dados de um email para o reenvio imediato, na prioridade
+     * baixa.
+     *
+     * @param request dados do email esgotado
+     * @return cópia sem data de envio
+     */
+    private static EmailRequestDTO copyOf(final EmailRequestDTO request) {
+        EmailRequestDTO copy = new EmailRequestDTO(
+                request.getEmailDestinatario(),
+                request.getNomeDestinatario(),
+                request.getEmailRemetente(),
+                request.getAssunto(),
+                request.getConteudo());
+        copy.setPrioridade(EmailPriority.BAIXA);
+        return copy;
+    }
+
+    /**
+     * Pedido de reenvio por identificadores ou por filtro.
+     */
+    private static final class Batch {
+
+        /**
+         * Identificadores dos jobs, ou null no pedido por filtro.
+         */
+        private final List<String> ids;
+
+        /**
+         * Filtro dos emails, ou null no pedido por identificador.
+         */
+        private final DeadLetterFilter filter;
+
+        /**
+         * Instante do pedido; emails descartados depois dele são
+         * ignorados no pedido por filtro.
+         */
+        private final Instant requestedAt = Instant.now();
+
+        /**
+         * Quantidade de emails estimada no pedido.
+         */
+        private final long expected;
+
+        /**
+         * Quantidade de emails já atendidos, até a estimativa.
+         */
+        private long done;
+
+        /**
+         * Cria o pedido.
+         *
+         * @param idsParam identificadores, ou null
+         * @param filterParam filtro, ou null
+         * @param expectedParam quantidade de emails estimada
+         */
+        private Batch(final List<String> idsParam,
+                      final DeadLetterFilter filterParam,
+                      final long expectedParam) {
+            this.ids = idsParam;
+            this.filter = filterParam;
+            this.expected = expectedParam;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.viasoft.emailservice.retry;
+
+import java.util.List;
+
+/**
+ * Contrato do armazenamento dos emails que esgotaram as tentativas de
+ * envio ou falharam de forma definitiva. Cada email recebe um número
+ * sequencial crescente ao ser guardado, usado como cursor da
+ * paginação. As implementações devem aceitar chamadas de várias
+ * threads.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface DeadLetterStore {
+
+    /**
+     * Guarda um email esgotado.
+     *
+     * @param deadLetter email esgotado
+     */
+    void add(DeadLetter deadLetter);
+
+    /**
+     * Obtém os emails esgotados mais recentes.
+     *
+     * @param limit quantidade máxima de emails
+     * @return emails esgotados, do mais antigo ao mais recente
+     */
+    List<DeadLetter> recent(int limit);
+
+    /**
+     * Obtém uma página dos emails que atendem ao filtro.
+     *
+     * @param filter filtro dos emails
+     * @param cursor cursor devolvido pela página anterior, ou 0 para a
+     *               primeira página
+     * @param limit quantidade máxima de emails da página
+     * @return página, do mais antigo ao mais recente
+     */
+    DeadLetterPage page(DeadLetterFilter filter, long cursor, int limit);
+
+    /**
+     * Obtém um email esgotado pelo identificador do job.
+     *
+     * @param id identificador do job
+     * @return email esgotado, ou null se não estiver guardado
+     */
+    DeadLetter get(String id);
+
+    /**
+     * Remove um email esgotado, por exemplo depois de reenviado.
+     *
+     * @param id identificador do job
+     * @return true se o email estava guardado
+     */
+    boolean remove(String id);
+
+    /**
+     * Conta os emails que atendem ao filtro.
+     *
+     * @param filter filtro dos emails
+     * @return quantidade de emails
+     */
+    long count(DeadLetterFilter filter);
+
+    /**
+     * Obtém a quantidade de emails guardados.
+     *
+     * @return emails esgotados guardados
+     */
+    long size();
+}
@@ -0,0 +1,774 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.util.EmailRequestCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Armazenamento em arquivo dos emails esgotados, preservados entre
+ * reinícios.
+ * O arquivo é um log de acréscimo em que cada registro tem o tamanho
+ * do corpo, o CRC32C do corpo e o corpo, que começa pelo tipo:
+ * {@link #ENTRY} guarda o número sequencial, o instante, o provedor,
+ * o motivo, as tentativas, o identificador do job, a mensagem de erro
+ * e os dados do email; {@link #REMOVED} guarda o número sequencial de
+ * um email removido; {@link #MARK} guarda o último número sequencial
+ * atribuído, escrito no início do arquivo compactado. Apenas os
+ * metadados ficam em memória; os dados do email são lidos do arquivo
+ * quando consultados. Cada gravação é forçada ao disco antes de
+ * retornar. Na abertura, um registro incompleto ou corrompido no fim
+ * do arquivo é descartado e o arquivo é truncado nesse ponto. Quando
+ * os registros descartados passam a ocupar mais que os emails
+ * guardados, o arquivo é reescrito em um arquivo temporário que
+ * substitui o original com uma troca atômica. O arquivo só é criado
+ * quando o primeiro email é guardado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class DiskDeadLetterStore implements DeadLetterStore, Closeable {
+
+    /**
+     * Tipo do registro de um email esgotado.
+     */
+    static final byte ENTRY = 1;
+
+    /**
+     * Tipo do registro de um email removido.
+     */
+    static final byte REMOVED = 2;
+
+    /**
+     * Tipo do registro do último número sequencial atribuído.
+     */
+    static final byte MARK = 3;
+
+    /**
+     * Tamanho do cabeçalho de cada registro: tamanho e CRC32C do
+     * corpo.
+     */
+    static final int HEADER_SIZE = 8;
+
+    /**
+     * Tamanho do corpo de um email sem os campos variáveis: tipo,
+     * número sequencial, instante, provedor, motivo, tentativas e os
+     * tamanhos do identificador e da mensagem de erro.
+     */
+    static final int ENTRY_FIXED_SIZE = 1 + 2 * Long.BYTES + Integer.BYTES
+            + 2 + Integer.BYTES + Short.BYTES + Integer.BYTES;
+
+    /**
+     * Tamanho do corpo de uma remoção ou marca: tipo e número
+     * sequencial.
+     */
+    static final int SEQUENCE_SIZE = 1 + Long.BYTES;
+
+    /**
+     * Maior corpo de registro; na leitura, corpos maiores indicam
+     * registro corrompido.
+     */
+    static final int MAX_BODY_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Bytes descartados a partir dos quais o arquivo pode ser
+     * compactado.
+     */
+    static final long COMPACT_MIN_BYTES = 64 * 1024;
+
+    /**
+     * Valor gravado no lugar do provedor quando ele não é conhecido.
+     */
+    private static final byte NO_PROVIDER = -1;
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(DiskDeadLetterStore.class);
+
+    /**
+     * Caminho do arquivo.
+     */
+    private final Path path;
+
+    /**
+     * Quantidade máxima de emails mantidos.
+     */
+    private final int capacity;
+
+    /**
+     * Metadados dos emails guardados por número sequencial, do mais
+     * antigo ao mais recente.
+     */
+    private final NavigableMap<Long, Entry> entries = new TreeMap<>();
+
+    /**
+     * Número sequencial de cada email, pelo identificador do job.
+     */
+    private final Map<String, Long> sequences = new HashMap<>();
+
+    /**
+     * Calculadora de CRC32C reaproveitada entre registros.
+     */
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * Canal do arquivo, ou null enquanto o arquivo não existir.
+     */
+    private FileChannel channel;
+
+    /**
+     * Posição do fim do último registro válido.
+     */
+    private long end;
+
+    /**
+     * Bytes ocupados pelos registros dos emails guardados.
+     */
+    private long liveBytes;
+
+    /**
+     * Último número sequencial atribuído.
+     */
+    private long lastSequence;
+
+    /**
+     * Indica se o armazenamento foi fechado.
+     */
+    private boolean closed;
+
+    /**
+     * Cria o armazenamento e recupera os emails de um arquivo
+     * existente.
+     *
+     * @param pathParam caminho do arquivo
+     * @param capacityParam quantidade máxima de emails mantidos
+     * @throws EmailProcessingException se o arquivo existente não
+     *         puder ser lido
+     */
+    public DiskDeadLetterStore(final Path pathParam,
+                               final int capacityParam) {
+        this.path = pathParam;
+        this.capacity = capacityParam;
+        if (Files.exists(pathParam)) {
+            try {
+                channel = open(pathParam);
+                recover();
+            } catch (IOException e) {
+                throw new EmailProcessingException(
+                        "Falha ao ler o arquivo de emails esgotados "
+                                + pathParam, e);
+            }
+            LOGGER.info("{} emails esgotados recuperados de {}",
+                    entries.size(), pathParam);
+        }
+    }
+
+    @Override
+    public synchronized void add(final DeadLetter deadLetter) {
+        try {
+            ensureOpen();
+            List<ByteBuffer> records = new ArrayList<>(3);
+            List<Long> dropped = new ArrayList<>(2);
+            Long previous = sequences.get(deadLetter.getId());
+            if (previous != null) {
+                dropped.add(previous);
+            }
+            Iterator<Long> oldest = entries.keySet().iterator();
+            while (entries.size() - dropped.size() >= capacity
+                    && oldest.hasNext()) {
+                Long sequence = oldest.next();
+                if (!sequence.equals(previous)) {
+                    dropped.add(sequence);
+                }
+            }
+            for (Long sequence : dropped) {
+                records.add(sequenceRecord(REMOVED, sequence));
+            }
+            long sequence = lastSequence + 1;
+            ByteBuffer record = entryRecord(sequence, deadLetter);
+            records.add(record);
+            write(records);
+            for (Long removed : dropped) {
+                Entry entry = forget(removed);
+                if (!removed.equals(previous)) {
+                    LOGGER.warn("Email esgotado descartado por "
+                            + "capacidade: {}", entry.id);
+                }
+            }
+            lastSequence = sequence;
+            Entry entry = new Entry(sequence, deadLetter.getId(),
+                    deadLetter.getProvider(), deadLetter.getReason(),
+                    deadLetter.getAttempts(), deadLetter.getErro(),
+                    deadLetter.getFailedAt(), end - record.limit(),
+                    record.limit());
+            remember(entry);
+            compactIfNeeded();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao gravar email esgotado "
+                            + deadLetter.getId(), e);
+        }
+    }
+
+    @Override
+    public synchronized List<DeadLetter> recent(final int limit) {
+        List<DeadLetter> result =
+                new ArrayList<>(Math.min(limit, entries.size()));
+        Iterator<Entry> it = entries.descendingMap().values().iterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(load(it.next()));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public synchronized DeadLetterPage page(final DeadLetterFilter filter,
+                                            final long cursor,
+                                            final int limit) {
+        List<DeadLetter> items = new ArrayList<>();
+        long last = cursor;
+        for (Entry entry : entries.tailMap(cursor, false).values()) {
+            if (!filter.matches(entry.provider, entry.reason)) {
+                continue;
+            }
+            if (items.size() == limit) {
+                return new DeadLetterPage(items, last);
+            }
+            items.add(load(entry));
+            last = entry.sequence;
+        }
+        return new DeadLetterPage(items, null);
+    }
+
+    @Override
+    public synchronized DeadLetter get(final String id) {
+        Long sequence = sequences.get(id);
+        return sequence == null ? null : load(entries.get(sequence));
+    }
+
+    @Override
+    public synchronized boolean remove(final String id) {
+        Long sequence = sequences.get(id);
+        if (sequence == null) {
+            return false;
+        }
+        try {
+            ensureOpen();
+            write(List.of(sequenceRecord(REMOVED, sequence)));
+            forget(sequence);
+            compactIfNeeded();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao remover email esgotado " + id, e);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized long count(final DeadLetterFilter filter) {
+        return entries.values().stream()
+                .filter(e -> filter.matches(e.provider, e.reason))
+                .count();
+    }
+
+    @Override
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    /**
+     * Obtém o tamanho dos registros válidos do arquivo.
+     *
+     * @return tamanho, em bytes
+     */
+    synchronized long fileSize() {
+        return end;
+    }
+
+    /**
+     * Fecha o arquivo. Gravações posteriores falham.
+     *
+     * @throws IOException se o arquivo não puder ser fechado
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Abre o arquivo, criando-o e aos diretórios, se ainda não existir.
+     *
+     * @throws IOException se o arquivo não puder ser criado ou já
+     *         tiver sido fechado
+     */
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Armazenamento de emails esgotados "
+                    + "fechado");
+        }
+        if (channel == null) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = open(path);
+            end = channel.size();
+        }
+    }
+
+    /**
+     * Registra os metadados de um email em memória.
+     *
+     * @param entry metadados do email
+     */
+    private void remember(final Entry entry) {
+        entries.put(entry.sequence, entry);
+        sequences.put(entry.id, entry.sequence);
+        liveBytes += entry.size;
+    }
+
+    /**
+     * Descarta os metadados de um email da memória.
+     *
+     * @param sequence número sequencial do email
+     * @return metadados descartados, ou null se não existirem
+     */
+    private Entry forget(final long sequence) {
+        Entry entry = entries.remove(sequence);
+        if (entry != null) {
+            sequences.remove(entry.id, entry.sequence);
+            liveBytes -= entry.size;
+        }
+        return entry;
+    }
+
+    /**
+     * Monta o registro de um email esgotado.
+     *
+     * @param sequence número sequencial do email
+     * @param deadLetter email esgotado
+     * @return registro pronto para escrita
+     */
+    private ByteBuffer entryRecord(final long sequence,
+                                   final DeadLetter deadLetter) {
+        byte[] id = deadLetter.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] erro = deadLetter.getErro() == null ? null
+                : deadLetter.getErro().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = EmailRequestCodec.encode(deadLetter.getRequest());
+        int length = ENTRY_FIXED_SIZE + id.length
+                + (erro == null ? 0 : erro.length) + payload.length;
+        if (id.length > Short.MAX_VALUE || length > MAX_BODY_SIZE) {
+            throw new IllegalArgumentException(
+                    "Email esgotado muito grande para o arquivo");
+        }
+        Instant failedAt = deadLetter.getFailedAt();
+        EmailProvider provider = deadLetter.getProvider();
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + length);
+        record.position(HEADER_SIZE);
+        record.put(ENTRY).putLong(sequence)
+                .putLong(failedAt.getEpochSecond())
+                .putInt(failedAt.getNano())
+                .put(provider == null ? NO_PROVIDER
+                        : (byte) provider.ordinal())
+                .put((byte) deadLetter.getReason().ordinal())
+                .putInt(deadLetter.getAttempts())
+                .putShort((short) id.length)
+                .putInt(erro == null ? -1 : erro.length)
+                .put(id);
+        if (erro != null) {
+            record.put(erro);
+        }
+        record.put(payload);
+        return seal(record);
+    }
+
+    /**
+     * Monta o registro de uma remoção ou de uma marca.
+     *
+     * @param type tipo do registro
+     * @param sequence número sequencial
+     * @return registro pronto para escrita
+     */
+    private ByteBuffer sequenceRecord(final byte type, final long sequence) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + SEQUENCE_SIZE);
+        record.position(HEADER_SIZE);
+        record.put(type).putLong(sequence);
+        return seal(record);
+    }
+
+    /**
+     * Lê do arquivo os dados de um email e monta o email esgotado.
+     *
+     * @param entry metadados do email
+     * @return email esgotado
+     * @throws EmailProcessingException se o registro não puder ser lido
+     */
+    private DeadLetter load(final Entry entry) {
+        try {
+            ByteBuffer body = ByteBuffer.allocate(entry.size - HEADER_SIZE);
+            readFully(body, entry.offset + HEADER_SIZE);
+            body.flip();
+            int skip = ENTRY_FIXED_SIZE + body.getShort(ENTRY_FIXED_SIZE
+                    - Short.BYTES - Integer.BYTES)
+                    + Math.max(0, body.getInt(ENTRY_FIXED_SIZE
+                    - Integer.BYTES));
+            EmailRequestDTO request = EmailRequestCodec.decode(
+                    body.position(skip));
+            return new DeadLetter(entry.id, request, entry.provider,
+                    entry.reason, entry.attempts, entry.erro,
+                    entry.failedAt);
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao ler email esgotado " + entry.id, e);
+        }
+    }
+
+    /**
+     * Percorre os registros do arquivo e reconstrói os metadados em
+     * memória, truncando o arquivo no primeiro registro incompleto ou
+     * corrompido.
+     *
+     * @throws IOException se a leitura falhar
+     */
+    private void recover() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        long position = 0;
+        long size = channel.size();
+        while (size - position >= HEADER_SIZE) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            if (length < 1 || length > MAX_BODY_SIZE
+                    || length > size - position - HEADER_SIZE) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(length);
+            readFully(body, position + HEADER_SIZE);
+            body.flip();
+            if (checksum(body) != header.getInt(Integer.BYTES)
+                    || !visit(body, position)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        if (position < size) {
+            LOGGER.warn("Arquivo de emails esgotados {} truncado na "
+                    + "posição {} de {}", path, position, size);
+            channel.truncate(position);
+        }
+        end = position;
+    }
+
+    /**
+     * Aplica um registro lido na recuperação.
+     *
+     * @param body corpo do registro
+     * @param position posição do registro
+     * @return false se o tipo ou o tamanho do corpo forem inválidos
+     */
+    private boolean visit(final ByteBuffer body, final long position) {
+        byte type = body.get(0);
+        if ((type == REMOVED || type == MARK)
+                && body.limit() == SEQUENCE_SIZE) {
+            long sequence = body.getLong(1);
+            if (type == REMOVED) {
+                forget(sequence);
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+            return true;
+        }
+        if (type != ENTRY || body.limit() < ENTRY_FIXED_SIZE) {
+            return false;
+        }
+        body.position(1);
+        long sequence = body.getLong();
+        Instant failedAt = Instant.ofEpochSecond(body.getLong(),
+                body.getInt());
+        byte providerOrdinal = body.get();
+        byte reasonOrdinal = body.get();
+        int attempts = body.getInt();
+        int idLength = body.getShort();
+        int erroLength = body.getInt();
+        if (idLength < 0 || providerOrdinal >= EmailProvider.values().length
+                || reasonOrdinal < 0
+                || reasonOrdinal >= DeadLetterReason.values().length
+                || body.remaining() < idLength + Math.max(0, erroLength)) {
+            return false;
+        }
+        String id = readString(body, idLength);
+        String erro = erroLength < 0 ? null : readString(body, erroLength);
+        EmailProvider provider = providerOrdinal < 0 ? null
+                : EmailProvider.values()[providerOrdinal];
+        Long previous = sequences.get(id);
+        if (previous != null) {
+            forget(previous);
+        }
+        remember(new Entry(sequence, id, provider,
+                DeadLetterReason.values()[reasonOrdinal], attempts, erro,
+                failedAt, position, HEADER_SIZE + body.limit()));
+        lastSequence = Math.max(lastSequence, sequence);
+        return true;
+    }
+
+    /**
+     * Reescreve o arquivo apenas com os emails guardados quando os
+     * registros descartados ocupam mais que eles. Se a reescrita
+     * falhar, o arquivo original é mantido.
+     */
+    private void compactIfNeeded() {
+        long garbage = end - liveBytes;
+        if (garbage < COMPACT_MIN_BYTES || garbage <= liveBytes) {
+            return;
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            try (FileChannel out = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer mark = sequenceRecord(MARK, lastSequence);
+                long position = 0;
+                while (mark.hasRemaining()) {
+                    position += out.write(mark);
+                }
+                for (Entry entry : entries.values()) {
+                    long copied = 0;
+                    while (copied < entry.size) {
+                        copied += channel.transferTo(entry.offset + copied,
+                                entry.size - copied, out);
+                    }
+                    position += entry.size;
+                }
+                out.force(true);
+            }
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            channel = open(path);
+            long position = HEADER_SIZE + SEQUENCE_SIZE;
+            for (Entry entry : entries.values()) {
+                entry.offset = position;
+                position += entry.size;
+            }
+            LOGGER.debug("Arquivo de emails esgotados compactado de {} "
+                    + "para {} bytes", end, position);
+            end = position;
+        } catch (IOException e) {
+            LOGGER.warn("Falha ao compactar o arquivo de emails "
+                    + "esgotados: {}", e.getMessage());
+            try {
+                if (!channel.isOpen()) {
+                    channel = open(path);
+                }
+                Files.deleteIfExists(temp);
+            } catch (IOException reopen) {
+                LOGGER.error("Falha ao reabrir o arquivo de emails "
+                        + "esgotados: {}", reopen.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Escreve registros no fim do arquivo e os força ao disco.
+     *
+     * @param records registros prontos para escrita
+     * @throws IOException se a escrita falhar
+     */
+    private void write(final List<ByteBuffer> records) throws IOException {
+        long current = end;
+        for (ByteBuffer record : records) {
+            while (record.hasRemaining()) {
+                current += channel.write(record, current);
+            }
+        }
+        channel.force(false);
+        end = current;
+    }
+
+    /**
+     * Preenche o cabeçalho de um registro com o tamanho e o CRC32C do
+     * corpo, que começa após o cabeçalho.
+     *
+     * @param record registro com o corpo escrito
+     * @return registro pronto para escrita, do início ao fim
+     */
+    private ByteBuffer seal(final ByteBuffer record) {
+        int length = record.position() - HEADER_SIZE;
+        record.putInt(0, length);
+        record.putInt(Integer.BYTES,
+                checksum(record.slice(HEADER_SIZE, length)));
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Calcula o CRC32C dos bytes restantes do buffer, sem alterar a sua
+     * posição.
+     *
+     * @param bytes bytes a serem verificados
+     * @return CRC32C dos bytes
+     */
+    private int checksum(final ByteBuffer bytes) {
+        crc.reset();
+        crc.update(bytes.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Lê do arquivo até preencher o buffer.
+     *
+     * @param buffer destino
+     * @param position posição inicial
+     * @throws IOException se a leitura falhar ou o arquivo terminar
+     *         antes
+     */
+    private void readFully(final ByteBuffer buffer, final long position)
+            throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Fim inesperado do arquivo "
+                        + "de emails esgotados");
+            }
+            current += read;
+        }
+    }
+
+    /**
+     * Lê um texto UTF-8 a partir da posição atual do buffer.
+     *
+     * @param buffer origem
+     * @param length tamanho do texto, em bytes
+     * @return texto lido
+     */
+    private static String readString(final ByteBuffer buffer,
+                                     final int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Abre o canal do arquivo para leitura e escrita.
+     *
+     * @param file caminho do arquivo
+     * @return canal aberto
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    private static FileChannel open(final Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Metadados de um email guardado e a posição do seu registro.
+     */
+    private static final class Entry {
+
+        /**
+         * Número sequencial do email.
+         */
+        private final long sequence;
+
+        /**
+         * Identificador do job.
+         */
+        private final String id;
+
+        /**
+         * Provedor da última tentativa, ou null.
+         */
+        private final EmailProvider provider;
+
+        /**
+         * Motivo do descarte.
+         */
+        private final DeadLetterReason reason;
+
+        /**
+         * Quantidade de tentativas realizadas.
+         */
+        private final int attempts;
+
+        /**
+         * Mensagem de erro da última tentativa.
+         */
+        private final String erro;
+
+        /**
+         * Instante do descarte.
+         */
+        private final Instant failedAt;
+
+        /**
+         * Posição do registro no arquivo, alterada na compactação.
+         */
+        private long offset;
+
+        /**
+         * Tamanho do registro, com o cabeçalho.
+         */
+        private final int size;
+
+        /**
+         * Cria os metadados de um email.
+         *
+         * @param sequenceParam número sequencial
+         * @param idParam identificador do job
+         * @param providerParam provedor, ou null
+         * @param reasonParam motivo do descarte
+         * @param attemptsParam tentativas realizadas
+         * @param erroParam mensagem de erro
+         * @param failedAtParam instante do descarte
+         * @param offsetParam posição do registro
+         * @param sizeParam tamanho do registro
+         */
+        private Entry(final long sequenceParam, final String idParam,
+                      final EmailProvider providerParam,
+                      final DeadLetterReason reasonParam,
+                      final int attemptsParam, final String erroParam,
+                      final Instant failedAtParam, final long offsetParam,
+                      final int sizeParam) {
+            this.sequence = sequenceParam;
+            this.id = idParam;
+            this.provider = providerParam;
+            this.reason = reasonParam;
+            this.attempts = attemptsParam;
+            this.erro = erroParam;
+            this.failedAt = failedAtParam;
+            this.offset = offsetParam;
+            this.size = sizeParam;
+        }
+    }
+}
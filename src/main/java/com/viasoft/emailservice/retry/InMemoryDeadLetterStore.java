@@ -0,0 +1,142 @@
+package com.viasoft.emailservice.retry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Armazenamento em memória dos emails esgotados.
+ * Guarda apenas os emails mais recentes, até a capacidade informada;
+ * os mais antigos são descartados com um aviso no log.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class InMemoryDeadLetterStore implements DeadLetterStore {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(InMemoryDeadLetterStore.class);
+
+    /**
+     * Emails esgotados por número sequencial, do mais antigo ao mais
+     * recente.
+     */
+    private final NavigableMap<Long, DeadLetter> deadLetters =
+            new TreeMap<>();
+
+    /**
+     * Número sequencial de cada email, pelo identificador do job.
+     */
+    private final Map<String, Long> sequences = new HashMap<>();
+
+    /**
+     * Quantidade máxima de emails mantidos.
+     */
+    private final int capacity;
+
+    /**
+     * Último número sequencial atribuído.
+     */
+    private long lastSequence;
+
+    /**
+     * Cria o armazenamento com a capacidade informada.
+     *
+     * @param capacityParam quantidade máxima de emails mantidos
+     */
+    public InMemoryDeadLetterStore(final int capacityParam) {
+        this.capacity = capacityParam;
+    }
+
+    @Override
+    public synchronized void add(final DeadLetter deadLetter) {
+        Long previous = sequences.remove(deadLetter.getId());
+        if (previous != null) {
+            deadLetters.remove(previous);
+        }
+        if (deadLetters.size() >= capacity) {
+            DeadLetter dropped = deadLetters.pollFirstEntry().getValue();
+            sequences.remove(dropped.getId());
+            LOGGER.warn("Email esgotado descartado por capacidade: {}",
+                    dropped);
+        }
+        long sequence = ++lastSequence;
+        deadLetters.put(sequence, deadLetter);
+        sequences.put(deadLetter.getId(), sequence);
+    }
+
+    @Override
+    public synchronized List<DeadLetter> recent(final int limit) {
+        List<DeadLetter> result =
+                new ArrayList<>(Math.min(limit, deadLetters.size()));
+        Iterator<DeadLetter> it =
+                deadLetters.descendingMap().values().iterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(it.next());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public synchronized DeadLetterPage page(final DeadLetterFilter filter,
+                                            final long cursor,
+                                            final int limit) {
+        List<DeadLetter> items = new ArrayList<>();
+        long last = cursor;
+        for (Map.Entry<Long, DeadLetter> entry
+                : deadLetters.tailMap(cursor, false).entrySet()) {
+            DeadLetter deadLetter = entry.getValue();
+            if (!filter.matches(deadLetter.getProvider(),
+                    deadLetter.getReason())) {
+                continue;
+            }
+            if (items.size() == limit) {
+                return new DeadLetterPage(items, last);
+            }
+            items.add(deadLetter);
+            last = entry.getKey();
+        }
+        return new DeadLetterPage(items, null);
+    }
+
+    @Override
+    public synchronized DeadLetter get(final String id) {
+        Long sequence = sequences.get(id);
+        return sequence == null ? null : deadLetters.get(sequence);
+    }
+
+    @Override
+    public synchronized boolean remove(final String id) {
+        Long sequence = sequences.remove(id);
+        if (sequence == null) {
+            return false;
+        }
+        deadLetters.remove(sequence);
+        return true;
+    }
+
+    @Override
+    public synchronized long count(final DeadLetterFilter filter) {
+        return deadLetters.values().stream()
+                .filter(d -> filter.matches(d.getProvider(), d.getReason()))
+                .count();
+    }
+
+    @Override
+    public synchronized long size() {
+        return deadLetters.size();
+    }
+}
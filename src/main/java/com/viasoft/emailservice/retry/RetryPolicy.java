@@ -0,0 +1,118 @@
+package com.viasoft.emailservice.retry;
+
+import java.time.Duration;
+
+/**
+ * Política de novas tentativas de um provedor: quantidade máxima de
+ * tentativas e espera entre elas, que cresce exponencialmente até um
+ * teto. Uma parte da espera é sorteada a cada tentativa, para que os
+ * emails que falharam juntos não voltem todos ao mesmo tempo.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class RetryPolicy {
+
+    /**
+     * Quantidade máxima de tentativas, incluindo a primeira.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Espera antes da segunda tentativa, em nanossegundos.
+     */
+    private final long initialBackoffNanos;
+
+    /**
+     * Espera máxima entre tentativas, em nanossegundos.
+     */
+    private final long maxBackoffNanos;
+
+    /**
+     * Fator de crescimento da espera a cada tentativa.
+     */
+    private final double multiplier;
+
+    /**
+     * Fração da espera sorteada a cada tentativa, entre 0 e 1.
+     */
+    private final double jitter;
+
+    /**
+     * Cria a política.
+     *
+     * @param maxAttemptsParam quantidade máxima de tentativas
+     * @param initialBackoff espera antes da segunda tentativa
+     * @param maxBackoff espera máxima entre tentativas
+     * @param multiplierParam fator de crescimento da espera
+     * @param jitterParam fração da espera sorteada, entre 0 e 1
+     * @throws IllegalArgumentException se algum valor for inválido
+     */
+    public RetryPolicy(final int maxAttemptsParam,
+                       final Duration initialBackoff,
+                       final Duration maxBackoff,
+                       final double multiplierParam,
+                       final double jitterParam) {
+        if (maxAttemptsParam < 1 || initialBackoff.isNegative()
+                || maxBackoff.compareTo(initialBackoff) < 0
+                || multiplierParam < 1.0
+                || jitterParam < 0.0 || jitterParam > 1.0) {
+            throw new IllegalArgumentException(
+                    "Política de novas tentativas inválida");
+        }
+        this.maxAttempts = maxAttemptsParam;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.multiplier = multiplierParam;
+        this.jitter = jitterParam;
+    }
+
+    /**
+     * Obtém a quantidade máxima de tentativas.
+     *
+     * @return quantidade máxima de tentativas, incluindo a primeira
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Indica se um email que falhou na tentativa informada pode ser
+     * tentado de novo.
+     *
+     * @param attempt número da tentativa que falhou, a partir de 1
+     * @return true se ainda há tentativas
+     */
+    public boolean canRetry(final int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * Calcula a espera após a tentativa informada.
+     * A espera base é {@code initial * multiplier^(attempt - 1)},
+     * limitada ao teto; a fração {@code jitter} dela é substituída por
+     * um valor sorteado entre zero e essa fração.
+     *
+     * @param attempt número da tentativa que falhou, a partir de 1
+     * @param random valor sorteado entre 0 (inclusive) e 1 (exclusive)
+     * @return espera, em nanossegundos
+     */
+    public long backoffNanos(final int attempt, final double random) {
+        double base = initialBackoffNanos
+                * Math.pow(multiplier, Math.max(0, attempt - 1));
+        double capped = Math.min(base, maxBackoffNanos);
+        return (long) (capped * (1.0 - jitter + jitter * random));
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{"
+                + "maxAttempts=" + maxAttempts
+                + ", initialBackoff=" + Duration.ofNanos(initialBackoffNanos)
+                + ", maxBackoff=" + Duration.ofNanos(maxBackoffNanos)
+                + ", multiplier=" + multiplier
+                + ", jitter=" + jitter
+                + '}';
+    }
+}
@@ -0,0 +1,165 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.config.RetryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Agendador das novas tentativas de envio.
+ * As tarefas ficam em uma {@link TimingWheel}, avançada a cada tick de
+ * {@code mail.retry.tick} por uma única thread, em vez de uma tarefa
+ * de {@code ScheduledExecutorService} por tentativa: agendar e vencer
+ * custam O(1) e cada tarefa pendente ocupa um único nó.
+ * As tarefas vencidas rodam na própria thread da roda e devem apenas
+ * repassar o trabalho a outro executor.
+ * A quantidade de tarefas pendentes fica na métrica
+ * {@code email.retry.pending}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class RetryScheduler {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(RetryScheduler.class);
+
+    /**
+     * Prazo para o encerramento da thread da roda, em milissegundos.
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * Roda com as tarefas pendentes.
+     */
+    private final TimingWheel<Runnable> wheel;
+
+    /**
+     * Duração de um tick, em nanossegundos.
+     */
+    private final long tickNanos;
+
+    /**
+     * Thread que avança a roda.
+     */
+    private final Thread timer;
+
+    /**
+     * Tarefas agendadas desde a inicialização.
+     */
+    private final Counter scheduled;
+
+    /**
+     * Indica se o agendador está em execução.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param configParam configuração das novas tentativas
+     * @param meterRegistryParam registro de métricas
+     */
+    @Autowired
+    public RetryScheduler(final RetryConfig configParam,
+                          final MeterRegistry meterRegistryParam) {
+        this.tickNanos = configParam.getTick().toNanos();
+        this.wheel = new TimingWheel<>(tickNanos,
+                configParam.getWheelSize(), System.nanoTime());
+        this.scheduled = Counter.builder("email.retry.scheduled")
+                .description("Novas tentativas de envio agendadas")
+                .register(meterRegistryParam);
+        Gauge.builder("email.retry.pending", wheel, TimingWheel::size)
+                .description("Novas tentativas de envio pendentes")
+                .register(meterRegistryParam);
+        this.timer = new Thread(this::run, "email-retry-timer");
+        this.timer.setDaemon(true);
+        this.timer.start();
+    }
+
+    /**
+     * Agenda uma tarefa para depois da espera informada.
+     *
+     * @param task tarefa, que deve apenas repassar o trabalho a outro
+     *        executor
+     * @param delayNanos espera, em nanossegundos
+     * @return true se a tarefa foi agendada; false se o agendador já
+     *         foi encerrado
+     */
+    public boolean schedule(final Runnable task, final long delayNanos) {
+        if (!running) {
+            return false;
+        }
+        wheel.offer(task, System.nanoTime() + delayNanos);
+        scheduled.increment();
+        return true;
+    }
+
+    /**
+     * Obtém a quantidade de tarefas pendentes.
+     *
+     * @return tarefas agendadas e ainda não vencidas
+     */
+    public int getPending() {
+        return wheel.size();
+    }
+
+    /**
+     * Encerra a thread da roda no desligamento. As tarefas ainda
+     * pendentes são descartadas sem execução; cabe a quem as agendou
+     * tratar o que ficou sem nova tentativa.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(timer);
+        try {
+            timer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Laço da thread da roda: avança a roda a cada tick e executa as
+     * tarefas vencidas.
+     */
+    private void run() {
+        while (running) {
+            wheel.advance(System.nanoTime(), this::execute);
+            LockSupport.parkNanos(this, tickNanos);
+        }
+        int discarded = wheel.drain(task -> { });
+        if (discarded > 0) {
+            LOGGER.warn("{} novas tentativas descartadas no desligamento",
+                    discarded);
+        }
+    }
+
+    /**
+     * Executa uma tarefa vencida, sem interromper a roda em caso de
+     * falha.
+     *
+     * @param task tarefa vencida
+     */
+    private void execute(final Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao executar nova tentativa: {}",
+                    e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.viasoft.emailservice.retry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização hierárquica para tarefas com prazo.
+ * O tempo avança em ticks de duração fixa. O nível 0 tem um slot por
+ * tick; cada nível acima tem slots que cobrem uma volta inteira do
+ * nível de baixo. Uma tarefa é colocada no nível do dígito mais alto
+ * em que o seu prazo difere do tick atual e, quando o slot desse nível
+ * é alcançado, desce para um nível mais baixo, até vencer no nível 0. Agendar e vencer uma tarefa
+ * custam O(1), independentemente da quantidade de tarefas pendentes,
+ * e cada tarefa ocupa um único nó de lista, sem filas auxiliares.
+ * Prazos além do alcance do nível mais alto ficam no seu último slot e
+ * são reposicionados a cada volta.
+ * {@link #offer} pode ser chamado por qualquer thread: os nós entram
+ * em uma pilha sem bloqueio, esvaziada por {@link #advance}, que deve
+ * ser chamado sempre pela mesma thread. Uma tarefa nunca vence antes
+ * do prazo, e vence no máximo um tick depois dele, contado a partir da
+ * chamada de {@link #advance} que alcança o prazo.
+ *
+ * @param <T> tipo da tarefa
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class TimingWheel<T> {
+
+    /**
+     * Quantidade de níveis da roda.
+     */
+    static final int LEVELS = 4;
+
+    /**
+     * Quantidade máxima de slots de cada nível.
+     */
+    static final int MAX_WHEEL_SIZE = 1 << 16;
+
+    /**
+     * Duração de um tick, em nanossegundos.
+     */
+    private final long tickNanos;
+
+    /**
+     * Instante do tick zero, em nanossegundos.
+     */
+    private final long originNanos;
+
+    /**
+     * Bits do índice de slot em cada nível.
+     */
+    private final int bits;
+
+    /**
+     * Máscara do índice de slot em cada nível.
+     */
+    private final int mask;
+
+    /**
+     * Deslocamento do índice de slot no nível mais alto.
+     */
+    private final int topShift;
+
+    /**
+     * Slots de todos os níveis, nível após nível; cada slot é o início
+     * de uma lista encadeada de nós.
+     */
+    private final Node<T>[] slots;
+
+    /**
+     * Nós oferecidos e ainda não colocados na roda.
+     */
+    private final AtomicReference<Node<T>> incoming = new AtomicReference<>();
+
+    /**
+     * Tarefas pendentes, oferecidas e ainda não vencidas.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Último tick processado.
+     */
+    private long processed;
+
+    /**
+     * Cria a roda.
+     *
+     * @param tickNanosParam duração de um tick, em nanossegundos
+     * @param wheelSize quantidade de slots de cada nível, arredondada
+     *        para a potência de dois seguinte
+     * @param originNanosParam instante do tick zero, em nanossegundos
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(final long tickNanosParam, final int wheelSize,
+                final long originNanosParam) {
+        if (tickNanosParam <= 0 || wheelSize < 2
+                || wheelSize > MAX_WHEEL_SIZE) {
+            throw new IllegalArgumentException(
+                    "Tick deve ser positivo e o tamanho da roda deve "
+                            + "estar entre 2 e " + MAX_WHEEL_SIZE);
+        }
+        this.tickNanos = tickNanosParam;
+        this.originNanos = originNanosParam;
+        this.bits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.mask = (1 << bits) - 1;
+        this.topShift = bits * (LEVELS - 1);
+        this.slots = (Node<T>[]) new Node<?>[LEVELS << bits];
+    }
+
+    /**
+     * Oferece uma tarefa para vencer no prazo informado.
+     *
+     * @param task tarefa
+     * @param deadlineNanos prazo, no relógio de {@link System#nanoTime()}
+     */
+    void offer(final T task, final long deadlineNanos) {
+        long offset = deadlineNanos - originNanos;
+        long tick = offset <= 0 ? 0 : (offset + tickNanos - 1) / tickNanos;
+        Node<T> node = new Node<>(task, tick);
+        Node<T> head;
+        do {
+            head = incoming.get();
+            node.next = head;
+        } while (!incoming.compareAndSet(head, node));
+        pending.incrementAndGet();
+    }
+
+    /**
+     * Avança a roda até o instante informado, entregando as tarefas
+     * vencidas na ordem dos prazos, em ticks.
+     *
+     * @param nowNanos instante atual, no relógio de
+     *        {@link System#nanoTime()}
+     * @param expired destino das tarefas vencidas
+     * @return quantidade de tarefas vencidas
+     */
+    int advance(final long nowNanos, final Consumer<? super T> expired) {
+        Node<T> node = incoming.getAndSet(null);
+        while (node != null) {
+            Node<T> next = node.next;
+            node.tick = Math.max(node.tick, processed + 1);
+            place(node);
+            node = next;
+        }
+        long target = (nowNanos - originNanos) / tickNanos;
+        int count = 0;
+        while (processed < target) {
+            if (pending.get() == 0) {
+                processed = target;
+                break;
+            }
+            count += step(expired);
+        }
+        return count;
+    }
+
+    /**
+     * Obtém a quantidade de tarefas pendentes.
+     *
+     * @return tarefas oferecidas e ainda não vencidas
+     */
+    int size() {
+        return pending.get();
+    }
+
+    /**
+     * Remove todas as tarefas pendentes, entregando-as ao destino
+     * informado. Deve ser chamado pela thread que avança a roda.
+     *
+     * @param drained destino das tarefas removidas
+     * @return quantidade de tarefas removidas
+     */
+    int drain(final Consumer<? super T> drained) {
+        int count = 0;
+        Node<T> node = incoming.getAndSet(null);
+        while (node != null) {
+            Node<T> next = node.next;
+            drained.accept(node.task);
+            count++;
+            node = next;
+        }
+        for (int i = 0; i < slots.length; i++) {
+            node = slots[i];
+            slots[i] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                drained.accept(node.task);
+                count++;
+                node = next;
+            }
+        }
+        pending.addAndGet(-count);
+        return count;
+    }
+
+    /**
+     * Processa o tick seguinte: desce as tarefas dos níveis cujo slot
+     * foi alcançado, do mais alto ao mais baixo, e entrega as tarefas
+     * do slot do nível 0.
+     *
+     * @param expired destino das tarefas vencidas
+     * @return quantidade de tarefas vencidas
+     */
+    private int step(final Consumer<? super T> expired) {
+        long tick = processed + 1;
+        processed = tick;
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = bits * level;
+            if (shift < Long.SIZE && (tick & ((1L << shift) - 1)) == 0) {
+                int index = (level << bits)
+                        + (int) ((tick >>> shift) & mask);
+                Node<T> node = slots[index];
+                slots[index] = null;
+                while (node != null) {
+                    Node<T> next = node.next;
+                    place(node);
+                    node = next;
+                }
+            }
+        }
+        int index = (int) (tick & mask);
+        Node<T> node = slots[index];
+        slots[index] = null;
+        int count = 0;
+        while (node != null) {
+            Node<T> next = node.next;
+            node.next = null;
+            pending.decrementAndGet();
+            count++;
+            expired.accept(node.task);
+            node = next;
+        }
+        return count;
+    }
+
+    /**
+     * Coloca um nó no nível do dígito mais alto em que o seu prazo
+     * difere do último tick processado; o slot desse nível é alcançado
+     * antes de qualquer outro com o mesmo índice, sem dar a volta.
+     * Prazos além do nível mais alto ficam no slot anterior ao atual
+     * desse nível, o último alcançado na volta corrente.
+     *
+     * @param node nó a ser colocado, com prazo não anterior ao último
+     *        tick processado
+     */
+    private void place(final Node<T> node) {
+        long diff = node.tick ^ processed;
+        int level = diff == 0 ? 0 : Math.min(LEVELS - 1,
+                (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / bits);
+        long slot = node.tick >>> (bits * level);
+        if (level == LEVELS - 1 && slot - (processed >>> topShift) > mask) {
+            slot = (processed >>> topShift) + mask;
+        }
+        int index = (level << bits) + (int) (slot & mask);
+        node.next = slots[index];
+        slots[index] = node;
+    }
+
+    /**
+     * Nó de uma tarefa, encadeado no slot em que está ou na pilha de
+     * tarefas oferecidas.
+     *
+     * @param <T> tipo da tarefa
+     */
+    private static final class Node<T> {
+
+        /**
+         * Tarefa agendada.
+         */
+        private final T task;
+
+        /**
+         * Prazo, em ticks desde a origem; adiantado para o tick
+         * seguinte se já tiver passado quando o nó é colocado.
+         */
+        private long tick;
+
+        /**
+         * Próximo nó da lista.
+         */
+        private Node<T> next;
+
+        /**
+         * Cria o nó de uma tarefa.
+         *
+         * @param taskParam tarefa agendada
+         * @param tickParam prazo, em ticks desde a origem
+         */
+        private Node(final T taskParam, final long tickParam) {
+            this.task = taskParam;
+            this.tick = tickParam;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Pacote das novas tentativas de envio.
+ *
+ * Este pacote contém a política de espera exponencial, o agendador
+ * baseado em roda de temporização hierárquica e o armazenamento dos
+ * emails que esgotaram as tentativas.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.retry;
@@ -0,0 +1,422 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
+import com.viasoft.emailservice.enums.CircuitState;
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Disjuntor de um provedor de email, sem bloqueios.
+ * As falhas são contadas em uma janela deslizante dividida em
+ * intervalos; cada intervalo é um único {@code long} com o número do
+ * intervalo, as falhas e os envios, atualizado por compare-and-set.
+ * Com o disjuntor fechado, liberar um envio é uma leitura volátil e
+ * registrar o seu resultado é um compare-and-set; a janela só é somada
+ * após uma falha, para decidir se o disjuntor abre. Para que threads
+ * concorrentes não disputem o mesmo valor, a janela é replicada em
+ * faixas, uma por grupo de threads, separadas por uma linha de cache.
+ * Aberto, o disjuntor recusa os envios até o fim do período de
+ * abertura, e então libera alguns envios de teste: o sucesso de todos
+ * fecha o disjuntor, e qualquer falha o abre novamente. As permissões
+ * de teste são renovadas a cada período, para que um envio de teste
+ * que não chegou a ser entregue não mantenha o disjuntor semiaberto.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class CircuitBreaker {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * Posição do número do intervalo no valor de cada intervalo.
+     */
+    private static final int EPOCH_SHIFT = 40;
+
+    /**
+     * Posição da contagem de falhas no valor de cada intervalo.
+     */
+    private static final int FAILURE_SHIFT = 20;
+
+    /**
+     * Máscara de uma contagem, limitada a 2^20 - 1 por intervalo.
+     */
+    private static final long COUNT_MASK = (1L << FAILURE_SHIFT) - 1;
+
+    /**
+     * Máscara do número do intervalo, guardado nos 24 bits superiores.
+     */
+    private static final long EPOCH_MASK = (1L << 24) - 1;
+
+    /**
+     * Incremento de um envio com falha.
+     */
+    private static final long FAILURE = (1L << FAILURE_SHIFT) + 1;
+
+    /**
+     * Quantidade máxima de faixas da janela.
+     */
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * Intervalos de separação entre faixas, o tamanho de uma linha de
+     * cache.
+     */
+    private static final int STRIPE_PADDING = 8;
+
+    /**
+     * Provedor protegido pelo disjuntor.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Intervalos da janela de falhas, faixa após faixa.
+     */
+    private final AtomicLongArray buckets;
+
+    /**
+     * Quantidade de intervalos da janela.
+     */
+    private final int bucketCount;
+
+    /**
+     * Distância entre o início de duas faixas, em intervalos.
+     */
+    private final int stride;
+
+    /**
+     * Máscara do número da faixa, uma potência de dois menos um.
+     */
+    private final int stripeMask;
+
+    /**
+     * Duração de cada intervalo, em nanossegundos.
+     */
+    private final long bucketNanos;
+
+    /**
+     * Quantidade mínima de envios na janela para avaliar as falhas.
+     */
+    private final int minimumCalls;
+
+    /**
+     * Taxa de falhas que abre o disjuntor.
+     */
+    private final double failureRateThreshold;
+
+    /**
+     * Tempo de abertura, em nanossegundos.
+     */
+    private final long openNanos;
+
+    /**
+     * Quantidade de envios de teste no estado semiaberto.
+     */
+    private final int halfOpenCalls;
+
+    /**
+     * Relógio em nanossegundos.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Estado atual.
+     */
+    private final AtomicReference<CircuitState> state =
+            new AtomicReference<>(CircuitState.FECHADO);
+
+    /**
+     * Envios de teste ainda permitidos no estado semiaberto.
+     */
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+    /**
+     * Envios de teste bem-sucedidos no estado semiaberto.
+     */
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    /**
+     * Instante da abertura ou da última renovação das permissões de
+     * teste, em nanossegundos.
+     */
+    private volatile long stateSince;
+
+    /**
+     * Cria o disjuntor de um provedor.
+     *
+     * @param providerParam provedor protegido
+     * @param config configuração do disjuntor
+     */
+    public CircuitBreaker(final EmailProvider providerParam,
+                          final CircuitBreakerConfig config) {
+        this(providerParam, config, System::nanoTime);
+    }
+
+    /**
+     * Cria o disjuntor de um provedor com o relógio informado.
+     *
+     * @param providerParam provedor protegido
+     * @param config configuração do disjuntor
+     * @param clockParam relógio em nanossegundos
+     */
+    CircuitBreaker(final EmailProvider providerParam,
+                   final CircuitBreakerConfig config,
+                   final LongSupplier clockParam) {
+        this.provider = providerParam;
+        this.bucketCount = config.getBuckets();
+        this.stride = bucketCount + STRIPE_PADDING;
+        int stripes = Integer.highestOneBit(Math.min(MAX_STRIPES,
+                Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripeMask = stripes - 1;
+        this.buckets = new AtomicLongArray(stripes * stride);
+        this.bucketNanos = Math.max(1L,
+                config.getWindow().toNanos() / config.getBuckets());
+        this.minimumCalls = config.getMinimumCalls();
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.openNanos = config.getOpenDuration().toNanos();
+        this.halfOpenCalls = config.getHalfOpenCalls();
+        this.clock = clockParam;
+    }
+
+    /**
+     * Obtém o provedor protegido.
+     *
+     * @return provedor do disjuntor
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o estado atual.
+     *
+     * @return estado do disjuntor
+     */
+    public CircuitState getState() {
+        CircuitState current = state.get();
+        if (current == CircuitState.ABERTO
+                && clock.getAsLong() - stateSince >= openNanos) {
+            return CircuitState.SEMIABERTO;
+        }
+        return current;
+    }
+
+    /**
+     * Solicita a liberação de um envio.
+     *
+     * @return true se o envio pode ser feito
+     */
+    public boolean tryAcquire() {
+        if (state.get() == CircuitState.FECHADO) {
+            return true;
+        }
+        return tryAcquireTrial();
+    }
+
+    /**
+     * Solicita a liberação de um envio com o disjuntor aberto ou
+     * semiaberto, passando ao estado semiaberto quando o período de
+     * abertura termina.
+     *
+     * @return true se o envio de teste foi liberado
+     */
+    private boolean tryAcquireTrial() {
+        long now = clock.getAsLong();
+        CircuitState current = state.get();
+        if (current == CircuitState.ABERTO) {
+            if (now - stateSince < openNanos) {
+                return false;
+            }
+            halfOpen(now);
+            current = state.get();
+        }
+        if (current == CircuitState.FECHADO) {
+            return true;
+        }
+        if (now - stateSince >= openNanos) {
+            stateSince = now;
+            halfOpenPermits.set(halfOpenCalls);
+        }
+        return halfOpenPermits.getAndDecrement() > 0;
+    }
+
+    /**
+     * Registra um envio bem-sucedido.
+     */
+    public void onSuccess() {
+        onSuccess(clock.getAsLong());
+    }
+
+    /**
+     * Registra um envio bem-sucedido terminado no instante informado,
+     * evitando uma nova leitura do relógio por quem já a fez.
+     *
+     * @param nowNanos instante do término do envio, no relógio de
+     *        {@link System#nanoTime()}
+     */
+    public void onSuccess(final long nowNanos) {
+        CircuitState current = state.get();
+        if (current == CircuitState.FECHADO) {
+            record(nowNanos, 1L);
+        } else if (current == CircuitState.SEMIABERTO
+                && halfOpenSuccesses.incrementAndGet() >= halfOpenCalls
+                && state.compareAndSet(CircuitState.SEMIABERTO,
+                        CircuitState.FECHADO)) {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, 0L);
+            }
+            LOGGER.info("Disjuntor do provedor {} fechado",
+                    provider.getValue());
+        }
+    }
+
+    /**
+     * Registra um envio com falha, abrindo o disjuntor se a taxa de
+     * falhas da janela atingir o limite ou se o envio era de teste.
+     */
+    public void onFailure() {
+        onFailure(clock.getAsLong());
+    }
+
+    /**
+     * Registra um envio com falha terminado no instante informado.
+     *
+     * @param nowNanos instante do término do envio, no relógio de
+     *        {@link System#nanoTime()}
+     */
+    public void onFailure(final long nowNanos) {
+        CircuitState current = state.get();
+        if (current == CircuitState.FECHADO) {
+            record(nowNanos, FAILURE);
+            long[] totals = totals(nowNanos);
+            if (totals[0] >= minimumCalls
+                    && totals[1] >= failureRateThreshold * totals[0]) {
+                open(CircuitState.FECHADO, nowNanos);
+            }
+        } else if (current == CircuitState.SEMIABERTO) {
+            open(CircuitState.SEMIABERTO, nowNanos);
+        }
+    }
+
+    /**
+     * Obtém a quantidade de envios na janela.
+     *
+     * @return envios na janela
+     */
+    public long getCalls() {
+        return totals(clock.getAsLong())[0];
+    }
+
+    /**
+     * Obtém a quantidade de falhas na janela.
+     *
+     * @return falhas na janela
+     */
+    public long getFailures() {
+        return totals(clock.getAsLong())[1];
+    }
+
+    /**
+     * Obtém o tempo restante até os envios de teste.
+     *
+     * @return nanossegundos até o fim do período de abertura, ou zero
+     *         se o disjuntor não está aberto
+     */
+    public long getRemainingOpenNanos() {
+        if (state.get() != CircuitState.ABERTO) {
+            return 0L;
+        }
+        return Math.max(0L, openNanos - (clock.getAsLong() - stateSince));
+    }
+
+    /**
+     * Abre o disjuntor, se ele ainda estiver no estado esperado.
+     *
+     * @param expected estado esperado
+     * @param now instante atual, em nanossegundos
+     */
+    private void open(final CircuitState expected, final long now) {
+        stateSince = now;
+        if (state.compareAndSet(expected, CircuitState.ABERTO)) {
+            LOGGER.warn("Disjuntor do provedor {} aberto (antes {})",
+                    provider.getValue(), expected);
+        }
+    }
+
+    /**
+     * Passa do estado aberto ao semiaberto, renovando as permissões de
+     * teste.
+     *
+     * @param now instante atual, em nanossegundos
+     */
+    private void halfOpen(final long now) {
+        if (state.compareAndSet(CircuitState.ABERTO,
+                CircuitState.SEMIABERTO)) {
+            halfOpenSuccesses.set(0);
+            halfOpenPermits.set(halfOpenCalls);
+            stateSince = now;
+            LOGGER.info("Disjuntor do provedor {} semiaberto",
+                    provider.getValue());
+        }
+    }
+
+    /**
+     * Soma um resultado ao intervalo atual da janela.
+     *
+     * @param now instante atual, em nanossegundos
+     * @param increment incremento do envio, com ou sem falha
+     */
+    private void record(final long now, final long increment) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        int hash = Thread.currentThread().hashCode() * 0x9E3779B9;
+        int index = ((hash >>> 16) & stripeMask) * stride
+                + (int) Math.floorMod(epoch, (long) bucketCount);
+        long tag = (epoch & EPOCH_MASK) << EPOCH_SHIFT;
+        while (true) {
+            long current = buckets.get(index);
+            long next;
+            if ((current & ~((1L << EPOCH_SHIFT) - 1)) != tag) {
+                next = tag | increment;
+            } else if ((current & COUNT_MASK) == COUNT_MASK) {
+                return;
+            } else {
+                next = current + increment;
+            }
+            if (buckets.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Soma os intervalos que ainda estão dentro da janela.
+     *
+     * @param now instante atual, em nanossegundos
+     * @return envios e falhas na janela, nesta ordem
+     */
+    private long[] totals(final long now) {
+        long epoch = Math.floorDiv(now, bucketNanos) & EPOCH_MASK;
+        long calls = 0;
+        long failures = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long value = buckets.get(i);
+            long age = (epoch - (value >>> EPOCH_SHIFT)) & EPOCH_MASK;
+            if (value != 0 && age < bucketCount) {
+                calls += value & COUNT_MASK;
+                failures += (value >>> FAILURE_SHIFT) & COUNT_MASK;
+            }
+        }
+        return new long[] {calls, failures};
+    }
+}
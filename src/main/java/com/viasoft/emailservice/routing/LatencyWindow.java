@@ -0,0 +1,176 @@
+package com.viasoft.emailservice.routing;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Janela deslizante das últimas amostras de envio de um provedor.
+ * As amostras ficam em um buffer circular de tamanho fixo, gravado sem
+ * bloqueio; amostras mais antigas que o período da janela são
+ * ignoradas. As estatísticas são recalculadas por uma única thread, no
+ * máximo uma vez por intervalo, e as demais leem o último cálculo.
+ * Como latência e instante de uma amostra são gravados separadamente,
+ * uma leitura concorrente pode combinar valores de amostras vizinhas,
+ * o que não altera os percentis de forma relevante.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class LatencyWindow {
+
+    /**
+     * Latência de cada amostra, em nanossegundos; falhas são gravadas
+     * com o complemento do valor, sempre negativo.
+     */
+    private final AtomicLongArray latencies;
+
+    /**
+     * Instante, em {@link System#nanoTime()}, de cada amostra; zero
+     * indica posição ainda não gravada.
+     */
+    private final AtomicLongArray recordedAt;
+
+    /**
+     * Sequência da próxima amostra.
+     */
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     * Período coberto pela janela, em nanossegundos.
+     */
+    private final long windowNanos;
+
+    /**
+     * Intervalo mínimo entre recálculos, em nanossegundos.
+     */
+    private final long refreshNanos;
+
+    /**
+     * Indica se alguma thread está recalculando as estatísticas.
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /**
+     * Último cálculo das estatísticas.
+     */
+    private volatile ProviderStats stats = ProviderStats.EMPTY;
+
+    /**
+     * Instante do último cálculo, em {@link System#nanoTime()}.
+     */
+    private volatile long computedAt;
+
+    /**
+     * Indica se há amostras gravadas após o último cálculo.
+     */
+    private volatile boolean dirty;
+
+    /**
+     * Cria a janela.
+     *
+     * @param capacity quantidade máxima de amostras
+     * @param windowNanosParam período da janela, em nanossegundos
+     * @param refreshNanosParam intervalo mínimo entre recálculos, em
+     *        nanossegundos
+     */
+    LatencyWindow(final int capacity, final long windowNanosParam,
+                  final long refreshNanosParam) {
+        this.latencies = new AtomicLongArray(capacity);
+        this.recordedAt = new AtomicLongArray(capacity);
+        this.windowNanos = windowNanosParam;
+        this.refreshNanos = refreshNanosParam;
+    }
+
+    /**
+     * Registra uma amostra.
+     *
+     * @param nanos latência do envio, em nanossegundos
+     * @param success true se o envio foi bem-sucedido
+     * @param now instante do registro, em {@link System#nanoTime()}
+     */
+    void record(final long nanos, final boolean success, final long now) {
+        int slot = (int) (cursor.getAndIncrement() % latencies.length());
+        latencies.set(slot, success ? nanos : ~nanos);
+        recordedAt.set(slot, now == 0 ? 1 : now);
+        dirty = true;
+    }
+
+    /**
+     * Obtém as estatísticas da janela, recalculando-as se o último
+     * cálculo tiver expirado.
+     *
+     * @param now instante atual, em {@link System#nanoTime()}
+     * @return estatísticas da janela
+     */
+    ProviderStats stats(final long now) {
+        ProviderStats current = stats;
+        boolean expired = now - computedAt >= refreshNanos;
+        if (expired && (dirty || current.getSamples() > 0)
+                && refreshing.compareAndSet(false, true)) {
+            try {
+                dirty = false;
+                current = compute(now);
+                stats = current;
+                computedAt = now;
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Calcula as estatísticas das amostras dentro do período da janela.
+     *
+     * @param now instante atual, em {@link System#nanoTime()}
+     * @return estatísticas da janela
+     */
+    private ProviderStats compute(final long now) {
+        int length = latencies.length();
+        long[] successes = new long[length];
+        int count = 0;
+        int samples = 0;
+        int errors = 0;
+        for (int i = 0; i < length; i++) {
+            long at = recordedAt.get(i);
+            if (at == 0 || now - at > windowNanos) {
+                continue;
+            }
+            long latency = latencies.get(i);
+            samples++;
+            if (latency < 0) {
+                errors++;
+            } else {
+                successes[count++] = latency;
+            }
+        }
+        if (samples == 0) {
+            return ProviderStats.EMPTY;
+        }
+        Arrays.sort(successes, 0, count);
+        return new ProviderStats(samples, errors,
+                percentile(successes, count, 0.50),
+                percentile(successes, count, 0.95),
+                percentile(successes, count, 0.99));
+    }
+
+    /**
+     * Obtém um percentil de valores ordenados.
+     *
+     * @param sorted valores ordenados
+     * @param count quantidade de valores válidos
+     * @param quantile percentil desejado, entre 0 e 1
+     * @return valor do percentil, ou zero sem valores
+     */
+    private static long percentile(final long[] sorted, final int count,
+                                   final double quantile) {
+        if (count == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
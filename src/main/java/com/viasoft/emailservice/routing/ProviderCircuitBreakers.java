@@ -0,0 +1,188 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
+import com.viasoft.emailservice.enums.EmailProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Disjuntores dos provedores de email, um {@link CircuitBreaker} por
+ * provedor.
+ * O estado de cada disjuntor fica na métrica {@code email.circuit.state}
+ * (0 fechado, 1 semiaberto, 2 aberto) e os envios recusados na métrica
+ * {@code email.circuit.rejected}. Com
+ * {@code mail.circuit-breaker.enabled} desligado, nenhum disjuntor é
+ * criado: todos os envios são liberados e nenhum resultado é
+ * registrado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class ProviderCircuitBreakers {
+
+    /**
+     * Disjuntores, indexados pelo ordinal do provedor.
+     */
+    private final CircuitBreaker[] breakers;
+
+    /**
+     * Envios recusados, indexados pelo ordinal do provedor.
+     */
+    private final Counter[] rejected;
+
+    /**
+     * Indica se os disjuntores estão habilitados.
+     */
+    private final boolean enabled;
+
+    /**
+     * Indica se o email é desviado para outro provedor com o
+     * disjuntor aberto.
+     */
+    private final boolean reroute;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param configParam configuração dos disjuntores
+     * @param meterRegistryParam registro de métricas
+     */
+    @Autowired
+    public ProviderCircuitBreakers(final CircuitBreakerConfig configParam,
+                                   final MeterRegistry meterRegistryParam) {
+        this.enabled = configParam.isEnabled();
+        this.reroute = configParam.isReroute();
+
+        EmailProvider[] providers = EmailProvider.values();
+        this.breakers = new CircuitBreaker[providers.length];
+        this.rejected = new Counter[providers.length];
+        if (!enabled) {
+            return;
+        }
+        for (EmailProvider provider : providers) {
+            CircuitBreaker breaker = new CircuitBreaker(provider,
+                    configParam);
+            breakers[provider.ordinal()] = breaker;
+            Gauge.builder("email.circuit.state", breaker,
+                            b -> b.getState().ordinal())
+                    .description("Estado do disjuntor do provedor")
+                    .tag("provider", provider.getValue())
+                    .register(meterRegistryParam);
+            rejected[provider.ordinal()] =
+                    Counter.builder("email.circuit.rejected")
+                            .description("Envios recusados pelo disjuntor")
+                            .tag("provider", provider.getValue())
+                            .register(meterRegistryParam);
+        }
+    }
+
+    /**
+     * Solicita a liberação de um envio ao disjuntor do provedor,
+     * contando a recusa.
+     *
+     * @param provider provedor do envio
+     * @return true se o envio pode ser feito
+     */
+    public boolean tryAcquire(final EmailProvider provider) {
+        if (!enabled || breakers[provider.ordinal()].tryAcquire()) {
+            return true;
+        }
+        rejected[provider.ordinal()].increment();
+        return false;
+    }
+
+    /**
+     * Indica se o disjuntor do provedor está recusando envios, sem
+     * consumir uma permissão de teste.
+     *
+     * @param provider provedor
+     * @return true se o disjuntor está aberto
+     */
+    public boolean isOpen(final EmailProvider provider) {
+        return enabled && breakers[provider.ordinal()]
+                .getRemainingOpenNanos() > 0;
+    }
+
+    /**
+     * Registra o resultado de um envio.
+     *
+     * @param provider provedor do envio
+     * @param success true se o envio foi bem-sucedido
+     */
+    public void record(final EmailProvider provider,
+                       final boolean success) {
+        record(provider, success, System.nanoTime());
+    }
+
+    /**
+     * Registra o resultado de um envio terminado no instante informado.
+     *
+     * @param provider provedor do envio
+     * @param success true se o envio foi bem-sucedido
+     * @param nowNanos instante do término do envio, no relógio de
+     *        {@link System#nanoTime()}
+     */
+    public void record(final EmailProvider provider, final boolean success,
+                       final long nowNanos) {
+        if (!enabled) {
+            return;
+        }
+        if (success) {
+            breakers[provider.ordinal()].onSuccess(nowNanos);
+        } else {
+            breakers[provider.ordinal()].onFailure(nowNanos);
+        }
+    }
+
+    /**
+     * Obtém o disjuntor de um provedor.
+     *
+     * @param provider provedor
+     * @return disjuntor do provedor, ou null se os disjuntores
+     *         estiverem desabilitados
+     */
+    public CircuitBreaker get(final EmailProvider provider) {
+        return breakers[provider.ordinal()];
+    }
+
+    /**
+     * Obtém o tempo até que o disjuntor do provedor libere envios de
+     * teste.
+     *
+     * @param provider provedor
+     * @return tempo restante de abertura
+     */
+    public Duration getRetryAfter(final EmailProvider provider) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(
+                breakers[provider.ordinal()].getRemainingOpenNanos());
+    }
+
+    /**
+     * Indica se os disjuntores estão habilitados.
+     *
+     * @return true se os disjuntores estão habilitados
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Indica se o email é desviado para outro provedor com o
+     * disjuntor aberto.
+     *
+     * @return true se o email é desviado
+     */
+    public boolean isReroute() {
+        return reroute;
+    }
+}
@@ -0,0 +1,187 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.enums.EmailProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saúde de cada provedor, medida pela latência e pelos erros dos
+ * envios recentes.
+ * Cada provedor tem uma {@link LatencyWindow} com as últimas amostras
+ * de {@code mail.routing.health.window}. Um provedor só é avaliado
+ * com ao menos {@code mail.routing.health.min-samples} amostras; como
+ * as amostras expiram, um provedor que deixou de receber tráfego volta
+ * a ser considerado após o período da janela.
+ * Os percentis e a taxa de erros são publicados nas métricas
+ * {@code email.provider.latency} e {@code email.provider.error.rate}.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class ProviderHealth {
+
+    /**
+     * Janelas de amostras, indexadas pelo ordinal do provedor.
+     */
+    private final LatencyWindow[] windows;
+
+    /**
+     * Quantidade mínima de amostras para avaliar um provedor.
+     */
+    private final int minSamples;
+
+    /**
+     * Taxa de erros acima da qual o provedor está com falha.
+     */
+    private final double maxErrorRate;
+
+    /**
+     * Fator de lentidão que torna um provedor preferível a outro.
+     */
+    private final double slowFactor;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param configParam configuração do roteamento
+     * @param meterRegistryParam registro de métricas
+     */
+    @Autowired
+    public ProviderHealth(final RoutingConfig configParam,
+                          final MeterRegistry meterRegistryParam) {
+        this.minSamples = configParam.getHealthMinSamples();
+        this.maxErrorRate = configParam.getMaxErrorRate();
+        this.slowFactor = configParam.getSlowFactor();
+
+        EmailProvider[] providers = EmailProvider.values();
+        this.windows = new LatencyWindow[providers.length];
+        for (EmailProvider provider : providers) {
+            windows[provider.ordinal()] = new LatencyWindow(
+                    configParam.getHealthSamples(),
+                    configParam.getHealthWindow().toNanos(),
+                    configParam.getHealthRefreshInterval().toNanos());
+            registerGauges(provider, meterRegistryParam);
+        }
+    }
+
+    /**
+     * Registra as métricas de saúde de um provedor.
+     *
+     * @param provider provedor
+     * @param registry registro de métricas
+     */
+    private void registerGauges(final EmailProvider provider,
+                                final MeterRegistry registry) {
+        String tag = provider.getValue();
+        Gauge.builder("email.provider.latency", this,
+                        health -> seconds(health.stats(provider)
+                                .getP50Nanos()))
+                .description("Latência de envio na janela recente")
+                .tags("provider", tag, "quantile", "0.5")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("email.provider.latency", this,
+                        health -> seconds(health.stats(provider)
+                                .getP95Nanos()))
+                .description("Latência de envio na janela recente")
+                .tags("provider", tag, "quantile", "0.95")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("email.provider.latency", this,
+                        health -> seconds(health.stats(provider)
+                                .getP99Nanos()))
+                .description("Latência de envio na janela recente")
+                .tags("provider", tag, "quantile", "0.99")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("email.provider.error.rate", this,
+                        health -> health.stats(provider).getErrorRate())
+                .description("Taxa de erros de envio na janela recente")
+                .tag("provider", tag)
+                .register(registry);
+    }
+
+    /**
+     * Converte nanossegundos em segundos.
+     *
+     * @param nanos duração em nanossegundos
+     * @return duração em segundos
+     */
+    private static double seconds(final long nanos) {
+        return (double) nanos / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Registra o resultado de um envio.
+     *
+     * @param provider provedor do envio
+     * @param nanos duração do envio, em nanossegundos
+     * @param success true se o envio foi bem-sucedido
+     */
+    public void record(final EmailProvider provider, final long nanos,
+                       final boolean success) {
+        windows[provider.ordinal()].record(nanos, success,
+                System.nanoTime());
+    }
+
+    /**
+     * Obtém as estatísticas recentes de um provedor.
+     *
+     * @param provider provedor
+     * @return estatísticas da janela do provedor
+     */
+    public ProviderStats stats(final EmailProvider provider) {
+        return windows[provider.ordinal()].stats(System.nanoTime());
+    }
+
+    /**
+     * Indica se o provedor tem amostras suficientes para ser avaliado.
+     *
+     * @param stats estatísticas do provedor
+     * @return true se há amostras suficientes
+     */
+    public boolean isKnown(final ProviderStats stats) {
+        return stats.getSamples() >= minSamples;
+    }
+
+    /**
+     * Indica se o provedor está com falha, isto é, se tem amostras
+     * suficientes e taxa de erros acima do limite.
+     *
+     * @param stats estatísticas do provedor
+     * @return true se o provedor está com falha
+     */
+    public boolean isFailing(final ProviderStats stats) {
+        return isKnown(stats) && stats.getErrorRate() > maxErrorRate;
+    }
+
+    /**
+     * Indica se um provedor candidato é mais saudável que o atual.
+     * O candidato é preferido se o atual está com falha e o candidato
+     * não, ou se o p95 do atual supera o do candidato pelo fator de
+     * lentidão configurado. Um candidato sem amostras suficientes só é
+     * preferido no caso de falha do atual.
+     *
+     * @param candidate estatísticas do provedor candidato
+     * @param current estatísticas do provedor atual
+     * @return true se o candidato deve ser preferido
+     */
+    public boolean isHealthier(final ProviderStats candidate,
+                               final ProviderStats current) {
+        if (!isKnown(current) || isFailing(candidate)) {
+            return false;
+        }
+        if (isFailing(current)) {
+            return true;
+        }
+        return isKnown(candidate) && current.getP95Nanos()
+                > slowFactor * candidate.getP95Nanos();
+    }
+}
@@ -0,0 +1,72 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.adapter.EmailAdapter;
+import com.viasoft.emailservice.enums.EmailProvider;
+
+/**
+ * Rota imutável para um provedor: o provedor, o seu adaptador e a
+ * parcela do tráfego que ele recebe.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class ProviderRoute {
+
+    /**
+     * Provedor da rota.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Adaptador do provedor.
+     */
+    private final EmailAdapter<?> adapter;
+
+    /**
+     * Peso do provedor na divisão do tráfego.
+     */
+    private final int weight;
+
+    /**
+     * Cria a rota para um provedor.
+     *
+     * @param providerParam provedor da rota
+     * @param adapterParam adaptador do provedor
+     * @param weightParam peso do provedor na divisão do tráfego
+     */
+    public ProviderRoute(final EmailProvider providerParam,
+                         final EmailAdapter<?> adapterParam,
+                         final int weightParam) {
+        this.provider = providerParam;
+        this.adapter = adapterParam;
+        this.weight = weightParam;
+    }
+
+    /**
+     * Obtém o provedor da rota.
+     *
+     * @return provedor da rota
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o adaptador do provedor.
+     *
+     * @return adaptador do provedor
+     */
+    public EmailAdapter<?> getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * Obtém o peso do provedor na divisão do tráfego.
+     *
+     * @return peso do provedor
+     */
+    public int getWeight() {
+        return weight;
+    }
+}
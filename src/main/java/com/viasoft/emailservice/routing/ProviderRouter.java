@@ -0,0 +1,438 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.adapter.factory.EmailAdapterFactory;
+import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderUnavailableException;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Roteador de emails entre os provedores.
+ * Os pesos de {@code mail.routing.weights} (ou, sem eles, o provedor
+ * de {@code mail.integracao}) são resolvidos uma única vez, na
+ * inicialização, e publicados como um {@link RoutingSnapshot}
+ * imutável. Cada email lê a referência atual sem bloqueio e recebe a
+ * rota da divisão de pesos, trocada por outra quando a mensagem não
+ * cabe nos limites do provedor escolhido. A troca de provedor ou de
+ * pesos, feita pelo endpoint {@code /actuator/routing}, monta um novo
+ * retrato e o substitui atomicamente, sem reinício da aplicação.
+ * Uma configuração inválida impede a inicialização, em vez de falhar
+ * a cada requisição.
+ * A rota sorteada também é trocada quando a {@link ProviderHealth}
+ * indica outro provedor mais saudável, com menos erros ou latência
+ * muito menor na janela recente.
+ * Por fim, a rota passa pelo disjuntor do provedor
+ * ({@link ProviderCircuitBreakers}); com o disjuntor aberto, o email é
+ * desviado para outro provedor que o comporte ou, sem
+ * {@code mail.circuit-breaker.reroute} ou sem outro provedor, recusado
+ * de imediato com {@link ProviderUnavailableException}.
+ * A divisão efetiva fica na métrica {@code email.routing.routed}, por
+ * provedor.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class ProviderRouter {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ProviderRouter.class);
+
+    /**
+     * Peso atribuído ao provedor único em uma troca de provedor.
+     */
+    private static final int FULL_WEIGHT = 100;
+
+    /**
+     * Factory responsável por resolver os adaptadores.
+     */
+    private final EmailAdapterFactory adapterFactory;
+
+    /**
+     * Saúde recente de cada provedor.
+     */
+    private final ProviderHealth health;
+
+    /**
+     * Disjuntores dos provedores.
+     */
+    private final ProviderCircuitBreakers breakers;
+
+    /**
+     * Rotas de todos os provedores com adaptador, usadas no envio
+     * especulativo quando o roteamento não tem outro provedor.
+     */
+    private final ProviderRoute[] standby;
+
+    /**
+     * Indica se o provedor é fixo por domínio do destinatário.
+     */
+    private final boolean stickyByDomain;
+
+    /**
+     * Roteamento atual.
+     */
+    private final AtomicReference<RoutingSnapshot> snapshot;
+
+    /**
+     * Emails roteados, indexados pelo ordinal do provedor.
+     */
+    private final Counter[] routed;
+
+    /**
+     * Emails desviados da rota preferencial por limite do provedor.
+     */
+    private final Counter diverted;
+
+    /**
+     * Emails desviados da rota sorteada por saúde do provedor.
+     */
+    private final Counter unhealthy;
+
+    /**
+     * Emails desviados da rota escolhida por disjuntor aberto.
+     */
+    private final Counter tripped;
+
+    /**
+     * Trocas de roteamento realizadas.
+     */
+    private final Counter switches;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param emailConfigParam configuração de email
+     * @param routingConfigParam configuração da divisão de tráfego
+     * @param adapterFactoryParam factory de adaptadores
+     * @param healthParam saúde recente dos provedores
+     * @param breakersParam disjuntores dos provedores
+     * @param meterRegistryParam registro de métricas
+     * @throws IllegalArgumentException se o provedor ou os pesos
+     *         configurados forem inválidos
+     */
+    @Autowired
+    public ProviderRouter(final EmailConfig emailConfigParam,
+                          final RoutingConfig routingConfigParam,
+                          final EmailAdapterFactory adapterFactoryParam,
+                          final ProviderHealth healthParam,
+                          final ProviderCircuitBreakers breakersParam,
+                          final MeterRegistry meterRegistryParam) {
+        this.adapterFactory = adapterFactoryParam;
+        this.health = healthParam;
+        this.breakers = breakersParam;
+        this.stickyByDomain = routingConfigParam.isStickyByDomain();
+        RoutingSnapshot initial = createSnapshot(
+                routingConfigParam.getWeights(
+                        emailConfigParam.getEmailProvider()), 1);
+        this.snapshot = new AtomicReference<>(initial);
+
+        EmailProvider[] providers = EmailProvider.values();
+        List<ProviderRoute> supported = new ArrayList<>(providers.length);
+        for (EmailProvider provider : providers) {
+            if (adapterFactoryParam.isProviderSupported(provider)) {
+                supported.add(new ProviderRoute(provider,
+                        adapterFactoryParam.createAdapter(provider), 0));
+            }
+        }
+        this.standby = supported.toArray(ProviderRoute[]::new);
+
+        this.routed = new Counter[providers.length];
+        for (EmailProvider provider : providers) {
+            routed[provider.ordinal()] =
+                    Counter.builder("email.routing.routed")
+                            .description("Emails roteados por provedor")
+                            .tag("provider", provider.getValue())
+                            .register(meterRegistryParam);
+        }
+        this.diverted = Counter.builder("email.routing.diverted")
+                .description("Emails desviados por limite do provedor")
+                .register(meterRegistryParam);
+        this.unhealthy = Counter.builder("email.routing.unhealthy")
+                .description("Emails desviados por saúde do provedor")
+                .register(meterRegistryParam);
+        this.tripped = Counter.builder("email.routing.tripped")
+                .description("Emails desviados por disjuntor aberto")
+                .register(meterRegistryParam);
+        this.switches = Counter.builder("email.routing.switches")
+                .description("Trocas de roteamento em tempo de execução")
+                .register(meterRegistryParam);
+        LOGGER.info("Roteamento inicial: {}", describe(initial));
+    }
+
+    /**
+     * Obtém o roteamento atual.
+     *
+     * @return retrato do roteamento atual
+     */
+    public RoutingSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Escolhe a rota de um email no roteamento atual.
+     *
+     * @param emailRequest dados do email
+     * @return rota em que o email será processado
+     * @throws ProviderUnavailableException se o disjuntor do provedor
+     *         estiver aberto e o email não puder ser desviado
+     */
+    public ProviderRoute route(final EmailRequestDTO emailRequest) {
+        RoutingSnapshot current = snapshot.get();
+        ProviderRoute preferred = current.pick(emailRequest);
+        ProviderRoute route = current.fitting(preferred, emailRequest);
+        if (route != preferred) {
+            diverted.increment();
+        }
+        ProviderRoute healthiest = healthiest(current, route, emailRequest);
+        if (healthiest != route) {
+            unhealthy.increment();
+            route = healthiest;
+        }
+        if (!breakers.tryAcquire(route.getProvider())) {
+            route = admitted(current, route, emailRequest);
+            tripped.increment();
+        }
+        routed[route.getProvider().ordinal()].increment();
+        return route;
+    }
+
+    /**
+     * Troca a rota por outra do roteamento cujo provedor seja mais
+     * saudável e comporte a mensagem.
+     *
+     * @param current roteamento atual
+     * @param route rota escolhida pela divisão de pesos
+     * @param emailRequest dados do email
+     * @return rota mais saudável, ou a própria rota escolhida
+     */
+    private ProviderRoute healthiest(final RoutingSnapshot current,
+                                     final ProviderRoute route,
+                                     final EmailRequestDTO emailRequest) {
+        ProviderRoute[] routes = current.routes();
+        if (routes.length == 1) {
+            return route;
+        }
+        ProviderStats stats = health.stats(route.getProvider());
+        if (!health.isKnown(stats)) {
+            return route;
+        }
+        int fitting = ProviderLimitValidator.defaults()
+                .fittingProviders(emailRequest);
+        for (ProviderRoute other : routes) {
+            if (other != route && ProviderLimitValidator.includes(fitting,
+                    other.getProvider())
+                    && health.isHealthier(
+                            health.stats(other.getProvider()), stats)) {
+                return other;
+            }
+        }
+        return route;
+    }
+
+    /**
+     * Desvia o email de uma rota com o disjuntor aberto para outra rota
+     * do roteamento ou, na falta dela, para qualquer outro provedor com
+     * adaptador, desde que comporte a mensagem e o seu disjuntor libere
+     * o envio.
+     *
+     * @param current roteamento atual
+     * @param route rota recusada pelo disjuntor
+     * @param emailRequest dados do email
+     * @return rota liberada pelo disjuntor
+     * @throws ProviderUnavailableException se o desvio estiver
+     *         desabilitado ou nenhum outro provedor puder receber o email
+     */
+    private ProviderRoute admitted(final RoutingSnapshot current,
+                                   final ProviderRoute route,
+                                   final EmailRequestDTO emailRequest) {
+        EmailProvider provider = route.getProvider();
+        if (breakers.isReroute()) {
+            for (ProviderRoute other : current.routes()) {
+                if (isAdmitted(other, provider, emailRequest)) {
+                    return other;
+                }
+            }
+            for (ProviderRoute other : standby) {
+                if (isAdmitted(other, provider, emailRequest)) {
+                    return other;
+                }
+            }
+        }
+        throw new ProviderUnavailableException(provider,
+                "Provedor " + provider.getValue()
+                        + " indisponível; disjuntor aberto",
+                breakers.getRetryAfter(provider));
+    }
+
+    /**
+     * Indica se uma rota pode receber um email desviado por disjuntor
+     * aberto, liberando o envio no seu disjuntor.
+     *
+     * @param route rota candidata
+     * @param unavailable provedor com o disjuntor aberto
+     * @param emailRequest dados do email
+     * @return true se a rota pode receber o email
+     */
+    private boolean isAdmitted(final ProviderRoute route,
+                               final EmailProvider unavailable,
+                               final EmailRequestDTO emailRequest) {
+        return route.getProvider() != unavailable
+                && route.getAdapter().fits(emailRequest)
+                && breakers.tryAcquire(route.getProvider());
+    }
+
+    /**
+     * Escolhe o provedor secundário de um envio especulativo: outro
+     * provedor do roteamento atual ou, na falta dele, qualquer outro
+     * provedor com adaptador, desde que comporte a mensagem, não
+     * esteja com falha e não tenha o disjuntor aberto.
+     *
+     * @param primary provedor do envio principal
+     * @param emailRequest dados do email
+     * @return rota secundária, ou null se não houver
+     */
+    public ProviderRoute secondary(final EmailProvider primary,
+                                   final EmailRequestDTO emailRequest) {
+        for (ProviderRoute route : snapshot.get().routes()) {
+            if (isSecondary(route, primary, emailRequest)) {
+                return route;
+            }
+        }
+        for (ProviderRoute route : standby) {
+            if (isSecondary(route, primary, emailRequest)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica se uma rota pode receber o envio especulativo.
+     *
+     * @param route rota candidata
+     * @param primary provedor do envio principal
+     * @param emailRequest dados do email
+     * @return true se a rota pode ser usada como secundária
+     */
+    private boolean isSecondary(final ProviderRoute route,
+                                final EmailProvider primary,
+                                final EmailRequestDTO emailRequest) {
+        return route.getProvider() != primary
+                && route.getAdapter().fits(emailRequest)
+                && !breakers.isOpen(route.getProvider())
+                && !health.isFailing(health.stats(route.getProvider()));
+    }
+
+    /**
+     * Obtém a quantidade de emails roteados para um provedor.
+     *
+     * @param provider provedor
+     * @return emails roteados para o provedor desde a inicialização
+     */
+    public long getRoutedCount(final EmailProvider provider) {
+        return (long) routed[provider.ordinal()].count();
+    }
+
+    /**
+     * Direciona todo o tráfego para um único provedor. Emails já em
+     * processamento terminam com o roteamento anterior.
+     *
+     * @param provider novo provedor
+     * @return retrato do novo roteamento, ou o atual se o provedor
+     *         informado já recebe todo o tráfego
+     * @throws com.viasoft.emailservice.exception.EmailProcessingException
+     *         se não houver adaptador para o provedor
+     */
+    public RoutingSnapshot switchTo(final EmailProvider provider) {
+        RoutingSnapshot current = snapshot.get();
+        List<ProviderRoute> routes = current.getRoutes();
+        if (routes.size() == 1 && routes.get(0).getProvider() == provider) {
+            return current;
+        }
+        return setWeights(Map.of(provider, FULL_WEIGHT));
+    }
+
+    /**
+     * Substitui a divisão de tráfego entre os provedores.
+     *
+     * @param weights peso de cada provedor; provedores ausentes não
+     *        recebem tráfego
+     * @return retrato do novo roteamento
+     * @throws IllegalArgumentException se algum peso for negativo ou se
+     *         nenhum provedor tiver peso positivo
+     * @throws com.viasoft.emailservice.exception.EmailProcessingException
+     *         se não houver adaptador para algum provedor
+     */
+    public RoutingSnapshot setWeights(
+            final Map<EmailProvider, Integer> weights) {
+        RoutingSnapshot current;
+        RoutingSnapshot next;
+        do {
+            current = snapshot.get();
+            next = createSnapshot(weights, current.getVersion() + 1);
+        } while (!snapshot.compareAndSet(current, next));
+
+        switches.increment();
+        LOGGER.warn("Roteamento alterado de [{}] para [{}] (versão {})",
+                describe(current), describe(next), next.getVersion());
+        return next;
+    }
+
+    /**
+     * Monta o retrato do roteamento para os pesos informados.
+     *
+     * @param weights peso de cada provedor
+     * @param version versão do roteamento
+     * @return retrato do roteamento
+     */
+    private RoutingSnapshot createSnapshot(
+            final Map<EmailProvider, Integer> weights, final long version) {
+        List<ProviderRoute> routes = new ArrayList<>(weights.size());
+        for (EmailProvider provider : EmailProvider.values()) {
+            Integer weight = weights.get(provider);
+            if (weight != null && weight != 0) {
+                routes.add(new ProviderRoute(provider,
+                        adapterFactory.createAdapter(provider), weight));
+            }
+        }
+        return new RoutingSnapshot(routes, stickyByDomain, version,
+                Instant.now());
+    }
+
+    /**
+     * Descreve a divisão de tráfego de um roteamento.
+     *
+     * @param routing retrato do roteamento
+     * @return provedores e pesos, por exemplo {@code AWS=90, OCI=10}
+     */
+    private static String describe(final RoutingSnapshot routing) {
+        StringBuilder description = new StringBuilder();
+        for (ProviderRoute route : routing.getRoutes()) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(route.getProvider().getValue())
+                    .append('=').append(route.getWeight());
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package com.viasoft.emailservice.routing;
+
+/**
+ * Estatísticas de latência e erros de um provedor na janela recente.
+ * As latências consideram apenas os envios bem-sucedidos.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class ProviderStats {
+
+    /**
+     * Estatísticas de uma janela sem amostras.
+     */
+    public static final ProviderStats EMPTY =
+            new ProviderStats(0, 0, 0L, 0L, 0L);
+
+    /**
+     * Quantidade de envios na janela.
+     */
+    private final int samples;
+
+    /**
+     * Quantidade de envios com falha na janela.
+     */
+    private final int errors;
+
+    /**
+     * Mediana da latência, em nanossegundos.
+     */
+    private final long p50Nanos;
+
+    /**
+     * Percentil 95 da latência, em nanossegundos.
+     */
+    private final long p95Nanos;
+
+    /**
+     * Percentil 99 da latência, em nanossegundos.
+     */
+    private final long p99Nanos;
+
+    /**
+     * Cria as estatísticas de uma janela.
+     *
+     * @param samplesParam quantidade de envios
+     * @param errorsParam quantidade de envios com falha
+     * @param p50Param mediana da latência, em nanossegundos
+     * @param p95Param percentil 95 da latência, em nanossegundos
+     * @param p99Param percentil 99 da latência, em nanossegundos
+     */
+    public ProviderStats(final int samplesParam, final int errorsParam,
+                         final long p50Param, final long p95Param,
+                         final long p99Param) {
+        this.samples = samplesParam;
+        this.errors = errorsParam;
+        this.p50Nanos = p50Param;
+        this.p95Nanos = p95Param;
+        this.p99Nanos = p99Param;
+    }
+
+    /**
+     * Obtém a quantidade de envios na janela.
+     *
+     * @return quantidade de envios
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Obtém a quantidade de envios com falha na janela.
+     *
+     * @return quantidade de falhas
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Obtém a taxa de erros na janela.
+     *
+     * @return taxa de erros, entre 0 e 1
+     */
+    public double getErrorRate() {
+        return samples == 0 ? 0.0 : (double) errors / samples;
+    }
+
+    /**
+     * Obtém a mediana da latência.
+     *
+     * @return mediana, em nanossegundos
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Obtém o percentil 95 da latência.
+     *
+     * @return percentil 95, em nanossegundos
+     */
+    public long getP95Nanos() {
+        return p95Nanos;
+    }
+
+    /**
+     * Obtém o percentil 99 da latência.
+     *
+     * @return percentil 99, em nanossegundos
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+}
@@ -0,0 +1,245 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retrato imutável do roteamento de emails.
+ * Reúne as rotas dos provedores que recebem tráfego, com os seus
+ * adaptadores já resolvidos e os pesos acumulados pré-calculados, de
+ * forma que a escolha da rota de cada email é feita sem alocação e
+ * sem interpretar a configuração. Uma troca de roteamento publica um
+ * novo retrato; quem já leu o anterior termina o seu processamento
+ * com ele.
+ * Com o roteamento fixo por domínio, o provedor é escolhido pelo hash
+ * do domínio do destinatário, e todos os emails de um domínio seguem
+ * pelo mesmo provedor enquanto os pesos não mudam.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class RoutingSnapshot {
+
+    /**
+     * Constante multiplicativa do embaralhamento do hash (razão áurea).
+     */
+    private static final int MIX = 0x9E3779B9;
+
+    /**
+     * Rotas com peso positivo, na ordem dos provedores.
+     */
+    private final ProviderRoute[] routes;
+
+    /**
+     * Peso acumulado até cada rota, inclusive.
+     */
+    private final int[] cumulative;
+
+    /**
+     * Soma dos pesos das rotas.
+     */
+    private final int totalWeight;
+
+    /**
+     * Rota de maior peso.
+     */
+    private final ProviderRoute primary;
+
+    /**
+     * Indica se o provedor é fixo por domínio do destinatário.
+     */
+    private final boolean stickyByDomain;
+
+    /**
+     * Versão do roteamento, incrementada a cada troca.
+     */
+    private final long version;
+
+    /**
+     * Data e hora da ativação do roteamento.
+     */
+    private final Instant activatedAt;
+
+    /**
+     * Cria o retrato do roteamento.
+     *
+     * @param routesParam rotas dos provedores; as de peso zero são
+     *        ignoradas
+     * @param stickyByDomainParam true para fixar o provedor por domínio
+     * @param versionParam versão do roteamento
+     * @param activatedAtParam data e hora da ativação
+     * @throws IllegalArgumentException se algum peso for negativo ou se
+     *         nenhuma rota tiver peso positivo
+     */
+    public RoutingSnapshot(final List<ProviderRoute> routesParam,
+                           final boolean stickyByDomainParam,
+                           final long versionParam,
+                           final Instant activatedAtParam) {
+        for (ProviderRoute route : routesParam) {
+            if (route.getWeight() < 0) {
+                throw new IllegalArgumentException(
+                        "Peso negativo para o provedor "
+                                + route.getProvider().getValue());
+            }
+        }
+        this.routes = routesParam.stream()
+                .filter(route -> route.getWeight() > 0)
+                .toArray(ProviderRoute[]::new);
+        if (routes.length == 0) {
+            throw new IllegalArgumentException(
+                    "Ao menos um provedor deve ter peso positivo");
+        }
+        this.cumulative = new int[routes.length];
+        int total = 0;
+        ProviderRoute heaviest = routes[0];
+        for (int i = 0; i < routes.length; i++) {
+            total = Math.addExact(total, routes[i].getWeight());
+            cumulative[i] = total;
+            if (routes[i].getWeight() > heaviest.getWeight()) {
+                heaviest = routes[i];
+            }
+        }
+        this.totalWeight = total;
+        this.primary = heaviest;
+        this.stickyByDomain = stickyByDomainParam;
+        this.version = versionParam;
+        this.activatedAt = activatedAtParam;
+    }
+
+    /**
+     * Escolhe a rota do email pela divisão de pesos, sem considerar os
+     * limites dos provedores.
+     *
+     * @param emailRequest dados do email
+     * @return rota preferencial do email
+     */
+    public ProviderRoute pick(final EmailRequestDTO emailRequest) {
+        if (routes.length == 1) {
+            return routes[0];
+        }
+        int point;
+        if (stickyByDomain) {
+            point = Math.floorMod(domainHash(
+                    emailRequest.getEmailDestinatario()), totalWeight);
+        } else {
+            point = ThreadLocalRandom.current().nextInt(totalWeight);
+        }
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (point < cumulative[i]) {
+                return routes[i];
+            }
+        }
+        return routes[routes.length - 1];
+    }
+
+    /**
+     * Escolhe a rota do email: a preferencial, se o email couber nos
+     * limites do seu provedor, ou a primeira outra rota em que caiba.
+     * Se nenhuma couber, mantém a preferencial, cuja adaptação
+     * reportará o limite excedido. O email é verificado contra os
+     * limites de todos os provedores em uma única passagem.
+     *
+     * @param preferred rota preferencial do email
+     * @param emailRequest dados do email
+     * @return rota em que o email será processado
+     */
+    public ProviderRoute fitting(final ProviderRoute preferred,
+                                 final EmailRequestDTO emailRequest) {
+        if (routes.length == 1) {
+            return preferred;
+        }
+        int fitting = ProviderLimitValidator.defaults()
+                .fittingProviders(emailRequest);
+        if (ProviderLimitValidator.includes(fitting,
+                preferred.getProvider())) {
+            return preferred;
+        }
+        for (ProviderRoute route : routes) {
+            if (route != preferred && ProviderLimitValidator.includes(
+                    fitting, route.getProvider())) {
+                return route;
+            }
+        }
+        return preferred;
+    }
+
+    /**
+     * Obtém o provedor de maior peso.
+     *
+     * @return provedor principal
+     */
+    public EmailProvider getProvider() {
+        return primary.getProvider();
+    }
+
+    /**
+     * Obtém as rotas que recebem tráfego sem copiá-las, para uso no
+     * caminho de cada email; o array não deve ser alterado.
+     *
+     * @return rotas com peso positivo, na ordem dos provedores
+     */
+    ProviderRoute[] routes() {
+        return routes;
+    }
+
+    /**
+     * Obtém as rotas que recebem tráfego.
+     *
+     * @return rotas com peso positivo, na ordem dos provedores
+     */
+    public List<ProviderRoute> getRoutes() {
+        return List.of(routes);
+    }
+
+    /**
+     * Indica se o provedor é fixo por domínio do destinatário.
+     *
+     * @return true se o roteamento é fixo por domínio
+     */
+    public boolean isStickyByDomain() {
+        return stickyByDomain;
+    }
+
+    /**
+     * Obtém a versão do roteamento.
+     *
+     * @return versão do roteamento
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtém a data e hora da ativação do roteamento.
+     *
+     * @return data e hora da ativação
+     */
+    public Instant getActivatedAt() {
+        return activatedAt;
+    }
+
+    /**
+     * Calcula o hash do domínio de um endereço de email, sem distinguir
+     * maiúsculas e sem criar substrings.
+     *
+     * @param email endereço de email
+     * @return hash do domínio, embaralhado
+     */
+    static int domainHash(final String email) {
+        if (email == null) {
+            return 0;
+        }
+        int hash = 0;
+        for (int i = email.lastIndexOf('@') + 1; i < email.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(email.charAt(i));
+        }
+        hash *= MIX;
+        return hash ^ (hash >>> 16);
+    }
+}
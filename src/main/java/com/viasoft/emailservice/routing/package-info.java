@@ -0,0 +1,12 @@
+/**
+ * Pacote do roteamento de emails para o provedor ativo.
+ *
+ * Este pacote contém o retrato imutável do roteamento atual e o
+ * roteador que o publica, permitindo a troca de provedor em tempo de
+ * execução sem reinício da aplicação.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.routing;
@@ -0,0 +1,183 @@
+package com.viasoft.emailservice.schedule;
+
+/**
+ * Conjunto de valores {@code long} com endereçamento aberto e sondagem
+ * linear, sem objetos por elemento: cada valor ocupa uma posição de um
+ * único array, mantido com no máximo metade das posições ocupadas.
+ * A remoção desloca os elementos seguintes da sequência de sondagem em
+ * vez de deixar marcadores, para que as buscas não se degradem com o
+ * tempo. Não é seguro para uso concorrente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class LongHashSet {
+
+    /**
+     * Valor que marca uma posição vazia; a presença desse valor no
+     * conjunto é guardada à parte.
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * Capacidade inicial, em posições.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Posições da tabela.
+     */
+    private long[] table = new long[INITIAL_CAPACITY];
+
+    /**
+     * Quantidade de valores armazenados.
+     */
+    private int size;
+
+    /**
+     * Indica se o valor {@link #EMPTY} está no conjunto.
+     */
+    private boolean containsEmpty;
+
+    /**
+     * Adiciona um valor.
+     *
+     * @param value valor
+     * @return true se o valor não estava no conjunto
+     */
+    boolean add(final long value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size * 2L > table.length) {
+            resize(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Indica se o valor está no conjunto.
+     *
+     * @param value valor
+     * @return true se o valor está no conjunto
+     */
+    boolean contains(final long value) {
+        return value == EMPTY ? containsEmpty : indexOf(value) >= 0;
+    }
+
+    /**
+     * Remove um valor.
+     *
+     * @param value valor
+     * @return true se o valor estava no conjunto
+     */
+    boolean remove(final long value) {
+        if (value == EMPTY) {
+            if (!containsEmpty) {
+                return false;
+            }
+            containsEmpty = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        int mask = table.length - 1;
+        int next = (index + 1) & mask;
+        while (table[next] != EMPTY) {
+            int home = hash(table[next]) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                table[index] = table[next];
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[index] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Obtém a quantidade de valores armazenados.
+     *
+     * @return quantidade de valores
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Remove todos os valores e libera a tabela.
+     */
+    void clear() {
+        table = new long[INITIAL_CAPACITY];
+        size = 0;
+        containsEmpty = false;
+    }
+
+    /**
+     * Localiza a posição de um valor diferente de {@link #EMPTY}.
+     *
+     * @param key valor
+     * @return posição do valor, ou -1 se ele não estiver no conjunto
+     */
+    private int indexOf(final long key) {
+        int mask = table.length - 1;
+        int index = hash(key) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Realoca a tabela com a capacidade informada.
+     *
+     * @param capacity nova capacidade, potência de dois
+     */
+    private void resize(final int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        int mask = capacity - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int index = hash(key) & mask;
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = key;
+            }
+        }
+    }
+
+    /**
+     * Espalha os bits do valor para a escolha da posição.
+     *
+     * @param key valor
+     * @return hash do valor
+     */
+    private static int hash(final long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
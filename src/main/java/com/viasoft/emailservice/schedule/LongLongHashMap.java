@@ -0,0 +1,210 @@
+package com.viasoft.emailservice.schedule;
+
+/**
+ * Mapa de chaves {@code long} para valores {@code long} com
+ * endereçamento aberto e sondagem linear, sem objetos por elemento:
+ * chaves e valores ficam em dois arrays paralelos, mantidos com no
+ * máximo metade das posições ocupadas. Como em {@link LongHashSet}, a
+ * remoção desloca os elementos seguintes da sequência de sondagem em
+ * vez de deixar marcadores. Não é seguro para uso concorrente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class LongLongHashMap {
+
+    /**
+     * Valor devolvido para uma chave ausente.
+     */
+    static final long NO_VALUE = Long.MIN_VALUE;
+
+    /**
+     * Chave que marca uma posição vazia; o valor dessa chave é guardado
+     * à parte.
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * Capacidade inicial, em posições.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Chaves da tabela.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /**
+     * Valores da tabela, na posição da respectiva chave.
+     */
+    private long[] values = new long[INITIAL_CAPACITY];
+
+    /**
+     * Quantidade de chaves armazenadas.
+     */
+    private int size;
+
+    /**
+     * Indica se a chave {@link #EMPTY} está no mapa.
+     */
+    private boolean containsEmpty;
+
+    /**
+     * Valor da chave {@link #EMPTY}.
+     */
+    private long emptyValue;
+
+    /**
+     * Associa um valor a uma chave, substituindo o anterior.
+     *
+     * @param key chave
+     * @param value valor
+     */
+    void put(final long key, final long value) {
+        if (key == EMPTY) {
+            if (!containsEmpty) {
+                containsEmpty = true;
+                size++;
+            }
+            emptyValue = value;
+            return;
+        }
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size * 2L > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Obtém o valor de uma chave.
+     *
+     * @param key chave
+     * @return valor da chave, ou {@link #NO_VALUE} se ela não estiver no
+     *         mapa
+     */
+    long get(final long key) {
+        if (key == EMPTY) {
+            return containsEmpty ? emptyValue : NO_VALUE;
+        }
+        int index = indexOf(key);
+        return index < 0 ? NO_VALUE : values[index];
+    }
+
+    /**
+     * Remove uma chave.
+     *
+     * @param key chave
+     * @return true se a chave estava no mapa
+     */
+    boolean remove(final long key) {
+        if (key == EMPTY) {
+            if (!containsEmpty) {
+                return false;
+            }
+            containsEmpty = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        int next = (index + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[index] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Obtém a quantidade de chaves armazenadas.
+     *
+     * @return quantidade de chaves
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Remove todas as chaves e libera a tabela.
+     */
+    void clear() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new long[INITIAL_CAPACITY];
+        size = 0;
+        containsEmpty = false;
+    }
+
+    /**
+     * Localiza a posição de uma chave diferente de {@link #EMPTY}.
+     *
+     * @param key chave
+     * @return posição da chave, ou -1 se ela não estiver no mapa
+     */
+    private int indexOf(final long key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Realoca a tabela com a capacidade informada.
+     *
+     * @param capacity nova capacidade, potência de dois
+     */
+    private void resize(final int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int index = hash(key) & mask;
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Espalha os bits da chave para a escolha da posição.
+     *
+     * @param key chave
+     * @return hash da chave
+     */
+    private static int hash(final long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
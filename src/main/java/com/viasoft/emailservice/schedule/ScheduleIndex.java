@@ -0,0 +1,216 @@
+package com.viasoft.emailservice.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Índice em memória dos emails agendados: um heap binário ordenado por
+ * data de envio e posição no arquivo, com os dois valores intercalados
+ * em um único {@code long[]}, e a data de envio de cada identificador
+ * pendente, indexada pela chave do identificador. Cada email pendente
+ * ocupa de 48 a 88 bytes, sem objetos por elemento; os dados do email
+ * ficam apenas no arquivo. Como a posição no arquivo só cresce, emails com a mesma
+ * data são liberados na ordem em que foram agendados.
+ * Não é seguro para uso concorrente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class ScheduleIndex {
+
+    /**
+     * Capacidade inicial, em emails.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Heap de pares (data de envio em milissegundos, posição no
+     * arquivo).
+     */
+    private long[] heap = new long[INITIAL_CAPACITY * 2];
+
+    /**
+     * Quantidade de emails no heap.
+     */
+    private int size;
+
+    /**
+     * Data de envio de cada identificador pendente, pela chave do
+     * identificador.
+     */
+    private final LongLongHashMap dues = new LongLongHashMap();
+
+    /**
+     * Adiciona um email.
+     *
+     * @param dueMillis data de envio, em milissegundos desde a época
+     * @param offset posição do registro no arquivo
+     * @param idKey chave do identificador do job
+     */
+    void add(final long dueMillis, final long offset, final long idKey) {
+        if (size * 2 == heap.length) {
+            heap = Arrays.copyOf(heap,
+                    heap.length + ((heap.length >> 1) & ~1));
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(dueMillis, offset, heap[parent * 2],
+                    heap[parent * 2 + 1])) {
+                break;
+            }
+            heap[index * 2] = heap[parent * 2];
+            heap[index * 2 + 1] = heap[parent * 2 + 1];
+            index = parent;
+        }
+        heap[index * 2] = dueMillis;
+        heap[index * 2 + 1] = offset;
+        dues.put(idKey, dueMillis);
+    }
+
+    /**
+     * Obtém a data de envio do próximo email.
+     *
+     * @return data de envio em milissegundos, ou {@link Long#MAX_VALUE}
+     *         se não há emails
+     */
+    long peekDue() {
+        return size == 0 ? Long.MAX_VALUE : heap[0];
+    }
+
+    /**
+     * Obtém a posição no arquivo do próximo email.
+     *
+     * @return posição do registro
+     * @throws IllegalStateException se não há emails
+     */
+    long peekOffset() {
+        if (size == 0) {
+            throw new IllegalStateException("Nenhum email agendado");
+        }
+        return heap[1];
+    }
+
+    /**
+     * Remove o próximo email do heap. A chave do identificador deve ser
+     * removida à parte, com {@link #release(long)}.
+     */
+    void poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Nenhum email agendado");
+        }
+        size--;
+        long due = heap[size * 2];
+        long offset = heap[size * 2 + 1];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = index * 2 + 1;
+            int right = child + 1;
+            if (right < size && less(heap[right * 2], heap[right * 2 + 1],
+                    heap[child * 2], heap[child * 2 + 1])) {
+                child = right;
+            }
+            if (!less(heap[child * 2], heap[child * 2 + 1], due, offset)) {
+                break;
+            }
+            heap[index * 2] = heap[child * 2];
+            heap[index * 2 + 1] = heap[child * 2 + 1];
+            index = child;
+        }
+        heap[index * 2] = due;
+        heap[index * 2 + 1] = offset;
+    }
+
+    /**
+     * Remove a chave de um identificador liberado.
+     *
+     * @param idKey chave do identificador do job
+     */
+    void release(final long idKey) {
+        dues.remove(idKey);
+    }
+
+    /**
+     * Indica se um identificador está pendente.
+     *
+     * @param idKey chave do identificador do job
+     * @return true se o email ainda não foi liberado
+     */
+    boolean contains(final long idKey) {
+        return dues.get(idKey) != LongLongHashMap.NO_VALUE;
+    }
+
+    /**
+     * Obtém a data de envio de um identificador pendente.
+     *
+     * @param idKey chave do identificador do job
+     * @return data de envio em milissegundos, ou
+     *         {@link LongLongHashMap#NO_VALUE} se o email já foi liberado
+     */
+    long dueOf(final long idKey) {
+        return dues.get(idKey);
+    }
+
+    /**
+     * Obtém a quantidade de emails pendentes.
+     *
+     * @return emails no heap
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Obtém as posições no arquivo de todos os emails pendentes, em
+     * ordem crescente.
+     *
+     * @return posições ordenadas
+     */
+    long[] sortedOffsets() {
+        long[] offsets = new long[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = heap[i * 2 + 1];
+        }
+        Arrays.sort(offsets);
+        return offsets;
+    }
+
+    /**
+     * Troca as posições no arquivo após uma compactação. Como a troca
+     * preserva a ordem das posições, a ordem do heap não muda.
+     *
+     * @param oldOffsets posições antigas, em ordem crescente
+     * @param newOffsets posições novas, na mesma ordem
+     */
+    void remap(final long[] oldOffsets, final long[] newOffsets) {
+        for (int i = 0; i < size; i++) {
+            int found = Arrays.binarySearch(oldOffsets, heap[i * 2 + 1]);
+            heap[i * 2 + 1] = newOffsets[found];
+        }
+    }
+
+    /**
+     * Remove todos os emails e libera a memória do índice.
+     */
+    void clear() {
+        heap = new long[INITIAL_CAPACITY * 2];
+        size = 0;
+        dues.clear();
+    }
+
+    /**
+     * Compara dois emails por data de envio e, em caso de empate, por
+     * posição no arquivo.
+     *
+     * @param dueA data de envio do primeiro
+     * @param offsetA posição do primeiro
+     * @param dueB data de envio do segundo
+     * @param offsetB posição do segundo
+     * @return true se o primeiro vem antes do segundo
+     */
+    private static boolean less(final long dueA, final long offsetA,
+                                final long dueB, final long offsetB) {
+        return dueA < dueB || (dueA == dueB && offsetA < offsetB);
+    }
+}
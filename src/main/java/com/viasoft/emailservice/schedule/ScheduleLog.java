@@ -0,0 +1,452 @@
+package com.viasoft.emailservice.schedule;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Arquivo de acréscimo dos emails agendados.
+ * Cada registro tem o tamanho do corpo, o CRC32 do corpo e o corpo,
+ * que começa pelo tipo: {@link #ITEM} guarda a data de envio, o
+ * identificador do job e os dados do email; {@link #RELEASE} guarda a
+ * posição de um item já liberado. Na leitura inicial, um registro
+ * incompleto ou corrompido no fim do arquivo, deixado por uma queda
+ * durante a escrita, é descartado e o arquivo é truncado nesse ponto.
+ * Os registros vão para o sistema operacional a cada escrita, o que
+ * os preserva em uma queda do processo, mas não em uma queda da
+ * máquina. Não é seguro para uso concorrente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class ScheduleLog implements Closeable {
+
+    /**
+     * Tipo do registro de um email agendado.
+     */
+    static final byte ITEM = 1;
+
+    /**
+     * Tipo do registro de um email liberado.
+     */
+    static final byte RELEASE = 2;
+
+    /**
+     * Tamanho do cabeçalho de cada registro: tamanho e CRC32 do corpo.
+     */
+    static final int HEADER_SIZE = 8;
+
+    /**
+     * Tamanho do corpo de um item sem os dados do email: tipo, data de
+     * envio e identificador.
+     */
+    static final int ITEM_FIXED_SIZE = 1 + 3 * Long.BYTES;
+
+    /**
+     * Tamanho do corpo de uma liberação: tipo e posição do item.
+     */
+    static final int RELEASE_SIZE = 1 + Long.BYTES;
+
+    /**
+     * Maior corpo de registro; na leitura, corpos maiores indicam
+     * registro corrompido.
+     */
+    static final int MAX_BODY_SIZE = 64 * 1024;
+
+    /**
+     * Tamanho do buffer de leitura sequencial, que comporta qualquer
+     * registro válido.
+     */
+    private static final int READ_BUFFER_SIZE = 2 * (HEADER_SIZE
+            + MAX_BODY_SIZE);
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ScheduleLog.class);
+
+    /**
+     * Caminho do arquivo.
+     */
+    private final Path path;
+
+    /**
+     * Canal do arquivo.
+     */
+    private FileChannel channel;
+
+    /**
+     * Posição do fim do último registro válido.
+     */
+    private long end;
+
+    /**
+     * Calculadora de CRC32 reaproveitada entre registros.
+     */
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Abre o arquivo, criando-o e aos diretórios se necessário.
+     *
+     * @param pathParam caminho do arquivo
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    ScheduleLog(final Path pathParam) throws IOException {
+        this.path = pathParam;
+        Path parent = pathParam.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = open(pathParam);
+        this.end = channel.size();
+    }
+
+    /**
+     * Acrescenta um email agendado.
+     *
+     * @param dueMillis data de envio, em milissegundos desde a época
+     * @param idMostSig bits mais significativos do identificador
+     * @param idLeastSig bits menos significativos do identificador
+     * @param payload dados do email codificados
+     * @return posição do registro
+     * @throws IOException se a escrita falhar
+     * @throws IllegalArgumentException se os dados excederem
+     *         {@link #MAX_BODY_SIZE}
+     */
+    long appendItem(final long dueMillis, final long idMostSig,
+                    final long idLeastSig, final byte[] payload)
+            throws IOException {
+        if (payload.length > MAX_BODY_SIZE - ITEM_FIXED_SIZE) {
+            throw new IllegalArgumentException(
+                    "Dados do email agendado muito grandes");
+        }
+        ByteBuffer record = ByteBuffer.allocate(
+                HEADER_SIZE + ITEM_FIXED_SIZE + payload.length);
+        record.position(HEADER_SIZE);
+        record.put(ITEM).putLong(dueMillis).putLong(idMostSig)
+                .putLong(idLeastSig).put(payload);
+        return write(seal(record));
+    }
+
+    /**
+     * Acrescenta a liberação de vários itens em uma única escrita.
+     *
+     * @param offsets posições dos itens liberados
+     * @param count quantidade de posições válidas no array
+     * @throws IOException se a escrita falhar
+     */
+    void appendReleases(final long[] offsets, final int count)
+            throws IOException {
+        if (count == 0) {
+            return;
+        }
+        int recordSize = HEADER_SIZE + RELEASE_SIZE;
+        ByteBuffer batch = ByteBuffer.allocate(recordSize * count);
+        for (int i = 0; i < count; i++) {
+            ByteBuffer record = batch.slice(i * recordSize, recordSize);
+            record.position(HEADER_SIZE);
+            record.put(RELEASE).putLong(offsets[i]);
+            seal(record);
+        }
+        write(batch);
+    }
+
+    /**
+     * Lê o corpo de um item.
+     *
+     * @param offset posição do registro
+     * @return corpo do registro, posicionado após o tipo
+     * @throws IOException se a leitura falhar ou o registro não for um
+     *         item válido
+     */
+    ByteBuffer readItem(final long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(header, offset);
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length < ITEM_FIXED_SIZE || length > MAX_BODY_SIZE) {
+            throw new IOException("Registro inválido na posição " + offset);
+        }
+        ByteBuffer body = ByteBuffer.allocate(length);
+        readFully(body, offset + HEADER_SIZE);
+        body.flip();
+        if (checksum(body) != checksum || body.get() != ITEM) {
+            throw new IOException("Registro inválido na posição " + offset);
+        }
+        return body;
+    }
+
+    /**
+     * Percorre os registros válidos do arquivo, truncando-o no primeiro
+     * registro incompleto ou corrompido.
+     *
+     * @param visitor destino dos registros
+     * @throws IOException se a leitura falhar
+     */
+    void replay(final Visitor visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        buffer.flip();
+        long position = 0;
+        long size = channel.size();
+        while (position < size) {
+            if (!fill(buffer, position, HEADER_SIZE)) {
+                break;
+            }
+            int length = buffer.getInt(buffer.position());
+            int checksum = buffer.getInt(buffer.position() + Integer.BYTES);
+            if (length < 1 || length > MAX_BODY_SIZE
+                    || !fill(buffer, position, HEADER_SIZE + length)) {
+                break;
+            }
+            ByteBuffer body = buffer.slice(
+                    buffer.position() + HEADER_SIZE, length);
+            if (checksum(body) != checksum
+                    || !visit(body, position, visitor)) {
+                break;
+            }
+            buffer.position(buffer.position() + HEADER_SIZE + length);
+            position += HEADER_SIZE + length;
+        }
+        if (position < size) {
+            LOGGER.warn("Arquivo de agendamentos {} truncado na posição {} "
+                    + "de {}", path, position, size);
+            channel.truncate(position);
+        }
+        end = position;
+    }
+
+    /**
+     * Reescreve o arquivo apenas com os itens informados, descartando
+     * itens liberados e liberações. A ordem dos itens é preservada.
+     *
+     * @param liveOffsets posições dos itens pendentes, em ordem
+     *        crescente
+     * @return novas posições dos itens, na mesma ordem
+     * @throws IOException se a reescrita falhar; o arquivo original é
+     *         mantido nesse caso
+     */
+    long[] compact(final long[] liveOffsets) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        long[] newOffsets = new long[liveOffsets.length];
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            long position = 0;
+            for (int i = 0; i < liveOffsets.length; i++) {
+                header.clear();
+                readFully(header, liveOffsets[i]);
+                long recordSize = HEADER_SIZE + header.getInt(0);
+                long copied = 0;
+                while (copied < recordSize) {
+                    copied += channel.transferTo(liveOffsets[i] + copied,
+                            recordSize - copied, out);
+                }
+                newOffsets[i] = position;
+                position += recordSize;
+            }
+            out.force(true);
+        }
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        channel = open(path);
+        end = channel.size();
+        return newOffsets;
+    }
+
+    /**
+     * Descarta todos os registros.
+     *
+     * @throws IOException se o arquivo não puder ser truncado
+     */
+    void truncate() throws IOException {
+        channel.truncate(0);
+        end = 0;
+    }
+
+    /**
+     * Obtém o tamanho dos registros válidos do arquivo.
+     *
+     * @return tamanho, em bytes
+     */
+    long size() {
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Abre o canal do arquivo para leitura e escrita.
+     *
+     * @param file caminho do arquivo
+     * @return canal aberto
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    private static FileChannel open(final Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Preenche o cabeçalho de um registro com o tamanho e o CRC32 do
+     * corpo, que começa após o cabeçalho.
+     *
+     * @param record registro com o corpo escrito
+     * @return registro pronto para escrita, do início ao fim
+     */
+    private ByteBuffer seal(final ByteBuffer record) {
+        int length = record.position() - HEADER_SIZE;
+        record.putInt(0, length);
+        record.putInt(Integer.BYTES,
+                checksum(record.slice(HEADER_SIZE, length)));
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Escreve registros no fim do arquivo.
+     *
+     * @param records registros prontos para escrita
+     * @return posição do primeiro registro
+     * @throws IOException se a escrita falhar
+     */
+    private long write(final ByteBuffer records) throws IOException {
+        long position = end;
+        long written = 0;
+        while (records.hasRemaining()) {
+            written += channel.write(records, position + written);
+        }
+        end = position + written;
+        return position;
+    }
+
+    /**
+     * Lê do arquivo até preencher o buffer.
+     *
+     * @param buffer destino
+     * @param position posição inicial
+     * @throws IOException se a leitura falhar ou o arquivo terminar
+     *         antes
+     */
+    private void readFully(final ByteBuffer buffer, final long position)
+            throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Fim inesperado do arquivo "
+                        + "de agendamentos");
+            }
+            current += read;
+        }
+    }
+
+    /**
+     * Garante que o buffer de leitura sequencial tenha ao menos a
+     * quantidade de bytes informada a partir da posição atual,
+     * compactando-o e lendo mais do arquivo se necessário.
+     *
+     * @param buffer buffer de leitura, em modo de leitura
+     * @param position posição no arquivo do início dos bytes restantes
+     * @param needed quantidade de bytes necessária, no máximo a
+     *        capacidade do buffer
+     * @return false se o arquivo termina antes
+     * @throws IOException se a leitura falhar
+     */
+    private boolean fill(final ByteBuffer buffer, final long position,
+                         final int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        long next = position + buffer.remaining();
+        buffer.compact();
+        while (buffer.position() < needed) {
+            int read = channel.read(buffer, next);
+            if (read < 0) {
+                break;
+            }
+            next += read;
+        }
+        buffer.flip();
+        return buffer.remaining() >= needed;
+    }
+
+    /**
+     * Entrega um registro ao destino.
+     *
+     * @param body corpo do registro
+     * @param position posição do registro
+     * @param visitor destino dos registros
+     * @return false se o tipo ou o tamanho do corpo forem inválidos
+     */
+    private static boolean visit(final ByteBuffer body, final long position,
+                                 final Visitor visitor) {
+        byte type = body.get(0);
+        if (type == ITEM && body.limit() >= ITEM_FIXED_SIZE) {
+            visitor.item(position, HEADER_SIZE + body.limit(),
+                    body.getLong(1),
+                    body.getLong(1 + Long.BYTES),
+                    body.getLong(1 + 2 * Long.BYTES));
+            return true;
+        }
+        if (type == RELEASE && body.limit() == RELEASE_SIZE) {
+            visitor.release(body.getLong(1));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Calcula o CRC32 dos bytes restantes do buffer, sem alterar a sua
+     * posição.
+     *
+     * @param bytes bytes a serem verificados
+     * @return CRC32 dos bytes
+     */
+    private int checksum(final ByteBuffer bytes) {
+        crc.reset();
+        crc.update(bytes.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Destino dos registros percorridos por {@link #replay(Visitor)}.
+     */
+    interface Visitor {
+
+        /**
+         * Recebe um email agendado.
+         *
+         * @param offset posição do registro
+         * @param size tamanho do registro, em bytes
+         * @param dueMillis data de envio, em milissegundos desde a época
+         * @param idMostSig bits mais significativos do identificador
+         * @param idLeastSig bits menos significativos do identificador
+         */
+        void item(long offset, int size, long dueMillis, long idMostSig,
+                  long idLeastSig);
+
+        /**
+         * Recebe a liberação de um email.
+         *
+         * @param offset posição do registro do email liberado
+         */
+        void release(long offset);
+    }
+}
@@ -0,0 +1,559 @@
+package com.viasoft.emailservice.schedule;
+
+import com.viasoft.emailservice.config.ScheduleConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.util.EmailRequestCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+
+/**
+ * Fila persistente dos emails agendados para uma data futura.
+ * Os dados de cada email vão para um arquivo de acréscimo
+ * ({@code mail.schedule.file}); em memória fica apenas um índice
+ * compacto com a data de envio e a posição do registro, o que permite
+ * milhões de emails pendentes sem manter os DTOs no heap. Na
+ * inicialização, o arquivo é relido e os emails não liberados voltam
+ * ao índice.
+ * Uma única thread libera os emails em ordem de data de envio,
+ * dormindo até o próximo vencimento ou até o agendamento de um email
+ * mais próximo, e entrega cada um a quem chamou {@link #start}. O
+ * atraso de cada liberação fica na métrica
+ * {@code email.schedule.lateness}. A liberação é gravada no arquivo
+ * depois da entrega: em uma queda entre as duas, o email é entregue de
+ * novo na próxima inicialização.
+ * O arquivo é esvaziado quando não há emails pendentes e compactado
+ * quando passa de {@code mail.schedule.compaction-threshold} com a
+ * maior parte dos registros já liberada. Ele só é criado no primeiro
+ * agendamento.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Component
+public class ScheduledEmailQueue {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ScheduledEmailQueue.class);
+
+    /**
+     * Espera máxima da thread de liberação, em nanossegundos, para que
+     * mudanças no relógio do sistema sejam percebidas.
+     */
+    private static final long MAX_PARK_NANOS =
+            TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Espera antes de nova tentativa quando o destino recusa um email
+     * ou o arquivo falha, em nanossegundos.
+     */
+    private static final long BACKOFF_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Quantidade máxima de emails liberados por rodada, para que os
+     * agendamentos não esperem pela liberação de um lote grande.
+     */
+    private static final int RELEASE_BATCH = 256;
+
+    /**
+     * Prazo para o encerramento da thread de liberação, em
+     * milissegundos.
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * Nanossegundos em um milissegundo.
+     */
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    /**
+     * Arquivo dos emails agendados.
+     */
+    private final Path file;
+
+    /**
+     * Quantidade máxima de emails pendentes.
+     */
+    private final int maxPending;
+
+    /**
+     * Tamanho do arquivo a partir do qual ele é compactado.
+     */
+    private final long compactionThreshold;
+
+    /**
+     * Protege o índice e o arquivo.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Índice dos emails pendentes.
+     */
+    private final ScheduleIndex index = new ScheduleIndex();
+
+    /**
+     * Arquivo aberto, ou null até o primeiro agendamento.
+     */
+    private ScheduleLog log;
+
+    /**
+     * Bytes dos registros de emails pendentes no arquivo.
+     */
+    private long liveBytes;
+
+    /**
+     * Buffer das posições liberadas em cada rodada.
+     */
+    private final long[] releasedOffsets = new long[RELEASE_BATCH];
+
+    /**
+     * Emails agendados desde a inicialização.
+     */
+    private final Counter scheduled;
+
+    /**
+     * Emails liberados desde a inicialização.
+     */
+    private final Counter released;
+
+    /**
+     * Atraso entre a data de envio e a liberação.
+     */
+    private final Timer lateness;
+
+    /**
+     * Thread de liberação, ou null antes de {@link #start}.
+     */
+    private volatile Thread timer;
+
+    /**
+     * Indica se a fila está em execução.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Construtor com injeção de dependências. Se o arquivo já existir,
+     * os emails pendentes são recuperados dele.
+     *
+     * @param configParam configuração dos envios agendados
+     * @param meterRegistryParam registro de métricas
+     * @throws EmailProcessingException se o arquivo existente não puder
+     *         ser lido
+     */
+    @Autowired
+    public ScheduledEmailQueue(final ScheduleConfig configParam,
+                               final MeterRegistry meterRegistryParam) {
+        this.file = configParam.getFile();
+        this.maxPending = configParam.getMaxPending();
+        this.compactionThreshold =
+                configParam.getCompactionThreshold().toBytes();
+        this.scheduled = Counter.builder("email.schedule.scheduled")
+                .description("Emails agendados")
+                .register(meterRegistryParam);
+        this.released = Counter.builder("email.schedule.released")
+                .description("Emails agendados liberados para envio")
+                .register(meterRegistryParam);
+        this.lateness = Timer.builder("email.schedule.lateness")
+                .description("Atraso da liberação em relação à data de "
+                        + "envio")
+                .register(meterRegistryParam);
+        Gauge.builder("email.schedule.pending", this,
+                        ScheduledEmailQueue::getPending)
+                .description("Emails agendados pendentes")
+                .register(meterRegistryParam);
+        if (Files.exists(file)) {
+            recover();
+        }
+    }
+
+    /**
+     * Inicia a thread de liberação.
+     *
+     * @param handler destino dos emails vencidos, chamado com o
+     *        identificador do job e os dados do email; deve retornar
+     *        false, sem bloquear, se não puder aceitar o email agora
+     * @throws IllegalStateException se a fila já foi iniciada
+     */
+    public void start(final BiPredicate<String, EmailRequestDTO> handler) {
+        if (timer != null) {
+            throw new IllegalStateException("Fila de agendamentos já "
+                    + "iniciada");
+        }
+        Thread thread = new Thread(() -> run(handler),
+                "email-schedule-timer");
+        thread.setDaemon(true);
+        timer = thread;
+        thread.start();
+    }
+
+    /**
+     * Agenda um email.
+     *
+     * @param jobId identificador do job, no formato UUID
+     * @param emailRequest dados do email
+     * @param sendAt data de envio
+     * @return data de liberação, a data de envio arredondada para cima
+     *         ao milissegundo, a mesma informada por {@link #sendAt}
+     * @throws EmailQueueFullException se o limite de emails pendentes
+     *         foi atingido
+     * @throws EmailProcessingException se o email não puder ser gravado
+     */
+    public Instant schedule(final String jobId,
+                         final EmailRequestDTO emailRequest,
+                         final Instant sendAt) {
+        UUID id = UUID.fromString(jobId);
+        byte[] payload = EmailRequestCodec.encode(emailRequest);
+        // Arredondada para cima, para não liberar antes da data
+        long due = sendAt.toEpochMilli()
+                + (sendAt.getNano() % NANOS_PER_MILLI == 0 ? 0 : 1);
+        boolean earliest;
+        lock.lock();
+        try {
+            if (index.size() >= maxPending) {
+                throw new EmailQueueFullException(
+                        "Limite de emails agendados atingido");
+            }
+            long offset = openLog().appendItem(due,
+                    id.getMostSignificantBits(),
+                    id.getLeastSignificantBits(), payload);
+            earliest = due < index.peekDue();
+            index.add(due, offset, key(id.getMostSignificantBits(),
+                    id.getLeastSignificantBits()));
+            liveBytes += ScheduleLog.HEADER_SIZE
+                    + ScheduleLog.ITEM_FIXED_SIZE + payload.length;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new EmailProcessingException(
+                    "Falha ao gravar email agendado", e);
+        } finally {
+            lock.unlock();
+        }
+        scheduled.increment();
+        Thread thread = timer;
+        if (earliest && thread != null) {
+            LockSupport.unpark(thread);
+        }
+        return Instant.ofEpochMilli(due);
+    }
+
+    /**
+     * Indica se um job está agendado e ainda não foi liberado.
+     *
+     * @param jobId identificador do job
+     * @return true se o job aguarda a data de envio
+     */
+    public boolean contains(final String jobId) {
+        return sendAt(jobId) != null;
+    }
+
+    /**
+     * Obtém a data de liberação de um job agendado e ainda não liberado.
+     *
+     * @param jobId identificador do job
+     * @return data de liberação, ou null se o job não aguarda a data de
+     *         envio
+     */
+    public Instant sendAt(final String jobId) {
+        UUID id;
+        try {
+            id = UUID.fromString(jobId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        long due;
+        lock.lock();
+        try {
+            due = index.dueOf(key(id.getMostSignificantBits(),
+                    id.getLeastSignificantBits()));
+        } finally {
+            lock.unlock();
+        }
+        return due == LongLongHashMap.NO_VALUE
+                ? null : Instant.ofEpochMilli(due);
+    }
+
+    /**
+     * Obtém a quantidade de emails pendentes.
+     *
+     * @return emails agendados e ainda não liberados
+     */
+    public int getPending() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Encerra a thread de liberação e fecha o arquivo. Os emails
+     * pendentes permanecem no arquivo para a próxima inicialização.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread = timer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            if (log != null) {
+                log.close();
+                log = null;
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Falha ao fechar o arquivo de agendamentos: {}",
+                    e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Laço da thread de liberação.
+     *
+     * @param handler destino dos emails vencidos
+     */
+    private void run(final BiPredicate<String, EmailRequestDTO> handler) {
+        while (running) {
+            long wait = releaseDue(handler);
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    /**
+     * Libera uma rodada de emails vencidos.
+     *
+     * @param handler destino dos emails vencidos
+     * @return espera até a próxima rodada, em nanossegundos
+     */
+    private long releaseDue(
+            final BiPredicate<String, EmailRequestDTO> handler) {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            int count = 0;
+            boolean refused = false;
+            while (count < RELEASE_BATCH && index.peekDue() <= now) {
+                long offset = index.peekOffset();
+                if (!release(offset, now, handler)) {
+                    refused = true;
+                    break;
+                }
+                releasedOffsets[count++] = offset;
+            }
+            if (count > 0) {
+                log.appendReleases(releasedOffsets, count);
+                released.increment(count);
+                compactIfNeeded();
+            }
+            if (refused) {
+                return BACKOFF_NANOS;
+            }
+            if (count == RELEASE_BATCH) {
+                return 0;
+            }
+            long next = index.peekDue();
+            return next == Long.MAX_VALUE ? MAX_PARK_NANOS
+                    : Math.min(MAX_PARK_NANOS,
+                            TimeUnit.MILLISECONDS.toNanos(next - now));
+        } catch (IOException e) {
+            LOGGER.error("Falha no arquivo de agendamentos: {}",
+                    e.getMessage(), e);
+            return BACKOFF_NANOS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Entrega o próximo email vencido e o remove do índice. Um registro
+     * ilegível é descartado; se o cabeçalho fixo do item estiver
+     * íntegro e só os dados do email não puderem ser decodificados, o
+     * identificador lido do cabeçalho também é retirado do índice. Nos
+     * dois casos a posição é gravada como liberada, para que o registro
+     * não volte na próxima inicialização.
+     *
+     * @param offset posição do registro do email
+     * @param now instante atual, em milissegundos desde a época
+     * @param handler destino dos emails vencidos
+     * @return false se o destino recusou o email
+     */
+    private boolean release(final long offset, final long now,
+                            final BiPredicate<String, EmailRequestDTO>
+                                    handler) {
+        ByteBuffer body;
+        try {
+            body = log.readItem(offset);
+        } catch (IOException e) {
+            LOGGER.error("Email agendado ilegível na posição {} descartado: "
+                    + "{}", offset, e.getMessage());
+            index.poll();
+            return true;
+        }
+        long due = body.getLong();
+        long mostSig = body.getLong();
+        long leastSig = body.getLong();
+        String jobId = new UUID(mostSig, leastSig).toString();
+        EmailRequestDTO emailRequest;
+        try {
+            emailRequest = EmailRequestCodec.decode(body.duplicate()
+                    .position(ScheduleLog.ITEM_FIXED_SIZE));
+        } catch (IOException e) {
+            LOGGER.error("Email agendado {} ilegível descartado: {}", jobId,
+                    e.getMessage());
+            remove(mostSig, leastSig, body);
+            return true;
+        }
+        if (!handler.test(jobId, emailRequest)) {
+            return false;
+        }
+        remove(mostSig, leastSig, body);
+        lateness.record(Math.max(0, now - due), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * Remove do índice o próximo email, já lido do arquivo.
+     *
+     * @param mostSig bits mais significativos do identificador
+     * @param leastSig bits menos significativos do identificador
+     * @param body corpo do registro do email
+     */
+    private void remove(final long mostSig, final long leastSig,
+                        final ByteBuffer body) {
+        index.poll();
+        index.release(key(mostSig, leastSig));
+        liveBytes -= ScheduleLog.HEADER_SIZE + body.limit();
+    }
+
+    /**
+     * Esvazia o arquivo quando não há emails pendentes, ou o compacta
+     * quando passou do limite e a maior parte dele já foi liberada.
+     *
+     * @throws IOException se a operação no arquivo falhar
+     */
+    private void compactIfNeeded() throws IOException {
+        if (index.size() == 0) {
+            log.truncate();
+            liveBytes = 0;
+            return;
+        }
+        if (log.size() >= compactionThreshold
+                && liveBytes * 2 < log.size()) {
+            long before = log.size();
+            long[] oldOffsets = index.sortedOffsets();
+            index.remap(oldOffsets, log.compact(oldOffsets));
+            LOGGER.info("Arquivo de agendamentos compactado de {} para {} "
+                    + "bytes", before, log.size());
+        }
+    }
+
+    /**
+     * Relê o arquivo existente e recupera os emails não liberados.
+     *
+     * @throws EmailProcessingException se o arquivo não puder ser lido
+     */
+    private void recover() {
+        try {
+            ScheduleLog existing = openLog();
+            LongHashSet releasedSet = new LongHashSet();
+            existing.replay(new ScheduleLog.Visitor() {
+                @Override
+                public void item(final long offset, final int size,
+                                 final long dueMillis,
+                                 final long idMostSig,
+                                 final long idLeastSig) {
+                    // Itens na segunda leitura
+                }
+
+                @Override
+                public void release(final long offset) {
+                    releasedSet.add(offset);
+                }
+            });
+            existing.replay(new ScheduleLog.Visitor() {
+                @Override
+                public void item(final long offset, final int size,
+                                 final long dueMillis,
+                                 final long idMostSig,
+                                 final long idLeastSig) {
+                    if (!releasedSet.contains(offset)) {
+                        index.add(dueMillis, offset,
+                                key(idMostSig, idLeastSig));
+                        liveBytes += size;
+                    }
+                }
+
+                @Override
+                public void release(final long offset) {
+                    // Liberações na primeira leitura
+                }
+            });
+            if (index.size() == 0) {
+                existing.truncate();
+            }
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao ler o arquivo de agendamentos " + file, e);
+        }
+        LOGGER.info("{} emails agendados recuperados de {}", index.size(),
+                file);
+    }
+
+    /**
+     * Obtém o arquivo, abrindo-o na primeira chamada.
+     *
+     * @return arquivo aberto
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    private ScheduleLog openLog() throws IOException {
+        if (log == null) {
+            log = new ScheduleLog(file);
+        }
+        return log;
+    }
+
+    /**
+     * Calcula a chave de um identificador no índice.
+     *
+     * @param mostSig bits mais significativos do identificador
+     * @param leastSig bits menos significativos do identificador
+     * @return chave do identificador
+     */
+    private static long key(final long mostSig, final long leastSig) {
+        return mostSig ^ leastSig;
+    }
+}
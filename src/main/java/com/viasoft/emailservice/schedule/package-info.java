@@ -0,0 +1,12 @@
+/**
+ * Pacote dos envios agendados.
+ *
+ * Este pacote contém a fila persistente dos emails com data de envio
+ * futura: o arquivo de acréscimo com os dados dos emails e o índice
+ * compacto em memória que os libera em ordem de data.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.schedule;
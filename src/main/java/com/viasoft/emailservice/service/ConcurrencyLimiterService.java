@@ -0,0 +1,53 @@
+package com.viasoft.emailservice.service;
+
+/**
+ * Interface do serviço de limite adaptativo de concorrência.
+ * Define o contrato para admitir ou recusar uma requisição conforme
+ * o limite atual e para informar a latência de cada requisição
+ * concluída, usada no ajuste do limite.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface ConcurrencyLimiterService {
+
+    /**
+     * Tenta admitir uma requisição.
+     * Toda requisição admitida deve ser encerrada com
+     * {@link #release(long, boolean)}.
+     *
+     * @return true se a requisição foi admitida
+     */
+    boolean tryAcquire();
+
+    /**
+     * Encerra uma requisição admitida.
+     *
+     * @param latencyNanos latência da requisição, em nanossegundos
+     * @param sample true se a latência deve ser usada no ajuste do
+     *        limite; falsa para requisições que falharam
+     */
+    void release(long latencyNanos, boolean sample);
+
+    /**
+     * Obtém o limite atual de requisições simultâneas.
+     *
+     * @return limite atual
+     */
+    int getLimit();
+
+    /**
+     * Obtém a quantidade de requisições em andamento.
+     *
+     * @return requisições em andamento
+     */
+    int getInFlight();
+
+    /**
+     * Obtém a quantidade de requisições recusadas desde o início.
+     *
+     * @return requisições recusadas
+     */
+    long getRejected();
+}
@@ -0,0 +1,38 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+
+/**
+ * Interface do serviço de processamento assíncrono de emails.
+ * Define o contrato para aceitar emails em uma fila de trabalho
+ * e consultar a situação dos jobs criados.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface EmailJobService {
+
+    /**
+     * Enfileira um email para processamento assíncrono. Com data de
+     * envio futura, o email é agendado e só entra na fila de trabalho
+     * quando a data chega.
+     *
+     * @param emailRequest dados do email já validados
+     * @return job criado, na situação PENDENTE ou AGENDADO
+     * @throws com.viasoft.emailservice.exception.EmailQueueFullException
+     *         se a fila de trabalho ou de agendamentos estiver cheia
+     */
+    EmailJobDTO submit(EmailRequestDTO emailRequest);
+
+    /**
+     * Consulta a situação de um job.
+     *
+     * @param jobId identificador do job
+     * @return situação atual do job
+     * @throws com.viasoft.emailservice.exception.EmailJobNotFoundException
+     *         se o job não existir ou não estiver mais rastreado
+     */
+    EmailJobDTO getJob(String jobId);
+}
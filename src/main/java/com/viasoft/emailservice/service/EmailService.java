@@ -1,6 +1,13 @@
 package com.viasoft.emailservice.service;
 
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.BatchResponseDTO;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.RateLimitMode;
+import com.viasoft.emailservice.validation.ValidationResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface do serviço de email.
@@ -18,13 +25,83 @@ public interface EmailService {
      * Este método é responsável por:
      * - Adaptar os dados para o provedor configurado
      * - Serializar o objeto adaptado
-     * - Imprimir o resultado no console
+     * - Entregar o resultado ao destino de saída configurado
+     * Os dados devem chegar já validados pelo Bean Validation, como o
+     * corpo validado pelo controller; a validação não é repetida.
      *
-     * @param emailRequest dados da requisição de email
+     * @param emailRequest dados da requisição de email já validados
      * @throws com.viasoft.emailservice.exception.EmailProcessingException
      *         se ocorrer erro no processamento
-     * @throws com.viasoft.emailservice.exception.InvalidEmailDataException
-     *         se os dados forem inválidos
+     * @throws com.viasoft.emailservice.exception.ProviderLimitExceededException
+     *         se os dados excederem os limites do provedor
      */
     void processEmail(EmailRequestDTO emailRequest);
+
+    /**
+     * Processa uma requisição de email sem lançar exceção quando os
+     * dados excedem os limites do provedor. O email recusado não é
+     * entregue, e o resultado traz todos os campos excedidos. Os dados
+     * devem chegar já validados pelo Bean Validation.
+     *
+     * @param emailRequest dados da requisição de email já validados
+     * @return resultado da validação dos limites do provedor; inválido
+     *         se o email foi recusado
+     * @throws com.viasoft.emailservice.exception.EmailProcessingException
+     *         se ocorrer erro no processamento
+     */
+    ValidationResult tryProcessEmail(EmailRequestDTO emailRequest);
+
+    /**
+     * Processa uma requisição de email com o comportamento informado
+     * para cota de envio esgotada. O modo
+     * {@link RateLimitMode#AGUARDAR} é usado pelo processamento
+     * assíncrono, que pode aguardar a liberação da cota. Os dados devem
+     * chegar já validados pelo Bean Validation.
+     *
+     * @param emailRequest dados da requisição de email já validados
+     * @param rateLimitMode comportamento quando a cota está esgotada
+     * @throws com.viasoft.emailservice.exception.RateLimitExceededException
+     *         se a cota estiver esgotada além da espera permitida
+     * @throws com.viasoft.emailservice.exception.ProviderLimitExceededException
+     *         se os dados excederem os limites do provedor
+     */
+    void processEmail(EmailRequestDTO emailRequest,
+                      RateLimitMode rateLimitMode);
+
+    /**
+     * Processa um lote de requisições de email.
+     * Cada item é validado e adaptado individualmente, de forma que
+     * itens inválidos não interrompem o processamento dos demais.
+     *
+     * @param emailRequests itens do lote, na ordem de recebimento
+     * @return resultado individual de cada item e totais do lote
+     * @throws com.viasoft.emailservice.exception.InvalidEmailDataException
+     *         se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    BatchResponseDTO processBatch(List<EmailRequestDTO> emailRequests);
+
+    /**
+     * Processa um único item de um fluxo de emails.
+     * Falhas de validação ou de processamento são convertidas em
+     * resultado de rejeição, sem lançar exceção.
+     *
+     * @param indice posição do item no fluxo
+     * @param emailRequest dados do item
+     * @return resultado do processamento do item
+     */
+    BatchItemResultDTO processItem(int indice, EmailRequestDTO emailRequest);
+
+    /**
+     * Submete um único item de um fluxo de emails ao pipeline sem
+     * aguardar o seu processamento, permitindo que vários itens
+     * avancem pelos estágios ao mesmo tempo.
+     * Falhas de validação ou de processamento são convertidas em
+     * resultado de rejeição; o futuro nunca é concluído com exceção.
+     *
+     * @param indice posição do item no fluxo
+     * @param emailRequest dados do item
+     * @return futuro com o resultado do processamento do item
+     */
+    CompletableFuture<BatchItemResultDTO> submitItem(
+            int indice, EmailRequestDTO emailRequest);
 }
@@ -0,0 +1,50 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+
+/**
+ * Interface do serviço de envio idempotente de emails.
+ * Define o contrato para processar um email no máximo uma vez por
+ * chave de idempotência informada pelo cliente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface IdempotencyService {
+
+    /**
+     * Processa o email associado à chave, ou reaproveita o resultado
+     * do primeiro processamento bem-sucedido com a mesma chave.
+     *
+     * @param idempotencyKey chave de idempotência informada pelo cliente
+     * @param emailRequest dados do email já validados
+     * @return true se o resultado foi reaproveitado sem novo
+     *         processamento
+     * @throws com.viasoft.emailservice.exception.InvalidEmailDataException
+     *         se a chave for vazia ou exceder o tamanho máximo
+     * @throws com.viasoft.emailservice.exception.IdempotencyConflictException
+     *         se a chave já foi usada com outro conteúdo ou a requisição
+     *         original ainda estiver em andamento
+     */
+    boolean processEmail(String idempotencyKey, EmailRequestDTO emailRequest);
+
+    /**
+     * Submete ao modo assíncrono o email associado à chave, ou
+     * reaproveita o job aceito na primeira submissão bem-sucedida com a
+     * mesma chave. Usado pelos emails agendados, que são aceitos como
+     * job em vez de processados na requisição.
+     *
+     * @param idempotencyKey chave de idempotência informada pelo cliente
+     * @param emailRequest dados do email já validados
+     * @return job aceito na primeira submissão com a chave
+     * @throws com.viasoft.emailservice.exception.InvalidEmailDataException
+     *         se a chave for vazia ou exceder o tamanho máximo
+     * @throws com.viasoft.emailservice.exception.IdempotencyConflictException
+     *         se a chave já foi usada com outro conteúdo ou a requisição
+     *         original ainda estiver em andamento
+     */
+    IdempotentResult<EmailJobDTO> submitJob(String idempotencyKey,
+                                            EmailRequestDTO emailRequest);
+}
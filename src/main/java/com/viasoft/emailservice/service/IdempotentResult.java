@@ -0,0 +1,16 @@
+package com.viasoft.emailservice.service;
+
+/**
+ * Resultado de uma operação idempotente: o valor produzido pela
+ * primeira requisição com a chave e a indicação de que ele foi
+ * reaproveitado sem nova execução.
+ *
+ * @param value valor produzido pela primeira requisição
+ * @param replayed true se o valor foi reaproveitado pelo cache
+ * @param <T> tipo do valor
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public record IdempotentResult<T>(T value, boolean replayed) {
+}
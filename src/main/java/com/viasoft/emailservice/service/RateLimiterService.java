@@ -0,0 +1,39 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
+
+/**
+ * Interface do serviço de limitação de taxa de envio.
+ * Define o contrato para consumir a cota de envio do provedor e do
+ * remetente antes de cada email.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface RateLimiterService {
+
+    /**
+     * Consome uma ficha da cota do provedor e uma da cota do remetente.
+     *
+     * @param provider provedor utilizado no envio
+     * @param emailRemetente email do remetente
+     * @param mode comportamento quando a cota está esgotada
+     * @throws com.viasoft.emailservice.exception.RateLimitExceededException
+     *         se a cota estiver esgotada além da espera permitida
+     */
+    void acquire(EmailProvider provider, String emailRemetente,
+                 RateLimitMode mode);
+
+    /**
+     * Consome uma ficha da cota do provedor somente se ela estiver
+     * disponível agora, sem espera e sem consumir a cota do remetente.
+     * Usado pelas tentativas extras de um email cujo remetente já foi
+     * contabilizado.
+     *
+     * @param provider provedor utilizado no envio
+     * @return true se a ficha foi consumida
+     */
+    boolean tryAcquire(EmailProvider provider);
+}
@@ -0,0 +1,278 @@
+package com.viasoft.emailservice.service.impl;
+
+import com.viasoft.emailservice.config.ConcurrencyLimitConfig;
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementação do limite adaptativo de concorrência por gradiente.
+ * A cada janela, a latência média da janela (curta) é comparada com
+ * uma média móvel longa da latência. Enquanto a latência curta fica
+ * dentro da tolerância, o limite cresce aproximadamente na raiz
+ * quadrada do limite atual; quando o provedor fica lento, o gradiente
+ * entre as duas latências reduz o limite proporcionalmente, e as
+ * requisições excedentes passam a ser recusadas de imediato.
+ * A admissão é um compare-and-set sobre o contador de requisições em
+ * andamento; as amostras são acumuladas em {@link LongAdder} e apenas
+ * a thread que fecha a janela recalcula o limite.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Service
+public class ConcurrencyLimiterServiceImpl
+        implements ConcurrencyLimiterService {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ConcurrencyLimiterServiceImpl.class);
+
+    /**
+     * Peso do novo limite na suavização exponencial.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Razão entre as latências curta e longa tolerada sem reduzir
+     * o limite.
+     */
+    private static final double LATENCY_TOLERANCE = 1.5;
+
+    /**
+     * Menor gradiente aplicado em uma janela.
+     */
+    private static final double MIN_GRADIENT = 0.5;
+
+    /**
+     * Quantidade de janelas da média móvel longa.
+     */
+    private static final int LONG_WINDOWS = 60;
+
+    /**
+     * Razão entre as latências longa e curta a partir da qual a média
+     * longa é acelerada em direção à curta, após uma melhora.
+     */
+    private static final double LONG_LATENCY_DRIFT = 2.0;
+
+    /**
+     * Fator de decaimento da média longa após uma melhora.
+     */
+    private static final double LONG_LATENCY_DECAY = 0.95;
+
+    /**
+     * Limite mínimo de requisições simultâneas.
+     */
+    private final int minLimit;
+
+    /**
+     * Limite máximo de requisições simultâneas.
+     */
+    private final int maxLimit;
+
+    /**
+     * Quantidade mínima de amostras para ajustar o limite.
+     */
+    private final int minSamples;
+
+    /**
+     * Duração da janela de amostragem, em nanossegundos.
+     */
+    private final long windowNanos;
+
+    /**
+     * Requisições em andamento.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Requisições recusadas desde o início.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Soma das latências da janela atual, em nanossegundos.
+     */
+    private final LongAdder windowLatency = new LongAdder();
+
+    /**
+     * Quantidade de amostras da janela atual.
+     */
+    private final LongAdder windowSamples = new LongAdder();
+
+    /**
+     * Maior quantidade de requisições em andamento na janela atual.
+     */
+    private final LongAccumulator windowPeak =
+            new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Instante de fechamento da janela atual, em nanossegundos.
+     */
+    private final AtomicLong windowEnd;
+
+    /**
+     * Limite atual de requisições simultâneas.
+     */
+    private volatile double limit;
+
+    /**
+     * Média móvel longa da latência, em nanossegundos; escrita apenas
+     * pela thread que fecha a janela.
+     */
+    private volatile double longLatency;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param configParam configuração do limite de concorrência
+     * @param meterRegistry registro de métricas
+     */
+    @Autowired
+    public ConcurrencyLimiterServiceImpl(
+            final ConcurrencyLimitConfig configParam,
+            final MeterRegistry meterRegistry) {
+        this.minLimit = configParam.getMinLimit();
+        this.maxLimit = configParam.getMaxLimit();
+        this.minSamples = configParam.getMinSamples();
+        this.windowNanos = configParam.getWindow().toNanos();
+        this.limit = Math.max(minLimit,
+                Math.min(maxLimit, configParam.getInitialLimit()));
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+
+        Gauge.builder("email.concurrency.limit", this,
+                        ConcurrencyLimiterServiceImpl::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("email.concurrency.inflight", inFlight,
+                        AtomicInteger::get)
+                .register(meterRegistry);
+        FunctionCounter.builder("email.concurrency.rejected", rejected,
+                        LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tenta admitir uma requisição.
+     *
+     * @return true se a requisição foi admitida
+     */
+    @Override
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        windowPeak.accumulate(current + 1L);
+        return true;
+    }
+
+    /**
+     * Encerra uma requisição admitida e, ao fim da janela, ajusta o
+     * limite.
+     *
+     * @param latencyNanos latência da requisição, em nanossegundos
+     * @param sample true se a latência deve ser usada no ajuste
+     */
+    @Override
+    public void release(final long latencyNanos, final boolean sample) {
+        inFlight.decrementAndGet();
+        if (!sample) {
+            return;
+        }
+
+        windowLatency.add(latencyNanos);
+        windowSamples.increment();
+
+        long now = System.nanoTime();
+        long end = windowEnd.get();
+        if (now - end >= 0
+                && windowSamples.sum() >= minSamples
+                && windowEnd.compareAndSet(end, now + windowNanos)) {
+            updateLimit();
+        }
+    }
+
+    /**
+     * Recalcula o limite a partir das amostras da janela encerrada.
+     */
+    private void updateLimit() {
+        long samples = windowSamples.sumThenReset();
+        long latencySum = windowLatency.sumThenReset();
+        long peak = windowPeak.getThenReset();
+        if (samples == 0) {
+            return;
+        }
+
+        double shortLatency = (double) latencySum / samples;
+        double longValue = longLatency == 0
+                ? shortLatency
+                : longLatency + (shortLatency - longLatency) / LONG_WINDOWS;
+        if (longValue / shortLatency > LONG_LATENCY_DRIFT) {
+            longValue *= LONG_LATENCY_DECAY;
+        }
+        longLatency = longValue;
+
+        double current = limit;
+        if (peak < current / 2) {
+            // Demanda abaixo do limite: a latência não reflete saturação
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0,
+                LATENCY_TOLERANCE * longValue / shortLatency));
+        double target = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+
+        LOGGER.debug("Limite de concorrência: {} -> {} (latência {} / {} µs)",
+                (int) current, (int) limit,
+                (long) (shortLatency / 1000), (long) (longValue / 1000));
+    }
+
+    /**
+     * Obtém o limite atual de requisições simultâneas.
+     *
+     * @return limite atual
+     */
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Obtém a quantidade de requisições em andamento.
+     *
+     * @return requisições em andamento
+     */
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Obtém a quantidade de requisições recusadas desde o início.
+     *
+     * @return requisições recusadas
+     */
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
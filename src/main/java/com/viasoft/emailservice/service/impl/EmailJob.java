@@ -0,0 +1,160 @@
+package com.viasoft.emailservice.service.impl;
+
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado interno de um job de email assíncrono.
+ * Os campos de situação são voláteis porque são escritos pelo worker
+ * e lidos pelas threads que consultam o job.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class EmailJob {
+
+    /**
+     * Identificador do job.
+     */
+    private final String id;
+
+    /**
+     * Dados do email; descartados quando o job atinge estado final.
+     */
+    private volatile EmailRequestDTO request;
+
+    /**
+     * Situação atual do job.
+     */
+    private volatile EmailJobStatus status;
+
+    /**
+     * Mensagem de erro quando o job falha.
+     */
+    private volatile String erro;
+
+    /**
+     * Tentativas de processamento já iniciadas.
+     */
+    private volatile int attempts;
+
+    /**
+     * Data e hora da última alteração de situação.
+     */
+    private volatile LocalDateTime atualizadoEm;
+
+    /**
+     * Cria um job na situação PENDENTE.
+     *
+     * @param jobId identificador do job
+     * @param emailRequest dados do email
+     */
+    EmailJob(final String jobId, final EmailRequestDTO emailRequest) {
+        this.id = jobId;
+        this.request = emailRequest;
+        this.status = EmailJobStatus.PENDENTE;
+        this.atualizadoEm = LocalDateTime.now();
+    }
+
+    /**
+     * Obtém o identificador do job.
+     *
+     * @return identificador do job
+     */
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Obtém os dados do email.
+     *
+     * @return dados do email, ou null se o job já foi encerrado
+     */
+    EmailRequestDTO getRequest() {
+        return request;
+    }
+
+    /**
+     * Obtém a situação atual do job.
+     *
+     * @return situação do job
+     */
+    EmailJobStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Indica se o job atingiu estado final.
+     *
+     * @return true se o job foi concluído ou falhou
+     */
+    boolean isFinished() {
+        return status.isFinal();
+    }
+
+    /**
+     * Obtém a quantidade de tentativas já iniciadas.
+     *
+     * @return tentativas de processamento
+     */
+    int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Marca o job como em processamento, iniciando uma nova tentativa.
+     */
+    void markProcessing() {
+        this.attempts++;
+        this.status = EmailJobStatus.PROCESSANDO;
+        this.atualizadoEm = LocalDateTime.now();
+    }
+
+    /**
+     * Marca o job como concluído.
+     */
+    void markCompleted() {
+        this.request = null;
+        this.atualizadoEm = LocalDateTime.now();
+        this.erro = null;
+        this.status = EmailJobStatus.CONCLUIDO;
+    }
+
+    /**
+     * Marca o job como aguardando nova tentativa após uma falha
+     * transitória.
+     *
+     * @param mensagem mensagem de erro da tentativa que falhou
+     */
+    void markRetrying(final String mensagem) {
+        this.erro = mensagem;
+        this.atualizadoEm = LocalDateTime.now();
+        this.status = EmailJobStatus.REAGENDADO;
+    }
+
+    /**
+     * Marca o job como falho.
+     *
+     * @param mensagem mensagem de erro
+     */
+    void markFailed(final String mensagem) {
+        this.request = null;
+        this.erro = mensagem;
+        this.atualizadoEm = LocalDateTime.now();
+        this.status = EmailJobStatus.FALHOU;
+    }
+
+    /**
+     * Converte o estado atual do job em DTO.
+     *
+     * @return DTO com a situação do job
+     */
+    EmailJobDTO toDTO() {
+        return new EmailJobDTO(id, status, erro,
+                attempts == 0 ? null : attempts, atualizadoEm);
+    }
+}
@@ -0,0 +1,763 @@
+package com.viasoft.emailservice.service.impl;
+
+import com.viasoft.emailservice.config.AsyncDispatchConfig;
+import com.viasoft.emailservice.config.RetryConfig;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
+import com.viasoft.emailservice.exception.EmailDeliveryException;
+import com.viasoft.emailservice.exception.EmailJobNotFoundException;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.exception.ProviderUnavailableException;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
+import com.viasoft.emailservice.journal.EmailJournal;
+import com.viasoft.emailservice.retry.DeadLetter;
+import com.viasoft.emailservice.retry.DeadLetterStore;
+import com.viasoft.emailservice.retry.RetryPolicy;
+import com.viasoft.emailservice.retry.RetryScheduler;
+import com.viasoft.emailservice.schedule.ScheduledEmailQueue;
+import com.viasoft.emailservice.service.EmailJobService;
+import com.viasoft.emailservice.service.EmailService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementação do serviço de processamento assíncrono de emails.
+ * Os emails aceitos são colocados em uma fila limitada em memória,
+ * consumida por um pool de workers de tamanho configurável que executa
+ * o mesmo fluxo de adaptação, serialização e saída do modo síncrono.
+ * A fila tem uma faixa limitada por prioridade, atendidas por
+ * round-robin ponderado: um lote de emails de prioridade baixa não
+ * atrasa nem bloqueia a aceitação dos emails urgentes, que têm uma
+ * fração mínima garantida dos workers. O tempo de espera na fila é
+ * publicado por faixa.
+ * No desligamento, a fila é esvaziada dentro do prazo configurado.
+ * Com threads virtuais habilitadas, os workers rodam em threads virtuais.
+ * Quando a cota de envio está esgotada, o worker aguarda sua liberação
+ * em vez de falhar o job.
+ * Falhas transitórias (falha de entrega no provedor, provedor
+ * indisponível ou cota esgotada) são tentadas de novo após uma espera
+ * exponencial, conforme a política do provedor; os jobs que esgotam as
+ * tentativas vão para o armazenamento de emails esgotados. Demais
+ * falhas, como um email que excede os limites do provedor, marcam o
+ * job como falho imediatamente e também vão para o armazenamento, com
+ * o motivo do descarte.
+ * Emails com data de envio futura ficam na fila persistente de
+ * agendamentos e só viram jobs em memória quando a data chega.
+ * Com o diário habilitado, cada job é gravado no diário antes de ser
+ * aceito e marcado como concluído nele ao terminar, com sucesso ou
+ * falha definitiva; os jobs não concluídos, inclusive os interrompidos
+ * no desligamento, são retomados na próxima inicialização.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Service
+public class EmailJobServiceImpl implements EmailJobService {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(EmailJobServiceImpl.class);
+
+    /**
+     * Prefixo do nome das threads dos workers.
+     */
+    private static final String THREAD_PREFIX = "email-dispatch-";
+
+    /**
+     * Espera, em milissegundos, entre as tentativas de devolver à fila
+     * um job retomado do diário.
+     */
+    private static final long REPLAY_WAIT_MILLIS = 100L;
+
+    /**
+     * Serviço que executa o processamento de cada email.
+     */
+    private final EmailService emailService;
+
+    /**
+     * Configuração das novas tentativas.
+     */
+    private final RetryConfig retryConfig;
+
+    /**
+     * Agendador das novas tentativas.
+     */
+    private final RetryScheduler retryScheduler;
+
+    /**
+     * Armazenamento dos jobs que esgotaram as tentativas.
+     */
+    private final DeadLetterStore deadLetters;
+
+    /**
+     * Fila persistente dos emails agendados.
+     */
+    private final ScheduledEmailQueue scheduledEmails;
+
+    /**
+     * Diário dos emails aceitos.
+     */
+    private final EmailJournal journal;
+
+    /**
+     * Política de novas tentativas de cada provedor.
+     */
+    private final Map<EmailProvider, RetryPolicy> policies =
+            new EnumMap<>(EmailProvider.class);
+
+    /**
+     * Política usada quando o provedor da falha não é conhecido.
+     */
+    private final RetryPolicy defaultPolicy;
+
+    /**
+     * Pool de workers com fila limitada.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Fila de trabalho do pool, com uma faixa por prioridade.
+     */
+    private final PriorityLaneQueue queue;
+
+    /**
+     * Tempo de espera na fila de cada faixa de prioridade.
+     */
+    private final Map<EmailPriority, Timer> queueTimes =
+            new EnumMap<>(EmailPriority.class);
+
+    /**
+     * Jobs rastreados, indexados por identificador.
+     */
+    private final Map<String, EmailJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Identificadores dos jobs na ordem de criação, usados para
+     * descartar os mais antigos quando o limite é atingido.
+     */
+    private final Queue<String> jobOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Quantidade máxima de jobs rastreados.
+     */
+    private final int maxTrackedJobs;
+
+    /**
+     * Prazo, em milissegundos, para esvaziar a fila no desligamento.
+     */
+    private final long shutdownTimeoutMillis;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param emailServiceParam serviço de email
+     * @param configParam configuração do modo assíncrono
+     * @param retryConfigParam configuração das novas tentativas
+     * @param retrySchedulerParam agendador das novas tentativas
+     * @param deadLettersParam armazenamento dos emails esgotados
+     * @param scheduledEmailsParam fila dos emails agendados
+     * @param journalParam diário dos emails aceitos
+     * @param meterRegistryParam registro de métricas
+     */
+    @Autowired
+    public EmailJobServiceImpl(final EmailService emailServiceParam,
+                               final AsyncDispatchConfig configParam,
+                               final RetryConfig retryConfigParam,
+                               final RetryScheduler retrySchedulerParam,
+                               final DeadLetterStore deadLettersParam,
+                               final ScheduledEmailQueue
+                                       scheduledEmailsParam,
+                               final EmailJournal journalParam,
+                               final MeterRegistry meterRegistryParam) {
+        this.emailService = emailServiceParam;
+        this.retryConfig = retryConfigParam;
+        this.retryScheduler = retrySchedulerParam;
+        this.deadLetters = deadLettersParam;
+        this.scheduledEmails = scheduledEmailsParam;
+        this.journal = journalParam;
+        this.defaultPolicy = retryConfigParam.getDefaultPolicy();
+        for (EmailProvider provider : EmailProvider.values()) {
+            policies.put(provider, retryConfigParam.getPolicy(provider));
+        }
+        this.maxTrackedJobs = configParam.getMaxTrackedJobs();
+        this.shutdownTimeoutMillis =
+                configParam.getShutdownTimeout().toMillis();
+        EmailPriority[] priorities = EmailPriority.values();
+        int[] weights = new int[priorities.length];
+        for (EmailPriority priority : priorities) {
+            weights[priority.ordinal()] = configParam.getLaneWeight(priority);
+        }
+        this.queue = new PriorityLaneQueue(weights,
+                configParam.getQueueCapacity(),
+                EmailJobServiceImpl::laneOf);
+        for (EmailPriority priority : priorities) {
+            String lane = priority.name().toLowerCase();
+            queueTimes.put(priority, Timer.builder("email.async.queue.time")
+                    .description("Tempo de espera do job na fila de trabalho")
+                    .tag("lane", lane)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistryParam));
+            Gauge.builder("email.async.queue.size", queue,
+                            q -> q.size(priority.ordinal()))
+                    .description("Jobs aguardando na faixa da fila")
+                    .tag("lane", lane)
+                    .register(meterRegistryParam);
+        }
+        this.executor = new ThreadPoolExecutor(
+                configParam.getWorkers(),
+                configParam.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                createThreadFactory(configParam),
+                new ThreadPoolExecutor.AbortPolicy());
+        replayJournal();
+        this.scheduledEmails.start(this::release);
+    }
+
+    /**
+     * Cria a fábrica de threads dos workers, virtuais ou de plataforma
+     * conforme a configuração.
+     *
+     * @param configParam configuração do modo assíncrono
+     * @return fábrica de threads dos workers
+     */
+    private static ThreadFactory createThreadFactory(
+            final AsyncDispatchConfig configParam) {
+        if (configParam.isVirtualThreads()) {
+            LOGGER.info("Workers assíncronos usando threads virtuais");
+            return new VirtualThreadTaskExecutor(THREAD_PREFIX)
+                    .getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory(THREAD_PREFIX);
+    }
+
+    /**
+     * Obtém a faixa da fila de uma tarefa: a prioridade do email.
+     *
+     * @param task tarefa enfileirada
+     * @return índice da faixa
+     */
+    private static int laneOf(final Runnable task) {
+        EmailPriority priority = task instanceof JobTask jobTask
+                ? jobTask.priority : EmailPriority.NORMAL;
+        return priority.ordinal();
+    }
+
+    /**
+     * Gera um identificador de job aleatório e imprevisível, já que o
+     * identificador dá acesso ao estado do job pela API.
+     *
+     * @return identificador do job
+     */
+    private static String newJobId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Enfileira um email para processamento assíncrono, ou o agenda se
+     * a data de envio for futura.
+     *
+     * @param emailRequest dados do email já validados
+     * @return job criado, na situação PENDENTE ou AGENDADO
+     * @throws EmailQueueFullException se a faixa da fila de trabalho ou
+     *         a fila de agendamentos estiver cheia
+     * @throws EmailProcessingException se o email não puder ser gravado
+     *         no diário
+     */
+    @Override
+    public EmailJobDTO submit(final EmailRequestDTO emailRequest) {
+        if (emailRequest.getEnviarEm() != null) {
+            Instant sendAt = emailRequest.getEnviarEm().toInstant();
+            if (sendAt.isAfter(Instant.now())) {
+                String jobId = newJobId();
+                Instant due = scheduledEmails.schedule(jobId, emailRequest,
+                        sendAt);
+                LOGGER.debug("Job {} agendado para {}", jobId, sendAt);
+                return scheduledJob(jobId, due);
+            }
+        }
+        EmailJob job = new EmailJob(newJobId(), emailRequest);
+        EmailJobDTO accepted = job.toDTO();
+        jobs.put(job.getId(), job);
+        try {
+            journal.append(job.getId(), emailRequest);
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        try {
+            executor.execute(new JobTask(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            journal.complete(job.getId());
+            LOGGER.warn("Fila de emails de prioridade {} cheia; job "
+                    + "rejeitado", emailRequest.getPrioridade());
+            throw new EmailQueueFullException(
+                    "Fila de processamento de emails cheia", e);
+        }
+
+        jobOrder.add(job.getId());
+        evictFinishedJobs();
+
+        LOGGER.debug("Job {} enfileirado", job.getId());
+        return accepted;
+    }
+
+    /**
+     * Consulta a situação de um job.
+     *
+     * @param jobId identificador do job
+     * @return situação atual do job
+     * @throws EmailJobNotFoundException se o job não for encontrado
+     */
+    @Override
+    public EmailJobDTO getJob(final String jobId) {
+        EmailJob job = jobs.get(jobId);
+        if (job == null) {
+            Instant due = scheduledEmails.sendAt(jobId);
+            if (due != null) {
+                return scheduledJob(jobId, due);
+            }
+            // O job pode ter sido liberado entre as duas consultas
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new EmailJobNotFoundException(
+                    "Job de email não encontrado: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * Monta a situação de um job agendado. A data de atualização é a
+     * data de liberação, a mesma na aceitação e nas consultas até a
+     * liberação, quando o job passa a PENDENTE.
+     *
+     * @param jobId identificador do job
+     * @param due data de liberação do job
+     * @return situação do job agendado
+     */
+    private static EmailJobDTO scheduledJob(final String jobId,
+                                            final Instant due) {
+        return new EmailJobDTO(jobId, EmailJobStatus.AGENDADO, null,
+                LocalDateTime.ofInstant(due, ZoneId.systemDefault()));
+    }
+
+    /**
+     * Esvazia a fila no desligamento da aplicação.
+     * Novos jobs deixam de ser aceitos; os já enfileirados são
+     * processados até o prazo configurado, e os restantes são
+     * marcados como falhos. Com o diário habilitado, esses jobs e os
+     * que aguardavam nova tentativa continuam pendentes no diário e são
+     * retomados na próxima inicialização; sem ele, os que aguardavam
+     * nova tentativa vão para o armazenamento de emails esgotados. Os
+     * emails agendados ainda não liberados permanecem no arquivo de
+     * agendamentos.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduledEmails.shutdown();
+        LOGGER.info("Encerrando processamento assíncrono; {} jobs na fila",
+                executor.getQueue().size());
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMillis,
+                    TimeUnit.MILLISECONDS)) {
+                failPending(executor.shutdownNow());
+            }
+        } catch (InterruptedException e) {
+            failPending(executor.shutdownNow());
+            Thread.currentThread().interrupt();
+        }
+        retryScheduler.shutdown();
+        for (EmailJob job : jobs.values()) {
+            if (job.getStatus() == EmailJobStatus.REAGENDADO) {
+                interrupt(job);
+            }
+        }
+        journal.shutdown();
+    }
+
+    /**
+     * Devolve à fila de trabalho os jobs não concluídos recuperados do
+     * diário, com os identificadores originais. Como podem exceder a
+     * capacidade da fila, são enfileirados por uma thread própria, à
+     * medida que os workers liberam espaço.
+     */
+    private void replayJournal() {
+        Map<String, EmailRequestDTO> pending = journal.takeRecovered();
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<JobTask> tasks = new ArrayList<>(pending.size());
+        for (Map.Entry<String, EmailRequestDTO> entry : pending.entrySet()) {
+            EmailJob job = new EmailJob(entry.getKey(), entry.getValue());
+            jobs.put(job.getId(), job);
+            jobOrder.add(job.getId());
+            tasks.add(new JobTask(job));
+        }
+        LOGGER.info("Retomando {} jobs do diário", tasks.size());
+        executor.prestartAllCoreThreads();
+        Thread thread = new Thread(() -> requeue(tasks),
+                "email-journal-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Coloca as tarefas na fila de trabalho, aguardando espaço em cada
+     * faixa. Para quando o pool é encerrado; as tarefas restantes
+     * continuam pendentes no diário.
+     *
+     * @param tasks tarefas a enfileirar
+     */
+    private void requeue(final List<JobTask> tasks) {
+        try {
+            for (JobTask task : tasks) {
+                while (!queue.offer(task, REPLAY_WAIT_MILLIS,
+                        TimeUnit.MILLISECONDS)) {
+                    if (executor.isShutdown()) {
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Recebe um email agendado cuja data de envio chegou e o coloca na
+     * fila de trabalho com o identificador informado no agendamento.
+     * Executado na thread da fila de agendamentos, não bloqueia.
+     *
+     * @param jobId identificador do job
+     * @param emailRequest dados do email
+     * @return false se a fila de trabalho estiver cheia ou o email não
+     *         puder ser gravado no diário
+     */
+    private boolean release(final String jobId,
+                            final EmailRequestDTO emailRequest) {
+        try {
+            journal.append(jobId, emailRequest);
+        } catch (EmailProcessingException e) {
+            LOGGER.warn("Job agendado {} não gravado no diário: {}", jobId,
+                    e.getMessage());
+            return false;
+        }
+        EmailJob job = new EmailJob(jobId, emailRequest);
+        jobs.put(jobId, job);
+        try {
+            executor.execute(new JobTask(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            journal.complete(jobId);
+            return false;
+        }
+        jobOrder.add(jobId);
+        evictFinishedJobs();
+        LOGGER.debug("Job agendado {} liberado", jobId);
+        return true;
+    }
+
+    /**
+     * Trata a falha de uma tentativa: reagenda o job se a falha for
+     * transitória e ainda houver tentativas, ou o marca como falho.
+     * Jobs que falham de forma definitiva ou esgotam as tentativas vão
+     * para o armazenamento de emails esgotados.
+     *
+     * @param job job cuja tentativa falhou
+     * @param failure falha da tentativa
+     */
+    private void retryOrFail(final EmailJob job,
+                             final RuntimeException failure) {
+        EmailProvider provider = providerOf(failure);
+        if (!isTransient(failure)) {
+            deadLetter(job, provider, reasonOf(failure),
+                    failure.getMessage());
+            return;
+        }
+        RetryPolicy policy = provider == null
+                ? defaultPolicy : policies.get(provider);
+        int attempt = job.getAttempts();
+        if (!retryConfig.isEnabled() || !policy.canRetry(attempt)) {
+            deadLetter(job, provider, DeadLetterReason.TENTATIVAS_ESGOTADAS,
+                    failure.getMessage());
+            return;
+        }
+        long delay = Math.max(
+                policy.backoffNanos(attempt,
+                        ThreadLocalRandom.current().nextDouble()),
+                retryAfterOf(failure).toNanos());
+        job.markRetrying(failure.getMessage());
+        if (!retryScheduler.schedule(() -> resubmit(job), delay)) {
+            deadLetter(job, provider, DeadLetterReason.TENTATIVAS_ESGOTADAS,
+                    failure.getMessage());
+            return;
+        }
+        LOGGER.debug("Job {} reagendado após a tentativa {} em {} ms",
+                job.getId(), attempt, TimeUnit.NANOSECONDS.toMillis(delay));
+    }
+
+    /**
+     * Devolve à fila de trabalho um job cuja espera terminou. Executado
+     * na thread do agendador, não bloqueia: com a fila cheia, a
+     * tentativa conta como falha transitória e é reagendada.
+     *
+     * @param job job a ser reenviado
+     */
+    private void resubmit(final EmailJob job) {
+        try {
+            executor.execute(new JobTask(job));
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                interrupt(job);
+                return;
+            }
+            job.markProcessing();
+            retryOrFail(job, new EmailQueueFullException(
+                    "Fila de processamento de emails cheia", e));
+        }
+    }
+
+    /**
+     * Registra o job no armazenamento de emails esgotados e o marca
+     * como falho, nessa ordem, para que o registro já exista quando a
+     * falha for consultada. Se o registro falhar, o job é marcado como
+     * falho assim mesmo e o erro fica no log.
+     *
+     * @param job job esgotado
+     * @param provider provedor da última tentativa, ou null
+     * @param reason motivo do descarte
+     * @param mensagem mensagem de erro da última tentativa
+     */
+    private void deadLetter(final EmailJob job,
+                            final EmailProvider provider,
+                            final DeadLetterReason reason,
+                            final String mensagem) {
+        EmailRequestDTO request = job.getRequest();
+        int attempts = job.getAttempts();
+        if (request != null) {
+            try {
+                deadLetters.add(new DeadLetter(job.getId(), request,
+                        provider, reason, attempts, mensagem,
+                        Instant.now()));
+            } catch (RuntimeException e) {
+                LOGGER.error("Job {} não registrado como email esgotado: "
+                        + "{}", job.getId(), e.getMessage(), e);
+            }
+        }
+        job.markFailed(mensagem);
+        journal.complete(job.getId());
+        LOGGER.warn("Job {} falhou após {} tentativas ({}): {}",
+                job.getId(), attempts, reason, mensagem);
+    }
+
+    /**
+     * Encerra um job cuja nova tentativa foi cancelada pelo
+     * desligamento da aplicação. Com o diário habilitado, o job
+     * continua pendente nele e é retomado na próxima inicialização;
+     * sem o diário, vai para o armazenamento de emails esgotados.
+     *
+     * @param job job interrompido
+     */
+    private void interrupt(final EmailJob job) {
+        String mensagem = "Nova tentativa cancelada no desligamento da "
+                + "aplicação";
+        if (journal.isEnabled()) {
+            job.markFailed(mensagem
+                    + "; será retomada na próxima inicialização");
+        } else {
+            deadLetter(job, null, DeadLetterReason.DESLIGAMENTO, mensagem);
+        }
+    }
+
+    /**
+     * Indica se a falha é transitória, isto é, se uma nova tentativa
+     * pode ter sucesso sem alteração do email.
+     *
+     * @param failure falha da tentativa
+     * @return true para falhas de entrega, provedor indisponível, cota
+     *         esgotada e fila cheia
+     */
+    private static boolean isTransient(final RuntimeException failure) {
+        return failure instanceof EmailDeliveryException
+                || failure instanceof ProviderUnavailableException
+                || failure instanceof RateLimitExceededException
+                || failure instanceof EmailQueueFullException;
+    }
+
+    /**
+     * Obtém o provedor da falha, quando conhecido.
+     *
+     * @param failure falha da tentativa
+     * @return provedor da falha, ou null
+     */
+    private static EmailProvider providerOf(final RuntimeException failure) {
+        if (failure instanceof EmailDeliveryException delivery) {
+            return delivery.getProvider();
+        }
+        if (failure instanceof ProviderUnavailableException unavailable) {
+            return unavailable.getProvider();
+        }
+        if (failure instanceof ProviderLimitExceededException limit) {
+            return limit.getProvider();
+        }
+        return null;
+    }
+
+    /**
+     * Classifica uma falha definitiva.
+     *
+     * @param failure falha da tentativa
+     * @return motivo do descarte
+     */
+    private static DeadLetterReason reasonOf(final RuntimeException failure) {
+        if (failure instanceof ProviderLimitExceededException) {
+            return DeadLetterReason.LIMITE_PROVEDOR;
+        }
+        if (failure instanceof InvalidEmailDataException
+                || failure instanceof IllegalArgumentException) {
+            return DeadLetterReason.DADOS_INVALIDOS;
+        }
+        return DeadLetterReason.ERRO_PROCESSAMENTO;
+    }
+
+    /**
+     * Obtém a espera mínima indicada pela falha.
+     *
+     * @param failure falha da tentativa
+     * @return espera indicada, ou zero
+     */
+    private static Duration retryAfterOf(final RuntimeException failure) {
+        Duration retryAfter = null;
+        if (failure instanceof ProviderUnavailableException unavailable) {
+            retryAfter = unavailable.getRetryAfter();
+        } else if (failure instanceof RateLimitExceededException limited) {
+            retryAfter = limited.getRetryAfter();
+        }
+        return retryAfter == null ? Duration.ZERO : retryAfter;
+    }
+
+    /**
+     * Marca como falhos os jobs não processados até o prazo.
+     *
+     * @param pending tarefas removidas da fila
+     */
+    private void failPending(final List<Runnable> pending) {
+        LOGGER.warn("Prazo de desligamento esgotado; {} jobs descartados",
+                pending.size());
+        for (Runnable task : pending) {
+            if (task instanceof JobTask jobTask) {
+                jobTask.job.markFailed(
+                        "Job descartado no desligamento da aplicação");
+            }
+        }
+    }
+
+    /**
+     * Descarta os jobs finalizados mais antigos quando o limite de
+     * jobs rastreados é excedido. Jobs ainda em andamento são mantidos.
+     */
+    private void evictFinishedJobs() {
+        int attempts = jobOrder.size();
+        while (jobs.size() > maxTrackedJobs && attempts-- > 0) {
+            String oldest = jobOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            EmailJob job = jobs.get(oldest);
+            if (job != null && !job.isFinished()) {
+                jobOrder.add(oldest);
+            } else {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * Tarefa executada por um worker para processar um job.
+     */
+    private final class JobTask implements Runnable {
+
+        /**
+         * Job a ser processado.
+         */
+        private final EmailJob job;
+
+        /**
+         * Prioridade do email, que define a faixa da fila.
+         */
+        private final EmailPriority priority;
+
+        /**
+         * Instante da criação da tarefa, em nanossegundos, para medir
+         * a espera na fila.
+         */
+        private final long enqueuedAt = System.nanoTime();
+
+        /**
+         * Cria a tarefa para o job informado.
+         *
+         * @param emailJob job a ser processado
+         */
+        private JobTask(final EmailJob emailJob) {
+            this.job = emailJob;
+            this.priority = emailJob.getRequest().getPrioridade();
+        }
+
+        @Override
+        public void run() {
+            queueTimes.get(priority).record(System.nanoTime() - enqueuedAt,
+                    TimeUnit.NANOSECONDS);
+            job.markProcessing();
+            try {
+                emailService.processEmail(job.getRequest(),
+                        RateLimitMode.AGUARDAR);
+                job.markCompleted();
+                journal.complete(job.getId());
+                LOGGER.debug("Job {} concluído", job.getId());
+            } catch (RuntimeException e) {
+                retryOrFail(job, e);
+            }
+        }
+    }
+}
@@ -1,18 +1,34 @@
 package com.viasoft.emailservice.service.impl;
 
 import com.viasoft.emailservice.adapter.EmailAdapter;
-import com.viasoft.emailservice.adapter.factory.EmailAdapterFactory;
 import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.BatchResponseDTO;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
 import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
 import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.exception.ProviderUnavailableException;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
+import com.viasoft.emailservice.pipeline.EmailEnvelope;
+import com.viasoft.emailservice.pipeline.EmailPipeline;
+import com.viasoft.emailservice.routing.ProviderRoute;
+import com.viasoft.emailservice.routing.ProviderRouter;
 import com.viasoft.emailservice.service.EmailService;
-import com.viasoft.emailservice.util.JsonSerializer;
+import com.viasoft.emailservice.service.RateLimiterService;
+import com.viasoft.emailservice.validation.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Implementação do serviço de email.
  * Esta classe coordena o processamento de emails,
@@ -24,6 +40,11 @@ import org.springframework.stereotype.Service;
  * - Dependency Inversion Principle (DIP): depende de abstrações
  * - Open/Closed Principle (OCP): aberto para extensão de novos provedores
  *
+ * A validação, a adaptação, a serialização e a saída são executadas
+ * pelo {@link EmailPipeline}, em estágios com workers próprios; este
+ * serviço escolhe a rota de cada email, submete os envelopes e
+ * converte o resultado de cada um.
+ *
  * @author Thiago Bianeck
  * @version 1.0.0
  * @since 2025
@@ -37,79 +58,176 @@ public class EmailServiceImpl implements EmailService {
     private static final Logger LOGGER =
             LoggerFactory.getLogger(EmailServiceImpl.class);
 
+    /**
+     * Chave de erro usada quando um item do lote é nulo.
+     */
+    private static final String ERRO_ITEM = "item";
+
+    /**
+     * Chave de erro usada quando o item excede os limites do provedor.
+     */
+    private static final String ERRO_PROVEDOR = "provedor";
+
+    /**
+     * Chave de erro usada quando ocorre falha no processamento do item.
+     */
+    private static final String ERRO_PROCESSAMENTO = "processamento";
+
+    /**
+     * Chave de erro usada quando a cota de envio está esgotada.
+     */
+    private static final String ERRO_LIMITE = "limite";
+
     /**
      * Configuração de email contendo as propriedades do provedor.
      */
     private final EmailConfig emailConfig;
 
     /**
-     * Factory responsável por criar adaptadores de email.
+     * Roteador que escolhe o provedor e o adaptador de cada email.
+     */
+    private final ProviderRouter router;
+
+    /**
+     * Pipeline que executa os estágios de processamento.
      */
-    private final EmailAdapterFactory adapterFactory;
+    private final EmailPipeline pipeline;
 
     /**
-     * Serializador JSON para conversão de objetos.
+     * Serviço que controla a cota de envio por provedor e remetente.
      */
-    private final JsonSerializer jsonSerializer;
+    private final RateLimiterService rateLimiter;
 
     /**
      * Construtor com injeção de dependências.
      *
      * @param emailConfigParam configuração de email
-     * @param adapterFactoryParam factory de adaptadores
-     * @param jsonSerializerParam serializador JSON
+     * @param routerParam roteador de emails entre os provedores
+     * @param pipelineParam pipeline de processamento
+     * @param rateLimiterParam serviço de limitação de taxa
      */
     @Autowired
     public EmailServiceImpl(final EmailConfig emailConfigParam,
-                            final EmailAdapterFactory adapterFactoryParam,
-                            final JsonSerializer jsonSerializerParam) {
+                            final ProviderRouter routerParam,
+                            final EmailPipeline pipelineParam,
+                            final RateLimiterService rateLimiterParam) {
         this.emailConfig = emailConfigParam;
-        this.adapterFactory = adapterFactoryParam;
-        this.jsonSerializer = jsonSerializerParam;
+        this.router = routerParam;
+        this.pipeline = pipelineParam;
+        this.rateLimiter = rateLimiterParam;
     }
 
     /**
-     * Processa uma requisição de email.
+     * Processa uma requisição de email, rejeitando-a se a cota de
+     * envio estiver esgotada.
      *
      * @param emailRequest dados da requisição de email
      * @throws EmailProcessingException se ocorrer erro no processamento
+     * @throws RateLimitExceededException se a cota estiver esgotada
+     * @throws ProviderUnavailableException se o disjuntor do provedor
+     *         estiver aberto e não houver outro provedor
+     * @throws ProviderLimitExceededException se os dados excederem os
+     *         limites do provedor
      */
     @Override
     public void processEmail(final EmailRequestDTO emailRequest) {
+        processEmail(emailRequest, RateLimitMode.REJEITAR);
+    }
+
+    /**
+     * Processa uma requisição de email, rejeitando-a se a cota de
+     * envio estiver esgotada, sem lançar exceção quando os dados
+     * excedem os limites do provedor.
+     *
+     * @param emailRequest dados da requisição de email
+     * @return resultado da validação dos limites do provedor
+     * @throws EmailProcessingException se ocorrer erro no processamento
+     * @throws RateLimitExceededException se a cota estiver esgotada
+     * @throws ProviderUnavailableException se o disjuntor do provedor
+     *         estiver aberto e não houver outro provedor
+     */
+    @Override
+    public ValidationResult tryProcessEmail(
+            final EmailRequestDTO emailRequest) {
+        return process(emailRequest, RateLimitMode.REJEITAR);
+    }
+
+    /**
+     * Processa uma requisição de email com o comportamento informado
+     * para cota de envio esgotada.
+     *
+     * @param emailRequest dados da requisição de email
+     * @param rateLimitMode comportamento quando a cota está esgotada
+     * @throws EmailProcessingException se ocorrer erro no processamento
+     * @throws RateLimitExceededException se a cota estiver esgotada
+     *         além da espera permitida
+     * @throws ProviderUnavailableException se o disjuntor do provedor
+     *         estiver aberto e não houver outro provedor
+     * @throws ProviderLimitExceededException se os dados excederem os
+     *         limites do provedor
+     */
+    @Override
+    public void processEmail(final EmailRequestDTO emailRequest,
+                             final RateLimitMode rateLimitMode) {
+        ValidationResult limits = process(emailRequest, rateLimitMode);
+        if (!limits.isValid()) {
+            throw new ProviderLimitExceededException(limits);
+        }
+    }
+
+    /**
+     * Processa uma requisição de email no pipeline, sem repetir a
+     * validação Bean Validation já feita por quem chamou o serviço.
+     *
+     * @param emailRequest dados da requisição de email já validados
+     * @param rateLimitMode comportamento quando a cota está esgotada
+     * @return resultado da validação dos limites do provedor; inválido
+     *         se o email foi recusado sem ser entregue
+     */
+    private ValidationResult process(final EmailRequestDTO emailRequest,
+                                     final RateLimitMode rateLimitMode) {
         try {
             LOGGER.info("Iniciando processamento de email para: {}",
                     emailRequest.getEmailDestinatario());
 
-            // Obter o provedor configurado
-            EmailProvider provider = emailConfig.getEmailProvider();
-            LOGGER.debug("Provedor configurado: {}", provider.getValue());
-
-            // Criar o adaptador apropriado
-            EmailAdapter<?> adapter = adapterFactory.createAdapter(provider);
-            LOGGER.debug("Adaptador criado: {}",
-                    adapter.getClass().getSimpleName());
+            // Escolher o provedor e o seu adaptador
+            ProviderRoute route = router.route(emailRequest);
+            EmailProvider provider = route.getProvider();
+            EmailAdapter<?> adapter = route.getAdapter();
+            LOGGER.debug("Provedor escolhido: {}", provider.getValue());
 
-            // Adaptar os dados
-            Object adaptedEmail = adapter.adapt(emailRequest);
-            LOGGER.debug("Dados adaptados com sucesso");
+            // Com espera permitida, a cota é reservada antes da entrada
+            // no pipeline para não bloquear os workers de saída
+            boolean quotaReserved = rateLimitMode == RateLimitMode.AGUARDAR;
+            if (quotaReserved) {
+                rateLimiter.acquire(provider,
+                        emailRequest.getEmailRemetente(), rateLimitMode);
+            }
 
-            // Serializar em JSON
-            String jsonResult = jsonSerializer.serialize(adaptedEmail);
-
-            // Imprimir no console conforme requisito
-            LOGGER.info("=== EMAIL PROCESSADO ===");
-            LOGGER.info("Provedor: " + provider.getValue());
-            LOGGER.info("JSON Serializado:");
-            LOGGER.info(jsonResult);
-            LOGGER.info("========================");
+            // Adaptar, serializar e entregar no pipeline; os dados já
+            // foram validados por quem chamou o serviço
+            EmailEnvelope envelope = pipeline.execute(new EmailEnvelope(
+                    emailRequest, provider, adapter, quotaReserved, true));
+            if (envelope.exceedsLimits()) {
+                LOGGER.warn("Email excede os limites do provedor: {}",
+                        envelope.getLimits().getMessage());
+                return envelope.getLimits();
+            }
 
             LOGGER.info("Email processado com sucesso para provedor: {}",
                     provider.getValue());
+            return envelope.getLimits();
 
         } catch (IllegalArgumentException e) {
             LOGGER.error("Erro de validação ao processar email: {}",
                     e.getMessage());
             throw e;
+        } catch (RateLimitExceededException e) {
+            LOGGER.warn("Cota de envio esgotada: {}", e.getMessage());
+            throw e;
+        } catch (ProviderUnavailableException e) {
+            LOGGER.warn("Provedor indisponível: {}", e.getMessage());
+            throw e;
         } catch (EmailProcessingException e) {
             LOGGER.error("Erro ao processar email: {}", e.getMessage(), e);
             throw e;
@@ -121,4 +239,142 @@ public class EmailServiceImpl implements EmailService {
             );
         }
     }
+
+    /**
+     * Processa um lote de requisições de email.
+     * Todos os itens são submetidos ao pipeline, cada um com o
+     * provedor escolhido pelo roteamento, onde avançam pelos estágios
+     * ao mesmo tempo; os resultados são reunidos na ordem de
+     * recebimento.
+     *
+     * @param emailRequests itens do lote, na ordem de recebimento
+     * @return resultado individual de cada item e totais do lote
+     * @throws InvalidEmailDataException se o lote estiver vazio ou
+     *         exceder o tamanho máximo configurado
+     */
+    @Override
+    public BatchResponseDTO processBatch(
+            final List<EmailRequestDTO> emailRequests) {
+        if (emailRequests == null || emailRequests.isEmpty()) {
+            throw new InvalidEmailDataException(
+                    "O lote de emails não pode ser vazio");
+        }
+
+        int maxSize = emailConfig.getBatchMaxSize();
+        if (emailRequests.size() > maxSize) {
+            throw new InvalidEmailDataException(
+                    "O lote excede o limite de " + maxSize + " itens");
+        }
+
+        LOGGER.info("Iniciando processamento de lote com {} itens",
+                emailRequests.size());
+
+        List<CompletableFuture<BatchItemResultDTO>> pendentes =
+                new ArrayList<>(emailRequests.size());
+        for (int indice = 0; indice < emailRequests.size(); indice++) {
+            pendentes.add(submitItem(indice, emailRequests.get(indice)));
+        }
+
+        List<BatchItemResultDTO> resultados =
+                new ArrayList<>(pendentes.size());
+        for (CompletableFuture<BatchItemResultDTO> pendente : pendentes) {
+            resultados.add(pendente.join());
+        }
+
+        BatchResponseDTO response = new BatchResponseDTO(resultados);
+        LOGGER.info("Lote processado: {} aceitos, {} rejeitados",
+                response.getAceitos(), response.getRejeitados());
+
+        return response;
+    }
+
+    /**
+     * Processa um único item de um fluxo de emails, com o provedor
+     * escolhido pelo roteamento.
+     *
+     * @param indice posição do item no fluxo
+     * @param emailRequest dados do item
+     * @return resultado do processamento do item
+     */
+    @Override
+    public BatchItemResultDTO processItem(final int indice,
+                                          final EmailRequestDTO emailRequest) {
+        return submitItem(indice, emailRequest).join();
+    }
+
+    /**
+     * Submete um item ao pipeline, com o provedor escolhido pelo
+     * roteamento, convertendo falhas em resultado de rejeição para que
+     * não interrompam o restante do lote ou do fluxo.
+     *
+     * @param indice posição do item no lote ou no fluxo
+     * @param emailRequest dados do item
+     * @return futuro com o resultado do processamento do item
+     */
+    @Override
+    public CompletableFuture<BatchItemResultDTO> submitItem(
+            final int indice, final EmailRequestDTO emailRequest) {
+        if (emailRequest == null) {
+            return CompletableFuture.completedFuture(
+                    BatchItemResultDTO.rejeitado(indice, Map.of(ERRO_ITEM,
+                            "Item do lote não pode ser nulo")));
+        }
+
+        ProviderRoute route;
+        try {
+            route = router.route(emailRequest);
+        } catch (ProviderUnavailableException e) {
+            return CompletableFuture.completedFuture(rejectItem(indice, e));
+        }
+        return pipeline.submit(new EmailEnvelope(emailRequest,
+                        route.getProvider(), route.getAdapter(), false))
+                .handle((envelope, failure) -> {
+                    if (failure != null) {
+                        return rejectItem(indice,
+                                EmailPipeline.unwrap(failure));
+                    }
+                    if (envelope.isRejected()) {
+                        LOGGER.warn("Item {} do lote rejeitado: {}", indice,
+                                envelope.getViolations());
+                        return BatchItemResultDTO.rejeitado(indice,
+                                envelope.getViolations());
+                    }
+                    return BatchItemResultDTO.aceito(indice);
+                });
+    }
+
+    /**
+     * Converte a falha de um item em resultado de rejeição.
+     *
+     * @param indice posição do item no lote
+     * @param failure exceção lançada pelo pipeline
+     * @return resultado de rejeição do item
+     */
+    private BatchItemResultDTO rejectItem(final int indice,
+                                          final RuntimeException failure) {
+        if (failure instanceof RateLimitExceededException) {
+            LOGGER.warn("Item {} do lote recusado: {}", indice,
+                    failure.getMessage());
+            return BatchItemResultDTO.rejeitado(indice,
+                    Map.of(ERRO_LIMITE, failure.getMessage()));
+        }
+        if (failure instanceof ProviderUnavailableException) {
+            LOGGER.warn("Item {} do lote recusado: {}", indice,
+                    failure.getMessage());
+            return BatchItemResultDTO.rejeitado(indice,
+                    Map.of(ERRO_PROVEDOR, failure.getMessage()));
+        }
+        if (failure instanceof IllegalArgumentException) {
+            LOGGER.warn("Item {} do lote excede limites do provedor: {}",
+                    indice, failure.getMessage());
+            return BatchItemResultDTO.rejeitado(indice,
+                    Map.of(ERRO_PROVEDOR,
+                            String.valueOf(failure.getMessage())));
+        }
+        LOGGER.error("Erro ao processar item {} do lote: {}",
+                indice, failure.getMessage(), failure);
+        return BatchItemResultDTO.rejeitado(indice,
+                Map.of(ERRO_PROCESSAMENTO,
+                        String.valueOf(failure.getMessage())));
+    }
 }
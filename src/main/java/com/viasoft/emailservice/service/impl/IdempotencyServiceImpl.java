@@ -0,0 +1,483 @@
+package com.viasoft.emailservice.service.impl;
+
+import com.viasoft.emailservice.config.IdempotencyConfig;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.exception.IdempotencyConflictException;
+import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.service.EmailJobService;
+import com.viasoft.emailservice.service.EmailService;
+import com.viasoft.emailservice.service.IdempotencyService;
+import com.viasoft.emailservice.service.IdempotentResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Implementação do serviço de envio idempotente de emails.
+ * Cada chave é associada ao primeiro resultado em um
+ * {@link ConcurrentHashMap}, cujo {@code putIfAbsent} trava apenas o
+ * bin da chave; duplicatas concorrentes aguardam o resultado da
+ * requisição original sem bloquear as demais chaves.
+ * Apenas envios bem-sucedidos são guardados: em caso de erro a chave
+ * é liberada para que o cliente possa tentar novamente.
+ * As chaves concluídas entram em uma fila por ordem de expiração, e a
+ * cada novo registro são descartadas as expiradas e as que excedem a
+ * quantidade máxima. As chaves em andamento contam para o mesmo
+ * limite: quando todas as vagas estão com requisições em andamento, a
+ * nova chave é recusada.
+ * O conteúdo da requisição é comparado pelo resumo SHA-256 dos campos,
+ * de modo que a reutilização da chave com outro email não seja
+ * confundida com uma repetição.
+ * Os emails agendados usam o mesmo cache, guardando o job aceito na
+ * primeira submissão para devolvê-lo às repetições.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    /**
+     * Nome da métrica de consultas ao cache.
+     */
+    private static final String METRIC_REQUESTS =
+            "email.idempotency.requests";
+
+    /**
+     * Algoritmo do resumo do conteúdo das requisições.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Serviço que executa o processamento de cada email.
+     */
+    private final EmailService emailService;
+
+    /**
+     * Serviço que aceita os emails agendados como jobs.
+     */
+    private final EmailJobService emailJobService;
+
+    /**
+     * Entradas do cache, indexadas pela chave.
+     */
+    private final ConcurrentHashMap<String, Entry> entries =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Entradas concluídas na ordem de expiração.
+     */
+    private final Queue<Entry> expirationOrder =
+            new ConcurrentLinkedQueue<>();
+
+    /**
+     * Quantidade de chaves com requisição em andamento.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Quantidade máxima de chaves mantidas.
+     */
+    private final int maxEntries;
+
+    /**
+     * Tamanho máximo de uma chave.
+     */
+    private final int maxKeyLength;
+
+    /**
+     * Tempo de vida das chaves, em nanossegundos.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Prazo de espera por uma requisição em andamento, em milissegundos.
+     */
+    private final long inFlightTimeoutMillis;
+
+    /**
+     * Contador de requisições atendidas pelo cache.
+     */
+    private final Counter hits;
+
+    /**
+     * Contador de requisições processadas pela primeira vez.
+     */
+    private final Counter misses;
+
+    /**
+     * Contador de requisições recusadas por conflito.
+     */
+    private final Counter conflicts;
+
+    /**
+     * Contador de chaves descartadas por expiração ou limite.
+     */
+    private final Counter evictions;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param emailServiceParam serviço de email
+     * @param emailJobServiceParam serviço de processamento assíncrono
+     * @param configParam configuração de idempotência
+     * @param meterRegistry registro de métricas
+     */
+    @Autowired
+    public IdempotencyServiceImpl(final EmailService emailServiceParam,
+                                  final EmailJobService emailJobServiceParam,
+                                  final IdempotencyConfig configParam,
+                                  final MeterRegistry meterRegistry) {
+        this.emailService = emailServiceParam;
+        this.emailJobService = emailJobServiceParam;
+        this.maxEntries = configParam.getMaxEntries();
+        this.maxKeyLength = configParam.getMaxKeyLength();
+        this.ttlNanos = configParam.getTtl().toNanos();
+        this.inFlightTimeoutMillis =
+                configParam.getInFlightTimeout().toMillis();
+        this.hits = Counter.builder(METRIC_REQUESTS)
+                .tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_REQUESTS)
+                .tag("result", "miss").register(meterRegistry);
+        this.conflicts = Counter.builder(METRIC_REQUESTS)
+                .tag("result", "conflict").register(meterRegistry);
+        this.evictions = Counter.builder("email.idempotency.evictions")
+                .register(meterRegistry);
+        Gauge.builder("email.idempotency.size", entries,
+                        ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Processa o email associado à chave, ou reaproveita o resultado
+     * do primeiro processamento bem-sucedido com a mesma chave.
+     *
+     * @param idempotencyKey chave de idempotência informada pelo cliente
+     * @param emailRequest dados do email já validados
+     * @return true se o resultado foi reaproveitado sem novo
+     *         processamento
+     */
+    @Override
+    public boolean processEmail(final String idempotencyKey,
+                                final EmailRequestDTO emailRequest) {
+        return execute(idempotencyKey, emailRequest, () -> {
+            emailService.processEmail(emailRequest);
+            return null;
+        }).replayed();
+    }
+
+    /**
+     * Submete ao modo assíncrono o email associado à chave, ou
+     * reaproveita o job aceito na primeira submissão bem-sucedida com a
+     * mesma chave.
+     *
+     * @param idempotencyKey chave de idempotência informada pelo cliente
+     * @param emailRequest dados do email já validados
+     * @return job aceito na primeira submissão com a chave
+     */
+    @Override
+    public IdempotentResult<EmailJobDTO> submitJob(
+            final String idempotencyKey, final EmailRequestDTO emailRequest) {
+        return execute(idempotencyKey, emailRequest,
+                () -> emailJobService.submit(emailRequest));
+    }
+
+    /**
+     * Executa a operação associada à chave, ou reaproveita o valor da
+     * primeira execução bem-sucedida com a mesma chave. Como a chave
+     * está ligada ao conteúdo do email, e a data de envio faz parte
+     * dele, uma chave é sempre usada pela mesma operação.
+     *
+     * @param idempotencyKey chave de idempotência informada pelo cliente
+     * @param emailRequest dados do email já validados
+     * @param operation operação executada na primeira requisição
+     * @param <T> tipo do valor produzido pela operação
+     * @return valor da primeira execução e se ele foi reaproveitado
+     */
+    @SuppressWarnings("unchecked")
+    private <T> IdempotentResult<T> execute(final String idempotencyKey,
+                                            final EmailRequestDTO
+                                                    emailRequest,
+                                            final Supplier<T> operation) {
+        validateKey(idempotencyKey);
+        byte[] fingerprint = fingerprint(emailRequest);
+        Entry created = new Entry(idempotencyKey, fingerprint);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(idempotencyKey, created);
+            if (existing == null) {
+                reserve(created);
+                misses.increment();
+                return new IdempotentResult<>(run(created, operation),
+                        false);
+            }
+            if (existing.isExpired(System.nanoTime())) {
+                if (entries.remove(idempotencyKey, existing)) {
+                    evictions.increment();
+                }
+                continue;
+            }
+            if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                conflicts.increment();
+                throw new IdempotencyConflictException(
+                        "Chave de idempotência já utilizada com outro "
+                                + "conteúdo");
+            }
+            Object value = await(existing);
+            hits.increment();
+            LOGGER.debug("Requisição duplicada atendida pelo cache");
+            return new IdempotentResult<>((T) value, true);
+        }
+    }
+
+    /**
+     * Reserva uma vaga de requisição em andamento para a entrada
+     * recém-criada. Sem vaga, a entrada é removida e a recusa é
+     * repassada às duplicatas que já a aguardam.
+     *
+     * @param entry entrada criada para a chave
+     * @throws EmailQueueFullException se todas as vagas estiverem com
+     *         requisições em andamento
+     */
+    private void reserve(final Entry entry) {
+        if (inFlight.incrementAndGet() <= maxEntries) {
+            return;
+        }
+        inFlight.decrementAndGet();
+        entries.remove(entry.key, entry);
+        EmailQueueFullException rejection = new EmailQueueFullException(
+                "Limite de chaves de idempotência em andamento atingido");
+        entry.outcome.completeExceptionally(rejection);
+        throw rejection;
+    }
+
+    /**
+     * Executa a operação da entrada recém-criada e publica o resultado
+     * para as duplicatas que o aguardam.
+     *
+     * @param entry entrada criada para a chave
+     * @param operation operação a executar
+     * @param <T> tipo do valor produzido pela operação
+     * @return valor produzido pela operação
+     */
+    private <T> T run(final Entry entry, final Supplier<T> operation) {
+        T value;
+        try {
+            value = operation.get();
+        } catch (RuntimeException e) {
+            entries.remove(entry.key, entry);
+            entry.outcome.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        long now = System.nanoTime();
+        entry.expiresAt = now + ttlNanos;
+        entry.outcome.complete(value);
+        expirationOrder.add(entry);
+        evict(now);
+        return value;
+    }
+
+    /**
+     * Aguarda o resultado da requisição original.
+     * Se ela falhou, a mesma exceção é propagada à duplicata.
+     *
+     * @param entry entrada da requisição original
+     * @return valor produzido pela requisição original
+     */
+    private Object await(final Entry entry) {
+        try {
+            return entry.outcome.get(inFlightTimeoutMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            conflicts.increment();
+            throw new IdempotencyConflictException(
+                    "Requisição com a mesma chave de idempotência ainda "
+                            + "em processamento", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            conflicts.increment();
+            throw new IdempotencyConflictException(
+                    "Espera pela requisição original interrompida", e);
+        }
+    }
+
+    /**
+     * Descarta as entradas expiradas e as que excedem a quantidade
+     * máxima, das mais antigas para as mais novas.
+     *
+     * @param now instante atual, em nanossegundos
+     */
+    private void evict(final long now) {
+        Entry oldest;
+        while ((oldest = expirationOrder.peek()) != null
+                && (entries.size() > maxEntries || oldest.isExpired(now))) {
+            Entry polled = expirationOrder.poll();
+            if (polled != null && entries.remove(polled.key, polled)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Valida a chave de idempotência.
+     *
+     * @param idempotencyKey chave a ser validada
+     * @throws InvalidEmailDataException se a chave for vazia ou longa
+     */
+    private void validateKey(final String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new InvalidEmailDataException(
+                    "Chave de idempotência não pode ser vazia");
+        }
+        if (idempotencyKey.length() > maxKeyLength) {
+            throw new InvalidEmailDataException(
+                    "Chave de idempotência excede " + maxKeyLength
+                            + " caracteres");
+        }
+    }
+
+    /**
+     * Calcula a impressão digital do conteúdo do email, usada para
+     * detectar a reutilização da chave com outro conteúdo: o resumo
+     * SHA-256 dos campos, cada um precedido do seu tamanho, para que
+     * emails diferentes não produzam a mesma sequência de bytes.
+     * A prioridade e a data de envio agendado fazem parte do conteúdo:
+     * a mesma chave com outra prioridade ou outro agendamento é um
+     * conflito, não uma repetição.
+     *
+     * @param emailRequest dados do email
+     * @return impressão digital do conteúdo
+     */
+    private static byte[] fingerprint(final EmailRequestDTO emailRequest) {
+        MessageDigest digest = newDigest();
+        update(digest, emailRequest.getEmailDestinatario());
+        update(digest, emailRequest.getNomeDestinatario());
+        update(digest, emailRequest.getEmailRemetente());
+        update(digest, emailRequest.getAssunto());
+        update(digest, emailRequest.getConteudo());
+        update(digest, emailRequest.getPrioridade().name());
+        OffsetDateTime enviarEm = emailRequest.getEnviarEm();
+        update(digest, enviarEm == null
+                ? null : enviarEm.toInstant().toString());
+        return digest.digest();
+    }
+
+    /**
+     * Acrescenta ao resumo o tamanho e os bytes de um campo; um campo
+     * nulo é representado pelo tamanho -1.
+     *
+     * @param digest resumo em cálculo
+     * @param value valor do campo
+     */
+    private static void update(final MessageDigest digest,
+                               final String value) {
+        byte[] bytes = value == null
+                ? null : value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes == null ? -1 : bytes.length;
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+        if (bytes != null) {
+            digest.update(bytes);
+        }
+    }
+
+    /**
+     * Cria o calculador do resumo do conteúdo.
+     *
+     * @return calculador SHA-256
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(
+                    DIGEST_ALGORITHM + " indisponível", e);
+        }
+    }
+
+    /**
+     * Entrada do cache para uma chave de idempotência.
+     */
+    private static final class Entry {
+
+        /**
+         * Chave de idempotência.
+         */
+        private final String key;
+
+        /**
+         * Impressão digital do conteúdo da requisição original.
+         */
+        private final byte[] fingerprint;
+
+        /**
+         * Resultado da requisição original.
+         */
+        private final CompletableFuture<Object> outcome =
+                new CompletableFuture<>();
+
+        /**
+         * Instante de expiração, em nanossegundos; definido quando a
+         * requisição original termina com sucesso.
+         */
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        /**
+         * Cria a entrada para a chave informada.
+         *
+         * @param keyParam chave de idempotência
+         * @param fingerprintParam impressão digital do conteúdo
+         */
+        private Entry(final String keyParam,
+                      final byte[] fingerprintParam) {
+            this.key = keyParam;
+            this.fingerprint = fingerprintParam;
+        }
+
+        /**
+         * Indica se a entrada expirou.
+         *
+         * @param now instante atual, em nanossegundos
+         * @return true se a entrada expirou
+         */
+        private boolean isExpired(final long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package com.viasoft.emailservice.service.impl;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Fila de trabalho dividida em faixas de prioridade, cada uma com
+ * capacidade própria, para o pool de workers assíncronos.
+ * A retirada escolhe a faixa por round-robin ponderado suave: entre as
+ * faixas com tarefas, cada uma acumula crédito proporcional ao seu peso
+ * e a de maior crédito é atendida, pagando a soma dos pesos. Assim,
+ * com todas as faixas ocupadas, cada uma recebe exatamente a sua fração
+ * dos pesos, intercalada e sem rajadas; uma faixa vazia não consome sua
+ * fração, que é repartida entre as demais. Como a capacidade é por
+ * faixa, um lote grande de baixa prioridade enche apenas a sua faixa e
+ * não impede a aceitação dos emails urgentes.
+ * Dentro de uma faixa a ordem é FIFO. Todas as operações usam um único
+ * lock, como a {@link java.util.concurrent.ArrayBlockingQueue} que esta
+ * fila substitui.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class PriorityLaneQueue extends AbstractQueue<Runnable>
+        implements BlockingQueue<Runnable> {
+
+    /**
+     * Tarefas de cada faixa, em ordem de chegada.
+     */
+    private final ArrayDeque<Runnable>[] lanes;
+
+    /**
+     * Peso de cada faixa.
+     */
+    private final int[] weights;
+
+    /**
+     * Crédito acumulado de cada faixa no round-robin ponderado.
+     */
+    private final int[] credits;
+
+    /**
+     * Capacidade de cada faixa.
+     */
+    private final int laneCapacity;
+
+    /**
+     * Função que obtém a faixa de uma tarefa.
+     */
+    private final ToIntFunction<Runnable> laneOf;
+
+    /**
+     * Quantidade total de tarefas nas faixas.
+     */
+    private int count;
+
+    /**
+     * Lock que protege todas as faixas.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Condição sinalizada quando uma tarefa é inserida.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Condição sinalizada quando uma tarefa é retirada.
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Cria a fila com uma faixa por peso informado.
+     *
+     * @param weightsParam peso de cada faixa, na ordem das faixas
+     * @param laneCapacityParam capacidade de cada faixa
+     * @param laneOfParam função que obtém a faixa de uma tarefa
+     * @throws IllegalArgumentException se não houver faixas, se algum
+     *         peso não for positivo ou se a capacidade não for positiva
+     */
+    @SuppressWarnings("unchecked")
+    PriorityLaneQueue(final int[] weightsParam, final int laneCapacityParam,
+                      final ToIntFunction<Runnable> laneOfParam) {
+        if (weightsParam.length == 0 || laneCapacityParam <= 0) {
+            throw new IllegalArgumentException(
+                    "Faixas e capacidade devem ser positivas");
+        }
+        for (int weight : weightsParam) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException(
+                        "Peso de faixa deve ser positivo: " + weight);
+            }
+        }
+        this.weights = weightsParam.clone();
+        this.credits = new int[weightsParam.length];
+        this.laneCapacity = laneCapacityParam;
+        this.laneOf = laneOfParam;
+        this.lanes = new ArrayDeque[weightsParam.length];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Insere a tarefa na sua faixa, se houver espaço.
+     *
+     * @param task tarefa
+     * @return false se a faixa estiver cheia
+     */
+    @Override
+    public boolean offer(final Runnable task) {
+        Objects.requireNonNull(task);
+        ArrayDeque<Runnable> lane = lanes[laneOf.applyAsInt(task)];
+        lock.lock();
+        try {
+            if (lane.size() >= laneCapacity) {
+                return false;
+            }
+            enqueue(lane, task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Insere a tarefa na sua faixa, aguardando espaço até o prazo.
+     *
+     * @param task tarefa
+     * @param timeout prazo de espera
+     * @param unit unidade do prazo
+     * @return false se o prazo acabar com a faixa cheia
+     * @throws InterruptedException se a thread for interrompida
+     */
+    @Override
+    public boolean offer(final Runnable task, final long timeout,
+                         final TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(task);
+        ArrayDeque<Runnable> lane = lanes[laneOf.applyAsInt(task)];
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (lane.size() >= laneCapacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(lane, task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Insere a tarefa na sua faixa, aguardando espaço.
+     *
+     * @param task tarefa
+     * @throws InterruptedException se a thread for interrompida
+     */
+    @Override
+    public void put(final Runnable task) throws InterruptedException {
+        Objects.requireNonNull(task);
+        ArrayDeque<Runnable> lane = lanes[laneOf.applyAsInt(task)];
+        lock.lockInterruptibly();
+        try {
+            while (lane.size() >= laneCapacity) {
+                notFull.await();
+            }
+            enqueue(lane, task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retira a próxima tarefa, se houver.
+     *
+     * @return próxima tarefa, ou null se a fila estiver vazia
+     */
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retira a próxima tarefa, aguardando até o prazo.
+     *
+     * @param timeout prazo de espera
+     * @param unit unidade do prazo
+     * @return próxima tarefa, ou null se o prazo acabar
+     * @throws InterruptedException se a thread for interrompida
+     */
+    @Override
+    public Runnable poll(final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retira a próxima tarefa, aguardando até que haja uma.
+     *
+     * @return próxima tarefa
+     * @throws InterruptedException se a thread for interrompida
+     */
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Consulta a tarefa mais antiga da faixa de menor índice com
+     * tarefas, sem retirá-la nem alterar os créditos.
+     *
+     * @return tarefa, ou null se a fila estiver vazia
+     */
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Runnable> lane : lanes) {
+                if (!lane.isEmpty()) {
+                    return lane.peekFirst();
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém a quantidade total de tarefas.
+     *
+     * @return tarefas em todas as faixas
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém a quantidade de tarefas de uma faixa.
+     *
+     * @param lane índice da faixa
+     * @return tarefas na faixa
+     */
+    int size(final int lane) {
+        lock.lock();
+        try {
+            return lanes[lane].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém o espaço livre somado de todas as faixas.
+     *
+     * @return tarefas que ainda cabem, somando as faixas
+     */
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return laneCapacity * lanes.length - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove uma tarefa específica, como faz o
+     * {@link java.util.concurrent.ThreadPoolExecutor#remove(Runnable)}.
+     *
+     * @param task tarefa
+     * @return true se a tarefa estava na fila
+     */
+    @Override
+    public boolean remove(final Object task) {
+        if (task == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Runnable> lane : lanes) {
+                if (lane.removeFirstOccurrence(task)) {
+                    count--;
+                    notFull.signalAll();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retira todas as tarefas, na ordem do round-robin ponderado.
+     *
+     * @param target coleção que recebe as tarefas
+     * @return quantidade de tarefas retiradas
+     */
+    @Override
+    public int drainTo(final Collection<? super Runnable> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retira até o limite de tarefas, na ordem do round-robin
+     * ponderado.
+     *
+     * @param target coleção que recebe as tarefas
+     * @param maxElements limite de tarefas
+     * @return quantidade de tarefas retiradas
+     */
+    @Override
+    public int drainTo(final Collection<? super Runnable> target,
+                       final int maxElements) {
+        Objects.requireNonNull(target);
+        if (target == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (count > 0 && drained < maxElements) {
+                target.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Percorre uma cópia das tarefas, faixa por faixa. A remoção pelo
+     * iterador remove a tarefa da fila.
+     *
+     * @return iterador sobre a cópia
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(count);
+            for (ArrayDeque<Runnable> lane : lanes) {
+                snapshot.addAll(lane);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new Iterator<>() {
+            private int next;
+            private Runnable last;
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.size();
+            }
+
+            @Override
+            public Runnable next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = snapshot.get(next++);
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                PriorityLaneQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    /**
+     * Insere a tarefa na faixa. Exige o lock.
+     *
+     * @param lane faixa da tarefa
+     * @param task tarefa
+     */
+    private void enqueue(final ArrayDeque<Runnable> lane,
+                         final Runnable task) {
+        lane.addLast(task);
+        count++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Retira a tarefa da faixa escolhida pelo round-robin ponderado
+     * suave. Exige o lock e ao menos uma tarefa na fila.
+     * Faixas vazias perdem o crédito acumulado, para não voltarem com
+     * uma rajada acima da sua fração.
+     *
+     * @return tarefa retirada
+     */
+    private Runnable dequeue() {
+        int chosen = -1;
+        int total = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            if (lanes[i].isEmpty()) {
+                credits[i] = 0;
+                continue;
+            }
+            credits[i] += weights[i];
+            total += weights[i];
+            if (chosen < 0 || credits[i] > credits[chosen]) {
+                chosen = i;
+            }
+        }
+        credits[chosen] -= total;
+        count--;
+        notFull.signalAll();
+        return lanes[chosen].pollFirst();
+    }
+}
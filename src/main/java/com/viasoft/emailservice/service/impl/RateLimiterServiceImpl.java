@@ -0,0 +1,352 @@
+package com.viasoft.emailservice.service.impl;
+
+import com.viasoft.emailservice.config.RateLimitConfig;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
+import com.viasoft.emailservice.service.RateLimiterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementação do serviço de limitação de taxa de envio.
+ * Mantém um {@link TokenBucket} por provedor e um por remetente. Os
+ * baldes são atualizados por compare-and-set, sem travas; os baldes
+ * de remetentes ficam em um {@link ConcurrentHashMap}, cuja leitura
+ * não bloqueia. A quantidade de remetentes rastreados nunca passa do
+ * limite: quando ele é atingido, um novo remetente libera uma vaga
+ * examinando no máximo {@link #EVICTION_SAMPLE} baldes, a partir de
+ * onde o exame anterior parou, e descartando os cheios, que equivalem
+ * a baldes novos. Se nenhuma vaga for liberada, o remetente passa a
+ * usar um balde compartilhado pelos remetentes não rastreados.
+ * A ficha do provedor é devolvida quando o remetente é recusado, para
+ * que um remetente abusivo não consuma a cota dos demais.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Service
+public class RateLimiterServiceImpl implements RateLimiterService {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(RateLimiterServiceImpl.class);
+
+    /**
+     * Nome da métrica de envios recusados.
+     */
+    private static final String METRIC_REJECTED = "email.ratelimit.rejected";
+
+    /**
+     * Quantidade máxima de baldes examinados por um novo remetente em
+     * busca de uma vaga.
+     */
+    static final int EVICTION_SAMPLE = 32;
+
+    /**
+     * Indica se a limitação de taxa está habilitada.
+     */
+    private final boolean enabled;
+
+    /**
+     * Baldes de fichas por provedor.
+     */
+    private final Map<EmailProvider, TokenBucket> providerBuckets;
+
+    /**
+     * Baldes de fichas por remetente.
+     */
+    private final ConcurrentHashMap<String, TokenBucket> senderBuckets =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Quantidade de remetentes rastreados, incluindo as vagas já
+     * reservadas e ainda não ocupadas.
+     */
+    private final AtomicInteger trackedSenders = new AtomicInteger();
+
+    /**
+     * Trava do exame dos baldes; quem não a obtém não espera e usa o
+     * balde compartilhado.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * Posição do exame dos baldes, mantida entre os exames para que
+     * todos os baldes sejam examinados ao longo do tempo.
+     */
+    private Iterator<Map.Entry<String, TokenBucket>> evictionCursor;
+
+    /**
+     * Balde compartilhado pelos remetentes não rastreados.
+     */
+    private final TokenBucket overflowBucket;
+
+    /**
+     * Taxa de envios por segundo de cada remetente.
+     */
+    private final double senderRate;
+
+    /**
+     * Rajada máxima de envios de cada remetente.
+     */
+    private final int senderBurst;
+
+    /**
+     * Quantidade máxima de remetentes rastreados.
+     */
+    private final int maxTrackedSenders;
+
+    /**
+     * Espera máxima no modo com espera, em nanossegundos.
+     */
+    private final long maxWaitNanos;
+
+    /**
+     * Contador de envios recusados pela cota do provedor.
+     */
+    private final Counter providerRejections;
+
+    /**
+     * Contador de envios recusados pela cota do remetente.
+     */
+    private final Counter senderRejections;
+
+    /**
+     * Contador de envios que aguardaram a liberação da cota.
+     */
+    private final Counter delayed;
+
+    /**
+     * Contador de envios de remetentes não rastreados.
+     */
+    private final Counter untracked;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param configParam configuração da limitação de taxa
+     * @param meterRegistry registro de métricas
+     */
+    @Autowired
+    public RateLimiterServiceImpl(final RateLimitConfig configParam,
+                                  final MeterRegistry meterRegistry) {
+        this.enabled = configParam.isEnabled();
+        this.senderRate = configParam.getSenderRate();
+        this.senderBurst = configParam.getSenderBurst();
+        this.maxTrackedSenders = configParam.getMaxTrackedSenders();
+        this.maxWaitNanos = configParam.getMaxWait().toNanos();
+
+        long now = System.nanoTime();
+        this.providerBuckets = new EnumMap<>(EmailProvider.class);
+        for (EmailProvider provider : EmailProvider.values()) {
+            providerBuckets.put(provider, new TokenBucket(
+                    configParam.getProviderRate(provider),
+                    configParam.getProviderBurst(provider), now));
+        }
+        this.overflowBucket = new TokenBucket(senderRate, senderBurst, now);
+
+        this.providerRejections = Counter.builder(METRIC_REJECTED)
+                .tag("scope", "provider").register(meterRegistry);
+        this.senderRejections = Counter.builder(METRIC_REJECTED)
+                .tag("scope", "sender").register(meterRegistry);
+        this.delayed = Counter.builder("email.ratelimit.delayed")
+                .register(meterRegistry);
+        this.untracked = Counter.builder("email.ratelimit.untracked")
+                .register(meterRegistry);
+        Gauge.builder("email.ratelimit.senders", senderBuckets,
+                        ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consome uma ficha da cota do provedor e uma da cota do remetente.
+     *
+     * @param provider provedor utilizado no envio
+     * @param emailRemetente email do remetente
+     * @param mode comportamento quando a cota está esgotada
+     * @throws RateLimitExceededException se a cota estiver esgotada além
+     *         da espera permitida
+     */
+    @Override
+    public void acquire(final EmailProvider provider,
+                        final String emailRemetente,
+                        final RateLimitMode mode) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long maxWait = mode == RateLimitMode.AGUARDAR ? maxWaitNanos : 0L;
+
+        TokenBucket providerBucket = providerBuckets.get(provider);
+        long providerWait = providerBucket.reserve(now, maxWait);
+        if (providerWait > maxWait) {
+            providerRejections.increment();
+            throw rejection("Cota de envio do provedor "
+                    + provider.getValue() + " esgotada", providerWait);
+        }
+
+        long senderWait = senderBucket(emailRemetente, now)
+                .reserve(now, maxWait);
+        if (senderWait > maxWait) {
+            providerBucket.refund();
+            senderRejections.increment();
+            throw rejection("Cota de envio do remetente esgotada",
+                    senderWait);
+        }
+
+        long wait = Math.max(providerWait, senderWait);
+        if (wait > 0) {
+            delayed.increment();
+            sleep(wait);
+        }
+    }
+
+    /**
+     * Consome uma ficha da cota do provedor somente se ela estiver
+     * disponível agora, sem espera e sem consumir a cota do remetente.
+     *
+     * @param provider provedor utilizado no envio
+     * @return true se a ficha foi consumida
+     */
+    @Override
+    public boolean tryAcquire(final EmailProvider provider) {
+        return !enabled
+                || providerBuckets.get(provider)
+                        .reserve(System.nanoTime(), 0L) <= 0L;
+    }
+
+    /**
+     * Obtém o balde do remetente, criando-o se houver vaga; sem vaga,
+     * devolve o balde compartilhado.
+     *
+     * @param emailRemetente email do remetente
+     * @param now instante atual, em nanossegundos
+     * @return balde do remetente
+     */
+    private TokenBucket senderBucket(final String emailRemetente,
+                                     final long now) {
+        String key = emailRemetente == null
+                ? "" : emailRemetente.toLowerCase(Locale.ROOT);
+        TokenBucket bucket = senderBuckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (!reserveSlot(now)) {
+            untracked.increment();
+            return overflowBucket;
+        }
+        TokenBucket created = new TokenBucket(senderRate, senderBurst, now);
+        TokenBucket existing = senderBuckets.putIfAbsent(key, created);
+        if (existing != null) {
+            trackedSenders.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    /**
+     * Reserva uma vaga para um novo remetente, liberando uma quando o
+     * limite foi atingido.
+     *
+     * @param now instante atual, em nanossegundos
+     * @return true se a vaga foi reservada
+     */
+    private boolean reserveSlot(final long now) {
+        while (true) {
+            int tracked = trackedSenders.get();
+            if (tracked < maxTrackedSenders) {
+                if (trackedSenders.compareAndSet(tracked, tracked + 1)) {
+                    return true;
+                }
+            } else if (!evictIdle(now)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Descarta os baldes cheios entre os próximos
+     * {@link #EVICTION_SAMPLE} baldes, continuando do ponto em que o
+     * exame anterior parou.
+     *
+     * @param now instante atual, em nanossegundos
+     * @return true se algum balde foi descartado
+     */
+    private boolean evictIdle(final long now) {
+        if (!evictionLock.tryLock()) {
+            return false;
+        }
+        try {
+            boolean evicted = false;
+            for (int i = 0; i < EVICTION_SAMPLE; i++) {
+                if (evictionCursor == null || !evictionCursor.hasNext()) {
+                    evictionCursor = senderBuckets.entrySet().iterator();
+                    if (!evictionCursor.hasNext()) {
+                        break;
+                    }
+                }
+                Map.Entry<String, TokenBucket> entry = evictionCursor.next();
+                if (entry.getValue().isIdle(now)
+                        && senderBuckets.remove(entry.getKey(),
+                                entry.getValue())) {
+                    trackedSenders.decrementAndGet();
+                    evicted = true;
+                }
+            }
+            return evicted;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Cria a exceção de cota esgotada.
+     *
+     * @param message mensagem de erro
+     * @param waitNanos espera até a próxima ficha, em nanossegundos
+     * @return exceção de cota esgotada
+     */
+    private static RateLimitExceededException rejection(
+            final String message, final long waitNanos) {
+        LOGGER.debug("{}; nova tentativa em {} ms", message,
+                TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        return new RateLimitExceededException(message,
+                Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * Aguarda a liberação da ficha reservada.
+     *
+     * @param waitNanos espera, em nanossegundos
+     */
+    private static void sleep(final long waitNanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailProcessingException(
+                    "Espera pela cota de envio interrompida", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.viasoft.emailservice.service.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de fichas sem bloqueio, implementado pelo algoritmo GCRA
+ * (Generic Cell Rate Algorithm).
+ * Em vez de contar fichas e reabastecê-las periodicamente, o balde
+ * guarda apenas o instante teórico de chegada do próximo envio; cada
+ * reserva o avança em um intervalo de emissão com uma única operação
+ * compare-and-set, sem travas e sem tarefa de reabastecimento.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class TokenBucket {
+
+    /**
+     * Nanossegundos em um segundo.
+     */
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * Intervalo de emissão entre dois envios, em nanossegundos.
+     */
+    private final long intervalNanos;
+
+    /**
+     * Tolerância equivalente à rajada máxima, em nanossegundos.
+     */
+    private final long toleranceNanos;
+
+    /**
+     * Instante teórico de chegada do próximo envio, em nanossegundos.
+     */
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Cria um balde cheio.
+     *
+     * @param ratePerSecond taxa sustentada, em envios por segundo
+     * @param burst rajada máxima de envios consecutivos
+     * @param now instante atual, em nanossegundos
+     */
+    TokenBucket(final double ratePerSecond, final int burst,
+                final long now) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException(
+                    "Taxa e rajada devem ser positivas");
+        }
+        this.intervalNanos =
+                Math.max(1L, Math.round(NANOS_PER_SECOND / ratePerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Reserva uma ficha se ela estiver disponível dentro da espera
+     * máxima informada.
+     *
+     * @param now instante atual, em nanossegundos
+     * @param maxWaitNanos espera máxima aceita, em nanossegundos
+     * @return espera necessária até a ficha, em nanossegundos; a ficha
+     *         só é reservada quando o valor não excede a espera máxima
+     */
+    long reserve(final long now, final long maxWaitNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - toleranceNanos - now;
+            if (wait > maxWaitNanos) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Math.max(0L, wait);
+            }
+        }
+    }
+
+    /**
+     * Devolve uma ficha reservada e não utilizada.
+     */
+    void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * Indica se o balde está cheio, isto é, equivalente a um balde
+     * recém-criado e que pode ser descartado sem perda de estado.
+     *
+     * @param now instante atual, em nanossegundos
+     * @return true se o balde está cheio
+     */
+    boolean isIdle(final long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
@@ -0,0 +1,236 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.exception.EmailBatchDeliveryException;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Destino assíncrono que desacopla a entrega da thread que processa
+ * o email.
+ * Os emails são colocados em um buffer circular de capacidade fixa e
+ * entregues ao destino real em lotes por uma thread dedicada: a cada
+ * ciclo, ela retira tudo o que estiver disponível, até o tamanho de
+ * lote configurado, e faz uma única chamada a
+ * {@link EmailSink#writeBatch(List)}. Sob carga os lotes crescem
+ * naturalmente; com pouco tráfego cada email é entregue assim que
+ * chega.
+ * Quando o buffer está cheio, o email é entregue na própria thread de
+ * quem o produziu, o que limita a memória e aplica contrapressão sem
+ * descartar emails. Falhas de entrega não chegam a quem produziu o
+ * email; são registradas no log e na métrica {@code email.sink.failed},
+ * que conta apenas os emails que falharam quando o destino informa a
+ * falha de cada email do lote. Por isso este destino envolve apenas
+ * as saídas locais: os destinos que representam a API de um provedor
+ * são usados diretamente, para que as falhas cheguem ao despacho.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class AsyncEmailSink implements EmailSink {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(AsyncEmailSink.class);
+
+    /**
+     * Intervalo, em milissegundos, em que a thread de entrega verifica
+     * o encerramento quando o buffer está vazio.
+     */
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    /**
+     * Destino real dos emails.
+     */
+    private final EmailSink delegate;
+
+    /**
+     * Buffer circular de emails aguardando entrega.
+     */
+    private final BlockingQueue<EmailPayload> buffer;
+
+    /**
+     * Quantidade máxima de emails por lote entregue.
+     */
+    private final int batchSize;
+
+    /**
+     * Prazo para esvaziar o buffer no encerramento.
+     */
+    private final Duration shutdownTimeout;
+
+    /**
+     * Thread dedicada à entrega dos lotes.
+     */
+    private final Thread flusher;
+
+    /**
+     * Emails entregues ao destino real.
+     */
+    private final Counter written;
+
+    /**
+     * Emails cuja entrega falhou.
+     */
+    private final Counter failed;
+
+    /**
+     * Emails entregues na thread de origem por buffer cheio.
+     */
+    private final Counter overflow;
+
+    /**
+     * Tempo de entrega de cada lote.
+     */
+    private final Timer flushTime;
+
+    /**
+     * Indica se o destino ainda aceita emails.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Cria o destino e inicia a thread de entrega.
+     *
+     * @param delegateParam destino real dos emails
+     * @param bufferSizeParam capacidade do buffer
+     * @param batchSizeParam quantidade máxima de emails por lote
+     * @param shutdownTimeoutParam prazo para esvaziar o buffer no
+     *        encerramento
+     * @param meterRegistry registro de métricas
+     */
+    public AsyncEmailSink(final EmailSink delegateParam,
+                          final int bufferSizeParam,
+                          final int batchSizeParam,
+                          final Duration shutdownTimeoutParam,
+                          final MeterRegistry meterRegistry) {
+        this.delegate = delegateParam;
+        this.buffer = new ArrayBlockingQueue<>(bufferSizeParam);
+        this.batchSize = batchSizeParam;
+        this.shutdownTimeout = shutdownTimeoutParam;
+        this.written = Counter.builder("email.sink.written")
+                .description("Emails entregues ao destino")
+                .register(meterRegistry);
+        this.failed = Counter.builder("email.sink.failed")
+                .description("Emails cuja entrega ao destino falhou")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("email.sink.overflow")
+                .description("Emails entregues na thread de origem "
+                        + "por buffer cheio")
+                .register(meterRegistry);
+        this.flushTime = Timer.builder("email.sink.flush")
+                .description("Tempo de entrega de cada lote ao destino")
+                .register(meterRegistry);
+        Gauge.builder("email.sink.buffer", buffer, BlockingQueue::size)
+                .description("Emails aguardando entrega ao destino")
+                .register(meterRegistry);
+        this.flusher = new Thread(this::drain, "email-sink-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Coloca o email no buffer para entrega assíncrona.
+     *
+     * @param payload email processado
+     * @throws EmailProcessingException se o destino já foi encerrado, ou
+     *         se a entrega na thread de origem falhar
+     */
+    @Override
+    public void write(final EmailPayload payload) {
+        if (!running) {
+            throw new EmailProcessingException(
+                    "Destino de emails encerrado");
+        }
+        if (!buffer.offer(payload)) {
+            overflow.increment();
+            delegate.write(payload);
+            written.increment();
+        }
+    }
+
+    /**
+     * Encerra o destino, entregando os emails restantes no buffer até
+     * o prazo configurado, e fecha o destino real.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            LOGGER.warn("Prazo de encerramento esgotado; {} emails não "
+                    + "entregues", buffer.size());
+            flusher.interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Laço da thread de entrega: retira os emails do buffer em lotes
+     * até o encerramento e o esvaziamento do buffer.
+     */
+    private void drain() {
+        List<EmailPayload> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                EmailPayload first = buffer.poll(POLL_INTERVAL_MILLIS,
+                        TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Entrega um lote ao destino real, registrando eventuais falhas.
+     *
+     * @param batch emails a serem entregues
+     */
+    private void flush(final List<EmailPayload> batch) {
+        long start = System.nanoTime();
+        try {
+            delegate.writeBatch(batch);
+            written.increment(batch.size());
+        } catch (EmailBatchDeliveryException e) {
+            int failedCount = e.getFailedCount();
+            written.increment(batch.size() - failedCount);
+            failed.increment(failedCount);
+            LOGGER.error("Falha ao entregar {} de {} emails ao destino: {}",
+                    failedCount, batch.size(), e.getMessage());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            LOGGER.error("Falha ao entregar {} emails ao destino: {}",
+                    batch.size(), e.getMessage(), e);
+        } finally {
+            flushTime.record(System.nanoTime() - start,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.viasoft.emailservice.sink;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Destino que imprime os emails no console, pelo log da aplicação.
+ * Cada email é registrado em uma única chamada parametrizada; o JSON
+ * só é convertido em texto se o nível INFO estiver habilitado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class ConsoleEmailSink implements EmailSink {
+
+    /**
+     * Logger para registrar os emails processados.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ConsoleEmailSink.class);
+
+    /**
+     * Formato do bloco impresso para cada email.
+     */
+    private static final String FORMAT = "=== EMAIL PROCESSADO ===\n"
+            + "Provedor: {}\nJSON Serializado:\n{}\n"
+            + "========================";
+
+    @Override
+    public void write(final EmailPayload payload) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info(FORMAT, payload.getProvider().getValue(),
+                    new String(payload.getJson(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void writeBatch(final List<EmailPayload> payloads) {
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        for (EmailPayload payload : payloads) {
+            write(payload);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+
+/**
+ * Email processado, pronto para ser entregue a um destino.
+ * O JSON segue em bytes UTF-8, como escrito pelo pipeline, e é enviado
+ * ou gravado pelos destinos sem conversão para texto.
+ * O identificador da mensagem é o mesmo em todas as tentativas de
+ * entrega do email, inclusive no envio especulativo a um segundo
+ * provedor, permitindo que o destino descarte as duplicatas.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class EmailPayload {
+
+    /**
+     * Provedor para o qual o email foi adaptado.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Email no formato do provedor, em JSON codificado em UTF-8.
+     */
+    private final byte[] json;
+
+    /**
+     * Identificador da mensagem, ou null se não atribuído.
+     */
+    private final String messageId;
+
+    /**
+     * Cria o email a ser entregue, sem identificador de mensagem.
+     *
+     * @param providerParam provedor utilizado na adaptação
+     * @param jsonParam JSON do email em UTF-8
+     */
+    public EmailPayload(final EmailProvider providerParam,
+                        final byte[] jsonParam) {
+        this(providerParam, jsonParam, null);
+    }
+
+    /**
+     * Cria o email a ser entregue.
+     *
+     * @param providerParam provedor utilizado na adaptação
+     * @param jsonParam JSON do email em UTF-8
+     * @param messageIdParam identificador da mensagem
+     */
+    public EmailPayload(final EmailProvider providerParam,
+                        final byte[] jsonParam,
+                        final String messageIdParam) {
+        this.provider = providerParam;
+        this.json = jsonParam;
+        this.messageId = messageIdParam;
+    }
+
+    /**
+     * Obtém o provedor utilizado na adaptação.
+     *
+     * @return provedor do email
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o JSON do email no formato do provedor.
+     *
+     * @return JSON do email em UTF-8
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Obtém o identificador da mensagem.
+     *
+     * @return identificador da mensagem, ou null se não atribuído
+     */
+    public String getMessageId() {
+        return messageId;
+    }
+}
@@ -0,0 +1,63 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.exception.EmailBatchDeliveryException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Contrato de um destino de saída dos emails processados.
+ * As implementações devem aceitar chamadas de várias threads.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public interface EmailSink extends AutoCloseable {
+
+    /**
+     * Entrega um email ao destino.
+     *
+     * @param payload email processado
+     * @throws com.viasoft.emailservice.exception.EmailProcessingException
+     *         se a entrega falhar
+     */
+    void write(EmailPayload payload);
+
+    /**
+     * Entrega um lote de emails ao destino. A implementação padrão
+     * entrega um a um, sem interromper o lote na falha de um email;
+     * destinos com custo fixo por operação devem sobrescrevê-la.
+     *
+     * @param payloads emails processados, na ordem de chegada
+     * @throws EmailBatchDeliveryException com a falha de cada email, se
+     *         parte dos emails não for entregue
+     * @throws com.viasoft.emailservice.exception.EmailProcessingException
+     *         se a entrega do lote inteiro falhar
+     */
+    default void writeBatch(final List<EmailPayload> payloads) {
+        List<RuntimeException> failures = null;
+        for (int i = 0; i < payloads.size(); i++) {
+            try {
+                write(payloads.get(i));
+            } catch (RuntimeException e) {
+                if (failures == null) {
+                    failures = new ArrayList<>(
+                            Collections.nCopies(payloads.size(), null));
+                }
+                failures.set(i, e);
+            }
+        }
+        if (failures != null) {
+            throw new EmailBatchDeliveryException(failures);
+        }
+    }
+
+    /**
+     * Libera os recursos do destino, entregando o que estiver pendente.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,192 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino que grava os emails em arquivo, com rotação por tamanho.
+ * Quando o arquivo atinge o tamanho máximo, ele é renomeado com o
+ * sufixo {@code .1}, os anteriores avançam um número e o mais antigo
+ * além da quantidade máxima é descartado.
+ * A saída é descarregada em disco uma vez por chamada, o que torna a
+ * gravação em lote bem mais barata que a gravação item a item.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class FileEmailSink implements EmailSink {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(FileEmailSink.class);
+
+    /**
+     * Tamanho do buffer de escrita, em bytes.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Arquivo atual.
+     */
+    private final Path path;
+
+    /**
+     * Tamanho máximo do arquivo, em bytes, antes da rotação.
+     */
+    private final long maxSize;
+
+    /**
+     * Quantidade de arquivos rotacionados mantidos.
+     */
+    private final int maxFiles;
+
+    /**
+     * Saída do arquivo atual.
+     */
+    private OutputStream out;
+
+    /**
+     * Tamanho atual do arquivo, em bytes.
+     */
+    private long size;
+
+    /**
+     * Cria o destino, abrindo o arquivo para acréscimo.
+     *
+     * @param pathParam arquivo de saída
+     * @param maxSizeParam tamanho máximo do arquivo, em bytes
+     * @param maxFilesParam quantidade de arquivos rotacionados mantidos
+     * @throws EmailProcessingException se o arquivo não puder ser aberto
+     */
+    public FileEmailSink(final Path pathParam, final long maxSizeParam,
+                         final int maxFilesParam) {
+        this.path = pathParam;
+        this.maxSize = maxSizeParam;
+        this.maxFiles = maxFilesParam;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            open();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Erro ao abrir arquivo de saída: " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void write(final EmailPayload payload) {
+        try {
+            append(payload);
+            out.flush();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Erro ao gravar email em arquivo", e);
+        }
+    }
+
+    @Override
+    public synchronized void writeBatch(final List<EmailPayload> payloads) {
+        try {
+            for (EmailPayload payload : payloads) {
+                append(payload);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Erro ao gravar lote de emails em arquivo", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOGGER.warn("Erro ao fechar arquivo de saída: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Acrescenta um email ao arquivo, rotacionando-o se necessário.
+     *
+     * @param payload email processado
+     * @throws IOException se ocorrer erro de escrita
+     */
+    private void append(final EmailPayload payload) throws IOException {
+        byte[] header = ("=== EMAIL PROCESSADO ===\nProvedor: "
+                + payload.getProvider().getValue() + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] json = payload.getJson();
+        int length = header.length + json.length + 1;
+        if (size > 0 && size + length > maxSize) {
+            roll();
+        }
+        out.write(header);
+        out.write(json);
+        out.write('\n');
+        size += length;
+    }
+
+    /**
+     * Rotaciona os arquivos e abre um novo arquivo atual.
+     *
+     * @throws IOException se ocorrer erro ao renomear ou abrir arquivos
+     */
+    private void roll() throws IOException {
+        out.close();
+        Files.deleteIfExists(rolled(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 0) {
+            Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(path);
+        }
+        open();
+        LOGGER.debug("Arquivo de saída rotacionado: {}", path);
+    }
+
+    /**
+     * Abre o arquivo atual para acréscimo.
+     *
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+                BUFFER_SIZE);
+        size = Files.size(path);
+    }
+
+    /**
+     * Obtém o caminho de um arquivo rotacionado.
+     *
+     * @param index número do arquivo rotacionado
+     * @return caminho do arquivo
+     */
+    private Path rolled(final int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
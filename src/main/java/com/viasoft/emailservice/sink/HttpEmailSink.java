@@ -0,0 +1,313 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailBatchDeliveryException;
+import com.viasoft.emailservice.exception.EmailDeliveryException;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Destino que envia os emails por HTTP à API de cada provedor.
+ * Cada email é enviado em um POST com o JSON adaptado no corpo e o
+ * provedor no cabeçalho {@value #PROVIDER_HEADER}, ao endereço
+ * configurado para o seu provedor. Um único cliente HTTP é
+ * compartilhado entre os provedores: ele negocia HTTP/2, multiplexando
+ * os envios concorrentes em uma conexão por provedor, e recorre a
+ * conexões HTTP/1.1 reaproveitadas quando o provedor não suporta
+ * HTTP/2. Os envios são assíncronos e concluídos em um pool próprio de
+ * threads; a quantidade de envios em andamento por provedor é
+ * limitada, e quem envia aguarda uma vaga. Em lotes, os envios são
+ * feitos ao mesmo tempo e aguardados juntos, e a falha de cada email
+ * é informada separadamente.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class HttpEmailSink implements EmailSink {
+
+    /**
+     * Cabeçalho que identifica o provedor do email.
+     */
+    public static final String PROVIDER_HEADER = "X-Email-Provider";
+
+    /**
+     * Cabeçalho que identifica a mensagem, repetido em todas as
+     * tentativas de entrega do mesmo email.
+     */
+    public static final String MESSAGE_ID_HEADER = "X-Message-Id";
+
+    /**
+     * Menor código de status HTTP considerado falha.
+     */
+    private static final int FIRST_ERROR_STATUS = 300;
+
+    /**
+     * Quantidade padrão de envios em andamento por provedor.
+     */
+    private static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    /**
+     * Quantidade padrão de threads que concluem os envios.
+     */
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Cliente HTTP compartilhado entre os envios.
+     */
+    private final HttpClient client;
+
+    /**
+     * Threads que concluem os envios assíncronos.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Endereço da API de cada provedor.
+     */
+    private final Map<EmailProvider, URI> endpoints;
+
+    /**
+     * Vagas de envio em andamento de cada provedor.
+     */
+    private final Map<EmailProvider, Semaphore> inFlight =
+            new EnumMap<>(EmailProvider.class);
+
+    /**
+     * Prazo de resposta de cada envio.
+     */
+    private final Duration timeout;
+
+    /**
+     * Cria o destino com o mesmo endereço para todos os provedores.
+     *
+     * @param uriParam endereço da API do provedor
+     * @param timeoutParam prazo de conexão e de resposta de cada envio
+     */
+    public HttpEmailSink(final URI uriParam, final Duration timeoutParam) {
+        this(sameEndpoint(uriParam), HttpClient.Version.HTTP_2,
+                timeoutParam, timeoutParam, DEFAULT_MAX_IN_FLIGHT,
+                DEFAULT_THREADS);
+    }
+
+    /**
+     * Cria o destino com um endereço por provedor.
+     *
+     * @param endpointsParam endereço da API de cada provedor
+     * @param version versão HTTP preferida; com HTTP/2, o cliente
+     *                recorre a HTTP/1.1 se o provedor não o suportar
+     * @param connectTimeout prazo de conexão
+     * @param timeoutParam prazo de resposta de cada envio
+     * @param maxInFlight quantidade máxima de envios em andamento por
+     *                    provedor
+     * @param threads quantidade de threads que concluem os envios
+     * @throws IllegalArgumentException se faltar o endereço de algum
+     *         provedor ou os limites não forem positivos
+     */
+    public HttpEmailSink(final Map<EmailProvider, URI> endpointsParam,
+                         final HttpClient.Version version,
+                         final Duration connectTimeout,
+                         final Duration timeoutParam,
+                         final int maxInFlight,
+                         final int threads) {
+        if (maxInFlight < 1 || threads < 1) {
+            throw new IllegalArgumentException(
+                    "Envios em andamento e threads devem ser positivos");
+        }
+        this.endpoints = new EnumMap<>(EmailProvider.class);
+        for (EmailProvider provider : EmailProvider.values()) {
+            URI endpoint = endpointsParam.get(provider);
+            if (endpoint == null) {
+                throw new IllegalArgumentException(
+                        "Endereço do provedor " + provider.getValue()
+                                + " não configurado");
+            }
+            endpoints.put(provider, endpoint);
+            inFlight.put(provider, new Semaphore(maxInFlight));
+        }
+        this.timeout = timeoutParam;
+        this.executor = Executors.newFixedThreadPool(threads,
+                daemonThreads());
+        this.client = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    @Override
+    public void write(final EmailPayload payload) {
+        try {
+            writeAsync(payload).join();
+        } catch (CompletionException e) {
+            throw failure(payload.getProvider(), e.getCause());
+        }
+    }
+
+    @Override
+    public void writeBatch(final List<EmailPayload> payloads) {
+        List<CompletableFuture<Void>> pendentes =
+                new ArrayList<>(payloads.size());
+        for (EmailPayload payload : payloads) {
+            pendentes.add(writeAsync(payload));
+        }
+        List<RuntimeException> failures = null;
+        for (int i = 0; i < pendentes.size(); i++) {
+            try {
+                pendentes.get(i).join();
+            } catch (CompletionException e) {
+                if (failures == null) {
+                    failures = new ArrayList<>(
+                            Collections.nCopies(payloads.size(), null));
+                }
+                failures.set(i, failure(payloads.get(i).getProvider(),
+                        e.getCause()));
+            }
+        }
+        if (failures != null) {
+            throw new EmailBatchDeliveryException(failures);
+        }
+    }
+
+    /**
+     * Envia um email sem aguardar a resposta. Aguarda apenas uma vaga
+     * de envio do provedor, se todas estiverem ocupadas.
+     *
+     * @param payload email processado
+     * @return conclusão do envio, com falha
+     *         {@link EmailDeliveryException} se o provedor recusar o
+     *         email ou não responder
+     * @throws EmailProcessingException se a espera pela vaga for
+     *         interrompida
+     */
+    public CompletableFuture<Void> writeAsync(final EmailPayload payload) {
+        EmailProvider provider = payload.getProvider();
+        Semaphore permits = inFlight.get(provider);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailProcessingException(
+                    "Envio de email ao provedor interrompido", e);
+        }
+        CompletableFuture<HttpResponse<Void>> response;
+        try {
+            response = client.sendAsync(request(payload),
+                    HttpResponse.BodyHandlers.discarding());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return response.whenComplete((ignored, error) -> permits.release())
+                .thenAccept(result -> check(provider, result));
+    }
+
+    /**
+     * Interrompe as threads que concluem os envios.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Monta a requisição de envio de um email.
+     *
+     * @param payload email processado
+     * @return requisição HTTP
+     */
+    private HttpRequest request(final EmailPayload payload) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(
+                        endpoints.get(payload.getProvider()))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header(PROVIDER_HEADER, payload.getProvider().getValue());
+        if (payload.getMessageId() != null) {
+            builder.header(MESSAGE_ID_HEADER, payload.getMessageId());
+        }
+        return builder
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        payload.getJson()))
+                .build();
+    }
+
+    /**
+     * Verifica se o provedor aceitou o email.
+     *
+     * @param provider provedor do email
+     * @param response resposta do provedor
+     * @throws EmailDeliveryException se o provedor recusou o email
+     */
+    private static void check(final EmailProvider provider,
+                              final HttpResponse<Void> response) {
+        if (response.statusCode() >= FIRST_ERROR_STATUS) {
+            throw new EmailDeliveryException(provider,
+                    "Provedor recusou o email com status "
+                            + response.statusCode(), null);
+        }
+    }
+
+    /**
+     * Converte a falha de um envio na exceção lançada ao chamador.
+     *
+     * @param provider provedor do email
+     * @param cause falha do envio
+     * @return exceção de entrega com o provedor
+     */
+    private static EmailProcessingException failure(
+            final EmailProvider provider, final Throwable cause) {
+        if (cause instanceof EmailProcessingException processing) {
+            return processing;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            return new EmailDeliveryException(provider,
+                    "Tempo de resposta do provedor esgotado", cause);
+        }
+        return new EmailDeliveryException(provider,
+                "Erro ao enviar email ao provedor", cause);
+    }
+
+    /**
+     * Associa o mesmo endereço a todos os provedores.
+     *
+     * @param uri endereço da API
+     * @return endereço de cada provedor
+     */
+    private static Map<EmailProvider, URI> sameEndpoint(final URI uri) {
+        Map<EmailProvider, URI> same = new EnumMap<>(EmailProvider.class);
+        for (EmailProvider provider : EmailProvider.values()) {
+            same.put(provider, uri);
+        }
+        return same;
+    }
+
+    /**
+     * Cria a fábrica das threads que concluem os envios, que não
+     * impedem o encerramento da JVM.
+     *
+     * @return fábrica de threads
+     */
+    private static CustomizableThreadFactory daemonThreads() {
+        CustomizableThreadFactory factory =
+                new CustomizableThreadFactory("email-http-");
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,60 @@
+package com.viasoft.emailservice.sink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Destino que mantém os emails em memória, usado em testes.
+ * Guarda apenas os emails mais recentes, até a capacidade informada.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class InMemoryEmailSink implements EmailSink {
+
+    /**
+     * Emails recebidos, do mais antigo ao mais recente.
+     */
+    private final Deque<EmailPayload> payloads = new ArrayDeque<>();
+
+    /**
+     * Quantidade máxima de emails mantidos.
+     */
+    private final int capacity;
+
+    /**
+     * Cria o destino com a capacidade informada.
+     *
+     * @param capacityParam quantidade máxima de emails mantidos
+     */
+    public InMemoryEmailSink(final int capacityParam) {
+        this.capacity = capacityParam;
+    }
+
+    @Override
+    public synchronized void write(final EmailPayload payload) {
+        if (payloads.size() >= capacity) {
+            payloads.pollFirst();
+        }
+        payloads.addLast(payload);
+    }
+
+    /**
+     * Obtém uma cópia dos emails recebidos.
+     *
+     * @return emails recebidos, do mais antigo ao mais recente
+     */
+    public synchronized List<EmailPayload> getPayloads() {
+        return new ArrayList<>(payloads);
+    }
+
+    /**
+     * Descarta os emails recebidos.
+     */
+    public synchronized void clear() {
+        payloads.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Destino que simula a entrega por um provedor, para medir o
+ * roteamento e o envio especulativo sem acesso à rede.
+ * Cada envio aguarda a latência configurada para o seu provedor; uma
+ * fração dos envios aguarda a latência lenta, reproduzindo a cauda de
+ * latência de um provedor real, e outra fração falha. Como a caixa do
+ * destinatário, mensagens com um identificador já entregue são
+ * descartadas, de modo que o envio especulativo não gera duplicatas.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class StubEmailSink implements EmailSink {
+
+    /**
+     * Latência de cada provedor, em nanossegundos, indexada pelo
+     * ordinal do provedor.
+     */
+    private final long[] latencyNanos;
+
+    /**
+     * Fração dos envios que aguarda a latência lenta.
+     */
+    private final double slowRatio;
+
+    /**
+     * Latência dos envios lentos, em nanossegundos.
+     */
+    private final long slowLatencyNanos;
+
+    /**
+     * Fração dos envios que falha.
+     */
+    private final double errorRate;
+
+    /**
+     * Identificadores das mensagens entregues mais recentes.
+     */
+    private final Map<String, Boolean> delivered;
+
+    /**
+     * Mensagens entregues.
+     */
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    /**
+     * Mensagens repetidas descartadas.
+     */
+    private final AtomicLong duplicateCount = new AtomicLong();
+
+    /**
+     * Cria o destino simulado.
+     *
+     * @param latencies latência de cada provedor; provedores ausentes
+     *        respondem imediatamente
+     * @param slowRatioParam fração dos envios lentos, entre 0 e 1
+     * @param slowLatency latência dos envios lentos
+     * @param errorRateParam fração dos envios com falha, entre 0 e 1
+     * @param dedupeCapacity quantidade de identificadores de mensagem
+     *        lembrados para descartar repetições
+     */
+    public StubEmailSink(final Map<EmailProvider, Duration> latencies,
+                         final double slowRatioParam,
+                         final Duration slowLatency,
+                         final double errorRateParam,
+                         final int dedupeCapacity) {
+        this.latencyNanos = new long[EmailProvider.values().length];
+        latencies.forEach((provider, latency) ->
+                latencyNanos[provider.ordinal()] = latency.toNanos());
+        this.slowRatio = slowRatioParam;
+        this.slowLatencyNanos = slowLatency.toNanos();
+        this.errorRate = errorRateParam;
+        this.delivered = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, Boolean> eldest) {
+                return size() > dedupeCapacity;
+            }
+        };
+    }
+
+    @Override
+    public void write(final EmailPayload payload) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = random.nextDouble() < slowRatio
+                ? slowLatencyNanos
+                : latencyNanos[payload.getProvider().ordinal()];
+        try {
+            TimeUnit.NANOSECONDS.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailProcessingException(
+                    "Envio interrompido ao provedor "
+                            + payload.getProvider().getValue(), e);
+        }
+        if (random.nextDouble() < errorRate) {
+            throw new EmailProcessingException(
+                    "Falha simulada do provedor "
+                            + payload.getProvider().getValue());
+        }
+        if (payload.getMessageId() != null && !remember(payload)) {
+            duplicateCount.incrementAndGet();
+            return;
+        }
+        deliveredCount.incrementAndGet();
+    }
+
+    /**
+     * Registra o identificador de uma mensagem entregue.
+     *
+     * @param payload email entregue
+     * @return false se a mensagem já havia sido entregue
+     */
+    private synchronized boolean remember(final EmailPayload payload) {
+        return delivered.putIfAbsent(payload.getMessageId(),
+                Boolean.TRUE) == null;
+    }
+
+    /**
+     * Obtém a quantidade de mensagens entregues.
+     *
+     * @return mensagens entregues, sem as repetições
+     */
+    public long getDelivered() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Obtém a quantidade de mensagens repetidas descartadas.
+     *
+     * @return mensagens repetidas
+     */
+    public long getDuplicates() {
+        return duplicateCount.get();
+    }
+}
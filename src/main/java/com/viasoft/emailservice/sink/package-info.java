@@ -0,0 +1,13 @@
+/**
+ * Pacote dos destinos de saída dos emails processados.
+ *
+ * Este pacote contém o contrato {@link
+ * com.viasoft.emailservice.sink.EmailSink} e suas implementações para
+ * console, arquivo, memória e HTTP, além do destino assíncrono que
+ * agrupa as gravações em lotes fora da thread da requisição.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.sink;
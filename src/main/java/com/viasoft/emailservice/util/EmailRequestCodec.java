@@ -0,0 +1,122 @@
+package com.viasoft.emailservice.util;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+
+/**
+ * Codificação binária compacta dos dados de um email, usada pelos
+ * arquivos que guardam emails em disco (agendamentos e diário de
+ * emails aceitos). O primeiro byte é a versão do formato.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class EmailRequestCodec {
+
+    /**
+     * Versão do formato dos dados do email.
+     */
+    private static final byte VERSION = 1;
+
+    /**
+     * Construtor privado; a classe só tem métodos estáticos.
+     */
+    private EmailRequestCodec() {
+    }
+
+    /**
+     * Codifica os dados do email.
+     *
+     * @param emailRequest dados do email
+     * @return dados codificados
+     * @throws EmailProcessingException se a codificação falhar
+     */
+    public static byte[] encode(final EmailRequestDTO emailRequest) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeNullable(out, emailRequest.getEmailDestinatario());
+            writeNullable(out, emailRequest.getNomeDestinatario());
+            writeNullable(out, emailRequest.getEmailRemetente());
+            writeNullable(out, emailRequest.getAssunto());
+            writeNullable(out, emailRequest.getConteudo());
+            writeNullable(out, emailRequest.getPrioridade().name());
+            writeNullable(out, emailRequest.getEnviarEm() == null
+                    ? null : emailRequest.getEnviarEm().toString());
+        } catch (IOException e) {
+            throw new EmailProcessingException(
+                    "Falha ao codificar email", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica os dados do email, consumindo o buffer até o fim.
+     *
+     * @param payload dados codificados por {@link #encode}
+     * @return dados do email
+     * @throws IOException se os dados forem inválidos
+     */
+    public static EmailRequestDTO decode(final ByteBuffer payload)
+            throws IOException {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != VERSION) {
+                throw new IOException("Versão do email codificado "
+                        + "desconhecida");
+            }
+            EmailRequestDTO emailRequest = new EmailRequestDTO(
+                    readNullable(in), readNullable(in), readNullable(in),
+                    readNullable(in), readNullable(in));
+            emailRequest.setPrioridade(
+                    EmailPriority.valueOf(readNullable(in)));
+            String enviarEm = readNullable(in);
+            if (enviarEm != null) {
+                emailRequest.setEnviarEm(OffsetDateTime.parse(enviarEm));
+            }
+            return emailRequest;
+        } catch (RuntimeException e) {
+            throw new IOException("Email codificado inválido", e);
+        }
+    }
+
+    /**
+     * Escreve um texto que pode ser nulo.
+     *
+     * @param out saída
+     * @param value texto, ou null
+     * @throws IOException se a escrita falhar
+     */
+    private static void writeNullable(final DataOutputStream out,
+                                      final String value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Lê um texto escrito por {@link #writeNullable}.
+     *
+     * @param in entrada
+     * @return texto, ou null
+     * @throws IOException se a leitura falhar
+     */
+    private static String readNullable(final DataInputStream in)
+            throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,17 +1,39 @@
 package com.viasoft.emailservice.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.viasoft.emailservice.dto.EmailAwsDTO;
+import com.viasoft.emailservice.dto.EmailOciDTO;
+import com.viasoft.emailservice.enums.JsonOutputFormat;
 import com.viasoft.emailservice.exception.EmailProcessingException;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Utilitário para serialização de objetos em JSON.
  *
  * Esta classe fornece métodos para converter objetos
  * em representação JSON de forma padronizada.
  *
+ * Um único {@link ObjectMapper} é criado, e cada tipo serializado
+ * recebe um {@link ObjectWriter} por formato, criado na primeira
+ * serialização do tipo e reaproveitado nas seguintes, com o serializador
+ * do tipo já resolvido; os writers dos DTOs dos provedores são criados
+ * na construção. O JSON é compacto por padrão e pode ser produzido como
+ * texto, como bytes em UTF-8 ou escrito em um {@link OutputStream} ou
+ * {@link ByteBuffer}; os buffers internos da geração são reaproveitados
+ * entre as serializações pelo Jackson.
+ *
  * @author Thiago Bianeck
  * @version 1.0.0
  * @since 2025
@@ -25,27 +47,51 @@ public class JsonSerializer {
     private final ObjectMapper objectMapper;
 
     /**
-     * Construtor que configura o ObjectMapper.
+     * Writers de cada formato, por tipo serializado.
+     */
+    private final Map<JsonOutputFormat, Map<Class<?>, ObjectWriter>> writers =
+            new EnumMap<>(JsonOutputFormat.class);
+
+    /**
+     * Construtor que configura o ObjectMapper e os writers dos DTOs dos
+     * provedores. O mapper não fecha as saídas recebidas.
      */
     public JsonSerializer() {
         this.objectMapper = new ObjectMapper();
-        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.objectMapper.getFactory()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        for (JsonOutputFormat format : JsonOutputFormat.values()) {
+            writers.put(format, new ConcurrentHashMap<>());
+            writer(EmailAwsDTO.class, format);
+            writer(EmailOciDTO.class, format);
+        }
     }
 
     /**
-     * Serializa um objeto para JSON.
+     * Serializa um objeto para JSON compacto.
      *
      * @param object objeto a ser serializado
      * @return representação JSON do objeto
      * @throws EmailProcessingException se ocorrer erro na serialização
      */
     public String serialize(final Object object) {
+        return serialize(object, JsonOutputFormat.COMPACT);
+    }
+
+    /**
+     * Serializa um objeto para JSON no formato informado.
+     *
+     * @param object objeto a ser serializado
+     * @param format formato do JSON
+     * @return representação JSON do objeto
+     * @throws EmailProcessingException se ocorrer erro na serialização
+     */
+    public String serialize(final Object object,
+                            final JsonOutputFormat format) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return writer(object, format).writeValueAsString(object);
         } catch (JsonProcessingException e) {
-            throw new EmailProcessingException(
-                    "Erro ao serializar objeto para JSON: " + e.getMessage(), e
-            );
+            throw failure(format, e);
         }
     }
 
@@ -57,14 +103,145 @@ public class JsonSerializer {
      * @throws EmailProcessingException se ocorrer erro na serialização
      */
     public String serializeCompact(final Object object) {
+        return serialize(object, JsonOutputFormat.COMPACT);
+    }
+
+    /**
+     * Serializa um objeto para JSON indentado.
+     *
+     * @param object objeto a ser serializado
+     * @return representação JSON indentada do objeto
+     * @throws EmailProcessingException se ocorrer erro na serialização
+     */
+    public String serializePretty(final Object object) {
+        return serialize(object, JsonOutputFormat.PRETTY);
+    }
+
+    /**
+     * Serializa um objeto para JSON compacto em UTF-8.
+     *
+     * @param object objeto a ser serializado
+     * @return JSON do objeto em UTF-8
+     * @throws EmailProcessingException se ocorrer erro na serialização
+     */
+    public byte[] serializeToBytes(final Object object) {
+        return serializeToBytes(object, JsonOutputFormat.COMPACT);
+    }
+
+    /**
+     * Serializa um objeto para JSON em UTF-8 no formato informado.
+     *
+     * @param object objeto a ser serializado
+     * @param format formato do JSON
+     * @return JSON do objeto em UTF-8
+     * @throws EmailProcessingException se ocorrer erro na serialização
+     */
+    public byte[] serializeToBytes(final Object object,
+                                   final JsonOutputFormat format) {
         try {
-            ObjectMapper compactMapper = new ObjectMapper();
-            return compactMapper.writeValueAsString(object);
+            return writer(object, format).writeValueAsBytes(object);
         } catch (JsonProcessingException e) {
-            throw new EmailProcessingException(
-                    "Erro ao serializar objeto para JSON compacto: "
-                            + e.getMessage(), e
-            );
+            throw failure(format, e);
         }
     }
+
+    /**
+     * Escreve um objeto em JSON, em UTF-8 e no formato informado, em
+     * uma saída, sem fechá-la.
+     *
+     * @param object objeto a ser serializado
+     * @param format formato do JSON
+     * @param out saída do JSON
+     * @throws IOException se a saída não puder ser escrita
+     * @throws EmailProcessingException se ocorrer erro na serialização
+     */
+    public void serialize(final Object object, final JsonOutputFormat format,
+                          final OutputStream out) throws IOException {
+        try {
+            writer(object, format).writeValue(out, object);
+        } catch (JsonProcessingException e) {
+            throw failure(format, e);
+        }
+    }
+
+    /**
+     * Escreve um objeto em JSON, em UTF-8 e no formato informado, a
+     * partir da posição atual de um buffer.
+     *
+     * @param object objeto a ser serializado
+     * @param format formato do JSON
+     * @param target buffer de destino
+     * @return quantidade de bytes escritos
+     * @throws BufferOverflowException se o JSON não couber no espaço
+     *         restante do destino, cuja posição não é alterada
+     * @throws EmailProcessingException se ocorrer erro na serialização
+     */
+    public int serialize(final Object object, final JsonOutputFormat format,
+                         final ByteBuffer target) {
+        int start = target.position();
+        try {
+            writer(object, format).writeValue(
+                    new ByteBufferBackedOutputStream(target), object);
+        } catch (BufferOverflowException e) {
+            target.position(start);
+            throw e;
+        } catch (IOException e) {
+            target.position(start);
+            throw failure(format, e);
+        }
+        return target.position() - start;
+    }
+
+    /**
+     * Obtém o writer do tipo de um objeto no formato informado.
+     *
+     * @param object objeto a ser serializado
+     * @param format formato do JSON
+     * @return writer do tipo e do formato
+     */
+    private ObjectWriter writer(final Object object,
+                                final JsonOutputFormat format) {
+        return object == null
+                ? writer(Object.class, format)
+                : writer(object.getClass(), format);
+    }
+
+    /**
+     * Obtém o writer de um tipo no formato informado, criando-o na
+     * primeira serialização do tipo.
+     *
+     * @param type tipo serializado
+     * @param format formato do JSON
+     * @return writer do tipo e do formato
+     */
+    private ObjectWriter writer(final Class<?> type,
+                                final JsonOutputFormat format) {
+        Map<Class<?>, ObjectWriter> byType = writers.get(format);
+        ObjectWriter writer = byType.get(type);
+        if (writer == null) {
+            writer = byType.computeIfAbsent(type, key -> {
+                ObjectWriter base = format == JsonOutputFormat.PRETTY
+                        ? objectMapper.writerWithDefaultPrettyPrinter()
+                        : objectMapper.writer();
+                return base.forType(key);
+            });
+        }
+        return writer;
+    }
+
+    /**
+     * Converte uma falha de serialização na exceção da aplicação.
+     *
+     * @param format formato do JSON
+     * @param cause falha da serialização
+     * @return exceção de processamento
+     */
+    private static EmailProcessingException failure(
+            final JsonOutputFormat format, final IOException cause) {
+        String target = format == JsonOutputFormat.COMPACT
+                ? "JSON compacto" : "JSON";
+        return new EmailProcessingException(
+                "Erro ao serializar objeto para " + target + ": "
+                        + cause.getMessage(), cause);
+    }
 }
@@ -0,0 +1,500 @@
+package com.viasoft.emailservice.validation;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validador dos emails contra os limites dos provedores, compilado a
+ * partir de {@link ProviderLimits} por {@link #compile(Collection)}. Na
+ * compilação, os limites viram uma linha por provedor, na ordem dos
+ * provedores, com um tamanho máximo por campo; a validação lê o tamanho
+ * de cada campo uma única vez e o compara com a linha de um provedor ou
+ * com todas as linhas, o que permite ao roteamento saber em uma
+ * passagem quais provedores comportam o email. A compilação também
+ * guarda o {@link Floor}, o menor limite de cada campo entre os
+ * provedores: o email que cabe nele cabe em todos, e a verificação
+ * contra todos os provedores termina com uma única comparação por
+ * campo, como no caso comum de um email válido. A validação não aloca:
+ * o {@link ValidationResult} de cada combinação de campos excedidos é
+ * criado na compilação, com as mensagens de erro já montadas.
+ * Um campo ou provedor sem limite registrado aceita qualquer tamanho.
+ * O validador e as linhas são records, cujos campos o JIT trata como
+ * constantes quando o validador é guardado em um campo
+ * {@code static final}, como em {@link #defaults()}: a verificação fica
+ * tão barata quanto uma cadeia de condições com os limites escritos no
+ * código.
+ *
+ * @param rows linha de cada provedor, na ordem dos provedores
+ * @param floor menor limite de cada campo entre as linhas
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public record ProviderLimitValidator(List<Row> rows, Floor floor) {
+
+    /**
+     * Todos os provedores, um bit por provedor.
+     */
+    private static final int ALL_PROVIDERS =
+            (1 << EmailProvider.values().length) - 1;
+
+    /**
+     * Validador dos limites conhecidos de todos os provedores.
+     */
+    private static final ProviderLimitValidator DEFAULTS =
+            compile(Arrays.stream(EmailProvider.values())
+                    .map(ProviderLimits::of).toList());
+
+    /**
+     * Valida as linhas e o piso e torna as linhas imutáveis.
+     *
+     * @param rows linha de cada provedor, na ordem dos provedores
+     * @param floor menor limite de cada campo entre as linhas
+     * @throws IllegalArgumentException se faltar a linha de algum
+     *         provedor, as linhas estiverem fora de ordem ou o piso não
+     *         corresponder às linhas
+     */
+    public ProviderLimitValidator {
+        rows = List.copyOf(rows);
+        if (rows.size() != EmailProvider.values().length) {
+            throw new IllegalArgumentException(
+                    "Informe uma linha de limites por provedor");
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).provider().ordinal() != i) {
+                throw new IllegalArgumentException(
+                        "Linhas de limites fora da ordem dos provedores");
+            }
+        }
+        if (!Floor.of(rows).equals(floor)) {
+            throw new IllegalArgumentException(
+                    "Piso diferente do menor limite das linhas");
+        }
+    }
+
+    /**
+     * Cria o validador com o piso calculado a partir das linhas.
+     *
+     * @param rows linha de cada provedor, na ordem dos provedores
+     * @throws IllegalArgumentException se faltar a linha de algum
+     *         provedor ou as linhas estiverem fora de ordem
+     */
+    public ProviderLimitValidator(final List<Row> rows) {
+        this(rows, Floor.of(rows));
+    }
+
+    /**
+     * Compila os limites dos provedores.
+     *
+     * @param limits limites de cada provedor
+     * @return validador compilado
+     * @throws IllegalArgumentException se um provedor aparecer mais de
+     *         uma vez
+     */
+    public static ProviderLimitValidator compile(
+            final Collection<ProviderLimits> limits) {
+        Map<EmailProvider, Map<EmailField, Integer>> byProvider =
+                new EnumMap<>(EmailProvider.class);
+        for (ProviderLimits providerLimits : limits) {
+            if (byProvider.putIfAbsent(providerLimits.getProvider(),
+                    providerLimits.getMaxLengths()) != null) {
+                throw new IllegalArgumentException(
+                        "Limites repetidos para o provedor "
+                                + providerLimits.getProvider().getValue());
+            }
+        }
+        return new ProviderLimitValidator(Arrays.stream(EmailProvider.values())
+                .map(provider -> Row.of(provider,
+                        byProvider.getOrDefault(provider, Map.of())))
+                .toList());
+    }
+
+    /**
+     * Obtém o validador dos limites conhecidos de todos os provedores.
+     *
+     * @return validador compartilhado
+     */
+    public static ProviderLimitValidator defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Verifica se o email cabe nos limites do provedor.
+     *
+     * @param emailRequest dados do email
+     * @param provider provedor
+     * @return true se nenhum campo excede o limite do provedor
+     */
+    public boolean fits(final EmailRequestDTO emailRequest,
+                        final EmailProvider provider) {
+        return rows.get(provider.ordinal()).fits(emailRequest);
+    }
+
+    /**
+     * Verifica o email contra todos os provedores em uma única
+     * passagem pelos campos.
+     *
+     * @param emailRequest dados do email, possivelmente nulos
+     * @return provedores que comportam o email, um bit por provedor, ou
+     *         nenhum se os dados forem nulos; consulte com
+     *         {@link #includes(int, EmailProvider)}
+     */
+    public int fittingProviders(final EmailRequestDTO emailRequest) {
+        if (emailRequest == null) {
+            return 0;
+        }
+        int destinatario = length(emailRequest.getEmailDestinatario());
+        int nome = length(emailRequest.getNomeDestinatario());
+        int remetente = length(emailRequest.getEmailRemetente());
+        int assunto = length(emailRequest.getAssunto());
+        int conteudo = length(emailRequest.getConteudo());
+        if (floor.fits(destinatario, nome, remetente, assunto, conteudo)) {
+            return ALL_PROVIDERS;
+        }
+        int fitting = 0;
+        for (int provider = 0; provider < rows.size(); provider++) {
+            if (rows.get(provider).fits(destinatario, nome, remetente,
+                    assunto, conteudo)) {
+                fitting |= 1 << provider;
+            }
+        }
+        return fitting;
+    }
+
+    /**
+     * Indica se um provedor está no resultado de
+     * {@link #fittingProviders(EmailRequestDTO)}.
+     *
+     * @param fitting provedores que comportam o email
+     * @param provider provedor
+     * @return true se o provedor comporta o email
+     */
+    public static boolean includes(final int fitting,
+                                   final EmailProvider provider) {
+        return (fitting & (1 << provider.ordinal())) != 0;
+    }
+
+    /**
+     * Valida o email contra os limites do provedor, reportando todos os
+     * campos que excedem o limite, sem lançar exceção.
+     *
+     * @param emailRequest dados do email
+     * @param provider provedor
+     * @return resultado pré-alocado da combinação de campos excedidos
+     */
+    public ValidationResult validate(final EmailRequestDTO emailRequest,
+                                     final EmailProvider provider) {
+        return rows.get(provider.ordinal()).validate(emailRequest);
+    }
+
+    /**
+     * Obtém o resultado pré-alocado de uma combinação de campos
+     * excedidos, como a calculada pelos mapeadores gerados dos DTOs de
+     * provedor.
+     *
+     * @param provider provedor
+     * @param violations campos excedidos, um bit por campo na ordem de
+     *                   {@link EmailField}
+     * @return resultado da combinação de campos excedidos
+     * @throws IndexOutOfBoundsException se algum bit não corresponder a
+     *         um campo
+     */
+    public ValidationResult result(final EmailProvider provider,
+                                   final int violations) {
+        return rows.get(provider.ordinal()).results().get(violations);
+    }
+
+    /**
+     * Valida o email contra os limites do provedor.
+     *
+     * @param emailRequest dados do email
+     * @param provider provedor
+     * @throws ProviderLimitExceededException se algum campo exceder o
+     *         limite do provedor, com todos os campos excedidos
+     */
+    public void check(final EmailRequestDTO emailRequest,
+                      final EmailProvider provider) {
+        ValidationResult result = validate(emailRequest, provider);
+        if (!result.isValid()) {
+            throw new ProviderLimitExceededException(result);
+        }
+    }
+
+    /**
+     * Obtém o tamanho máximo de um campo no provedor.
+     *
+     * @param field campo do email
+     * @param provider provedor
+     * @return tamanho máximo, ou {@link Integer#MAX_VALUE} se o campo
+     *         não for limitado
+     */
+    public int maxLength(final EmailField field,
+                         final EmailProvider provider) {
+        return rows.get(provider.ordinal()).maxLength(field);
+    }
+
+    /**
+     * Obtém o tamanho de um campo opcional.
+     *
+     * @param value valor do campo, possivelmente nulo
+     * @return tamanho do campo, ou zero se for nulo
+     */
+    private static int length(final String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Limites compilados de um provedor, um componente por campo, e os
+     * resultados pré-alocados da validação.
+     *
+     * @param provider provedor da linha
+     * @param destinatario tamanho máximo do email do destinatário
+     * @param nome tamanho máximo do nome do destinatário
+     * @param remetente tamanho máximo do email do remetente
+     * @param assunto tamanho máximo do assunto
+     * @param conteudo tamanho máximo do conteúdo
+     * @param results resultado de cada combinação de campos excedidos,
+     *                indexado pelos bits dos campos na ordem de
+     *                {@link EmailField}
+     */
+    public record Row(EmailProvider provider, int destinatario, int nome,
+                      int remetente, int assunto, int conteudo,
+                      List<ValidationResult> results) {
+
+        /**
+         * Quantidade de combinações de campos excedidos.
+         */
+        private static final int COMBINATIONS =
+                1 << EmailField.values().length;
+
+        /**
+         * Bit do email do destinatário nas combinações.
+         */
+        private static final int DESTINATARIO_BIT =
+                1 << EmailField.EMAIL_DESTINATARIO.ordinal();
+
+        /**
+         * Bit do nome do destinatário nas combinações.
+         */
+        private static final int NOME_BIT =
+                1 << EmailField.NOME_DESTINATARIO.ordinal();
+
+        /**
+         * Bit do email do remetente nas combinações.
+         */
+        private static final int REMETENTE_BIT =
+                1 << EmailField.EMAIL_REMETENTE.ordinal();
+
+        /**
+         * Bit do assunto nas combinações.
+         */
+        private static final int ASSUNTO_BIT =
+                1 << EmailField.ASSUNTO.ordinal();
+
+        /**
+         * Bit do conteúdo nas combinações.
+         */
+        private static final int CONTEUDO_BIT =
+                1 << EmailField.CONTEUDO.ordinal();
+
+        /**
+         * Valida os resultados e os torna imutáveis.
+         *
+         * @throws IllegalArgumentException se faltar o resultado de
+         *         alguma combinação de campos
+         */
+        public Row {
+            results = List.copyOf(results);
+            if (results.size() != COMBINATIONS) {
+                throw new IllegalArgumentException(
+                        "Informe um resultado por combinação de campos");
+            }
+        }
+
+        /**
+         * Monta a linha de um provedor.
+         *
+         * @param provider provedor
+         * @param maxLengths tamanho máximo de cada campo limitado
+         * @return linha do provedor
+         */
+        static Row of(final EmailProvider provider,
+                      final Map<EmailField, Integer> maxLengths) {
+            int[] limits = new int[EmailField.values().length];
+            for (EmailField field : EmailField.values()) {
+                limits[field.ordinal()] = limit(maxLengths, field);
+            }
+            List<ValidationResult> results = new ArrayList<>(COMBINATIONS);
+            for (int violations = 0; violations < COMBINATIONS;
+                 violations++) {
+                results.add(new ValidationResult(provider, violations,
+                        limits));
+            }
+            return new Row(provider,
+                    limits[EmailField.EMAIL_DESTINATARIO.ordinal()],
+                    limits[EmailField.NOME_DESTINATARIO.ordinal()],
+                    limits[EmailField.EMAIL_REMETENTE.ordinal()],
+                    limits[EmailField.ASSUNTO.ordinal()],
+                    limits[EmailField.CONTEUDO.ordinal()],
+                    results);
+        }
+
+        /**
+         * Valida o email contra os limites da linha, lendo todos os
+         * campos.
+         *
+         * @param emailRequest dados do email
+         * @return resultado pré-alocado da combinação de campos
+         *         excedidos
+         */
+        public ValidationResult validate(final EmailRequestDTO emailRequest) {
+            int violations = 0;
+            if (length(emailRequest.getEmailDestinatario()) > destinatario) {
+                violations |= DESTINATARIO_BIT;
+            }
+            if (length(emailRequest.getNomeDestinatario()) > nome) {
+                violations |= NOME_BIT;
+            }
+            if (length(emailRequest.getEmailRemetente()) > remetente) {
+                violations |= REMETENTE_BIT;
+            }
+            if (length(emailRequest.getAssunto()) > assunto) {
+                violations |= ASSUNTO_BIT;
+            }
+            if (length(emailRequest.getConteudo()) > conteudo) {
+                violations |= CONTEUDO_BIT;
+            }
+            return results.get(violations);
+        }
+
+        /**
+         * Verifica se o email cabe nos limites da linha, lendo os
+         * campos somente até o primeiro que exceder o limite.
+         *
+         * @param emailRequest dados do email
+         * @return true se nenhum campo excede o limite
+         */
+        public boolean fits(final EmailRequestDTO emailRequest) {
+            return length(emailRequest.getEmailDestinatario()) <= destinatario
+                    && length(emailRequest.getNomeDestinatario()) <= nome
+                    && length(emailRequest.getEmailRemetente()) <= remetente
+                    && length(emailRequest.getAssunto()) <= assunto
+                    && length(emailRequest.getConteudo()) <= conteudo;
+        }
+
+        /**
+         * Obtém o tamanho máximo de um campo.
+         *
+         * @param field campo do email
+         * @return tamanho máximo
+         */
+        public int maxLength(final EmailField field) {
+            return switch (field) {
+                case EMAIL_DESTINATARIO -> destinatario;
+                case NOME_DESTINATARIO -> nome;
+                case EMAIL_REMETENTE -> remetente;
+                case ASSUNTO -> assunto;
+                case CONTEUDO -> conteudo;
+            };
+        }
+
+        /**
+         * Compara os tamanhos já lidos dos campos com os limites.
+         *
+         * @param destinatarioLength tamanho do email do destinatário
+         * @param nomeLength tamanho do nome do destinatário
+         * @param remetenteLength tamanho do email do remetente
+         * @param assuntoLength tamanho do assunto
+         * @param conteudoLength tamanho do conteúdo
+         * @return true se nenhum tamanho excede o limite
+         */
+        boolean fits(final int destinatarioLength, final int nomeLength,
+                     final int remetenteLength, final int assuntoLength,
+                     final int conteudoLength) {
+            return destinatarioLength <= destinatario
+                    && nomeLength <= nome
+                    && remetenteLength <= remetente
+                    && assuntoLength <= assunto
+                    && conteudoLength <= conteudo;
+        }
+
+        /**
+         * Obtém o limite de um campo, ou nenhum se não for limitado.
+         *
+         * @param maxLengths tamanho máximo de cada campo limitado
+         * @param field campo
+         * @return tamanho máximo, ou {@link Integer#MAX_VALUE}
+         */
+        private static int limit(final Map<EmailField, Integer> maxLengths,
+                                 final EmailField field) {
+            return maxLengths.getOrDefault(field, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Menor limite de cada campo entre as linhas dos provedores: um
+     * email que cabe no piso cabe em todos os provedores.
+     *
+     * @param destinatario menor tamanho máximo do email do destinatário
+     * @param nome menor tamanho máximo do nome do destinatário
+     * @param remetente menor tamanho máximo do email do remetente
+     * @param assunto menor tamanho máximo do assunto
+     * @param conteudo menor tamanho máximo do conteúdo
+     */
+    public record Floor(int destinatario, int nome, int remetente,
+                        int assunto, int conteudo) {
+
+        /**
+         * Calcula o piso das linhas.
+         *
+         * @param rows linhas dos provedores
+         * @return menor limite de cada campo, ou nenhum limite se não
+         *         houver linhas
+         */
+        static Floor of(final List<Row> rows) {
+            int destinatario = Integer.MAX_VALUE;
+            int nome = Integer.MAX_VALUE;
+            int remetente = Integer.MAX_VALUE;
+            int assunto = Integer.MAX_VALUE;
+            int conteudo = Integer.MAX_VALUE;
+            for (Row row : rows) {
+                destinatario = Math.min(destinatario, row.destinatario());
+                nome = Math.min(nome, row.nome());
+                remetente = Math.min(remetente, row.remetente());
+                assunto = Math.min(assunto, row.assunto());
+                conteudo = Math.min(conteudo, row.conteudo());
+            }
+            return new Floor(destinatario, nome, remetente, assunto,
+                    conteudo);
+        }
+
+        /**
+         * Compara os tamanhos já lidos dos campos com o piso.
+         *
+         * @param destinatarioLength tamanho do email do destinatário
+         * @param nomeLength tamanho do nome do destinatário
+         * @param remetenteLength tamanho do email do remetente
+         * @param assuntoLength tamanho do assunto
+         * @param conteudoLength tamanho do conteúdo
+         * @return true se nenhum tamanho excede o piso
+         */
+        boolean fits(final int destinatarioLength, final int nomeLength,
+                     final int remetenteLength, final int assuntoLength,
+                     final int conteudoLength) {
+            return destinatarioLength <= destinatario
+                    && nomeLength <= nome
+                    && remetenteLength <= remetente
+                    && assuntoLength <= assunto
+                    && conteudoLength <= conteudo;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.viasoft.emailservice.validation;
+
+import com.viasoft.emailservice.dto.EmailAwsDTOMapper;
+import com.viasoft.emailservice.dto.EmailOciDTOMapper;
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Limites de tamanho dos campos de um email em um provedor.
+ * Os limites conhecidos de cada provedor são declarados uma única vez
+ * nas anotações {@code @Size} do DTO do provedor, com as constantes
+ * desta classe: {@link #of(EmailProvider)} obtém os limites do
+ * mapeador gerado a partir dessas anotações e monta a tabela consultada
+ * pelo {@link ProviderLimitValidator}. Um campo sem limite aceita
+ * qualquer tamanho.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class ProviderLimits {
+
+    /** Tamanho máximo dos endereços de email na AWS. */
+    public static final int AWS_MAX_EMAIL_LENGTH = 45;
+
+    /** Tamanho máximo do nome do destinatário na AWS. */
+    public static final int AWS_MAX_NAME_LENGTH = 60;
+
+    /** Tamanho máximo do assunto na AWS. */
+    public static final int AWS_MAX_SUBJECT_LENGTH = 120;
+
+    /** Tamanho máximo do conteúdo na AWS. */
+    public static final int AWS_MAX_CONTENT_LENGTH = 256;
+
+    /** Tamanho máximo dos endereços de email na OCI. */
+    public static final int OCI_MAX_EMAIL_LENGTH = 40;
+
+    /** Tamanho máximo do nome do destinatário na OCI. */
+    public static final int OCI_MAX_NAME_LENGTH = 50;
+
+    /** Tamanho máximo do assunto na OCI. */
+    public static final int OCI_MAX_SUBJECT_LENGTH = 100;
+
+    /** Tamanho máximo do conteúdo na OCI. */
+    public static final int OCI_MAX_CONTENT_LENGTH = 250;
+
+    /**
+     * Provedor dos limites.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Tamanho máximo de cada campo limitado.
+     */
+    private final Map<EmailField, Integer> maxLengths;
+
+    /**
+     * Cria os limites de um provedor.
+     *
+     * @param providerParam provedor dos limites
+     * @param maxLengthsParam tamanho máximo de cada campo limitado
+     * @throws IllegalArgumentException se algum limite for negativo
+     */
+    public ProviderLimits(final EmailProvider providerParam,
+                          final Map<EmailField, Integer> maxLengthsParam) {
+        for (Map.Entry<EmailField, Integer> entry
+                : maxLengthsParam.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Limite negativo para "
+                        + entry.getKey() + " no provedor "
+                        + providerParam.getValue());
+            }
+        }
+        this.provider = providerParam;
+        this.maxLengths = maxLengthsParam.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(maxLengthsParam));
+    }
+
+    /**
+     * Obtém os limites conhecidos de um provedor, declarados no seu
+     * DTO.
+     *
+     * @param provider provedor
+     * @return limites do provedor
+     */
+    public static ProviderLimits of(final EmailProvider provider) {
+        return switch (provider) {
+            case AWS -> new ProviderLimits(provider,
+                    EmailAwsDTOMapper.maxLengths());
+            case OCI -> new ProviderLimits(provider,
+                    EmailOciDTOMapper.maxLengths());
+        };
+    }
+
+    /**
+     * Obtém o provedor dos limites.
+     *
+     * @return provedor
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Obtém o tamanho máximo de cada campo limitado.
+     *
+     * @return tamanho máximo por campo, somente leitura
+     */
+    public Map<EmailField, Integer> getMaxLengths() {
+        return maxLengths;
+    }
+}
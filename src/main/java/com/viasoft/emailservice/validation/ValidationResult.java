@@ -0,0 +1,150 @@
+package com.viasoft.emailservice.validation;
+
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Resultado da validação de um email contra os limites de um provedor,
+ * com todos os campos que excedem o limite. Os resultados são
+ * imutáveis e criados uma única vez, um por provedor e combinação de
+ * campos excedidos, na compilação do {@link ProviderLimitValidator}: a
+ * validação apenas escolhe o resultado pré-alocado, e as mensagens de
+ * cada campo já estão prontas para a resposta de erro, sem exceção nem
+ * montagem de texto a cada email recusado.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class ValidationResult {
+
+    /**
+     * Provedor cujos limites foram verificados.
+     */
+    private final EmailProvider provider;
+
+    /**
+     * Campos que excedem o limite, um bit por campo na ordem de
+     * {@link EmailField}.
+     */
+    private final int violations;
+
+    /**
+     * Campos que excedem o limite, na ordem de {@link EmailField}.
+     */
+    private final List<EmailField> fields;
+
+    /**
+     * Mensagem de cada campo excedido, pelo nome do campo na
+     * requisição.
+     */
+    private final Map<String, String> errors;
+
+    /**
+     * Mensagens de todos os campos excedidos.
+     */
+    private final String message;
+
+    /**
+     * Cria o resultado de uma combinação de campos excedidos.
+     *
+     * @param providerParam provedor cujos limites foram verificados
+     * @param violationsParam campos excedidos, um bit por campo
+     * @param maxLengths tamanho máximo de cada campo, na ordem de
+     *                   {@link EmailField}
+     */
+    ValidationResult(final EmailProvider providerParam,
+                     final int violationsParam, final int[] maxLengths) {
+        List<EmailField> violated = new ArrayList<>();
+        Map<String, String> messages = new LinkedHashMap<>();
+        StringJoiner joined = new StringJoiner("; ");
+        for (EmailField field : EmailField.values()) {
+            if ((violationsParam & (1 << field.ordinal())) != 0) {
+                String fieldMessage = field.getLabel()
+                        + " excede o limite de " + maxLengths[field.ordinal()]
+                        + " caracteres para " + providerParam.getValue();
+                violated.add(field);
+                messages.put(field.getField(), fieldMessage);
+                joined.add(fieldMessage);
+            }
+        }
+        this.provider = providerParam;
+        this.violations = violationsParam;
+        this.fields = Collections.unmodifiableList(violated);
+        this.errors = Collections.unmodifiableMap(messages);
+        this.message = joined.toString();
+    }
+
+    /**
+     * Indica se o email cabe nos limites do provedor.
+     *
+     * @return true se nenhum campo excede o limite
+     */
+    public boolean isValid() {
+        return violations == 0;
+    }
+
+    /**
+     * Obtém o provedor cujos limites foram verificados.
+     *
+     * @return provedor
+     */
+    public EmailProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Indica se um campo excede o limite do provedor.
+     *
+     * @param field campo do email
+     * @return true se o campo excede o limite
+     */
+    public boolean violates(final EmailField field) {
+        return (violations & (1 << field.ordinal())) != 0;
+    }
+
+    /**
+     * Obtém os campos que excedem o limite do provedor.
+     *
+     * @return campos excedidos, na ordem de {@link EmailField}, somente
+     *         leitura
+     */
+    public List<EmailField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Obtém a mensagem de cada campo excedido, no formato dos erros de
+     * validação por campo.
+     *
+     * @return mensagem por nome do campo na requisição, somente leitura
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Obtém as mensagens de todos os campos excedidos, separadas por
+     * ponto e vírgula.
+     *
+     * @return mensagens, ou texto vazio se o email couber nos limites
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{"
+                + "provider=" + provider
+                + ", errors=" + errors
+                + '}';
+    }
+}
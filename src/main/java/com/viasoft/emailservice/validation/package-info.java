@@ -0,0 +1,13 @@
+/**
+ * Pacote da validação dos emails contra os limites dos provedores.
+ *
+ * Este pacote contém o modelo declarativo dos limites de tamanho de
+ * cada provedor e o validador compilado a partir dele, que verifica um
+ * email contra um provedor ou contra todos os provedores em uma única
+ * passagem.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.validation;
@@ -0,0 +1,680 @@
+package com.viasoft.emailservice.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Processador de anotações que gera, na compilação, o mapeador de cada
+ * DTO de provedor marcado com {@code @ProviderDto}. O mapeador converte
+ * o tipo de origem no DTO com uma chamada de setter por campo anotado
+ * com {@code @MapFrom} e verifica os tamanhos desses campos contra os
+ * limites das anotações {@code @Size} do DTO, com os limites escritos
+ * no código gerado: não há reflexão nem leitura de anotações durante a
+ * execução. O mapeador também escreve o JSON do DTO diretamente a
+ * partir do tipo de origem em um {@code JsonGenerator}, sem criar o
+ * DTO, com os nomes dos campos codificados uma única vez. Um DTO que não possa ser mapeado interrompe a compilação
+ * com um erro no elemento inválido.
+ *
+ * O processador é compilado à parte, a partir de
+ * {@code src/processor/java}, antes do código principal, e usado
+ * somente na compilação deste: ele não faz parte do artefato da
+ * aplicação.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@SupportedAnnotationTypes(ProviderDtoProcessor.PROVIDER_DTO)
+public class ProviderDtoProcessor extends AbstractProcessor {
+
+    /**
+     * Anotação que marca os DTOs de provedor.
+     */
+    static final String PROVIDER_DTO =
+            "com.viasoft.emailservice.mapping.ProviderDto";
+
+    /**
+     * Anotação que indica o campo de origem de um campo do DTO.
+     */
+    static final String MAP_FROM = "com.viasoft.emailservice.mapping.MapFrom";
+
+    /**
+     * Anotação de validação com o tamanho máximo de um campo.
+     */
+    static final String SIZE = "jakarta.validation.constraints.Size";
+
+    /**
+     * Anotação do Jackson que renomeia um campo no JSON.
+     */
+    static final String JSON_PROPERTY =
+            "com.fasterxml.jackson.annotation.JsonProperty";
+
+    /**
+     * Sufixo do nome do mapeador gerado.
+     */
+    static final String SUFFIX = "Mapper";
+
+    /**
+     * Tipo textual dos campos mapeados.
+     */
+    private static final String STRING = "java.lang.String";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (Element element
+                    : round.getElementsAnnotatedWith(annotation)) {
+                try {
+                    generate(read(element));
+                } catch (InvalidDtoException e) {
+                    messager().printMessage(Diagnostic.Kind.ERROR,
+                            e.getMessage(), e.getElement());
+                } catch (IOException e) {
+                    messager().printMessage(Diagnostic.Kind.ERROR,
+                            "Erro ao gerar o mapeador: " + e.getMessage(),
+                            element);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lê o modelo de mapeamento de um DTO de provedor.
+     *
+     * @param element elemento anotado com {@code @ProviderDto}
+     * @return modelo do mapeamento
+     * @throws InvalidDtoException se o DTO não puder ser mapeado
+     */
+    private DtoModel read(final Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new InvalidDtoException(
+                    "@ProviderDto só pode ser usada em classes", element);
+        }
+        TypeElement dto = (TypeElement) element;
+        Map<String, AnnotationValue> values =
+                values(annotation(dto, PROVIDER_DTO));
+        VariableElement provider =
+                (VariableElement) values.get("provider").getValue();
+        TypeElement source = (TypeElement) ((DeclaredType)
+                values.get("source").getValue()).asElement();
+        if (!hasPublicConstructor(dto)) {
+            throw new InvalidDtoException(
+                    "DTO de provedor sem construtor público sem parâmetros",
+                    dto);
+        }
+        List<FieldModel> fields = new ArrayList<>();
+        Set<String> mapped = new HashSet<>();
+        for (VariableElement field
+                : ElementFilter.fieldsIn(dto.getEnclosedElements())) {
+            AnnotationMirror mapFrom = annotation(field, MAP_FROM);
+            if (mapFrom == null) {
+                continue;
+            }
+            VariableElement from =
+                    (VariableElement) values(mapFrom).get("value").getValue();
+            String constant = from.getSimpleName().toString();
+            if (!mapped.add(constant)) {
+                throw new InvalidDtoException("Campo " + constant
+                        + " mapeado mais de uma vez", field);
+            }
+            fields.add(new FieldModel(constant, ordinal(from),
+                    getter(source, constant, field), setter(dto, field),
+                    maxLength(field), jsonName(field)));
+        }
+        if (fields.isEmpty()) {
+            throw new InvalidDtoException(
+                    "DTO de provedor sem campos anotados com @MapFrom", dto);
+        }
+        return new DtoModel(dto, source, provider, fields);
+    }
+
+    /**
+     * Escreve o mapeador de um DTO de provedor.
+     *
+     * @param model modelo do mapeamento
+     * @throws IOException se o arquivo gerado não puder ser escrito
+     */
+    private void generate(final DtoModel model) throws IOException {
+        String name = model.dto().getSimpleName() + SUFFIX;
+        String packageName = elements().getPackageOf(model.dto())
+                .getQualifiedName().toString();
+        String dto = model.dto().getSimpleName().toString();
+        String source = model.source().getSimpleName().toString();
+        TypeElement fieldEnum = (TypeElement) processingEnv.getTypeUtils()
+                .asElement(fieldType());
+        TypeElement providerEnum = (TypeElement) processingEnv.getTypeUtils()
+                .asElement(model.provider().asType());
+        String field = fieldEnum.getSimpleName().toString();
+        String provider = providerEnum.getSimpleName().toString();
+
+        StringBuilder code = new StringBuilder();
+        code.append("package ").append(packageName).append(";\n\n");
+        if (!elements().getPackageOf(model.source()).getQualifiedName()
+                .contentEquals(packageName)) {
+            code.append("import ").append(model.source().getQualifiedName())
+                    .append(";\n");
+        }
+        code.append("import ").append(fieldEnum.getQualifiedName())
+                .append(";\n")
+                .append("import ").append(providerEnum.getQualifiedName())
+                .append(";\n")
+                .append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+                .append("import com.fasterxml.jackson.core.io")
+                .append(".SerializedString;\n\n")
+                .append("import javax.annotation.processing.Generated;\n")
+                .append("import java.io.IOException;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Mapeamento de {@link ").append(source)
+                .append("} para {@link ").append(dto).append("}\n")
+                .append(" * e limites de tamanho do provedor, gerados a")
+                .append(" partir das anotações\n")
+                .append(" * de {@link ").append(dto).append("}, com a")
+                .append(" escrita do JSON do DTO\n")
+                .append(" * diretamente a partir do email de origem.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(getClass().getName())
+                .append("\")\n")
+                .append("public final class ").append(name).append(" {\n\n")
+                .append("    /**\n     * Provedor do DTO.\n     */\n")
+                .append("    public static final ").append(provider)
+                .append(" PROVIDER = ").append(provider).append('.')
+                .append(model.provider().getSimpleName()).append(";\n\n");
+        for (FieldModel mapped : model.fields()) {
+            code.append("    /**\n     * Nome do campo ")
+                    .append(mapped.jsonName())
+                    .append(" no JSON, codificado uma única vez.\n")
+                    .append("     */\n")
+                    .append("    private static final SerializedString ")
+                    .append(token(mapped)).append(" =\n")
+                    .append("            new SerializedString(\"")
+                    .append(mapped.jsonName()).append("\");\n\n");
+        }
+        code.append("    private ").append(name).append("() {\n")
+                .append("    }\n\n");
+
+        code.append("    /**\n")
+                .append("     * Converte o email no DTO do provedor, sem")
+                .append(" verificar os limites.\n")
+                .append("     *\n")
+                .append("     * @param source email de origem\n")
+                .append("     * @return DTO do provedor\n")
+                .append("     */\n")
+                .append("    public static ").append(dto)
+                .append(" map(final ").append(source)
+                .append(" source) {\n")
+                .append("        ").append(dto).append(" target = new ")
+                .append(dto).append("();\n");
+        for (FieldModel mapped : model.fields()) {
+            code.append("        target.").append(mapped.setter())
+                    .append("(source.").append(mapped.getter())
+                    .append("());\n");
+        }
+        code.append("        return target;\n    }\n\n");
+
+        code.append("    /**\n")
+                .append("     * Escreve o JSON do DTO do provedor a partir")
+                .append(" do email, sem criar\n")
+                .append("     * o DTO, sem verificar os limites.\n")
+                .append("     *\n")
+                .append("     * @param source email de origem\n")
+                .append("     * @param generator gerador do JSON\n")
+                .append("     * @throws IOException se o JSON não puder")
+                .append(" ser escrito\n")
+                .append("     */\n")
+                .append("    public static void write(final ").append(source)
+                .append(" source,\n")
+                .append("                             final JsonGenerator")
+                .append(" generator)\n")
+                .append("            throws IOException {\n")
+                .append("        generator.writeStartObject();\n");
+        for (FieldModel mapped : model.fields()) {
+            code.append("        generator.writeFieldName(")
+                    .append(token(mapped)).append(");\n")
+                    .append("        writeString(generator, source.")
+                    .append(mapped.getter()).append("());\n");
+        }
+        code.append("        generator.writeEndObject();\n    }\n\n");
+
+        code.append("    /**\n")
+                .append("     * Verifica os tamanhos dos campos contra os")
+                .append(" limites do provedor.\n")
+                .append("     *\n")
+                .append("     * @param source email de origem\n")
+                .append("     * @return campos que excedem o limite, um bit")
+                .append(" por campo na ordem\n")
+                .append("     *         de {@link ").append(field)
+                .append("}\n")
+                .append("     */\n")
+                .append("    public static int violations(final ")
+                .append(source).append(" source) {\n")
+                .append("        int violations = 0;\n");
+        for (FieldModel mapped : model.fields()) {
+            if (mapped.maxLength() == Integer.MAX_VALUE) {
+                continue;
+            }
+            code.append("        if (length(source.").append(mapped.getter())
+                    .append("()) > ").append(mapped.maxLength())
+                    .append(") {\n")
+                    .append("            violations |= 1 << ")
+                    .append(mapped.ordinal()).append(";\n")
+                    .append("        }\n");
+        }
+        code.append("        return violations;\n    }\n\n");
+
+        code.append("    /**\n")
+                .append("     * Obtém o tamanho máximo de cada campo")
+                .append(" limitado.\n")
+                .append("     *\n")
+                .append("     * @return tamanho máximo por campo, somente")
+                .append(" leitura\n")
+                .append("     */\n")
+                .append("    public static Map<").append(field)
+                .append(", Integer> maxLengths() {\n")
+                .append("        return Map.ofEntries(");
+        String separator = "\n";
+        for (FieldModel mapped : model.fields()) {
+            if (mapped.maxLength() == Integer.MAX_VALUE) {
+                continue;
+            }
+            code.append(separator).append("                Map.entry(")
+                    .append(field).append('.').append(mapped.constant())
+                    .append(", ").append(mapped.maxLength()).append(')');
+            separator = ",\n";
+        }
+        code.append(");\n    }\n\n");
+
+        code.append("    /**\n")
+                .append("     * Obtém o tamanho de um campo opcional.\n")
+                .append("     *\n")
+                .append("     * @param value valor do campo, possivelmente")
+                .append(" nulo\n")
+                .append("     * @return tamanho do campo, ou zero se for")
+                .append(" nulo\n")
+                .append("     */\n")
+                .append("    private static int length(final String value)")
+                .append(" {\n")
+                .append("        return value == null ? 0 : value.length();\n")
+                .append("    }\n\n")
+                .append("    /**\n")
+                .append("     * Escreve um campo de texto opcional.\n")
+                .append("     *\n")
+                .append("     * @param generator gerador do JSON\n")
+                .append("     * @param value valor do campo, possivelmente")
+                .append(" nulo\n")
+                .append("     * @throws IOException se o JSON não puder")
+                .append(" ser escrito\n")
+                .append("     */\n")
+                .append("    private static void writeString(")
+                .append("final JsonGenerator generator,\n")
+                .append("                                    final String")
+                .append(" value) throws IOException {\n")
+                .append("        if (value == null) {\n")
+                .append("            generator.writeNull();\n")
+                .append("        } else {\n")
+                .append("            generator.writeString(value);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName + '.' + name, model.dto())
+                .openWriter()) {
+            writer.write(code.toString());
+        }
+    }
+
+    /**
+     * Obtém o tipo enumerado dos campos de email.
+     *
+     * @return tipo de {@code @MapFrom#value}
+     */
+    private TypeMirror fieldType() {
+        TypeElement mapFrom = processingEnv.getElementUtils()
+                .getTypeElement(MAP_FROM);
+        return ElementFilter.methodsIn(mapFrom.getEnclosedElements())
+                .get(0).getReturnType();
+    }
+
+    /**
+     * Obtém a posição de uma constante no seu tipo enumerado.
+     *
+     * @param constant constante enumerada
+     * @return posição da constante, como {@link Enum#ordinal()}
+     */
+    private static int ordinal(final VariableElement constant) {
+        int ordinal = 0;
+        for (Element sibling
+                : constant.getEnclosingElement().getEnclosedElements()) {
+            if (sibling.getKind() == ElementKind.ENUM_CONSTANT) {
+                if (sibling.equals(constant)) {
+                    return ordinal;
+                }
+                ordinal++;
+            }
+        }
+        throw new InvalidDtoException("Constante fora do seu tipo",
+                constant);
+    }
+
+    /**
+     * Encontra o getter de texto do tipo de origem para um campo de
+     * email.
+     *
+     * @param source tipo de origem
+     * @param constant nome da constante do campo de email
+     * @param field campo do DTO, para o erro
+     * @return nome do getter
+     * @throws InvalidDtoException se o getter não existir
+     */
+    private String getter(final TypeElement source, final String constant,
+                          final VariableElement field) {
+        String name = "get" + camelCase(constant);
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                elements().getAllMembers(source))) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().isEmpty()
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isString(method.getReturnType())) {
+                return name;
+            }
+        }
+        throw new InvalidDtoException(source.getSimpleName()
+                + " não tem o getter público " + name + "() de texto",
+                field);
+    }
+
+    /**
+     * Encontra o setter de texto de um campo do DTO.
+     *
+     * @param dto DTO de provedor
+     * @param field campo do DTO
+     * @return nome do setter
+     * @throws InvalidDtoException se o campo não for de texto ou o
+     *         setter não existir
+     */
+    private String setter(final TypeElement dto,
+                          final VariableElement field) {
+        if (!isString(field.asType())) {
+            throw new InvalidDtoException(
+                    "Campo mapeado deve ser de texto", field);
+        }
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                elements().getAllMembers(dto))) {
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == 1
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isString(method.getParameters().get(0).asType())) {
+                return name;
+            }
+        }
+        throw new InvalidDtoException(dto.getSimpleName()
+                + " não tem o setter público " + name + "(String)", field);
+    }
+
+    /**
+     * Obtém o tamanho máximo de um campo pela sua anotação
+     * {@code @Size}.
+     *
+     * @param field campo do DTO
+     * @return tamanho máximo, ou {@link Integer#MAX_VALUE} se o campo
+     *         não for limitado
+     */
+    private int maxLength(final VariableElement field) {
+        AnnotationMirror size = annotation(field, SIZE);
+        if (size == null) {
+            return Integer.MAX_VALUE;
+        }
+        int max = (Integer) values(size).get("max").getValue();
+        if (max < 0) {
+            throw new InvalidDtoException("Limite negativo", field);
+        }
+        return max;
+    }
+
+    /**
+     * Obtém o nome de um campo no JSON: o valor da sua anotação
+     * {@code @JsonProperty}, se houver, ou o nome do campo, como na
+     * serialização padrão do Jackson pelos getters do DTO.
+     *
+     * @param field campo do DTO
+     * @return nome do campo no JSON
+     */
+    private String jsonName(final VariableElement field) {
+        AnnotationMirror property = annotation(field, JSON_PROPERTY);
+        if (property != null) {
+            String value = (String) values(property).get("value").getValue();
+            if (!value.isEmpty()) {
+                return value;
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    /**
+     * Obtém o nome da constante com o nome de um campo no JSON, como
+     * {@code JSON_RECIPIENT_NAME} para {@code recipientName}.
+     *
+     * @param field campo mapeado
+     * @return nome da constante
+     */
+    private static String token(final FieldModel field) {
+        StringBuilder name = new StringBuilder("JSON_");
+        String json = field.jsonName();
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                name.append('_');
+            }
+            name.append(Character.isLetterOrDigit(c)
+                    ? Character.toUpperCase(c) : '_');
+        }
+        return name.toString();
+    }
+
+    /**
+     * Verifica se o DTO tem um construtor público sem parâmetros.
+     *
+     * @param dto DTO de provedor
+     * @return true se o construtor existir
+     */
+    private static boolean hasPublicConstructor(final TypeElement dto) {
+        return ElementFilter.constructorsIn(dto.getEnclosedElements())
+                .stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && constructor.getModifiers()
+                        .contains(Modifier.PUBLIC));
+    }
+
+    /**
+     * Obtém a anotação de um tipo em um elemento.
+     *
+     * @param element elemento anotado
+     * @param type nome qualificado da anotação
+     * @return anotação, ou nula se o elemento não a tiver
+     */
+    private static AnnotationMirror annotation(final Element element,
+                                               final String type) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation =
+                    (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().contentEquals(type)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtém os valores de uma anotação, incluindo os padrões.
+     *
+     * @param mirror anotação
+     * @return valor de cada atributo, pelo nome do atributo
+     */
+    private Map<String, AnnotationValue> values(
+            final AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new HashMap<>();
+        elements().getElementValuesWithDefaults(mirror).forEach(
+                (attribute, value) -> values.put(
+                        attribute.getSimpleName().toString(), value));
+        return values;
+    }
+
+    /**
+     * Verifica se um tipo é texto.
+     *
+     * @param type tipo
+     * @return true se for {@link String}
+     */
+    private static boolean isString(final TypeMirror type) {
+        return type instanceof DeclaredType declared
+                && ((TypeElement) declared.asElement()).getQualifiedName()
+                .contentEquals(STRING);
+    }
+
+    /**
+     * Converte o nome de uma constante em camel case com inicial
+     * maiúscula, como {@code EmailDestinatario} para
+     * {@code EMAIL_DESTINATARIO}.
+     *
+     * @param constant nome da constante
+     * @return nome em camel case
+     */
+    static String camelCase(final String constant) {
+        StringBuilder name = new StringBuilder(constant.length());
+        for (String part : constant.toLowerCase(Locale.ROOT).split("_")) {
+            name.append(capitalize(part));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Torna maiúscula a inicial de um nome.
+     *
+     * @param name nome
+     * @return nome com inicial maiúscula
+     */
+    private static String capitalize(final String name) {
+        return name.isEmpty() ? name
+                : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Obtém os utilitários de elementos da compilação.
+     *
+     * @return utilitários de elementos
+     */
+    private Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+
+    /**
+     * Obtém o canal de mensagens da compilação.
+     *
+     * @return canal de mensagens
+     */
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+
+    /**
+     * Modelo do mapeamento de um DTO de provedor.
+     *
+     * @param dto DTO de provedor
+     * @param source tipo de origem
+     * @param provider constante do provedor
+     * @param fields campos mapeados, na ordem de declaração
+     */
+    private record DtoModel(TypeElement dto, TypeElement source,
+                            VariableElement provider,
+                            List<FieldModel> fields) {
+    }
+
+    /**
+     * Modelo de um campo mapeado.
+     *
+     * @param constant nome da constante do campo de email
+     * @param ordinal posição da constante no seu tipo
+     * @param getter getter do tipo de origem
+     * @param setter setter do DTO
+     * @param maxLength tamanho máximo, ou {@link Integer#MAX_VALUE}
+     * @param jsonName nome do campo no JSON
+     */
+    private record FieldModel(String constant, int ordinal, String getter,
+                              String setter, int maxLength,
+                              String jsonName) {
+    }
+
+    /**
+     * Erro de um DTO que não pode ser mapeado, com o elemento inválido.
+     */
+    private static final class InvalidDtoException
+            extends RuntimeException {
+
+        /**
+         * Versão da serialização.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Elemento inválido.
+         */
+        private final transient Element element;
+
+        /**
+         * Cria o erro.
+         *
+         * @param message descrição do erro
+         * @param elementParam elemento inválido
+         */
+        InvalidDtoException(final String message,
+                            final Element elementParam) {
+            super(message);
+            this.element = elementParam;
+        }
+
+        /**
+         * Obtém o elemento inválido.
+         *
+         * @return elemento
+         */
+        Element getElement() {
+            return element;
+        }
+    }
+}
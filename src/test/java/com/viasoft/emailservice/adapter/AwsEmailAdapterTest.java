@@ -4,6 +4,7 @@ import com.viasoft.emailservice.adapter.impl.AwsEmailAdapter;
 import com.viasoft.emailservice.dto.EmailAwsDTO;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
 import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -106,6 +107,21 @@ class AwsEmailAdapterTest {
         assertTrue(exception.getMessage().contains("Assunto excede o limite de 120 caracteres"));
     }
 
+    @Test
+    @DisplayName("adapt - Com limite excedido, deve informar o provedor AWS na exceção")
+    void adapt_ComLimiteExcedido_DeveInformarProvedor() {
+        // Given
+        emailRequest.setAssunto("a".repeat(121));
+
+        // When & Then
+        ProviderLimitExceededException exception = assertThrows(
+                ProviderLimitExceededException.class,
+                () -> adapter.adapt(emailRequest)
+        );
+
+        assertEquals(EmailProvider.AWS, exception.getProvider());
+    }
+
     @Test
     @DisplayName("adapt - Com Conteudo muito longo, deve lançar IllegalArgumentException")
     void adapt_ComConteudoMuitoLongo_DeveLancarExcecao() {
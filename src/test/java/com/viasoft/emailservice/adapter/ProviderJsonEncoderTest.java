@@ -0,0 +1,123 @@
+package com.viasoft.emailservice.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.adapter.impl.AwsEmailAdapter;
+import com.viasoft.emailservice.adapter.impl.OciEmailAdapter;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProviderJsonEncoder.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ProviderJsonEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProviderJsonEncoder encoder = new ProviderJsonEncoder();
+    private final AwsEmailAdapter aws = new AwsEmailAdapter();
+    private final OciEmailAdapter oci = new OciEmailAdapter();
+
+    @Test
+    @DisplayName("encode - Deve gerar o mesmo JSON da serialização do DTO adaptado")
+    void encode_ComEmailValido_DeveGerarOJsonDoDtoAdaptado() throws Exception {
+        // Given
+        EmailRequestDTO request = emailRequest("Assunto com \"aspas\" e acentuação");
+
+        // When
+        byte[] awsJson = encoder.encode(aws, request);
+        byte[] ociJson = encoder.encode(oci, request);
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(aws.adapt(request)), awsJson);
+        assertArrayEquals(objectMapper.writeValueAsBytes(oci.adapt(request)), ociJson);
+    }
+
+    @Test
+    @DisplayName("encode - Deve reaproveitar o buffer sem misturar emails consecutivos")
+    void encode_ComEmailsConsecutivos_DeveGerarCadaJsonIsolado() throws Exception {
+        // Given
+        EmailRequestDTO first = emailRequest("Primeiro assunto bem mais longo que o segundo");
+        EmailRequestDTO second = emailRequest("Segundo");
+        second.setNomeDestinatario(null);
+
+        // When
+        encoder.encode(aws, first);
+        String json = new String(encoder.encode(aws, second), StandardCharsets.UTF_8);
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(aws.adapt(second)), json);
+        assertTrue(json.contains("\"recipientName\":null"));
+    }
+
+    @Test
+    @DisplayName("encode - Deve escrever o JSON em um OutputStream e em um ByteBuffer")
+    void encode_ComSaidaInformada_DeveEscreverOsMesmosBytes() throws Exception {
+        // Given
+        EmailRequestDTO request = emailRequest("Assunto");
+        byte[] expected = encoder.encode(oci, request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer target = ByteBuffer.allocate(1024);
+
+        // When
+        int written = encoder.encode(oci, request, out);
+        int copied = encoder.encode(oci, request, target);
+
+        // Then
+        assertEquals(expected.length, written);
+        assertEquals(expected.length, copied);
+        assertArrayEquals(expected, out.toByteArray());
+        assertArrayEquals(expected, Arrays.copyOf(target.array(), target.position()));
+        assertThrows(BufferOverflowException.class,
+                () -> encoder.encode(oci, request, ByteBuffer.allocate(8)));
+    }
+
+    @Test
+    @DisplayName("encode - Deve recusar email acima dos limites sem afetar os seguintes")
+    void encode_ComEmailAcimaDosLimites_DeveLancarExcecaoELiberarOCodificador() throws Exception {
+        // Given
+        EmailRequestDTO tooLong = emailRequest("a".repeat(101));
+        EmailRequestDTO valid = emailRequest("Assunto");
+
+        // When
+        ProviderLimitExceededException exception = assertThrows(
+                ProviderLimitExceededException.class, () -> encoder.encode(oci, tooLong));
+        byte[] json = encoder.encode(oci, valid);
+
+        // Then
+        assertFalse(exception.getResult().isValid());
+        assertArrayEquals(objectMapper.writeValueAsBytes(oci.adapt(valid)), json);
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(aws, null));
+    }
+
+    @Test
+    @DisplayName("forCurrentThread - Deve reaproveitar o codificador na mesma thread e isolá-lo entre threads")
+    void forCurrentThread_ComThreadsDiferentes_DeveDevolverUmCodificadorPorThread() throws Exception {
+        // Given
+        ProviderJsonEncoder[] other = new ProviderJsonEncoder[1];
+        Thread worker = new Thread(() -> other[0] = ProviderJsonEncoder.forCurrentThread());
+
+        // When
+        ProviderJsonEncoder current = ProviderJsonEncoder.forCurrentThread();
+        worker.start();
+        worker.join();
+
+        // Then
+        assertSame(current, ProviderJsonEncoder.forCurrentThread());
+        assertNotNull(other[0]);
+        assertNotSame(current, other[0]);
+    }
+}
@@ -1,20 +1,43 @@
 package com.viasoft.emailservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.BatchResponseDTO;
+import com.viasoft.emailservice.dto.EmailJobDTO;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailJobNotFoundException;
 import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.exception.IdempotencyConflictException;
 import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
+import com.viasoft.emailservice.exception.handler.ValidationResponseFactory;
+import com.viasoft.emailservice.service.EmailJobService;
 import com.viasoft.emailservice.service.EmailService;
+import com.viasoft.emailservice.service.IdempotencyService;
+import com.viasoft.emailservice.service.IdempotentResult;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -28,6 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @since 2025
  */
 @WebMvcTest(EmailController.class)
+@Import(ValidationResponseFactory.class)
 class EmailControllerTest {
 
     @Autowired
@@ -36,6 +60,12 @@ class EmailControllerTest {
     @MockitoBean
     private EmailService emailService;
 
+    @MockitoBean
+    private EmailJobService emailJobService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -56,7 +86,8 @@ class EmailControllerTest {
     @DisplayName("Enviar email com dados válidos deve retornar 204 No Content")
     void sendEmail_ComDadosValidos_DeveRetornar204() throws Exception {
         // Given
-        doNothing().when(emailService).processEmail(any(EmailRequestDTO.class));
+        when(emailService.tryProcessEmail(any(EmailRequestDTO.class)))
+                .thenReturn(ProviderLimitValidator.defaults().validate(validEmailRequest, EmailProvider.AWS));
 
         // When & Then
         mockMvc.perform(post("/emails/send")
@@ -64,7 +95,7 @@ class EmailControllerTest {
                         .content(objectMapper.writeValueAsString(validEmailRequest)))
                 .andExpect(status().isNoContent());
 
-        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+        verify(emailService, times(1)).tryProcessEmail(any(EmailRequestDTO.class));
     }
 
     @Test
@@ -86,7 +117,7 @@ class EmailControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors.emailDestinatario").exists());
 
-        verify(emailService, never()).processEmail(any(EmailRequestDTO.class));
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
     }
 
     @Test
@@ -108,7 +139,33 @@ class EmailControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors").exists());
 
-        verify(emailService, never()).processEmail(any(EmailRequestDTO.class));
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email que excede os limites do provedor deve retornar 400 com todos os campos excedidos")
+    void sendEmail_ComLimitesExcedidos_DeveRetornar400ComCampos() throws Exception {
+        // Given
+        EmailRequestDTO excedeLimites = new EmailRequestDTO(
+                "destinatario@teste.com",
+                "João Silva",
+                "remetente@teste.com",
+                "a".repeat(121),
+                "c".repeat(257)
+        );
+        when(emailService.tryProcessEmail(any(EmailRequestDTO.class)))
+                .thenReturn(ProviderLimitValidator.defaults().validate(excedeLimites, EmailProvider.AWS));
+
+        // When & Then
+        mockMvc.perform(post("/emails/send")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEmailRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Dados inválidos"))
+                .andExpect(jsonPath("$.errors.assunto")
+                        .value("Assunto excede o limite de 120 caracteres para AWS"))
+                .andExpect(jsonPath("$.errors.conteudo")
+                        .value("Conteúdo excede o limite de 256 caracteres para AWS"));
     }
 
     @Test
@@ -116,7 +173,7 @@ class EmailControllerTest {
     void sendEmail_ComErroDeProcessamento_DeveRetornar500() throws Exception {
         // Given
         doThrow(new EmailProcessingException("Erro de processamento"))
-                .when(emailService).processEmail(any(EmailRequestDTO.class));
+                .when(emailService).tryProcessEmail(any(EmailRequestDTO.class));
 
         // When & Then
         mockMvc.perform(post("/emails/send")
@@ -125,7 +182,7 @@ class EmailControllerTest {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.error").value("Erro no processamento do email"));
 
-        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+        verify(emailService, times(1)).tryProcessEmail(any(EmailRequestDTO.class));
     }
 
     @Test
@@ -133,7 +190,7 @@ class EmailControllerTest {
     void sendEmail_ComDadosInvalidos_DeveRetornar400() throws Exception {
         // Given
         doThrow(new InvalidEmailDataException("Dados inválidos"))
-                .when(emailService).processEmail(any(EmailRequestDTO.class));
+                .when(emailService).tryProcessEmail(any(EmailRequestDTO.class));
 
         // When & Then
         mockMvc.perform(post("/emails/send")
@@ -142,7 +199,192 @@ class EmailControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Dados de email inválidos"));
 
-        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+        verify(emailService, times(1)).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email com prioridade inexistente deve retornar 400 Bad Request")
+    void sendEmail_ComPrioridadeInexistente_DeveRetornar400() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(validEmailRequest)
+                .replace("\"prioridade\":\"NORMAL\"", "\"prioridade\":\"URGENTE\"");
+
+        // When & Then
+        mockMvc.perform(post("/emails/send")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Dados inválidos"));
+
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email com cota esgotada deve retornar 429 Too Many Requests com Retry-After")
+    void sendEmail_ComCotaEsgotada_DeveRetornar429() throws Exception {
+        // Given
+        doThrow(new RateLimitExceededException("Cota esgotada", Duration.ofMillis(1500)))
+                .when(emailService).tryProcessEmail(any(EmailRequestDTO.class));
+
+        // When & Then
+        mockMvc.perform(post("/emails/send")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEmailRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.error").value("Limite de envio excedido"));
+    }
+
+    @Test
+    @DisplayName("Enviar email com Idempotency-Key repetida deve retornar 204 sem reprocessar")
+    void sendEmail_ComChaveDeIdempotenciaRepetida_DeveReaproveitarResultado() throws Exception {
+        // Given
+        when(idempotencyService.processEmail(eq("chave-1"), any(EmailRequestDTO.class)))
+                .thenReturn(false, true);
+        String body = objectMapper.writeValueAsString(validEmailRequest);
+
+        // When & Then
+        mockMvc.perform(post("/emails/send")
+                        .header(EmailController.IDEMPOTENCY_KEY_HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent())
+                .andExpect(header().doesNotExist(EmailController.IDEMPOTENT_REPLAYED_HEADER));
+
+        mockMvc.perform(post("/emails/send")
+                        .header(EmailController.IDEMPOTENCY_KEY_HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(EmailController.IDEMPOTENT_REPLAYED_HEADER, "true"));
+
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email agendado com Idempotency-Key repetida deve retornar o mesmo job")
+    void sendEmail_AgendadoComChaveRepetida_DeveRetornarMesmoJob() throws Exception {
+        // Given
+        validEmailRequest.setEnviarEm(OffsetDateTime.now().plusHours(1));
+        EmailJobDTO job = new EmailJobDTO("job-1", EmailJobStatus.AGENDADO, null, LocalDateTime.now());
+        when(idempotencyService.submitJob(eq("chave-1"), any(EmailRequestDTO.class)))
+                .thenReturn(new IdempotentResult<>(job, false), new IdempotentResult<>(job, true));
+        String body = objectMapper.writeValueAsString(validEmailRequest);
+
+        // When & Then
+        mockMvc.perform(post("/emails/send")
+                        .header(EmailController.IDEMPOTENCY_KEY_HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist(EmailController.IDEMPOTENT_REPLAYED_HEADER))
+                .andExpect(jsonPath("$.id").value("job-1"));
+
+        mockMvc.perform(post("/emails/send")
+                        .header(EmailController.IDEMPOTENCY_KEY_HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(EmailController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                .andExpect(header().string("Location", "http://localhost/emails/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"));
+
+        verify(emailJobService, never()).submit(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email com Idempotency-Key em conflito deve retornar 409 Conflict")
+    void sendEmail_ComChaveDeIdempotenciaEmConflito_DeveRetornar409() throws Exception {
+        // Given
+        when(idempotencyService.processEmail(eq("chave-1"), any(EmailRequestDTO.class)))
+                .thenThrow(new IdempotencyConflictException("Chave já utilizada"));
+
+        // When & Then
+        mockMvc.perform(post("/emails/send")
+                        .header(EmailController.IDEMPOTENCY_KEY_HEADER, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEmailRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflito de idempotência"));
+    }
+
+    @Test
+    @DisplayName("Enviar lote deve retornar 200 OK com o resultado de cada item")
+    void sendBatch_ComItensMistos_DeveRetornar200ComResultadoPorItem() throws Exception {
+        // Given
+        EmailRequestDTO invalidEmail = new EmailRequestDTO(
+                "email-invalido", "João Silva", "remetente@teste.com", "Assunto", "Conteúdo");
+        BatchResponseDTO response = new BatchResponseDTO(List.of(
+                BatchItemResultDTO.aceito(0),
+                BatchItemResultDTO.rejeitado(1, Map.of(
+                        "emailDestinatario", "Email do destinatário deve ter formato válido"))
+        ));
+        when(emailService.processBatch(anyList())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/emails/send/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validEmailRequest, invalidEmail))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.aceitos").value(1))
+                .andExpect(jsonPath("$.resultados[0].status").value("ACEITO"))
+                .andExpect(jsonPath("$.resultados[0].errors").doesNotExist())
+                .andExpect(jsonPath("$.resultados[1].status").value("REJEITADO"))
+                .andExpect(jsonPath("$.resultados[1].errors.emailDestinatario").exists());
+
+        verify(emailService, times(1)).processBatch(anyList());
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email assíncrono deve retornar 202 Accepted com o job criado")
+    void sendEmailAsync_ComDadosValidos_DeveRetornar202() throws Exception {
+        // Given
+        EmailJobDTO job = new EmailJobDTO("job-1", EmailJobStatus.PENDENTE, null, LocalDateTime.now());
+        when(emailJobService.submit(any(EmailRequestDTO.class))).thenReturn(job);
+
+        // When & Then
+        mockMvc.perform(post("/emails/send/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEmailRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/emails/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email assíncrono com fila cheia deve retornar 503 Service Unavailable")
+    void sendEmailAsync_ComFilaCheia_DeveRetornar503() throws Exception {
+        // Given
+        when(emailJobService.submit(any(EmailRequestDTO.class)))
+                .thenThrow(new EmailQueueFullException("Fila de processamento de emails cheia"));
+
+        // When & Then
+        mockMvc.perform(post("/emails/send/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validEmailRequest)))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("Consultar job deve retornar 200 OK ou 404 Not Found")
+    void getJob_DeveRetornarSituacaoOu404() throws Exception {
+        // Given
+        when(emailJobService.getJob("job-1"))
+                .thenReturn(new EmailJobDTO("job-1", EmailJobStatus.CONCLUIDO, null, LocalDateTime.now()));
+        when(emailJobService.getJob("inexistente"))
+                .thenThrow(new EmailJobNotFoundException("Job de email não encontrado: inexistente"));
+
+        // When & Then
+        mockMvc.perform(get("/emails/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONCLUIDO"));
+        mockMvc.perform(get("/emails/inexistente"))
+                .andExpect(status().isNotFound());
     }
 
     @Test
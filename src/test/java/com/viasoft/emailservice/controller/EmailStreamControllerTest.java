@@ -0,0 +1,122 @@
+package com.viasoft.emailservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.handler.ValidationResponseFactory;
+import com.viasoft.emailservice.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes unitários para EmailStreamController.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@WebMvcTest(EmailStreamController.class)
+@Import(ValidationResponseFactory.class)
+class EmailStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String validLine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        validLine = objectMapper.writeValueAsString(new EmailRequestDTO(
+                "destinatario@teste.com",
+                "João Silva",
+                "remetente@teste.com",
+                "Assunto de Teste",
+                "Conteúdo do email de teste"
+        ));
+        when(emailService.submitItem(anyInt(), any(EmailRequestDTO.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        BatchItemResultDTO.aceito(invocation.getArgument(0))));
+    }
+
+    @Test
+    @DisplayName("Enviar fluxo NDJSON deve retornar uma linha de resultado por item")
+    void sendStream_ComRegistrosValidos_DeveRetornarUmaLinhaPorItem() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/emails/send/stream")
+                        .contentType(EmailStreamController.APPLICATION_NDJSON)
+                        .content(validLine + "\n" + validLine + "\n" + validLine + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EmailStreamController.APPLICATION_NDJSON))
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            BatchItemResultDTO item = objectMapper.readValue(lines[i], BatchItemResultDTO.class);
+            assertEquals(i, item.getIndice());
+        }
+        verify(emailService, times(3)).submitItem(anyInt(), any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Registro incompatível deve ser rejeitado sem interromper o fluxo")
+    void sendStream_ComRegistroIncompativel_DeveRejeitarApenasOItem() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/emails/send/stream")
+                        .contentType(EmailStreamController.APPLICATION_NDJSON)
+                        .content(validLine + "\n{\"emailDestinatario\":[1,2]}\n" + validLine + "\n"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        BatchItemResultDTO rejeitado = objectMapper.readValue(lines[1], BatchItemResultDTO.class);
+        assertEquals(1, rejeitado.getIndice());
+        assertNotNull(rejeitado.getErrors().get("json"));
+        assertEquals(2, objectMapper.readValue(lines[2], BatchItemResultDTO.class).getIndice());
+        verify(emailService, times(2)).submitItem(anyInt(), any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Erro de sintaxe deve encerrar o fluxo após reportar o item")
+    void sendStream_ComErroDeSintaxe_DeveEncerrarOFluxo() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/emails/send/stream")
+                        .contentType(EmailStreamController.APPLICATION_NDJSON)
+                        .content(validLine + "\n{quebrado\n" + validLine + "\n"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        Map<String, String> errors = objectMapper.readValue(lines[1], BatchItemResultDTO.class).getErrors();
+        assertTrue(errors.containsKey("json"));
+        verify(emailService, times(1)).submitItem(anyInt(), any(EmailRequestDTO.class));
+    }
+}
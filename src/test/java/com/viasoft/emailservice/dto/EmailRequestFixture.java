@@ -0,0 +1,27 @@
+package com.viasoft.emailservice.dto;
+
+/**
+ * Dados de email compartilhados pelos testes, com os mesmos valores do
+ * {@code emailRequest} montado no {@code @BeforeEach} dos testes de
+ * serviço e controller, variando apenas o assunto.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public final class EmailRequestFixture {
+
+    private EmailRequestFixture() {
+    }
+
+    /**
+     * Cria um email válido com o assunto informado.
+     *
+     * @param assunto assunto do email
+     * @return dados do email
+     */
+    public static EmailRequestDTO emailRequest(final String assunto) {
+        return new EmailRequestDTO("destinatario@teste.com", "João Silva",
+                "remetente@teste.com", assunto, "Conteúdo do email de teste");
+    }
+}
@@ -0,0 +1,90 @@
+package com.viasoft.emailservice.dto;
+
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.validation.ProviderLimits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os mapeadores gerados a partir das anotações
+ * dos DTOs de provedor.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ProviderDtoMapperTest {
+
+    @Test
+    @DisplayName("map - Deve copiar cada campo do email para o campo anotado do DTO")
+    void map_ComEmailValido_DeveCopiarOsCamposAnotados() {
+        // Given
+        EmailRequestDTO request = emailRequest("Assunto");
+
+        // When
+        EmailAwsDTO aws = EmailAwsDTOMapper.map(request);
+        EmailOciDTO oci = EmailOciDTOMapper.map(request);
+
+        // Then
+        assertEquals("destinatario@teste.com", aws.getRecipient());
+        assertEquals("João Silva", aws.getRecipientName());
+        assertEquals("remetente@teste.com", aws.getSender());
+        assertEquals("Assunto", aws.getSubject());
+        assertEquals("Conteúdo do email de teste", aws.getContent());
+        assertEquals("destinatario@teste.com", oci.getRecipientEmail());
+        assertEquals("João Silva", oci.getRecipientName());
+        assertEquals("remetente@teste.com", oci.getSenderEmail());
+        assertEquals("Assunto", oci.getSubject());
+        assertEquals("Conteúdo do email de teste", oci.getBody());
+        assertEquals(EmailProvider.AWS, EmailAwsDTOMapper.PROVIDER);
+        assertEquals(EmailProvider.OCI, EmailOciDTOMapper.PROVIDER);
+    }
+
+    @Test
+    @DisplayName("violations - Deve marcar um bit por campo excedido na ordem de EmailField")
+    void violations_ComCamposExcedidos_DeveMarcarOsBitsDosCampos() {
+        // Given
+        EmailRequestDTO request = emailRequest("a".repeat(110));
+        request.setNomeDestinatario("n".repeat(55));
+        EmailRequestDTO empty = new EmailRequestDTO();
+
+        // When
+        int aws = EmailAwsDTOMapper.violations(request);
+        int oci = EmailOciDTOMapper.violations(request);
+
+        // Then
+        assertEquals(0, aws);
+        assertEquals((1 << EmailField.NOME_DESTINATARIO.ordinal())
+                | (1 << EmailField.ASSUNTO.ordinal()), oci);
+        assertEquals(0, EmailAwsDTOMapper.violations(empty));
+        assertEquals(0, EmailOciDTOMapper.violations(empty));
+    }
+
+    @Test
+    @DisplayName("maxLengths - Deve gerar os limites das anotações @Size de cada DTO")
+    void maxLengths_DeveCorresponderAosLimitesDosProvedores() {
+        // When / Then
+        assertEquals(Map.of(
+                EmailField.EMAIL_DESTINATARIO, ProviderLimits.AWS_MAX_EMAIL_LENGTH,
+                EmailField.NOME_DESTINATARIO, ProviderLimits.AWS_MAX_NAME_LENGTH,
+                EmailField.EMAIL_REMETENTE, ProviderLimits.AWS_MAX_EMAIL_LENGTH,
+                EmailField.ASSUNTO, ProviderLimits.AWS_MAX_SUBJECT_LENGTH,
+                EmailField.CONTEUDO, ProviderLimits.AWS_MAX_CONTENT_LENGTH),
+                EmailAwsDTOMapper.maxLengths());
+        assertEquals(Map.of(
+                EmailField.EMAIL_DESTINATARIO, ProviderLimits.OCI_MAX_EMAIL_LENGTH,
+                EmailField.NOME_DESTINATARIO, ProviderLimits.OCI_MAX_NAME_LENGTH,
+                EmailField.EMAIL_REMETENTE, ProviderLimits.OCI_MAX_EMAIL_LENGTH,
+                EmailField.ASSUNTO, ProviderLimits.OCI_MAX_SUBJECT_LENGTH,
+                EmailField.CONTEUDO, ProviderLimits.OCI_MAX_CONTENT_LENGTH),
+                EmailOciDTOMapper.maxLengths());
+        assertEquals(EmailOciDTOMapper.maxLengths(),
+                ProviderLimits.of(EmailProvider.OCI).getMaxLengths());
+    }
+}
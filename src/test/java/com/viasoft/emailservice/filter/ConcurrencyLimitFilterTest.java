@@ -0,0 +1,123 @@
+package com.viasoft.emailservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ConcurrencyLimitFilter.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimiterService limiter;
+    private FilterChain filterChain;
+    private ConcurrencyLimitFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        limiter = mock(ConcurrencyLimiterService.class);
+        filterChain = mock(FilterChain.class);
+        filter = new ConcurrencyLimitFilter(limiter,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        request = new MockHttpServletRequest("POST", "/emails/send");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("doFilter - Deve recusar com 503 sem ler o corpo quando o limite é atingido")
+    void doFilter_ComLimiteAtingido_DeveRetornar503() throws Exception {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(false);
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Serviço indisponível"));
+        verify(filterChain, never()).doFilter(any(), any());
+        verify(limiter, never()).release(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("doFilter - Deve admitir a requisição e informar a latência das respostas 2xx")
+    void doFilter_ComRequisicaoAdmitida_DeveInformarLatencia() throws Exception {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(true);
+        doAnswer(invocation -> {
+            response.setStatus(204);
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        assertEquals(204, response.getStatus());
+        verify(limiter, times(1)).release(anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("doFilter - Deve liberar a vaga sem amostra para status fora do padrão")
+    void doFilter_ComStatusForaDoPadrao_DeveLiberarSemAmostra() throws Exception {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(true);
+        doAnswer(invocation -> {
+            response.setStatus(599);
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(limiter, times(1)).release(anyLong(), eq(false));
+    }
+
+    @Test
+    @DisplayName("doFilter - Deve liberar a vaga sem amostra quando a requisição falha")
+    void doFilter_ComFalha_DeveLiberarSemAmostra() throws Exception {
+        // Given
+        when(limiter.tryAcquire()).thenReturn(true);
+        doThrow(new IllegalStateException("Falha"))
+                .when(filterChain).doFilter(request, response);
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, response, filterChain));
+        verify(limiter, times(1)).release(anyLong(), eq(false));
+    }
+
+    @Test
+    @DisplayName("doFilter - Não deve aplicar o limite a requisições que não são POST")
+    void doFilter_ComRequisicaoGet_NaoDeveConsultarLimite() throws Exception {
+        // Given
+        request.setMethod("GET");
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(1)).doFilter(request, response);
+        verifyNoInteractions(limiter);
+    }
+}
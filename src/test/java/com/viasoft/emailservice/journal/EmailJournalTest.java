@@ -0,0 +1,249 @@
+package com.viasoft.emailservice.journal;
+
+import com.viasoft.emailservice.config.JournalConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.JournalSyncMode;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para EmailJournal.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class EmailJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JournalConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<EmailJournal> journals = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        config = new JournalConfig();
+        config.setEnabled(true);
+        config.setDirectory(tempDir.resolve("journal").toString());
+        config.setSegmentSize(DataSize.ofMegabytes(1));
+        config.setSync(JournalSyncMode.SINCRONO);
+        config.setFlushInterval(Duration.ofMillis(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(EmailJournal::shutdown);
+    }
+
+    @Test
+    @DisplayName("EmailJournal - Deve recuperar após reinício os emails aceitos e não concluídos, em ordem")
+    void construtor_DeveRecuperarEmailsNaoConcluidos() throws Exception {
+        // Given
+        EmailJournal first = newJournal();
+        String a = newId();
+        String b = newId();
+        String c = newId();
+        EmailRequestDTO original = emailRequest("primeiro");
+        original.setPrioridade(EmailPriority.ALTA);
+        first.append(a, original);
+        first.append(b, emailRequest("segundo"));
+        first.append(c, emailRequest("terceiro"));
+        first.complete(b);
+        first.shutdown();
+
+        // When
+        Map<String, EmailRequestDTO> recovered = newJournal().takeRecovered();
+
+        // Then
+        assertEquals(List.of(a, c), new ArrayList<>(recovered.keySet()));
+        assertEquals(original.toString(), recovered.get(a).toString());
+    }
+
+    @Test
+    @DisplayName("EmailJournal - Deve descartar um registro com CRC inválido no fim do segmento")
+    void construtor_ComRegistroCorrompido_DeveDescartarRegistro() throws Exception {
+        // Given
+        EmailJournal first = newJournal();
+        String kept = newId();
+        first.append(kept, emailRequest("inteiro"));
+        first.append(newId(), emailRequest("interrompido"));
+        first.shutdown();
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long last = file.length() - 1;
+            file.seek(last);
+            while (file.read() == 0) {
+                file.seek(--last);
+            }
+            file.seek(last);
+            file.write(0x7f);
+        }
+
+        // When
+        EmailJournal second = newJournal();
+
+        // Then
+        assertEquals(List.of(kept), new ArrayList<>(second.takeRecovered().keySet()));
+        assertEquals(1, second.getPending());
+    }
+
+    @Test
+    @DisplayName("complete - Deve apagar os segmentos antigos cujos emails foram concluídos")
+    void complete_DeveApagarSegmentosConcluidos() throws Exception {
+        // Given
+        config.setSegmentSize(DataSize.ofKilobytes(4));
+        EmailJournal journal = newJournal();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String id = newId();
+            ids.add(id);
+            journal.append(id, emailRequest("email " + i));
+        }
+        assertTrue(segmentFiles().size() > 3);
+
+        // When
+        ids.forEach(journal::complete);
+
+        // Then
+        assertEquals(1, segmentFiles().size());
+        assertEquals(0, journal.getPending());
+    }
+
+    @Test
+    @DisplayName("append - Deve copiar os pendentes de um segmento antigo pouco ocupado e apagá-lo")
+    void append_DeveCompactarSegmentoAntigo() throws Exception {
+        // Given
+        config.setSegmentSize(DataSize.ofKilobytes(4));
+        EmailJournal first = newJournal();
+        String pinned = newId();
+        first.append(pinned, emailRequest("pendente"));
+        Path oldest = segmentFiles().get(0);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            String id = newId();
+            first.append(id, emailRequest("email " + i));
+            first.complete(id);
+        }
+        first.shutdown();
+
+        // Then
+        assertFalse(Files.exists(oldest));
+        assertTrue(segmentFiles().size() <= 2);
+        assertEquals(List.of(pinned),
+                new ArrayList<>(newJournal().takeRecovered().keySet()));
+    }
+
+    @Test
+    @DisplayName("append - Deve sincronizar em lote as gravações concorrentes no modo síncrono")
+    void append_ComGravacoesConcorrentes_DeveSincronizarTodas() throws Exception {
+        // Given
+        EmailJournal first = newJournal();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    first.append(newId(), emailRequest("concorrente"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // Then
+        assertEquals(1_600, meterRegistry.get("email.journal.sync.batch")
+                .summary().totalAmount());
+        first.shutdown();
+        assertEquals(1_600, newJournal().takeRecovered().size());
+    }
+
+    @Test
+    @DisplayName("append - Deve gravar sem aguardar a sincronização no modo periódico")
+    void append_ComModoPeriodico_DeveRecuperarAposEncerrar() throws Exception {
+        // Given
+        config.setSync(JournalSyncMode.PERIODICO);
+        EmailJournal first = newJournal();
+        String id = newId();
+
+        // When
+        first.append(id, emailRequest("periódico"));
+        first.shutdown();
+
+        // Then
+        assertTrue(newJournal().takeRecovered().containsKey(id));
+    }
+
+    @Test
+    @DisplayName("append - Deve lançar EmailProcessingException para email maior que o segmento")
+    void append_ComEmailMaiorQueSegmento_DeveLancarExcecao() {
+        // Given
+        config.setSegmentSize(DataSize.ofBytes(64));
+        EmailJournal journal = newJournal();
+
+        // When / Then
+        assertThrows(EmailProcessingException.class,
+                () -> journal.append(newId(), emailRequest("grande")));
+    }
+
+    @Test
+    @DisplayName("append - Não deve gravar nada com o diário desabilitado")
+    void append_ComDiarioDesabilitado_NaoDeveCriarArquivos() {
+        // Given
+        config.setEnabled(false);
+        EmailJournal journal = newJournal();
+
+        // When
+        journal.append(newId(), emailRequest("ignorado"));
+
+        // Then
+        assertEquals(0, journal.getPending());
+        assertFalse(Files.exists(config.getDirectory()));
+    }
+
+    private EmailJournal newJournal() {
+        EmailJournal journal = new EmailJournal(config, meterRegistry);
+        journals.add(journal);
+        return journal;
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(config.getDirectory())) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,167 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.config.PipelineConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para EmailPipeline.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class EmailPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmailPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit - Deve executar os estágios em ordem, cada um em seu próprio pool")
+    void submit_ComVariosEstagios_DeveExecutarEmOrdemNosPoolsDosEstagios() {
+        // Given
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        List<String> ordem = new ArrayList<>();
+        EmailPipelineStage primeiro = stage("primeiro", envelope -> {
+            threads.put("primeiro", Thread.currentThread().getName());
+            ordem.add("primeiro");
+        });
+        EmailPipelineStage segundo = stage("segundo", envelope -> {
+            threads.put("segundo", Thread.currentThread().getName());
+            ordem.add("segundo");
+            envelope.setJson("{}".getBytes(StandardCharsets.UTF_8));
+        });
+        pipeline = new EmailPipeline(List.of(primeiro, segundo), config(1, 4, "primeiro", "segundo"), meterRegistry);
+
+        // When
+        EmailEnvelope envelope = pipeline.execute(new EmailEnvelope(null, null, null, false));
+
+        // Then
+        assertEquals(List.of("primeiro", "segundo"), ordem);
+        assertEquals("{}", new String(envelope.getJson(), StandardCharsets.UTF_8));
+        assertTrue(threads.get("primeiro").startsWith("email-primeiro-"));
+        assertTrue(threads.get("segundo").startsWith("email-segundo-"));
+        assertEquals(1, meterRegistry.get("email.pipeline.stage.duration")
+                .tag("stage", "segundo").timer().count());
+    }
+
+    @Test
+    @DisplayName("submit - Não deve repassar envelope rejeitado aos estágios seguintes")
+    void submit_ComEnvelopeRejeitado_DeveIgnorarEstagiosSeguintes() {
+        // Given
+        EmailPipelineStage validacao = stage("validacao",
+                envelope -> envelope.reject(Map.of("assunto", "obrigatório")));
+        EmailPipelineStage saida = stage("saida",
+                envelope -> fail("Envelope rejeitado não deve chegar à saída"));
+        pipeline = new EmailPipeline(List.of(validacao, saida), config(1, 4, "validacao", "saida"), meterRegistry);
+
+        // When
+        EmailEnvelope envelope = pipeline.execute(new EmailEnvelope(null, null, null, false));
+
+        // Then
+        assertTrue(envelope.isRejected());
+        assertEquals("obrigatório", envelope.getViolations().get("assunto"));
+    }
+
+    @Test
+    @DisplayName("execute - Deve propagar a exceção original lançada por um estágio")
+    void execute_ComFalhaNoEstagio_DevePropagarExcecaoOriginal() {
+        // Given
+        EmailPipelineStage adaptacao = stage("adaptacao", envelope -> {
+            throw new IllegalArgumentException("Limite excedido");
+        });
+        pipeline = new EmailPipeline(List.of(adaptacao), config(1, 4, "adaptacao"), meterRegistry);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pipeline.execute(new EmailEnvelope(null, null, null, false)));
+        assertEquals("Limite excedido", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("submit - Deve executar na thread de origem quando a fila do estágio está cheia")
+    void submit_ComFilaCheia_DeveExecutarNaThreadDeOrigem() throws Exception {
+        // Given
+        CountDownLatch liberar = new CountDownLatch(1);
+        Map<Integer, String> threads = new ConcurrentHashMap<>();
+        EmailPipelineStage lento = stage("lento", envelope -> {
+            threads.put(envelope.getJson().length, Thread.currentThread().getName());
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        pipeline = new EmailPipeline(List.of(lento), config(1, 1, "lento"), meterRegistry);
+
+        // When
+        List<CompletableFuture<EmailEnvelope>> pendentes = new ArrayList<>();
+        pendentes.add(pipeline.submit(envelope("a")));
+        pendentes.add(pipeline.submit(envelope("bb")));
+        Thread origem = new Thread(() -> pendentes.add(pipeline.submit(envelope("ccc"))), "origem");
+        origem.start();
+        origem.join(200);
+        liberar.countDown();
+        origem.join();
+        for (CompletableFuture<EmailEnvelope> pendente : pendentes) {
+            pendente.get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertEquals("origem", threads.get(3));
+        assertTrue(threads.get(1).startsWith("email-lento-"));
+    }
+
+    private static EmailEnvelope envelope(final String json) {
+        EmailEnvelope envelope = new EmailEnvelope(null, null, null, false);
+        envelope.setJson(json.getBytes(StandardCharsets.UTF_8));
+        return envelope;
+    }
+
+    private static PipelineConfig config(final int workers, final int queueCapacity,
+                                         final String... stages) {
+        PipelineConfig config = new PipelineConfig(new MockEnvironment());
+        for (String stage : stages) {
+            config.setStage(stage, workers, queueCapacity);
+        }
+        return config;
+    }
+
+    private static EmailPipelineStage stage(final String name,
+                                            final Consumer<EmailEnvelope> action) {
+        return new EmailPipelineStage() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public void process(final EmailEnvelope envelope) {
+                action.accept(envelope);
+            }
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package com.viasoft.emailservice.pipeline;
+
+import com.viasoft.emailservice.adapter.ProviderJsonEncoder;
+import com.viasoft.emailservice.adapter.factory.EmailAdapterFactory;
+import com.viasoft.emailservice.adapter.impl.AwsEmailAdapter;
+import com.viasoft.emailservice.adapter.impl.OciEmailAdapter;
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
+import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.config.RateLimitConfig;
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.routing.ProviderCircuitBreakers;
+import com.viasoft.emailservice.routing.ProviderHealth;
+import com.viasoft.emailservice.routing.ProviderRoute;
+import com.viasoft.emailservice.routing.ProviderRouter;
+import com.viasoft.emailservice.service.impl.RateLimiterServiceImpl;
+import com.viasoft.emailservice.sink.StubEmailSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProviderDispatcher.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ProviderDispatcherTest {
+
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoutingConfig routingConfig;
+    private RateLimitConfig rateLimitConfig;
+    private ProviderHealth health;
+    private ProviderCircuitBreakers breakers;
+    private ProviderRouter router;
+    private final List<ProviderDispatcher> dispatchers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        EmailConfig emailConfig = new EmailConfig();
+        emailConfig.setMailIntegracao("OCI");
+        routingConfig = new RoutingConfig(new MockEnvironment());
+        routingConfig.setHealthWindow(Duration.ofSeconds(30));
+        routingConfig.setHealthSamples(512);
+        routingConfig.setHealthMinSamples(20);
+        routingConfig.setMaxErrorRate(0.5);
+        routingConfig.setSlowFactor(3.0);
+        routingConfig.setHealthRefreshInterval(Duration.ZERO);
+        routingConfig.setHedgingMinDelay(Duration.ZERO);
+        routingConfig.setHedgingMaxConcurrent(16);
+        rateLimitConfig = new RateLimitConfig();
+        rateLimitConfig.setEnabled(false);
+        rateLimitConfig.setProviderLimit(EmailProvider.AWS, 1_000, 1_000);
+        rateLimitConfig.setProviderLimit(EmailProvider.OCI, 1_000, 1_000);
+        rateLimitConfig.setSenderLimit(1_000, 1_000);
+        rateLimitConfig.setMaxTrackedSenders(100);
+        rateLimitConfig.setMaxWait(Duration.ZERO);
+        health = new ProviderHealth(routingConfig, meterRegistry);
+        breakers = new ProviderCircuitBreakers(new CircuitBreakerConfig(), meterRegistry);
+        router = new ProviderRouter(emailConfig, routingConfig,
+                new EmailAdapterFactory(List.of(new AwsEmailAdapter(), new OciEmailAdapter())),
+                health, breakers, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatchers.forEach(ProviderDispatcher::shutdown);
+    }
+
+    @Test
+    @DisplayName("dispatch - Deve reduzir a cauda de latência de emails de prioridade alta sem entregas duplicadas")
+    void dispatch_ComEnvioEspeculativo_DeveReduzirCaudaDeLatencia() throws InterruptedException {
+        // Given
+        StubEmailSink sink = new StubEmailSink(
+                Map.of(EmailProvider.OCI, Duration.ofMillis(2), EmailProvider.AWS, Duration.ofMillis(2)),
+                0.02, Duration.ofMillis(200), 0.0, 10_000);
+        routingConfig.setHedgingEnabled(false);
+        ProviderDispatcher semEspeculacao = dispatcher(sink);
+        routingConfig.setHedgingEnabled(true);
+        ProviderDispatcher comEspeculacao = dispatcher(sink);
+        for (int i = 0; i < 100; i++) {
+            comEspeculacao.dispatch(envelope(EmailPriority.NORMAL));
+        }
+        assertEquals(0.0, meterRegistry.get("email.routing.hedged").counter().count());
+
+        // When
+        int lentosSemEspeculacao = countSlow(semEspeculacao, 300);
+        int lentosComEspeculacao = countSlow(comEspeculacao, 300);
+        Thread.sleep(300);
+
+        // Then
+        assertTrue(lentosSemEspeculacao > 0, "Sem envio especulativo: " + lentosSemEspeculacao);
+        assertTrue(lentosComEspeculacao < lentosSemEspeculacao,
+                "Com envio especulativo: " + lentosComEspeculacao + ", sem: " + lentosSemEspeculacao);
+        assertTrue(meterRegistry.get("email.routing.hedged").counter().count() > 0);
+        assertTrue(meterRegistry.get("email.routing.hedge.wins").counter().count() > 0);
+        assertEquals(700, sink.getDelivered());
+    }
+
+    @Test
+    @DisplayName("dispatch - Não deve enviar ao provedor secundário sem ficha disponível na sua cota")
+    void dispatch_ComCotaDoSecundarioEsgotada_NaoDeveEnviarEspeculativamente() {
+        // Given
+        StubEmailSink sink = new StubEmailSink(
+                Map.of(EmailProvider.OCI, Duration.ofMillis(2), EmailProvider.AWS, Duration.ofMillis(2)),
+                0.02, Duration.ofMillis(50), 0.0, 10_000);
+        rateLimitConfig.setEnabled(true);
+        rateLimitConfig.setProviderLimit(EmailProvider.AWS, 0.001, 1);
+        routingConfig.setHedgingEnabled(true);
+        ProviderDispatcher dispatcher = dispatcher(sink);
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(envelope(EmailPriority.NORMAL));
+        }
+
+        // When
+        countSlow(dispatcher, 400);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("email.routing.hedged").counter().count());
+    }
+
+    @Test
+    @DisplayName("dispatch - Deve propagar a falha do destino e registrá-la na saúde do provedor")
+    void dispatch_ComFalhaDoDestino_DeveLancarExcecaoERegistrarErro() {
+        // Given
+        StubEmailSink sink = new StubEmailSink(Map.of(), 0.0, Duration.ZERO, 1.0, 16);
+        ProviderDispatcher dispatcher = dispatcher(sink);
+
+        // When & Then
+        assertThrows(EmailProcessingException.class,
+                () -> dispatcher.dispatch(envelope(EmailPriority.ALTA)));
+        assertEquals(1, health.stats(EmailProvider.OCI).getErrors());
+        assertEquals(0, sink.getDelivered());
+    }
+
+    private ProviderDispatcher dispatcher(final StubEmailSink sink) {
+        ProviderDispatcher dispatcher = new ProviderDispatcher(sink, router, health, breakers,
+                new RateLimiterServiceImpl(rateLimitConfig, meterRegistry), routingConfig,
+                meterRegistry);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private int countSlow(final ProviderDispatcher dispatcher, final int total) {
+        int slow = 0;
+        for (int i = 0; i < total; i++) {
+            long start = System.nanoTime();
+            dispatcher.dispatch(envelope(EmailPriority.ALTA));
+            if (System.nanoTime() - start >= SLOW_NANOS) {
+                slow++;
+            }
+        }
+        return slow;
+    }
+
+    private EmailEnvelope envelope(final EmailPriority prioridade) {
+        EmailRequestDTO request = new EmailRequestDTO("ana@cliente.com", "Ana",
+                "remetente@teste.com", "Código de acesso", "Seu código é 123456");
+        request.setPrioridade(prioridade);
+        ProviderRoute route = router.route(request);
+        EmailEnvelope envelope = new EmailEnvelope(request, route.getProvider(), route.getAdapter(), true);
+        envelope.setJson(new ProviderJsonEncoder().encode(route.getAdapter(), request));
+        return envelope;
+    }
+}
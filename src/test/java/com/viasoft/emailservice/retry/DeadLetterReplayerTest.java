@@ -0,0 +1,196 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.config.RetryConfig;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.service.EmailJobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para DeadLetterReplayer.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class DeadLetterReplayerTest {
+
+    private InMemoryDeadLetterStore store;
+    private EmailJobService jobService;
+    private RetryConfig retryConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryDeadLetterStore(100);
+        jobService = mock(EmailJobService.class);
+        when(jobService.submit(any(EmailRequestDTO.class))).thenAnswer(
+                invocation -> accepted());
+        retryConfig = new RetryConfig(new MockEnvironment());
+        retryConfig.setReplayRate(1_000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (replayer != null) {
+            replayer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("replay - Deve reenviar os emails informados na prioridade baixa e removê-los")
+    void replay_ComIdentificadores_DeveReenviarERemover() throws Exception {
+        // Given
+        EmailRequestDTO agendado = emailRequest("agendado");
+        agendado.setPrioridade(EmailPriority.ALTA);
+        agendado.setEnviarEm(OffsetDateTime.now().minusDays(1));
+        store.add(deadLetter("a", agendado, EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        store.add(deadLetter("b", emailRequest("b"), EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        replayer = newReplayer();
+
+        // When
+        long scheduled = replayer.replay(List.of("a", "inexistente"));
+        await(() -> replayer.getPending() == 0 && store.size() == 1);
+
+        // Then
+        assertEquals(1, scheduled);
+        ArgumentCaptor<EmailRequestDTO> captor = ArgumentCaptor.forClass(EmailRequestDTO.class);
+        verify(jobService, times(1)).submit(captor.capture());
+        assertEquals("agendado", captor.getValue().getAssunto());
+        assertEquals(EmailPriority.BAIXA, captor.getValue().getPrioridade());
+        assertNull(captor.getValue().getEnviarEm());
+        assertNull(store.get("a"));
+        assertNotNull(store.get("b"));
+        assertEquals(1.0, meterRegistry.get("email.retry.dead.letters.replayed")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("replay - Deve reenviar por filtro e aguardar enquanto a fila estiver cheia")
+    void replay_ComFiltroEFilaCheia_DeveReenviarAoLiberar() throws Exception {
+        // Given
+        store.add(deadLetter("aws", emailRequest("aws"), EmailProvider.AWS, DeadLetterReason.LIMITE_PROVEDOR));
+        store.add(deadLetter("oci", emailRequest("oci"), EmailProvider.OCI, DeadLetterReason.LIMITE_PROVEDOR));
+        store.add(deadLetter("outro", emailRequest("outro"), EmailProvider.OCI, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        when(jobService.submit(any(EmailRequestDTO.class)))
+                .thenThrow(new EmailQueueFullException("Fila de processamento de emails cheia"))
+                .thenAnswer(invocation -> accepted());
+        replayer = newReplayer();
+
+        // When
+        long scheduled = replayer.replay(new DeadLetterFilter(null, DeadLetterReason.LIMITE_PROVEDOR));
+        await(() -> replayer.getPending() == 0 && store.size() == 1);
+
+        // Then
+        assertEquals(2, scheduled);
+        verify(jobService, times(3)).submit(any(EmailRequestDTO.class));
+        assertNotNull(store.get("outro"));
+    }
+
+    @Test
+    @DisplayName("replay - Não deve reenviar em ciclo os emails que voltam a falhar")
+    void replay_ComEmailQueFalhaDeNovo_DeveReenviarUmaVez() throws Exception {
+        // Given
+        store.add(deadLetter("a", emailRequest("a"), EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        store.add(deadLetter("b", emailRequest("b"), EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        when(jobService.submit(any(EmailRequestDTO.class))).thenAnswer(invocation -> {
+            EmailJobDTO job = accepted();
+            store.add(new DeadLetter(job.getId(), invocation.getArgument(0),
+                    EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS, 5,
+                    "Timeout no provedor", Instant.now().plusSeconds(1)));
+            return job;
+        });
+        replayer = newReplayer();
+
+        // When
+        replayer.replay(DeadLetterFilter.ALL);
+        await(() -> replayer.getPending() == 0);
+
+        // Then
+        verify(jobService, times(2)).submit(any(EmailRequestDTO.class));
+        assertEquals(2, store.size());
+        assertNull(store.get("a"));
+        assertNull(store.get("b"));
+    }
+
+    @Test
+    @DisplayName("replay - Deve respeitar a taxa de reenvio configurada")
+    void replay_ComTaxaConfigurada_DeveEspacarReenvios() throws Exception {
+        // Given
+        retryConfig.setReplayRate(20);
+        for (int i = 0; i < 5; i++) {
+            store.add(deadLetter("id-" + i, emailRequest("email " + i), EmailProvider.AWS,
+                    DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        }
+        replayer = newReplayer();
+
+        // When
+        long start = System.nanoTime();
+        replayer.replay(DeadLetterFilter.ALL);
+        await(() -> store.size() == 0);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMillis >= 190, "Reenvios em " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("DeadLetterReplayer - Deve rejeitar uma taxa de reenvio não positiva")
+    void construtor_ComTaxaInvalida_DeveLancarExcecao() {
+        // Given
+        retryConfig.setReplayRate(0);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, this::newReplayer);
+    }
+
+    private DeadLetterReplayer newReplayer() {
+        return new DeadLetterReplayer(store, jobService, retryConfig, meterRegistry);
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Tempo esgotado");
+            Thread.sleep(10);
+        }
+    }
+
+    private static EmailJobDTO accepted() {
+        return new EmailJobDTO(UUID.randomUUID().toString(), EmailJobStatus.PENDENTE,
+                null, LocalDateTime.now());
+    }
+
+    private static DeadLetter deadLetter(final String id,
+                                         final EmailRequestDTO request,
+                                         final EmailProvider provider,
+                                         final DeadLetterReason reason) {
+        return new DeadLetter(id, request, provider, reason, 3,
+                "Falha no envio", Instant.now().minusSeconds(60));
+    }
+}
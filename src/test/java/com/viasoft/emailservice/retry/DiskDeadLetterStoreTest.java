@@ -0,0 +1,204 @@
+package com.viasoft.emailservice.retry;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para DiskDeadLetterStore.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class DiskDeadLetterStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<DiskDeadLetterStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (DiskDeadLetterStore store : stores) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("DiskDeadLetterStore - Deve recuperar após reinício os emails não removidos")
+    void construtor_DeveRecuperarEmailsGuardados() throws Exception {
+        // Given
+        DiskDeadLetterStore first = newStore(100);
+        EmailRequestDTO request = emailRequest("primeiro");
+        request.setPrioridade(EmailPriority.ALTA);
+        Instant failedAt = Instant.parse("2025-03-01T10:15:30.123456789Z");
+        first.add(new DeadLetter("a", request, EmailProvider.AWS,
+                DeadLetterReason.LIMITE_PROVEDOR, 1, "Assunto excede o limite",
+                failedAt));
+        first.add(deadLetter("b", null, DeadLetterReason.DESLIGAMENTO));
+        first.add(deadLetter("c", EmailProvider.OCI, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        first.remove("b");
+        first.close();
+
+        // When
+        DiskDeadLetterStore second = newStore(100);
+
+        // Then
+        assertEquals(2, second.size());
+        DeadLetter recovered = second.get("a");
+        assertEquals(EmailProvider.AWS, recovered.getProvider());
+        assertEquals(DeadLetterReason.LIMITE_PROVEDOR, recovered.getReason());
+        assertEquals("Assunto excede o limite", recovered.getErro());
+        assertEquals(failedAt, recovered.getFailedAt());
+        assertEquals(request.toString(), recovered.getRequest().toString());
+        assertNull(second.get("b"));
+        assertEquals(List.of("a", "c"), ids(second.recent(10)));
+    }
+
+    @Test
+    @DisplayName("page - Deve paginar por cursor e filtrar por provedor e motivo")
+    void page_ComFiltro_DevePaginarPorCursor() {
+        // Given
+        DiskDeadLetterStore store = newStore(100);
+        for (int i = 0; i < 10; i++) {
+            store.add(deadLetter("aws-" + i, EmailProvider.AWS,
+                    i % 2 == 0 ? DeadLetterReason.TENTATIVAS_ESGOTADAS
+                            : DeadLetterReason.LIMITE_PROVEDOR));
+            store.add(deadLetter("oci-" + i, EmailProvider.OCI,
+                    DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        }
+        DeadLetterFilter filter = new DeadLetterFilter(EmailProvider.AWS,
+                DeadLetterReason.TENTATIVAS_ESGOTADAS);
+
+        // When
+        DeadLetterPage first = store.page(filter, 0, 3);
+        store.remove("aws-6");
+        DeadLetterPage second = store.page(filter, first.getNextCursor(), 3);
+
+        // Then
+        assertEquals(List.of("aws-0", "aws-2", "aws-4"), ids(first.getItems()));
+        assertEquals(List.of("aws-8"), ids(second.getItems()));
+        assertNull(second.getNextCursor());
+        assertEquals(4, store.count(filter));
+        assertEquals(10, store.count(new DeadLetterFilter(EmailProvider.OCI, null)));
+    }
+
+    @Test
+    @DisplayName("add - Deve descartar o email mais antigo quando a capacidade for atingida")
+    void add_ComCapacidadeAtingida_DeveDescartarMaisAntigo() {
+        // Given
+        DiskDeadLetterStore store = newStore(2);
+
+        // When
+        store.add(deadLetter("a", EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        store.add(deadLetter("b", EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        store.add(deadLetter("c", EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+
+        // Then
+        assertEquals(List.of("b", "c"), ids(store.recent(10)));
+        assertEquals(List.of("b", "c"), ids(newStore(2).recent(10)));
+    }
+
+    @Test
+    @DisplayName("DiskDeadLetterStore - Deve descartar um registro corrompido no fim do arquivo")
+    void construtor_ComRegistroCorrompido_DeveTruncarArquivo() throws Exception {
+        // Given
+        DiskDeadLetterStore first = newStore(100);
+        first.add(deadLetter("inteiro", EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        long valid = first.fileSize();
+        first.add(deadLetter("interrompido", EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        first.close();
+        try (RandomAccessFile file = new RandomAccessFile(file().toFile(), "rw")) {
+            long last = file.length() - 1;
+            file.seek(last);
+            int value = file.read();
+            file.seek(last);
+            file.write(value ^ 0x7f);
+        }
+
+        // When
+        DiskDeadLetterStore second = newStore(100);
+
+        // Then
+        assertEquals(List.of("inteiro"), ids(second.recent(10)));
+        assertEquals(valid, Files.size(file()));
+    }
+
+    @Test
+    @DisplayName("remove - Deve compactar o arquivo e preservar a sequência dos cursores")
+    void remove_ComMuitasRemocoes_DeveCompactarArquivo() {
+        // Given
+        DiskDeadLetterStore first = newStore(10_000);
+        first.add(deadLetter("mantido", EmailProvider.OCI, DeadLetterReason.DADOS_INVALIDOS));
+        long peak = 0;
+        for (int i = 0; i < 400; i++) {
+            first.add(deadLetter("removido-" + i, EmailProvider.AWS,
+                    DeadLetterReason.TENTATIVAS_ESGOTADAS));
+            peak = Math.max(peak, first.fileSize());
+        }
+        Long cursor = first.page(DeadLetterFilter.ALL, 0, 400).getNextCursor();
+
+        // When
+        for (int i = 0; i < 400; i++) {
+            first.remove("removido-" + i);
+        }
+
+        // Then
+        assertTrue(first.fileSize() < peak / 2);
+        DiskDeadLetterStore second = newStore(10_000);
+        assertEquals(List.of("mantido"), ids(second.recent(10)));
+        second.add(deadLetter("novo", EmailProvider.AWS, DeadLetterReason.TENTATIVAS_ESGOTADAS));
+        assertEquals(List.of("novo"),
+                ids(second.page(DeadLetterFilter.ALL, cursor, 10).getItems()));
+    }
+
+    @Test
+    @DisplayName("DiskDeadLetterStore - Não deve criar o arquivo enquanto nenhum email for guardado")
+    void construtor_SemEmails_NaoDeveCriarArquivo() {
+        // Given / When
+        DiskDeadLetterStore store = newStore(100);
+
+        // Then
+        assertEquals(0, store.size());
+        assertTrue(store.page(DeadLetterFilter.ALL, 0, 10).getItems().isEmpty());
+        assertFalse(Files.exists(file()));
+    }
+
+    private DiskDeadLetterStore newStore(final int capacity) {
+        DiskDeadLetterStore store = new DiskDeadLetterStore(file(), capacity);
+        stores.add(store);
+        return store;
+    }
+
+    private Path file() {
+        return tempDir.resolve("data").resolve("dead-letters.log");
+    }
+
+    private static List<String> ids(final List<DeadLetter> deadLetters) {
+        return deadLetters.stream().map(DeadLetter::getId).toList();
+    }
+
+    private static DeadLetter deadLetter(final String id,
+                                         final EmailProvider provider,
+                                         final DeadLetterReason reason) {
+        return new DeadLetter(id, emailRequest(id), provider, reason, 3,
+                "Falha no envio de " + id, Instant.now());
+    }
+}
@@ -0,0 +1,67 @@
+package com.viasoft.emailservice.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para RetryPolicy.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class RetryPolicyTest {
+
+    @Test
+    @DisplayName("backoffNanos - Deve dobrar a espera a cada tentativa até o teto")
+    void backoffNanos_DeveCrescerAteOTeto() {
+        // Given
+        RetryPolicy policy = new RetryPolicy(10, Duration.ofSeconds(1),
+                Duration.ofSeconds(5), 2.0, 0.0);
+
+        // When / Then
+        assertEquals(Duration.ofSeconds(1).toNanos(), policy.backoffNanos(1, 0.7));
+        assertEquals(Duration.ofSeconds(2).toNanos(), policy.backoffNanos(2, 0.7));
+        assertEquals(Duration.ofSeconds(4).toNanos(), policy.backoffNanos(3, 0.7));
+        assertEquals(Duration.ofSeconds(5).toNanos(), policy.backoffNanos(4, 0.7));
+        assertEquals(Duration.ofSeconds(5).toNanos(), policy.backoffNanos(60, 0.7));
+    }
+
+    @Test
+    @DisplayName("backoffNanos - Deve sortear apenas a fração jitter da espera")
+    void backoffNanos_ComJitter_DeveFicarNoIntervalo() {
+        // Given
+        RetryPolicy policy = new RetryPolicy(10, Duration.ofSeconds(2),
+                Duration.ofSeconds(2), 2.0, 0.5);
+
+        // When / Then
+        assertEquals(Duration.ofSeconds(1).toNanos(), policy.backoffNanos(1, 0.0));
+        assertEquals(Duration.ofMillis(1_500).toNanos(), policy.backoffNanos(1, 0.5));
+        assertTrue(policy.backoffNanos(1, 0.999) < Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    @DisplayName("canRetry - Deve permitir novas tentativas até o máximo")
+    void canRetry_DeveRespeitarOMaximo() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ZERO, Duration.ZERO, 1.0, 0.0);
+
+        assertTrue(policy.canRetry(1));
+        assertTrue(policy.canRetry(2));
+        assertFalse(policy.canRetry(3));
+    }
+
+    @Test
+    @DisplayName("RetryPolicy - Deve lançar IllegalArgumentException para valores inválidos")
+    void construtor_ComValoresInvalidos_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryPolicy(0, Duration.ZERO, Duration.ZERO, 1.0, 0.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryPolicy(3, Duration.ofSeconds(2), Duration.ofSeconds(1), 2.0, 0.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryPolicy(3, Duration.ZERO, Duration.ZERO, 2.0, 1.5));
+    }
+}
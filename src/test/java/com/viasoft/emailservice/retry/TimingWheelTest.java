@@ -0,0 +1,148 @@
+package com.viasoft.emailservice.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para TimingWheel.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class TimingWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final long ORIGIN = 5_000_000L;
+
+    @Test
+    @DisplayName("advance - Deve vencer as tarefas na ordem dos prazos e nunca antes deles")
+    void advance_DeveVencerNaOrdemSemAntecipar() {
+        // Given
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, 4, ORIGIN);
+        long[] deadlines = {7, 1, 300, 16, 4, 65, 64, 1_000, 3};
+        for (long ticks : deadlines) {
+            wheel.offer(ticks, ORIGIN + ticks * TICK);
+        }
+
+        // When
+        List<Long> expired = new ArrayList<>();
+        for (long now = 0; now <= 1_000; now++) {
+            long current = now;
+            wheel.advance(ORIGIN + now * TICK, task -> {
+                assertEquals(current, task.longValue());
+                expired.add(task);
+            });
+        }
+
+        // Then
+        assertEquals(List.of(1L, 3L, 4L, 7L, 16L, 64L, 65L, 300L, 1_000L), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("advance - Deve vencer cada tarefa exatamente no seu tick, oferecida a qualquer momento")
+    void advance_ComPrazosAleatorios_DeveVencerNoTickExato() {
+        // Given
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, 4, ORIGIN);
+        Random random = new Random(42);
+        int[] count = {0};
+        int offered = 0;
+
+        // When / Then
+        for (long now = 0; now <= 20_000; now++) {
+            if (now < 10_000 && random.nextInt(4) == 0) {
+                long deadline = now + 1 + random.nextInt(random.nextBoolean() ? 10 : 5_000);
+                wheel.offer(deadline, ORIGIN + deadline * TICK);
+                offered++;
+            }
+            long current = now;
+            wheel.advance(ORIGIN + now * TICK, task -> {
+                assertEquals(current, task.longValue());
+                count[0]++;
+            });
+        }
+        assertEquals(offered, count[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("advance - Deve vencer prazos além do alcance da roda")
+    void advance_ComPrazoAlemDoAlcance_DeveVencerNoPrazo() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 2, ORIGIN);
+        long far = 1_000;
+        wheel.offer("distante", ORIGIN + far * TICK);
+
+        // When
+        List<String> early = new ArrayList<>();
+        wheel.advance(ORIGIN + (far - 1) * TICK, early::add);
+        List<String> onTime = new ArrayList<>();
+        wheel.advance(ORIGIN + far * TICK, onTime::add);
+
+        // Then
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("distante"), onTime);
+    }
+
+    @Test
+    @DisplayName("advance - Deve vencer no tick seguinte as tarefas com prazo já alcançado")
+    void advance_ComPrazoPassado_DeveVencerNoTickSeguinte() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, ORIGIN);
+        wheel.advance(ORIGIN + 10 * TICK, task -> fail());
+        wheel.offer("atrasada", ORIGIN);
+
+        // When
+        List<String> expired = new ArrayList<>();
+        wheel.advance(ORIGIN + 11 * TICK, expired::add);
+
+        // Then
+        assertEquals(List.of("atrasada"), expired);
+    }
+
+    @Test
+    @DisplayName("advance - Deve vencer centenas de milhares de tarefas pendentes")
+    void advance_ComMuitasTarefas_DeveVencerTodas() {
+        // Given
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, 256, ORIGIN);
+        int total = 200_000;
+        for (int i = 0; i < total; i++) {
+            wheel.offer(i, ORIGIN + (1 + (i * 7919L) % 100_000) * TICK);
+        }
+        assertEquals(total, wheel.size());
+
+        // When
+        int[] count = {0};
+        wheel.advance(ORIGIN + 100_000 * TICK, task -> count[0]++);
+
+        // Then
+        assertEquals(total, count[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("drain - Deve remover as tarefas pendentes sem vencê-las")
+    void drain_DeveRemoverPendentes() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, ORIGIN);
+        wheel.offer("colocada", ORIGIN + 100 * TICK);
+        wheel.advance(ORIGIN + TICK, task -> fail());
+        wheel.offer("oferecida", ORIGIN + 200 * TICK);
+
+        // When
+        List<String> drained = new ArrayList<>();
+        int count = wheel.drain(drained::add);
+
+        // Then
+        assertEquals(2, count);
+        assertTrue(drained.containsAll(List.of("colocada", "oferecida")));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,145 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
+import com.viasoft.emailservice.enums.CircuitState;
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CircuitBreaker.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setWindow(Duration.ofSeconds(10));
+        config.setBuckets(10);
+        config.setMinimumCalls(10);
+        config.setFailureRateThreshold(0.5);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        config.setHalfOpenCalls(2);
+        breaker = new CircuitBreaker(EmailProvider.AWS, config, clock::get);
+    }
+
+    @Test
+    @DisplayName("onFailure - Deve abrir o disjuntor quando a taxa de falhas da janela atinge o limite")
+    void onFailure_ComTaxaDeFalhasNoLimite_DeveAbrirDisjuntor() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(CircuitState.FECHADO, breaker.getState());
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitState.ABERTO, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(TimeUnit.SECONDS.toNanos(30), breaker.getRemainingOpenNanos());
+    }
+
+    @Test
+    @DisplayName("onFailure - Deve manter o disjuntor fechado quando as falhas antigas saem da janela")
+    void onFailure_ComFalhasForaDaJanela_DeveManterDisjuntorFechado() {
+        // Given
+        for (int i = 0; i < 9; i++) {
+            breaker.onFailure();
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitState.FECHADO, breaker.getState());
+        assertEquals(1, breaker.getCalls());
+        assertEquals(1, breaker.getFailures());
+    }
+
+    @Test
+    @DisplayName("tryAcquire - Deve liberar envios de teste após o período de abertura e fechar com o sucesso deles")
+    void tryAcquire_AposPeriodoDeAbertura_DeveLiberarEnviosDeTeste() {
+        // Given
+        abrir();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // When
+        boolean primeiro = breaker.tryAcquire();
+        boolean segundo = breaker.tryAcquire();
+        boolean terceiro = breaker.tryAcquire();
+
+        // Then
+        assertTrue(primeiro);
+        assertTrue(segundo);
+        assertFalse(terceiro);
+        assertEquals(CircuitState.SEMIABERTO, breaker.getState());
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitState.FECHADO, breaker.getState());
+        assertEquals(0, breaker.getCalls());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("onFailure - Deve reabrir o disjuntor quando um envio de teste falha")
+    void onFailure_ComEnvioDeTesteFalhando_DeveReabrirDisjuntor() {
+        // Given
+        abrir();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquire());
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitState.ABERTO, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("tryAcquire - Deve renovar as permissões de teste que não tiveram resultado")
+    void tryAcquire_ComEnviosDeTesteSemResultado_DeveRenovarPermissoes() {
+        // Given
+        abrir();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // Then
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void abrir() {
+        for (int i = 0; i < 10; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(CircuitState.ABERTO, breaker.getState());
+    }
+}
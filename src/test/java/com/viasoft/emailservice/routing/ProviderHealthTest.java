@@ -0,0 +1,105 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.enums.EmailProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProviderHealth.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ProviderHealthTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoutingConfig routingConfig;
+
+    @BeforeEach
+    void setUp() {
+        routingConfig = new RoutingConfig(new MockEnvironment());
+        routingConfig.setHealthWindow(Duration.ofSeconds(30));
+        routingConfig.setHealthSamples(100);
+        routingConfig.setHealthMinSamples(10);
+        routingConfig.setMaxErrorRate(0.5);
+        routingConfig.setSlowFactor(3.0);
+        routingConfig.setHealthRefreshInterval(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("stats - Deve calcular percentis e taxa de erros das amostras recentes")
+    void stats_ComAmostras_DeveCalcularPercentisETaxaDeErros() {
+        // Given
+        ProviderHealth health = new ProviderHealth(routingConfig, meterRegistry);
+        for (int i = 1; i <= 100; i++) {
+            health.record(EmailProvider.AWS, i * 1_000_000L, i % 10 != 0);
+        }
+
+        // When
+        ProviderStats stats = health.stats(EmailProvider.AWS);
+
+        // Then
+        assertEquals(100, stats.getSamples());
+        assertEquals(10, stats.getErrors());
+        assertEquals(0.1, stats.getErrorRate(), 1e-9);
+        assertEquals(49_000_000L, stats.getP50Nanos());
+        assertEquals(95_000_000L, stats.getP95Nanos());
+        assertEquals(99_000_000L, stats.getP99Nanos());
+        assertEquals(0.095, meterRegistry.get("email.provider.latency")
+                .tags("provider", "AWS", "quantile", "0.95").gauge().value(), 1e-9);
+        assertSame(ProviderStats.EMPTY, health.stats(EmailProvider.OCI));
+    }
+
+    @Test
+    @DisplayName("stats - Deve manter apenas as amostras mais recentes e descartar as expiradas")
+    void stats_ComJanelaCheiaEExpirada_DeveDescartarAmostrasAntigas() throws InterruptedException {
+        // Given
+        routingConfig.setHealthSamples(10);
+        routingConfig.setHealthWindow(Duration.ofMillis(50));
+        ProviderHealth health = new ProviderHealth(routingConfig, meterRegistry);
+        for (int i = 0; i < 25; i++) {
+            health.record(EmailProvider.OCI, 1_000L, i >= 15);
+        }
+
+        // When
+        ProviderStats recentes = health.stats(EmailProvider.OCI);
+        Thread.sleep(100);
+        ProviderStats expiradas = health.stats(EmailProvider.OCI);
+
+        // Then
+        assertEquals(10, recentes.getSamples());
+        assertEquals(0, recentes.getErrors());
+        assertEquals(0, expiradas.getSamples());
+        assertFalse(health.isKnown(expiradas));
+    }
+
+    @Test
+    @DisplayName("isHealthier - Deve preferir o provedor sem falhas ou muito mais rápido")
+    void isHealthier_ComProvedoresDiferentes_DeveCompararErrosELatencia() {
+        // Given
+        ProviderHealth health = new ProviderHealth(routingConfig, meterRegistry);
+        ProviderStats rapido = new ProviderStats(20, 0, 1_000_000L, 2_000_000L, 3_000_000L);
+        ProviderStats lento = new ProviderStats(20, 0, 5_000_000L, 10_000_000L, 20_000_000L);
+        ProviderStats falhando = new ProviderStats(20, 15, 1_000_000L, 2_000_000L, 3_000_000L);
+        ProviderStats desconhecido = new ProviderStats(5, 0, 1_000_000L, 1_000_000L, 1_000_000L);
+
+        // When & Then
+        assertTrue(health.isHealthier(rapido, lento));
+        assertFalse(health.isHealthier(lento, rapido));
+        assertTrue(health.isHealthier(lento, falhando));
+        assertFalse(health.isHealthier(falhando, lento));
+        assertTrue(health.isHealthier(desconhecido, falhando));
+        assertFalse(health.isHealthier(desconhecido, lento));
+        assertFalse(health.isHealthier(rapido, desconhecido));
+    }
+}
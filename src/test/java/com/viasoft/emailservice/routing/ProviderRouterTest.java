@@ -0,0 +1,269 @@
+package com.viasoft.emailservice.routing;
+
+import com.viasoft.emailservice.adapter.factory.EmailAdapterFactory;
+import com.viasoft.emailservice.adapter.impl.AwsEmailAdapter;
+import com.viasoft.emailservice.adapter.impl.OciEmailAdapter;
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
+import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProviderRouter.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ProviderRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EmailAdapterFactory adapterFactory = new EmailAdapterFactory(
+            List.of(new AwsEmailAdapter(), new OciEmailAdapter()));
+
+    private EmailConfig emailConfig;
+    private RoutingConfig routingConfig;
+    private ProviderHealth health;
+    private CircuitBreakerConfig breakerConfig;
+    private ProviderCircuitBreakers breakers;
+
+    @BeforeEach
+    void setUp() {
+        emailConfig = new EmailConfig();
+        emailConfig.setMailIntegracao("OCI");
+        routingConfig = new RoutingConfig(new MockEnvironment());
+        routingConfig.setStickyByDomain(true);
+        routingConfig.setHealthWindow(Duration.ofSeconds(30));
+        routingConfig.setHealthSamples(64);
+        routingConfig.setHealthMinSamples(10);
+        routingConfig.setMaxErrorRate(0.5);
+        routingConfig.setSlowFactor(3.0);
+        routingConfig.setHealthRefreshInterval(Duration.ZERO);
+        health = new ProviderHealth(routingConfig, meterRegistry);
+        breakerConfig = new CircuitBreakerConfig();
+        breakerConfig.setEnabled(true);
+        breakerConfig.setWindow(Duration.ofSeconds(10));
+        breakerConfig.setBuckets(10);
+        breakerConfig.setMinimumCalls(10);
+        breakerConfig.setFailureRateThreshold(0.5);
+        breakerConfig.setOpenDuration(Duration.ofSeconds(30));
+        breakerConfig.setHalfOpenCalls(2);
+        breakerConfig.setReroute(true);
+        breakers = new ProviderCircuitBreakers(breakerConfig, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("route - Deve enviar todo o tráfego ao provedor de mail.integracao quando não há pesos")
+    void route_SemPesosConfigurados_DeveUsarProvedorConfigurado() {
+        // Given
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+
+        // When
+        ProviderRoute route = router.route(email("joao@empresa.com.br", "Conteúdo"));
+
+        // Then
+        assertEquals(EmailProvider.OCI, route.getProvider());
+        assertInstanceOf(OciEmailAdapter.class, route.getAdapter());
+        assertEquals(EmailProvider.OCI, router.current().getProvider());
+        assertEquals(1, router.current().getVersion());
+        assertEquals(1, router.getRoutedCount(EmailProvider.OCI));
+    }
+
+    @Test
+    @DisplayName("route - Deve dividir o tráfego entre os provedores conforme os pesos")
+    void route_ComPesos90e10_DeveDividirTrafegoProporcionalmente() {
+        // Given
+        routingConfig.setWeight(EmailProvider.AWS, 90);
+        routingConfig.setWeight(EmailProvider.OCI, 10);
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+
+        // When
+        for (int i = 0; i < 10000; i++) {
+            router.route(email("contato@dominio" + i + ".com", "Conteúdo"));
+        }
+
+        // Then
+        long aws = router.getRoutedCount(EmailProvider.AWS);
+        long oci = router.getRoutedCount(EmailProvider.OCI);
+        assertEquals(10000, aws + oci);
+        assertTrue(aws > 8700 && aws < 9300, "AWS recebeu " + aws);
+        assertEquals(EmailProvider.AWS, router.current().getProvider());
+        assertEquals(10000.0, meterRegistry.get("email.routing.routed").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    @DisplayName("route - Deve manter todos os destinatários de um domínio no mesmo provedor")
+    void route_ComMesmoDominio_DeveEscolherSempreOMesmoProvedor() {
+        // Given
+        routingConfig.setWeight(EmailProvider.AWS, 50);
+        routingConfig.setWeight(EmailProvider.OCI, 50);
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+
+        // When
+        EmailProvider primeiro = router.route(email("ana@Cliente.com", "Conteúdo")).getProvider();
+
+        // Then
+        for (int i = 0; i < 50; i++) {
+            assertEquals(primeiro, router.route(email("usuario" + i + "@cliente.COM", "Conteúdo")).getProvider());
+        }
+    }
+
+    @Test
+    @DisplayName("route - Deve desviar para o provedor cujos limites comportam a mensagem")
+    void route_ComConteudoAcimaDoLimiteDaOci_DeveEscolherAws() {
+        // Given
+        routingConfig.setWeight(EmailProvider.AWS, 1);
+        routingConfig.setWeight(EmailProvider.OCI, 99);
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+        String conteudo = "x".repeat(253);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertEquals(EmailProvider.AWS,
+                    router.route(email("contato@dominio" + i + ".com", conteudo)).getProvider());
+        }
+
+        // Then
+        assertTrue(meterRegistry.get("email.routing.diverted").counter().count() > 0);
+    }
+
+    @Test
+    @DisplayName("route - Deve desviar o tráfego de um provedor com falha para o mais saudável")
+    void route_ComProvedorFalhando_DeveDesviarParaProvedorSaudavel() {
+        // Given
+        routingConfig.setWeight(EmailProvider.AWS, 10);
+        routingConfig.setWeight(EmailProvider.OCI, 90);
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+        for (int i = 0; i < 20; i++) {
+            health.record(EmailProvider.OCI, 1_000_000L, false);
+            health.record(EmailProvider.AWS, 1_000_000L, true);
+        }
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            router.route(email("contato@dominio" + i + ".com", "Conteúdo"));
+        }
+
+        // Then
+        assertEquals(100, router.getRoutedCount(EmailProvider.AWS));
+        assertTrue(meterRegistry.get("email.routing.unhealthy").counter().count() > 50);
+    }
+
+    @Test
+    @DisplayName("secondary - Deve escolher outro provedor com adaptador mesmo fora da divisão de pesos")
+    void secondary_ComProvedorUnico_DeveUsarOutroProvedorDisponivel() {
+        // Given
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+
+        // When
+        ProviderRoute secondary = router.secondary(EmailProvider.OCI, email("ana@cliente.com", "Conteúdo"));
+
+        // Then
+        assertNotNull(secondary);
+        assertEquals(EmailProvider.AWS, secondary.getProvider());
+        assertNull(router.secondary(EmailProvider.AWS, email("ana@cliente.com", "x".repeat(253))));
+    }
+
+    @Test
+    @DisplayName("route - Deve desviar para outro provedor enquanto o disjuntor do provedor configurado está aberto")
+    void route_ComDisjuntorAberto_DeveDesviarParaOutroProvedor() {
+        // Given
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            breakers.record(EmailProvider.OCI, false);
+        }
+
+        // When
+        ProviderRoute route = router.route(email("ana@cliente.com", "Conteúdo"));
+
+        // Then
+        assertEquals(EmailProvider.AWS, route.getProvider());
+        assertEquals(1.0, meterRegistry.get("email.routing.tripped").counter().count());
+        assertEquals(1.0, meterRegistry.get("email.circuit.rejected").tag("provider", "OCI").counter().count());
+        assertNull(router.secondary(EmailProvider.AWS, email("ana@cliente.com", "Conteúdo")));
+    }
+
+    @Test
+    @DisplayName("route - Deve recusar de imediato quando o disjuntor está aberto e o desvio está desabilitado")
+    void route_ComDisjuntorAbertoSemDesvio_DeveLancarProviderUnavailableException() {
+        // Given
+        breakerConfig.setReroute(false);
+        breakers = new ProviderCircuitBreakers(breakerConfig, new SimpleMeterRegistry());
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            breakers.record(EmailProvider.OCI, false);
+        }
+
+        // When
+        ProviderUnavailableException exception = assertThrows(ProviderUnavailableException.class,
+                () -> router.route(email("ana@cliente.com", "Conteúdo")));
+
+        // Then
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ofSeconds(29)) > 0);
+        assertEquals(0, router.getRoutedCount(EmailProvider.OCI));
+    }
+
+    @Test
+    @DisplayName("switchTo - Deve publicar um novo roteamento sem alterar o retrato já lido")
+    void switchTo_ComOutroProvedor_DevePublicarNovoRoteamento() {
+        // Given
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+        RoutingSnapshot anterior = router.current();
+
+        // When
+        RoutingSnapshot novo = router.switchTo(EmailProvider.AWS);
+
+        // Then
+        assertSame(novo, router.current());
+        assertEquals(EmailProvider.AWS, novo.getProvider());
+        assertEquals(2, novo.getVersion());
+        assertEquals(EmailProvider.OCI, anterior.getProvider());
+        assertSame(novo, router.switchTo(EmailProvider.AWS));
+        assertEquals(1.0, meterRegistry.get("email.routing.switches").counter().count());
+    }
+
+    @Test
+    @DisplayName("setWeights - Deve recusar pesos sem nenhum provedor ativo, mantendo o roteamento atual")
+    void setWeights_ComPesosZerados_DeveLancarIllegalArgumentException() {
+        // Given
+        ProviderRouter router = new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry);
+        RoutingSnapshot atual = router.current();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> router.setWeights(Map.of(EmailProvider.AWS, 0, EmailProvider.OCI, 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> router.setWeights(Map.of(EmailProvider.AWS, -10)));
+        assertSame(atual, router.current());
+    }
+
+    @Test
+    @DisplayName("ProviderRouter - Deve falhar na inicialização quando o provedor configurado é inválido")
+    void construtor_ComProvedorInvalido_DeveLancarIllegalArgumentException() {
+        // Given
+        emailConfig.setMailIntegracao("SMTP");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProviderRouter(emailConfig, routingConfig, adapterFactory, health, breakers, meterRegistry));
+    }
+
+    private static EmailRequestDTO email(final String destinatario, final String conteudo) {
+        return new EmailRequestDTO(destinatario, "Nome", "remetente@teste.com", "Assunto", conteudo);
+    }
+}
@@ -0,0 +1,313 @@
+package com.viasoft.emailservice.schedule;
+
+import com.viasoft.emailservice.config.ScheduleConfig;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ScheduledEmailQueue.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ScheduledEmailQueueTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ScheduleConfig config;
+    private final List<ScheduledEmailQueue> queues = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        config = new ScheduleConfig();
+        config.setFile(tempDir.resolve("agendados.log").toString());
+        config.setMaxPending(1_000);
+        config.setCompactionThreshold(DataSize.ofMegabytes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queues.forEach(ScheduledEmailQueue::shutdown);
+    }
+
+    @Test
+    @DisplayName("start - Deve liberar os emails na ordem da data de envio")
+    void start_DeveLiberarEmOrdemDeData() throws Exception {
+        // Given
+        ScheduledEmailQueue queue = newQueue();
+        Instant base = Instant.now().plusMillis(200);
+        String late = newId();
+        String early = newId();
+        String middle = newId();
+        queue.schedule(late, emailRequest("tarde"), base.plusMillis(200));
+        queue.schedule(early, emailRequest("cedo"), base);
+        queue.schedule(middle, emailRequest("meio"), base.plusMillis(100));
+
+        // When
+        BlockingQueue<String> released = new LinkedBlockingQueue<>();
+        queue.start((id, emailRequest) -> released.add(id));
+
+        // Then
+        assertEquals(early, released.poll(5, TimeUnit.SECONDS));
+        assertTrue(Instant.now().compareTo(base) >= 0);
+        assertEquals(middle, released.poll(5, TimeUnit.SECONDS));
+        assertEquals(late, released.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, queue.getPending());
+        assertFalse(queue.contains(early));
+    }
+
+    @Test
+    @DisplayName("ScheduledEmailQueue - Deve recuperar do arquivo os emails não liberados após reinício")
+    void construtor_DeveRecuperarEmailsPendentes() throws Exception {
+        // Given
+        ScheduledEmailQueue first = newQueue();
+        String due = newId();
+        String pending = newId();
+        first.schedule(pending, emailRequest("pendente"), Instant.now().plusSeconds(3600));
+        first.schedule(due, emailRequest("vencido"), Instant.now().plusMillis(50));
+        BlockingQueue<String> released = new LinkedBlockingQueue<>();
+        first.start((id, emailRequest) -> released.add(id));
+        assertEquals(due, released.poll(5, TimeUnit.SECONDS));
+        first.shutdown();
+
+        // When
+        ScheduledEmailQueue second = newQueue();
+
+        // Then
+        assertEquals(1, second.getPending());
+        assertTrue(second.contains(pending));
+        assertFalse(second.contains(due));
+    }
+
+    @Test
+    @DisplayName("ScheduledEmailQueue - Deve recuperar os dados do email gravados em arquivo")
+    void construtor_DeveRecuperarDadosDoEmail() throws Exception {
+        // Given
+        ScheduledEmailQueue first = newQueue();
+        EmailRequestDTO original = emailRequest("Assunto com acentuação");
+        original.setPrioridade(EmailPriority.ALTA);
+        OffsetDateTime sendAt = OffsetDateTime.now().plusNanos(100_000_000L);
+        original.setEnviarEm(sendAt);
+        String id = newId();
+        first.schedule(id, original, sendAt.toInstant());
+        first.shutdown();
+
+        // When
+        ScheduledEmailQueue second = newQueue();
+        BlockingQueue<EmailRequestDTO> released = new LinkedBlockingQueue<>();
+        second.start((jobId, emailRequest) -> released.add(emailRequest));
+
+        // Then
+        EmailRequestDTO restored = released.poll(5, TimeUnit.SECONDS);
+        assertNotNull(restored);
+        assertEquals(original.toString(), restored.toString());
+    }
+
+    @Test
+    @DisplayName("ScheduledEmailQueue - Deve descartar um registro incompleto no fim do arquivo")
+    void construtor_ComRegistroIncompleto_DeveTruncarArquivo() throws Exception {
+        // Given
+        ScheduledEmailQueue first = newQueue();
+        first.schedule(newId(), emailRequest("inteiro"), Instant.now().plusSeconds(3600));
+        first.shutdown();
+        Path file = config.getFile();
+        long validSize = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        // When
+        ScheduledEmailQueue second = newQueue();
+
+        // Then
+        assertEquals(1, second.getPending());
+        assertEquals(validSize, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("start - Deve descartar o email ilegível, liberar o seu identificador e não recuperá-lo após reinício")
+    void start_ComEmailIlegivel_DeveDescartarELiberarIdentificador() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        try (ScheduleLog log = new ScheduleLog(config.getFile())) {
+            log.appendItem(System.currentTimeMillis(), id.getMostSignificantBits(),
+                    id.getLeastSignificantBits(), new byte[] {99});
+        }
+        ScheduledEmailQueue queue = newQueue();
+        String valid = newId();
+        queue.schedule(valid, emailRequest("legível"), Instant.now().plusMillis(20));
+        assertTrue(queue.contains(id.toString()));
+
+        // When
+        BlockingQueue<String> released = new LinkedBlockingQueue<>();
+        queue.start((jobId, emailRequest) -> released.add(jobId));
+
+        // Then
+        assertEquals(valid, released.poll(5, TimeUnit.SECONDS));
+        assertTrue(released.isEmpty());
+        assertFalse(queue.contains(id.toString()));
+        assertEquals(0, queue.getPending());
+        queue.shutdown();
+        assertEquals(0, newQueue().getPending());
+    }
+
+    @Test
+    @DisplayName("sendAt - Deve informar a data de liberação retornada no agendamento até a liberação")
+    void sendAt_DeveInformarDataDeLiberacao() {
+        // Given
+        ScheduledEmailQueue queue = newQueue();
+        String id = newId();
+        Instant sendAt = Instant.now().plusSeconds(3600).plusNanos(1);
+
+        // When
+        Instant due = queue.schedule(id, emailRequest("agendado"), sendAt);
+
+        // Then
+        assertFalse(due.isBefore(sendAt));
+        assertEquals(due, queue.sendAt(id));
+        assertNull(queue.sendAt(newId()));
+        assertNull(queue.sendAt("inexistente"));
+    }
+
+    @Test
+    @DisplayName("start - Deve manter o email quando o destino o recusa e entregá-lo depois")
+    void start_ComDestinoRecusando_DeveTentarDeNovo() throws Exception {
+        // Given
+        ScheduledEmailQueue queue = newQueue();
+        String id = newId();
+        queue.schedule(id, emailRequest("recusado"), Instant.now().plusMillis(20));
+        int[] refusals = {2};
+        BlockingQueue<String> released = new LinkedBlockingQueue<>();
+
+        // When
+        queue.start((jobId, emailRequest) -> refusals[0]-- <= 0 && released.add(jobId));
+
+        // Then
+        assertEquals(id, released.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, queue.getPending());
+    }
+
+    @Test
+    @DisplayName("start - Deve compactar o arquivo preservando a ordem dos pendentes")
+    void start_DeveCompactarPreservandoOrdem() throws Exception {
+        // Given
+        config.setCompactionThreshold(DataSize.ofBytes(1));
+        ScheduledEmailQueue queue = newQueue();
+        Instant now = Instant.now();
+        List<String> kept = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            queue.schedule(newId(), emailRequest("vencido " + i), now.plusMillis(50));
+        }
+        for (int i = 0; i < 10; i++) {
+            String id = newId();
+            kept.add(id);
+            queue.schedule(id, emailRequest("futuro " + i), now.plusSeconds(3600));
+        }
+        long before = Files.size(config.getFile());
+        BlockingQueue<String> released = new LinkedBlockingQueue<>();
+        queue.start((id, emailRequest) -> released.add(id));
+        for (int i = 0; i < 50; i++) {
+            assertNotNull(released.poll(5, TimeUnit.SECONDS));
+        }
+        queue.shutdown();
+
+        // When
+        ScheduledEmailQueue reopened = newQueue();
+
+        // Then
+        assertTrue(Files.size(config.getFile()) < before);
+        assertEquals(10, reopened.getPending());
+        kept.forEach(id -> assertTrue(reopened.contains(id)));
+    }
+
+    @Test
+    @DisplayName("schedule - Deve lançar EmailQueueFullException ao atingir o limite de pendentes")
+    void schedule_ComLimiteAtingido_DeveLancarExcecao() {
+        // Given
+        config.setMaxPending(2);
+        ScheduledEmailQueue queue = newQueue();
+        Instant sendAt = Instant.now().plusSeconds(3600);
+        queue.schedule(newId(), emailRequest("um"), sendAt);
+        queue.schedule(newId(), emailRequest("dois"), sendAt);
+
+        // When / Then
+        assertThrows(EmailQueueFullException.class,
+                () -> queue.schedule(newId(), emailRequest("três"), sendAt));
+    }
+
+    @Test
+    @DisplayName("ScheduledEmailQueue - Não deve criar o arquivo antes do primeiro agendamento")
+    void construtor_SemAgendamentos_NaoDeveCriarArquivo() {
+        // When
+        ScheduledEmailQueue queue = newQueue();
+
+        // Then
+        assertEquals(0, queue.getPending());
+        assertFalse(queue.contains("inexistente"));
+        assertFalse(Files.exists(config.getFile()));
+    }
+
+    @Test
+    @DisplayName("ScheduleIndex - Deve retirar os emails em ordem de data e, no empate, de posição")
+    void scheduleIndex_DeveOrdenarPorDataEPosicao() {
+        // Given
+        ScheduleIndex index = new ScheduleIndex();
+        List<long[]> entries = new ArrayList<>();
+        for (long offset = 0; offset < 5_000; offset++) {
+            entries.add(new long[] {(offset * 7919) % 300, offset});
+        }
+        Collections.shuffle(entries, new java.util.Random(7));
+        entries.forEach(e -> index.add(e[0], e[1], e[1]));
+
+        // When / Then
+        long lastDue = -1;
+        long lastOffset = -1;
+        while (index.size() > 0) {
+            long due = index.peekDue();
+            long offset = index.peekOffset();
+            assertTrue(due > lastDue || (due == lastDue && offset > lastOffset));
+            index.poll();
+            lastDue = due;
+            lastOffset = offset;
+        }
+        assertEquals(Long.MAX_VALUE, index.peekDue());
+    }
+
+    private ScheduledEmailQueue newQueue() {
+        ScheduledEmailQueue queue = new ScheduledEmailQueue(config, new SimpleMeterRegistry());
+        queues.add(queue);
+        return queue;
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
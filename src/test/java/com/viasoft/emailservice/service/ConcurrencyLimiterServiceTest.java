@@ -0,0 +1,117 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.config.ConcurrencyLimitConfig;
+import com.viasoft.emailservice.service.impl.ConcurrencyLimiterServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConcurrencyLimiterService.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ConcurrencyLimiterServiceTest {
+
+    private ConcurrencyLimitConfig config;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new ConcurrencyLimitConfig();
+        config.setInitialLimit(10);
+        config.setMinLimit(2);
+        config.setMaxLimit(100);
+        config.setWindow(Duration.ZERO);
+        config.setMinSamples(1);
+    }
+
+    @Test
+    @DisplayName("tryAcquire - Deve recusar requisições acima do limite e liberar após o release")
+    void tryAcquire_AcimaDoLimite_DeveRecusar() {
+        // Given
+        ConcurrencyLimiterService limiter = newService();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        // When & Then
+        assertFalse(limiter.tryAcquire());
+        assertEquals(10, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(0, false);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(1.0, meterRegistry.get("email.concurrency.rejected")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("release - Deve aumentar o limite com latência estável e reduzi-lo quando a latência sobe")
+    void release_ComVariacaoDeLatencia_DeveAjustarLimite() throws Exception {
+        // Given
+        config.setWindow(Duration.ofMillis(5));
+        ConcurrencyLimiterService limiter = newService();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        int healthyLimit = limiter.getLimit();
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        int degradedLimit = limiter.getLimit();
+
+        // Then
+        assertTrue(healthyLimit > 10, "limite saudável: " + healthyLimit);
+        assertTrue(degradedLimit < healthyLimit / 2,
+                "limite degradado: " + degradedLimit);
+        assertTrue(degradedLimit >= 2);
+        assertEquals((double) degradedLimit,
+                meterRegistry.get("email.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    @DisplayName("release - Não deve aumentar o limite quando a demanda fica abaixo da metade")
+    void release_ComDemandaBaixa_NaoDeveAlterarLimite() {
+        // Given
+        ConcurrencyLimiterService limiter = newService();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    private ConcurrencyLimiterService newService() {
+        return new ConcurrencyLimiterServiceImpl(config, meterRegistry);
+    }
+
+    private void saturate(final ConcurrencyLimiterService limiter,
+                          final long latencyNanos) throws InterruptedException {
+        // Aguarda o fim da janela para que cada ciclo feche uma janela
+        TimeUnit.MILLISECONDS.sleep(6);
+        int admitted = 0;
+        while (limiter.tryAcquire()) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(latencyNanos, true);
+        }
+    }
+}
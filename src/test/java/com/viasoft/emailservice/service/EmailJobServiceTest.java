@@ -0,0 +1,461 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.config.AsyncDispatchConfig;
+import com.viasoft.emailservice.config.JournalConfig;
+import com.viasoft.emailservice.config.RetryConfig;
+import com.viasoft.emailservice.config.ScheduleConfig;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.DeadLetterReason;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.enums.JournalSyncMode;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
+import com.viasoft.emailservice.exception.EmailJobNotFoundException;
+import com.viasoft.emailservice.exception.EmailDeliveryException;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.journal.EmailJournal;
+import com.viasoft.emailservice.retry.DeadLetter;
+import com.viasoft.emailservice.retry.InMemoryDeadLetterStore;
+import com.viasoft.emailservice.retry.RetryPolicy;
+import com.viasoft.emailservice.retry.RetryScheduler;
+import com.viasoft.emailservice.schedule.ScheduledEmailQueue;
+import com.viasoft.emailservice.service.impl.EmailJobServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EmailJobService.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class EmailJobServiceTest {
+
+    private EmailService emailService;
+    private AsyncDispatchConfig config;
+    private EmailJobServiceImpl jobService;
+    private EmailRequestDTO emailRequest;
+    private RetryConfig retryConfig;
+    private RetryScheduler retryScheduler;
+    private InMemoryDeadLetterStore deadLetters;
+    private ScheduleConfig scheduleConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private JournalConfig journalConfig;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        emailService = mock(EmailService.class);
+        config = new AsyncDispatchConfig();
+        config.setWorkers(1);
+        config.setQueueCapacity(1);
+        config.setMaxTrackedJobs(100);
+        config.setShutdownTimeout(Duration.ofSeconds(5));
+        config.setLaneWeight(EmailPriority.ALTA, 8);
+        config.setLaneWeight(EmailPriority.NORMAL, 3);
+        config.setLaneWeight(EmailPriority.BAIXA, 1);
+        retryConfig = new RetryConfig(new MockEnvironment());
+        retryConfig.setEnabled(true);
+        retryConfig.setMaxAttempts(3);
+        retryConfig.setInitialBackoff(Duration.ofMillis(10));
+        retryConfig.setMaxBackoff(Duration.ofMillis(50));
+        retryConfig.setMultiplier(2.0);
+        retryConfig.setJitter(0.0);
+        retryConfig.setTick(Duration.ofMillis(1));
+        retryConfig.setWheelSize(64);
+        deadLetters = new InMemoryDeadLetterStore(100);
+        meterRegistry = new SimpleMeterRegistry();
+        journalConfig = new JournalConfig();
+        journalConfig.setEnabled(true);
+        journalConfig.setDirectory(tempDir.resolve("journal").toString());
+        journalConfig.setSegmentSize(DataSize.ofMegabytes(1));
+        journalConfig.setSync(JournalSyncMode.SINCRONO);
+        journalConfig.setFlushInterval(Duration.ofMillis(10));
+        scheduleConfig = new ScheduleConfig();
+        scheduleConfig.setFile(tempDir.resolve("scheduled.log").toString());
+        scheduleConfig.setMaxPending(100);
+        scheduleConfig.setCompactionThreshold(DataSize.ofMegabytes(1));
+        emailRequest = new EmailRequestDTO(
+                "destinatario@teste.com",
+                "João Silva",
+                "remetente@teste.com",
+                "Assunto de Teste",
+                "Conteúdo do email de teste"
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+        if (retryScheduler != null) {
+            retryScheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit - Deve processar o job em segundo plano e marcá-lo como concluído")
+    void submit_DeveProcessarJobEmSegundoPlano() throws Exception {
+        // Given
+        CountDownLatch processed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processed.countDown();
+            return null;
+        }).when(emailService).processEmail(emailRequest, RateLimitMode.AGUARDAR);
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = jobService.submit(emailRequest);
+
+        // Then
+        assertEquals(EmailJobStatus.PENDENTE, job.getStatus());
+        assertTrue(processed.await(5, TimeUnit.SECONDS));
+        assertEquals(EmailJobStatus.CONCLUIDO, awaitFinal(job.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("submit - Deve registrar a falha do processamento no job")
+    void submit_ComErroNoProcessamento_DeveMarcarJobComoFalho() throws Exception {
+        // Given
+        doThrow(new EmailProcessingException("Erro de processamento"))
+                .when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = awaitFinal(jobService.submit(emailRequest).getId());
+
+        // Then
+        assertEquals(EmailJobStatus.FALHOU, job.getStatus());
+        assertEquals("Erro de processamento", job.getErro());
+        assertEquals(1, job.getTentativas());
+        assertEquals(1, deadLetters.size());
+        assertEquals(DeadLetterReason.ERRO_PROCESSAMENTO,
+                deadLetters.get(job.getId()).getReason());
+    }
+
+    @Test
+    @DisplayName("submit - Deve armazenar sem novas tentativas o email que excede o limite do provedor")
+    void submit_ComLimiteDoProvedorExcedido_DeveArmazenarEmailEsgotado() throws Exception {
+        // Given
+        doThrow(new ProviderLimitExceededException(EmailProvider.OCI,
+                "Assunto excede o limite de 250 caracteres para OCI"))
+                .when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = awaitFinal(jobService.submit(emailRequest).getId());
+
+        // Then
+        assertEquals(EmailJobStatus.FALHOU, job.getStatus());
+        assertEquals(1, job.getTentativas());
+        DeadLetter deadLetter = deadLetters.get(job.getId());
+        assertEquals(DeadLetterReason.LIMITE_PROVEDOR, deadLetter.getReason());
+        assertEquals(EmailProvider.OCI, deadLetter.getProvider());
+        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+    }
+
+    @Test
+    @DisplayName("submit - Deve lançar EmailQueueFullException quando a fila estiver cheia")
+    void submit_ComFilaCheia_DeveLancarExcecao() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+
+        // When
+        jobService.submit(emailRequest);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        jobService.submit(emailRequest);
+
+        // Then
+        assertThrows(EmailQueueFullException.class, () -> jobService.submit(emailRequest));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("submit - Deve aceitar email de prioridade alta com a faixa de prioridade baixa cheia")
+    void submit_ComFaixaBaixaCheia_DeveAceitarPrioridadeAlta() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+        jobService.submit(request("campanha", EmailPriority.BAIXA));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        jobService.submit(request("campanha", EmailPriority.BAIXA));
+        assertThrows(EmailQueueFullException.class,
+                () -> jobService.submit(request("campanha", EmailPriority.BAIXA)));
+
+        // When
+        EmailJobDTO urgent = jobService.submit(request("senha", EmailPriority.ALTA));
+        release.countDown();
+
+        // Then
+        assertEquals(EmailJobStatus.CONCLUIDO, awaitFinal(urgent.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("submit - Deve atender os emails de prioridade alta antes de um lote de prioridade baixa")
+    void submit_ComLoteDePrioridadeBaixa_DeveAtenderPrioridadeAltaPrimeiro() throws Exception {
+        // Given
+        config.setQueueCapacity(100);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch processed = new CountDownLatch(56);
+        doAnswer(invocation -> {
+            EmailRequestDTO processing = invocation.getArgument(0);
+            if ("bloqueio".equals(processing.getAssunto())) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            order.add(processing.getAssunto());
+            processed.countDown();
+            return null;
+        }).when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+        jobService.submit(request("bloqueio", EmailPriority.NORMAL));
+        for (int i = 0; i < 50; i++) {
+            jobService.submit(request("campanha", EmailPriority.BAIXA));
+        }
+        for (int i = 0; i < 5; i++) {
+            jobService.submit(request("senha", EmailPriority.ALTA));
+        }
+
+        // When
+        release.countDown();
+        assertTrue(processed.await(5, TimeUnit.SECONDS));
+
+        // Then
+        List<String> first = order.subList(1, 7);
+        assertEquals(5, first.stream().filter("senha"::equals).count());
+        assertEquals(5, meterRegistry.get("email.async.queue.time")
+                .tag("lane", "alta").timer().count());
+    }
+
+    @Test
+    @DisplayName("shutdown - Deve processar os jobs enfileirados antes de encerrar")
+    void shutdown_DeveEsvaziarAFila() {
+        // Given
+        config.setQueueCapacity(10);
+        jobService = newJobService();
+        for (int i = 0; i < 10; i++) {
+            jobService.submit(emailRequest);
+        }
+
+        // When
+        jobService.shutdown();
+
+        // Then
+        verify(emailService, times(10)).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+    }
+
+    @Test
+    @DisplayName("submit - Deve processar jobs com threads virtuais habilitadas")
+    void submit_ComThreadsVirtuais_DeveProcessarJob() throws Exception {
+        // Given
+        config.setVirtualThreadsEnabled(true);
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = awaitFinal(jobService.submit(emailRequest).getId());
+
+        // Then
+        assertEquals(EmailJobStatus.CONCLUIDO, job.getStatus());
+    }
+
+    @Test
+    @DisplayName("getJob - Deve lançar EmailJobNotFoundException para job inexistente")
+    void getJob_ComJobInexistente_DeveLancarExcecao() {
+        jobService = newJobService();
+
+        assertThrows(EmailJobNotFoundException.class, () -> jobService.getJob("inexistente"));
+    }
+
+    @Test
+    @DisplayName("submit - Deve tentar de novo após falha transitória e concluir o job")
+    void submit_ComFalhaTransitoria_DeveTentarDeNovo() throws Exception {
+        // Given
+        doThrow(new EmailDeliveryException(EmailProvider.AWS, "Timeout no provedor", null))
+                .doNothing()
+                .when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = awaitFinal(jobService.submit(emailRequest).getId());
+
+        // Then
+        assertEquals(EmailJobStatus.CONCLUIDO, job.getStatus());
+        assertEquals(2, job.getTentativas());
+        assertNull(job.getErro());
+        assertEquals(0, deadLetters.size());
+    }
+
+    @Test
+    @DisplayName("submit - Deve enviar o job ao armazenamento de esgotados ao fim das tentativas")
+    void submit_ComTentativasEsgotadas_DeveArmazenarEmailEsgotado() throws Exception {
+        // Given
+        retryConfig.setPolicy(EmailProvider.AWS,
+                new RetryPolicy(2, Duration.ofMillis(5), Duration.ofMillis(5), 1.0, 0.0));
+        doThrow(new EmailDeliveryException(EmailProvider.AWS, "Timeout no provedor", null))
+                .when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = awaitFinal(jobService.submit(emailRequest).getId());
+
+        // Then
+        assertEquals(EmailJobStatus.FALHOU, job.getStatus());
+        assertEquals(2, job.getTentativas());
+        List<DeadLetter> recent = deadLetters.recent(10);
+        assertEquals(1, recent.size());
+        assertEquals(job.getId(), recent.get(0).getId());
+        assertEquals(EmailProvider.AWS, recent.get(0).getProvider());
+        assertEquals(2, recent.get(0).getAttempts());
+        assertEquals(DeadLetterReason.TENTATIVAS_ESGOTADAS, recent.get(0).getReason());
+        assertSame(emailRequest, recent.get(0).getRequest());
+        verify(emailService, times(2)).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+    }
+
+    @Test
+    @DisplayName("submit - Não deve tentar de novo com as novas tentativas desabilitadas")
+    void submit_ComNovasTentativasDesabilitadas_DeveFalharNaPrimeira() throws Exception {
+        // Given
+        retryConfig.setEnabled(false);
+        doThrow(new EmailDeliveryException(EmailProvider.AWS, "Timeout no provedor", null))
+                .when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+        jobService = newJobService();
+
+        // When
+        EmailJobDTO job = awaitFinal(jobService.submit(emailRequest).getId());
+
+        // Then
+        assertEquals(EmailJobStatus.FALHOU, job.getStatus());
+        assertEquals(1, job.getTentativas());
+        assertEquals(1, deadLetters.size());
+    }
+
+    @Test
+    @DisplayName("submit - Deve agendar o email com data de envio futura e processá-lo na data")
+    void submit_ComDataDeEnvioFutura_DeveAgendarEProcessarNaData() throws Exception {
+        // Given
+        jobService = newJobService();
+        emailRequest.setEnviarEm(OffsetDateTime.now().plusNanos(300_000_000L));
+
+        // When
+        EmailJobDTO accepted = jobService.submit(emailRequest);
+
+        // Then
+        assertEquals(EmailJobStatus.AGENDADO, accepted.getStatus());
+        assertNotNull(accepted.getAtualizadoEm());
+        EmailJobDTO scheduled = jobService.getJob(accepted.getId());
+        assertEquals(EmailJobStatus.AGENDADO, scheduled.getStatus());
+        assertEquals(accepted.getAtualizadoEm(), scheduled.getAtualizadoEm());
+        verify(emailService, never()).processEmail(any(EmailRequestDTO.class), any(RateLimitMode.class));
+        EmailJobDTO job = awaitFinal(accepted.getId());
+        assertEquals(EmailJobStatus.CONCLUIDO, job.getStatus());
+        verify(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+    }
+
+    @Test
+    @DisplayName("submit - Deve processar imediatamente o email com data de envio já passada")
+    void submit_ComDataDeEnvioPassada_DeveEnfileirarImediatamente() throws Exception {
+        // Given
+        jobService = newJobService();
+        emailRequest.setEnviarEm(OffsetDateTime.now().minusMinutes(1));
+
+        // When
+        EmailJobDTO accepted = jobService.submit(emailRequest);
+
+        // Then
+        assertEquals(EmailJobStatus.PENDENTE, accepted.getStatus());
+        assertEquals(EmailJobStatus.CONCLUIDO, awaitFinal(accepted.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("EmailJobServiceImpl - Deve retomar após reinício os jobs aceitos e não concluídos")
+    void construtor_DeveRetomarJobsDoDiario() throws Exception {
+        // Given
+        EmailJournal journal = new EmailJournal(journalConfig, new SimpleMeterRegistry());
+        String pendingId = java.util.UUID.randomUUID().toString();
+        journal.append(pendingId, request("retomado", EmailPriority.NORMAL));
+        journal.shutdown();
+        CountDownLatch processed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processed.countDown();
+            return null;
+        }).when(emailService).processEmail(any(EmailRequestDTO.class), eq(RateLimitMode.AGUARDAR));
+
+        // When
+        jobService = newJobService();
+
+        // Then
+        assertTrue(processed.await(5, TimeUnit.SECONDS));
+        assertEquals(EmailJobStatus.CONCLUIDO, awaitFinal(pendingId).getStatus());
+        jobService.shutdown();
+        assertEquals(0, new EmailJournal(journalConfig, new SimpleMeterRegistry())
+                .takeRecovered().size());
+    }
+
+    private static EmailRequestDTO request(final String assunto,
+                                           final EmailPriority prioridade) {
+        EmailRequestDTO request = emailRequest(assunto);
+        request.setPrioridade(prioridade);
+        return request;
+    }
+
+    private EmailJobServiceImpl newJobService() {
+        retryScheduler = new RetryScheduler(retryConfig, new SimpleMeterRegistry());
+        return new EmailJobServiceImpl(emailService, config, retryConfig,
+                retryScheduler, deadLetters,
+                new ScheduledEmailQueue(scheduleConfig, new SimpleMeterRegistry()),
+                new EmailJournal(journalConfig, new SimpleMeterRegistry()),
+                meterRegistry);
+    }
+
+    private EmailJobDTO awaitFinal(final String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        EmailJobDTO job = jobService.getJob(jobId);
+        while (!job.getStatus().isFinal() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = jobService.getJob(jobId);
+        }
+        return job;
+    }
+}
@@ -1,21 +1,57 @@
 package com.viasoft.emailservice.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.viasoft.emailservice.adapter.EmailAdapter;
-import com.viasoft.emailservice.adapter.factory.EmailAdapterFactory;
+import com.viasoft.emailservice.config.CircuitBreakerConfig;
 import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.config.PipelineConfig;
+import com.viasoft.emailservice.config.RoutingConfig;
+import com.viasoft.emailservice.dto.BatchResponseDTO;
 import com.viasoft.emailservice.dto.EmailAwsDTO;
 import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.BatchItemStatus;
 import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
 import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
+import com.viasoft.emailservice.pipeline.AdaptationStage;
+import com.viasoft.emailservice.pipeline.DispatchStage;
+import com.viasoft.emailservice.pipeline.EmailPipeline;
+import com.viasoft.emailservice.pipeline.EmailPipelineStage;
+import com.viasoft.emailservice.pipeline.ProviderDispatcher;
+import com.viasoft.emailservice.pipeline.SerializationStage;
+import com.viasoft.emailservice.pipeline.ValidationStage;
+import com.viasoft.emailservice.routing.ProviderCircuitBreakers;
+import com.viasoft.emailservice.routing.ProviderHealth;
+import com.viasoft.emailservice.routing.ProviderRoute;
+import com.viasoft.emailservice.routing.ProviderRouter;
 import com.viasoft.emailservice.service.impl.EmailServiceImpl;
-import com.viasoft.emailservice.util.JsonSerializer;
+import com.viasoft.emailservice.sink.InMemoryEmailSink;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+import com.viasoft.emailservice.validation.ValidationResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,22 +71,45 @@ class EmailServiceTest {
     private EmailConfig emailConfig;
 
     @Mock
-    private EmailAdapterFactory adapterFactory;
+    private ProviderRouter router;
+
+    @Mock
+    private Validator validator;
 
     @Mock
-    private JsonSerializer jsonSerializer;
+    private RateLimiterService rateLimiter;
 
     @Mock
     private EmailAdapter<EmailAwsDTO> emailAdapter;
 
-    @InjectMocks
+    private final InMemoryEmailSink sink = new InMemoryEmailSink(16);
+
+    private EmailPipeline pipeline;
+
     private EmailServiceImpl emailService;
 
+    private ProviderRoute route;
+
     private EmailRequestDTO emailRequest;
-    private EmailAwsDTO emailAwsDTO;
 
     @BeforeEach
     void setUp() {
+        List<EmailPipelineStage> stages = List.of(
+                new ValidationStage(validator),
+                new AdaptationStage(),
+                new SerializationStage(),
+                new DispatchStage(rateLimiter, dispatcher()));
+        PipelineConfig pipelineConfig = new PipelineConfig(new MockEnvironment());
+        for (EmailPipelineStage stage : stages) {
+            pipelineConfig.setStage(stage.getName(), 2, 16);
+        }
+        pipeline = new EmailPipeline(stages, pipelineConfig, new SimpleMeterRegistry());
+        emailService = new EmailServiceImpl(emailConfig, router, pipeline, rateLimiter);
+        route = new ProviderRoute(EmailProvider.AWS, emailAdapter, 100);
+        lenient().when(emailAdapter.validate(any(EmailRequestDTO.class)))
+                .thenAnswer(invocation -> ProviderLimitValidator.defaults()
+                        .validate(invocation.getArgument(0), EmailProvider.AWS));
+
         emailRequest = new EmailRequestDTO(
                 "destinatario@teste.com",
                 "João Silva",
@@ -58,42 +117,80 @@ class EmailServiceTest {
                 "Assunto de Teste",
                 "Conteúdo do email de teste"
         );
+    }
 
-        emailAwsDTO = new EmailAwsDTO(
-                "destinatario@teste.com",
-                "João Silva",
-                "remetente@teste.com",
-                "Assunto de Teste",
-                "Conteúdo do email de teste"
-        );
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    private ProviderDispatcher dispatcher() {
+        RoutingConfig routingConfig = new RoutingConfig(new MockEnvironment());
+        routingConfig.setHealthWindow(Duration.ofSeconds(30));
+        routingConfig.setHealthSamples(64);
+        routingConfig.setHealthRefreshInterval(Duration.ZERO);
+        routingConfig.setHedgingMinDelay(Duration.ZERO);
+        routingConfig.setHedgingMaxConcurrent(4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        return new ProviderDispatcher(sink, router, new ProviderHealth(routingConfig, registry),
+                new ProviderCircuitBreakers(new CircuitBreakerConfig(), registry),
+                rateLimiter, routingConfig, registry);
+    }
+
+    private void stubEncode() throws IOException {
+        doAnswer(invocation -> {
+            JsonGenerator generator = invocation.getArgument(1);
+            generator.writeStartObject();
+            generator.writeStringField("recipient", "destinatario@teste.com");
+            generator.writeEndObject();
+            return null;
+        }).when(emailAdapter).encode(eq(emailRequest), any(JsonGenerator.class));
     }
 
     @Test
     @DisplayName("processEmail - Deve processar email com sucesso usando o provedor AWS")
-    void processEmail_ComProvedorAWS_DeveProcessarComSucesso() {
+    void processEmail_ComProvedorAWS_DeveProcessarComSucesso() throws Exception {
         // Given
-        when(emailConfig.getEmailProvider()).thenReturn(EmailProvider.AWS);
-        when(adapterFactory.createAdapter(EmailProvider.AWS)).thenReturn((EmailAdapter) emailAdapter);
-        when(emailAdapter.adapt(emailRequest)).thenReturn(emailAwsDTO);
-        when(jsonSerializer.serialize(emailAwsDTO)).thenReturn("{\"recipient\":\"destinatario@teste.com\"}");
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        stubEncode();
 
         // When
         assertDoesNotThrow(() -> emailService.processEmail(emailRequest));
 
         // Then
-        verify(emailConfig, times(1)).getEmailProvider();
-        verify(adapterFactory, times(1)).createAdapter(EmailProvider.AWS);
-        verify(emailAdapter, times(1)).adapt(emailRequest);
-        verify(jsonSerializer, times(1)).serialize(emailAwsDTO);
+        verify(router, times(1)).route(emailRequest);
+        verify(emailAdapter, times(1)).encode(eq(emailRequest), any(JsonGenerator.class));
+        verify(emailAdapter, never()).adapt(any());
+        assertEquals(1, sink.getPayloads().size());
+        assertEquals(EmailProvider.AWS, sink.getPayloads().get(0).getProvider());
+        assertEquals("{\"recipient\":\"destinatario@teste.com\"}",
+                new String(sink.getPayloads().get(0).getJson(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve propagar RateLimitExceededException quando a cota está esgotada")
+    void processEmail_ComCotaEsgotada_DeveLancarRateLimitExceededException() throws Exception {
+        // Given
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        stubEncode();
+        doThrow(new RateLimitExceededException("Cota esgotada", Duration.ofSeconds(1)))
+                .when(rateLimiter).acquire(EmailProvider.AWS, "remetente@teste.com", RateLimitMode.REJEITAR);
+
+        // When & Then
+        RateLimitExceededException exception = assertThrows(
+                RateLimitExceededException.class,
+                () -> emailService.processEmail(emailRequest)
+        );
+
+        assertEquals(Duration.ofSeconds(1), exception.getRetryAfter());
     }
 
     @Test
     @DisplayName("processEmail - Deve processar email com sucesso usando o provedor SMTP")
-    void processEmail_ComErroNaAdaptacao_DeveLancarExcecao() {
+    void processEmail_ComErroNaAdaptacao_DeveLancarExcecao() throws Exception {
         // Given
-        when(emailConfig.getEmailProvider()).thenReturn(EmailProvider.AWS);
-        when(adapterFactory.createAdapter(EmailProvider.AWS)).thenReturn((EmailAdapter) emailAdapter);
-        when(emailAdapter.adapt(emailRequest)).thenThrow(new IllegalArgumentException("Erro de adaptação"));
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        when(emailAdapter.validate(emailRequest)).thenThrow(new IllegalArgumentException("Erro de adaptação"));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -102,18 +199,16 @@ class EmailServiceTest {
         );
 
         assertEquals("Erro de adaptação", exception.getMessage());
-        verify(jsonSerializer, never()).serialize(any());
+        verify(emailAdapter, never()).encode(any(), any());
     }
 
     @Test
     @DisplayName("processEmail - Deve lançar exceção ao ocorrer erro na adaptação do email")
-    void processEmail_ComErroNaSerializacao_DeveLancarExcecao() {
+    void processEmail_ComErroNaSerializacao_DeveLancarExcecao() throws Exception {
         // Given
-        when(emailConfig.getEmailProvider()).thenReturn(EmailProvider.AWS);
-        when(adapterFactory.createAdapter(EmailProvider.AWS)).thenReturn((EmailAdapter) emailAdapter);
-        when(emailAdapter.adapt(emailRequest)).thenReturn(emailAwsDTO);
-        when(jsonSerializer.serialize(emailAwsDTO))
-                .thenThrow(new EmailProcessingException("Erro na serialização"));
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        doThrow(new IOException("Erro na serialização"))
+                .when(emailAdapter).encode(eq(emailRequest), any(JsonGenerator.class));
 
         // When & Then
         EmailProcessingException exception = assertThrows(
@@ -121,14 +216,14 @@ class EmailServiceTest {
                 () -> emailService.processEmail(emailRequest)
         );
 
-        assertEquals("Erro na serialização", exception.getMessage());
+        assertEquals("Erro ao codificar email para JSON: Erro na serialização", exception.getMessage());
     }
 
     @Test
     @DisplayName("processEmail - Deve lançar EmailProcessingException ao ocorrer erro inesperado")
     void processEmail_ComErroInesperado_DeveLancarEmailProcessingException() {
         // Given
-        when(emailConfig.getEmailProvider()).thenThrow(new RuntimeException("Erro inesperado"));
+        when(router.route(emailRequest)).thenThrow(new RuntimeException("Erro inesperado"));
 
         // When & Then
         EmailProcessingException exception = assertThrows(
@@ -138,4 +233,128 @@ class EmailServiceTest {
 
         assertTrue(exception.getMessage().contains("Erro inesperado durante o processamento do email"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("processBatch - Deve aceitar itens válidos e rejeitar inválidos sem interromper o lote")
+    @SuppressWarnings("unchecked")
+    void processBatch_ComItensMistos_DeveRetornarResultadoPorItem() throws Exception {
+        // Given
+        EmailRequestDTO invalido = new EmailRequestDTO(
+                "email-invalido", "João", "remetente@teste.com", "Assunto", "Conteúdo");
+        EmailRequestDTO excedeLimite = new EmailRequestDTO(
+                "destinatario@teste.com", "João", "remetente@teste.com", "a".repeat(121), "Conteúdo");
+        ConstraintViolation<EmailRequestDTO> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("emailDestinatario");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("Email do destinatário deve ter formato válido");
+
+        when(emailConfig.getBatchMaxSize()).thenReturn(10);
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        when(validator.validate(emailRequest)).thenReturn(Collections.emptySet());
+        when(validator.validate(invalido)).thenReturn(Set.of(violation));
+        when(validator.validate(excedeLimite)).thenReturn(Collections.emptySet());
+        stubEncode();
+
+        // When
+        BatchResponseDTO response = emailService.processBatch(
+                Arrays.asList(emailRequest, invalido, null, excedeLimite));
+
+        // Then
+        assertEquals(4, response.getTotal());
+        assertEquals(1, response.getAceitos());
+        assertEquals(3, response.getRejeitados());
+        assertEquals(BatchItemStatus.ACEITO, response.getResultados().get(0).getStatus());
+        assertNull(response.getResultados().get(0).getErrors());
+        assertEquals("Email do destinatário deve ter formato válido",
+                response.getResultados().get(1).getErrors().get("emailDestinatario"));
+        assertEquals(BatchItemStatus.REJEITADO, response.getResultados().get(2).getStatus());
+        assertEquals("Assunto excede o limite de 120 caracteres para AWS",
+                response.getResultados().get(3).getErrors().get("assunto"));
+        verify(router, times(3)).route(any(EmailRequestDTO.class));
+        verify(emailAdapter, never()).encode(eq(invalido), any());
+        verify(emailAdapter, never()).encode(eq(excedeLimite), any());
+    }
+
+    @Test
+    @DisplayName("processBatch - Deve lançar InvalidEmailDataException para lote vazio ou acima do limite")
+    void processBatch_ComLoteVazioOuAcimaDoLimite_DeveLancarExcecao() {
+        assertThrows(InvalidEmailDataException.class,
+                () -> emailService.processBatch(List.of()));
+
+        when(emailConfig.getBatchMaxSize()).thenReturn(1);
+        assertThrows(InvalidEmailDataException.class,
+                () -> emailService.processBatch(List.of(emailRequest, emailRequest)));
+
+        verify(router, never()).route(any());
+    }
+
+    @Test
+    @DisplayName("processEmail - Não deve repetir a validação Bean Validation já feita pelo controller")
+    void processEmail_ComDadosJaValidados_NaoDeveValidarNovamente() throws Exception {
+        // Given
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        stubEncode();
+
+        // When
+        emailService.processEmail(emailRequest);
+
+        // Then
+        verify(validator, never()).validate(any());
+        verify(emailAdapter, times(1)).encode(eq(emailRequest), any(JsonGenerator.class));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve reservar a cota antes do pipeline no modo AGUARDAR")
+    void processEmail_ComModoAguardar_DeveReservarCotaAntesDoPipeline() throws Exception {
+        // Given
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+        stubEncode();
+
+        // When
+        emailService.processEmail(emailRequest, RateLimitMode.AGUARDAR);
+
+        // Then
+        verify(rateLimiter, times(1)).acquire(EmailProvider.AWS, "remetente@teste.com", RateLimitMode.AGUARDAR);
+        verify(rateLimiter, never()).acquire(EmailProvider.AWS, "remetente@teste.com", RateLimitMode.REJEITAR);
+    }
+
+    @Test
+    @DisplayName("tryProcessEmail - Deve devolver todos os campos que excedem os limites sem lançar exceção")
+    void tryProcessEmail_ComLimitesExcedidos_DeveDevolverResultadoSemEntregar() throws Exception {
+        // Given
+        emailRequest.setNomeDestinatario("n".repeat(61));
+        emailRequest.setConteudo("c".repeat(257));
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+
+        // When
+        ValidationResult result = emailService.tryProcessEmail(emailRequest);
+
+        // Then
+        assertFalse(result.isValid());
+        assertEquals(EmailProvider.AWS, result.getProvider());
+        assertEquals(List.of("nomeDestinatario", "conteudo"), List.copyOf(result.getErrors().keySet()));
+        assertSame(result, emailService.tryProcessEmail(emailRequest));
+        verify(emailAdapter, never()).encode(any(), any());
+        verify(rateLimiter, never()).acquire(any(), any(), any());
+        assertTrue(sink.getPayloads().isEmpty());
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve lançar ProviderLimitExceededException com o resultado da validação")
+    void processEmail_ComLimitesExcedidos_DeveLancarProviderLimitExceededException() {
+        // Given
+        emailRequest.setAssunto("a".repeat(121));
+        when(router.route(any(EmailRequestDTO.class))).thenReturn(route);
+
+        // When & Then
+        ProviderLimitExceededException exception = assertThrows(
+                ProviderLimitExceededException.class,
+                () -> emailService.processEmail(emailRequest, RateLimitMode.AGUARDAR)
+        );
+
+        assertEquals(EmailProvider.AWS, exception.getProvider());
+        assertEquals("Assunto excede o limite de 120 caracteres para AWS", exception.getMessage());
+        assertEquals(Map.of("assunto", exception.getMessage()), exception.getResult().getErrors());
+    }
+}
@@ -0,0 +1,282 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.config.IdempotencyConfig;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import com.viasoft.emailservice.enums.EmailPriority;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.EmailQueueFullException;
+import com.viasoft.emailservice.exception.IdempotencyConflictException;
+import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.service.impl.IdempotencyServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para IdempotencyService.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class IdempotencyServiceTest {
+
+    private EmailService emailService;
+    private EmailJobService emailJobService;
+    private IdempotencyConfig config;
+    private MeterRegistry meterRegistry;
+    private EmailRequestDTO emailRequest;
+
+    @BeforeEach
+    void setUp() {
+        emailService = mock(EmailService.class);
+        emailJobService = mock(EmailJobService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        config = new IdempotencyConfig();
+        config.setMaxEntries(100);
+        config.setTtl(Duration.ofMinutes(5));
+        config.setMaxKeyLength(16);
+        config.setInFlightTimeout(Duration.ofSeconds(5));
+        emailRequest = new EmailRequestDTO(
+                "destinatario@teste.com",
+                "João Silva",
+                "remetente@teste.com",
+                "Assunto de Teste",
+                "Conteúdo do email de teste"
+        );
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve processar a chave uma única vez e reaproveitar o resultado")
+    void processEmail_ComChaveRepetida_DeveProcessarUmaVez() {
+        // Given
+        IdempotencyService service = newService();
+
+        // When
+        boolean first = service.processEmail("chave-1", emailRequest);
+        boolean second = service.processEmail("chave-1", emailRequest);
+
+        // Then
+        assertFalse(first);
+        assertTrue(second);
+        verify(emailService, times(1)).processEmail(emailRequest);
+        assertEquals(1.0, counter("hit"));
+        assertEquals(1.0, counter("miss"));
+    }
+
+    @Test
+    @DisplayName("submitJob - Deve agendar a chave uma única vez e devolver o mesmo job")
+    void submitJob_ComChaveRepetida_DeveAgendarUmaVez() {
+        // Given
+        emailRequest.setEnviarEm(OffsetDateTime.parse("2030-01-01T10:00:00Z"));
+        EmailJobDTO job = new EmailJobDTO("job-1", EmailJobStatus.AGENDADO, null, LocalDateTime.now());
+        when(emailJobService.submit(emailRequest)).thenReturn(job);
+        IdempotencyService service = newService();
+
+        // When
+        IdempotentResult<EmailJobDTO> first = service.submitJob("chave-1", emailRequest);
+        IdempotentResult<EmailJobDTO> second = service.submitJob("chave-1", emailRequest);
+
+        // Then
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertSame(job, first.value());
+        assertSame(job, second.value());
+        verify(emailJobService, times(1)).submit(emailRequest);
+        verify(emailService, never()).processEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve recusar a chave reutilizada com outro conteúdo")
+    void processEmail_ComConteudoDiferente_DeveLancarConflito() {
+        // Given
+        IdempotencyService service = newService();
+        service.processEmail("chave-1", emailRequest);
+        emailRequest.setAssunto("Outro assunto");
+
+        // When & Then
+        assertThrows(IdempotencyConflictException.class,
+                () -> service.processEmail("chave-1", emailRequest));
+        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve recusar conteúdo diferente com o mesmo hashCode")
+    void processEmail_ComConteudoDeMesmoHash_DeveLancarConflito() {
+        // Given
+        IdempotencyService service = newService();
+        emailRequest.setAssunto("Aa");
+        service.processEmail("chave-1", emailRequest);
+        emailRequest.setAssunto("BB");
+
+        // When & Then
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertThrows(IdempotencyConflictException.class,
+                () -> service.processEmail("chave-1", emailRequest));
+        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve recusar a chave reutilizada com outra prioridade")
+    void processEmail_ComPrioridadeDiferente_DeveLancarConflito() {
+        // Given
+        IdempotencyService service = newService();
+        service.processEmail("chave-1", emailRequest);
+        emailRequest.setPrioridade(EmailPriority.ALTA);
+
+        // When & Then
+        assertThrows(IdempotencyConflictException.class,
+                () -> service.processEmail("chave-1", emailRequest));
+        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve recusar a chave reutilizada com outro agendamento")
+    void processEmail_ComAgendamentoDiferente_DeveLancarConflito() {
+        // Given
+        IdempotencyService service = newService();
+        service.processEmail("chave-1", emailRequest);
+        emailRequest.setEnviarEm(
+                OffsetDateTime.parse("2030-01-01T10:00:00Z"));
+
+        // When & Then
+        assertThrows(IdempotencyConflictException.class,
+                () -> service.processEmail("chave-1", emailRequest));
+        verify(emailService, times(1)).processEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve liberar a chave quando o processamento falha")
+    void processEmail_ComFalha_DeveLiberarChave() {
+        // Given
+        doThrow(new EmailProcessingException("Erro"))
+                .doNothing()
+                .when(emailService).processEmail(emailRequest);
+        IdempotencyService service = newService();
+
+        // When & Then
+        assertThrows(EmailProcessingException.class,
+                () -> service.processEmail("chave-1", emailRequest));
+        assertFalse(service.processEmail("chave-1", emailRequest));
+        verify(emailService, times(2)).processEmail(emailRequest);
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve reprocessar a chave expirada e descartar as excedentes")
+    void processEmail_ComChaveExpiradaOuExcedente_DeveReprocessar() {
+        // Given
+        config.setTtl(Duration.ZERO);
+        IdempotencyService expiring = newService();
+        config.setTtl(Duration.ofMinutes(5));
+        config.setMaxEntries(1);
+        IdempotencyService bounded = newService();
+
+        // When
+        expiring.processEmail("chave-1", emailRequest);
+        boolean expiredReplay = expiring.processEmail("chave-1", emailRequest);
+        bounded.processEmail("chave-a", emailRequest);
+        bounded.processEmail("chave-b", emailRequest);
+        boolean evictedReplay = bounded.processEmail("chave-a", emailRequest);
+
+        // Then
+        assertFalse(expiredReplay);
+        assertFalse(evictedReplay);
+        verify(emailService, times(5)).processEmail(emailRequest);
+        assertEquals(1.0, meterRegistry.get("email.idempotency.size")
+                .gauge().value());
+    }
+
+    @Test
+    @DisplayName("processEmail - Duplicata concorrente deve aguardar o resultado original")
+    void processEmail_ComDuplicataConcorrente_DeveAguardarResultado() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emailService).processEmail(emailRequest);
+        IdempotencyService service = newService();
+
+        // When
+        CompletableFuture<Boolean> original = CompletableFuture.supplyAsync(
+                () -> service.processEmail("chave-1", emailRequest));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> duplicate = CompletableFuture.supplyAsync(
+                () -> service.processEmail("chave-1", emailRequest));
+        release.countDown();
+
+        // Then
+        assertFalse(original.get(5, TimeUnit.SECONDS));
+        assertTrue(duplicate.get(5, TimeUnit.SECONDS));
+        verify(emailService, times(1)).processEmail(emailRequest);
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve recusar nova chave quando o limite está em andamento")
+    void processEmail_ComLimiteEmAndamento_DeveRecusarNovaChave() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emailService).processEmail(emailRequest);
+        config.setMaxEntries(1);
+        IdempotencyService service = newService();
+
+        // When
+        CompletableFuture<Boolean> original = CompletableFuture.supplyAsync(
+                () -> service.processEmail("chave-1", emailRequest));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Then
+        assertThrows(EmailQueueFullException.class,
+                () -> service.processEmail("chave-2", emailRequest));
+        release.countDown();
+        assertFalse(original.get(5, TimeUnit.SECONDS));
+        assertFalse(service.processEmail("chave-3", emailRequest));
+        verify(emailService, times(2)).processEmail(emailRequest);
+    }
+
+    @Test
+    @DisplayName("processEmail - Deve rejeitar chave vazia ou acima do tamanho máximo")
+    void processEmail_ComChaveInvalida_DeveLancarExcecao() {
+        // Given
+        IdempotencyService service = newService();
+
+        // When & Then
+        assertThrows(InvalidEmailDataException.class,
+                () -> service.processEmail(" ", emailRequest));
+        assertThrows(InvalidEmailDataException.class,
+                () -> service.processEmail("x".repeat(17), emailRequest));
+        verify(emailService, never()).processEmail(any(EmailRequestDTO.class));
+    }
+
+    private IdempotencyService newService() {
+        meterRegistry = new SimpleMeterRegistry();
+        return new IdempotencyServiceImpl(emailService, emailJobService, config, meterRegistry);
+    }
+
+    private double counter(final String result) {
+        return meterRegistry.get("email.idempotency.requests")
+                .tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,141 @@
+package com.viasoft.emailservice.service;
+
+import com.viasoft.emailservice.config.RateLimitConfig;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.RateLimitMode;
+import com.viasoft.emailservice.exception.RateLimitExceededException;
+import com.viasoft.emailservice.service.impl.RateLimiterServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para RateLimiterService.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class RateLimiterServiceTest {
+
+    private RateLimitConfig config;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new RateLimitConfig();
+        config.setEnabled(true);
+        config.setProviderLimit(EmailProvider.AWS, 1, 3);
+        config.setProviderLimit(EmailProvider.OCI, 1, 3);
+        config.setSenderLimit(1, 2);
+        config.setMaxTrackedSenders(100);
+        config.setMaxWait(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("acquire - Deve permitir a rajada do remetente e recusar o excedente com Retry-After")
+    void acquire_AcimaDaRajadaDoRemetente_DeveRecusar() {
+        // Given
+        RateLimiterService rateLimiter = newService();
+        rateLimiter.acquire(EmailProvider.AWS, "a@teste.com", RateLimitMode.REJEITAR);
+        rateLimiter.acquire(EmailProvider.AWS, "A@teste.com", RateLimitMode.REJEITAR);
+
+        // When
+        RateLimitExceededException exception = assertThrows(
+                RateLimitExceededException.class,
+                () -> rateLimiter.acquire(EmailProvider.AWS, "a@teste.com", RateLimitMode.REJEITAR));
+
+        // Then
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0);
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ofSeconds(1)) <= 0);
+        assertEquals(1.0, rejected("sender"));
+    }
+
+    @Test
+    @DisplayName("acquire - Deve recusar pela cota do provedor e devolver a ficha recusada pelo remetente")
+    void acquire_AcimaDaRajadaDoProvedor_DeveRecusar() {
+        // Given
+        RateLimiterService rateLimiter = newService();
+        rateLimiter.acquire(EmailProvider.OCI, "a@teste.com", RateLimitMode.REJEITAR);
+        rateLimiter.acquire(EmailProvider.OCI, "a@teste.com", RateLimitMode.REJEITAR);
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire(EmailProvider.OCI, "a@teste.com", RateLimitMode.REJEITAR));
+
+        // When
+        rateLimiter.acquire(EmailProvider.OCI, "b@teste.com", RateLimitMode.REJEITAR);
+
+        // Then
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire(EmailProvider.OCI, "c@teste.com", RateLimitMode.REJEITAR));
+        assertEquals(1.0, rejected("provider"));
+        rateLimiter.acquire(EmailProvider.AWS, "c@teste.com", RateLimitMode.REJEITAR);
+    }
+
+    @Test
+    @DisplayName("acquire - Modo AGUARDAR deve esperar a liberação da cota em vez de recusar")
+    void acquire_ModoAguardar_DeveEsperarACota() {
+        // Given
+        config.setSenderLimit(5, 1);
+        RateLimiterService rateLimiter = newService();
+        rateLimiter.acquire(EmailProvider.AWS, "a@teste.com", RateLimitMode.AGUARDAR);
+
+        // When
+        long start = System.nanoTime();
+        rateLimiter.acquire(EmailProvider.AWS, "a@teste.com", RateLimitMode.AGUARDAR);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMillis >= 100, "esperou " + elapsedMillis + " ms");
+        assertEquals(1.0, meterRegistry.get("email.ratelimit.delayed").counter().count());
+    }
+
+    @Test
+    @DisplayName("acquire - Remetentes além do limite devem compartilhar uma única cota")
+    void acquire_AcimaDoLimiteDeRemetentes_DeveCompartilharCota() {
+        // Given
+        config.setProviderLimit(EmailProvider.AWS, 100, 100);
+        config.setMaxTrackedSenders(2);
+        RateLimiterService rateLimiter = newService();
+        rateLimiter.acquire(EmailProvider.AWS, "a@teste.com", RateLimitMode.REJEITAR);
+        rateLimiter.acquire(EmailProvider.AWS, "b@teste.com", RateLimitMode.REJEITAR);
+
+        // When
+        rateLimiter.acquire(EmailProvider.AWS, "c@teste.com", RateLimitMode.REJEITAR);
+        rateLimiter.acquire(EmailProvider.AWS, "d@teste.com", RateLimitMode.REJEITAR);
+
+        // Then
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire(EmailProvider.AWS, "e@teste.com", RateLimitMode.REJEITAR));
+        assertEquals(2.0, meterRegistry.get("email.ratelimit.senders").gauge().value());
+        assertEquals(3.0, meterRegistry.get("email.ratelimit.untracked").counter().count());
+    }
+
+    @Test
+    @DisplayName("acquire - Deve ignorar as cotas quando a limitação está desabilitada")
+    void acquire_Desabilitado_NaoDeveRecusar() {
+        // Given
+        config.setEnabled(false);
+        RateLimiterService rateLimiter = newService();
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire(EmailProvider.AWS, "a@teste.com", RateLimitMode.REJEITAR);
+        }
+    }
+
+    private RateLimiterService newService() {
+        return new RateLimiterServiceImpl(config, meterRegistry);
+    }
+
+    private double rejected(final String scope) {
+        return meterRegistry.get("email.ratelimit.rejected")
+                .tag("scope", scope).counter().count();
+    }
+}
@@ -0,0 +1,149 @@
+package com.viasoft.emailservice.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para PriorityLaneQueue.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class PriorityLaneQueueTest {
+
+    @Test
+    @DisplayName("poll - Deve repartir as retiradas conforme os pesos das faixas ocupadas")
+    void poll_ComFaixasOcupadas_DeveRespeitarOsPesos() {
+        // Given
+        PriorityLaneQueue queue = newQueue(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            queue.offer(new LaneTask(0));
+            queue.offer(new LaneTask(1));
+            queue.offer(new LaneTask(2));
+        }
+
+        // When
+        int[] served = new int[3];
+        for (int i = 0; i < 1_200; i++) {
+            served[((LaneTask) queue.poll()).lane]++;
+        }
+
+        // Then
+        assertArrayEquals(new int[] {800, 300, 100}, served);
+    }
+
+    @Test
+    @DisplayName("poll - Deve intercalar as faixas sem rajadas da faixa de maior peso")
+    void poll_DeveIntercalarAsFaixas() {
+        // Given
+        PriorityLaneQueue queue = newQueue(1_000);
+        for (int i = 0; i < 100; i++) {
+            queue.offer(new LaneTask(0));
+            queue.offer(new LaneTask(2));
+        }
+
+        // When
+        int longestGap = 0;
+        int gap = 0;
+        for (int i = 0; i < 90; i++) {
+            if (((LaneTask) queue.poll()).lane == 2) {
+                longestGap = Math.max(longestGap, gap);
+                gap = 0;
+            } else {
+                gap++;
+            }
+        }
+
+        // Then
+        assertEquals(8, longestGap);
+    }
+
+    @Test
+    @DisplayName("poll - Deve repassar a fração de uma faixa vazia às demais")
+    void poll_ComFaixaVazia_DeveAtenderAsDemais() {
+        // Given
+        PriorityLaneQueue queue = newQueue(10);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(new LaneTask(2));
+        }
+
+        // When
+        List<Runnable> drained = new ArrayList<>();
+        int count = queue.drainTo(drained);
+
+        // Then
+        assertEquals(10, count);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @DisplayName("offer - Deve recusar apenas a faixa cheia")
+    void offer_ComFaixaCheia_DeveRecusarSoEssaFaixa() {
+        // Given
+        PriorityLaneQueue queue = newQueue(2);
+        assertTrue(queue.offer(new LaneTask(2)));
+        assertTrue(queue.offer(new LaneTask(2)));
+
+        // When / Then
+        assertFalse(queue.offer(new LaneTask(2)));
+        assertTrue(queue.offer(new LaneTask(0)));
+        assertEquals(3, queue.size());
+        assertEquals(2, queue.size(2));
+        assertEquals(3, queue.remainingCapacity());
+    }
+
+    @Test
+    @DisplayName("remove - Deve remover a tarefa e liberar espaço na faixa")
+    void remove_DeveLiberarEspacoNaFaixa() throws Exception {
+        // Given
+        PriorityLaneQueue queue = newQueue(1);
+        LaneTask task = new LaneTask(1);
+        queue.offer(task);
+
+        // When
+        boolean removed = queue.remove(task);
+
+        // Then
+        assertTrue(removed);
+        assertFalse(queue.remove(task));
+        assertTrue(queue.offer(new LaneTask(1), 0, TimeUnit.MILLISECONDS));
+        assertNotNull(queue.poll(1, TimeUnit.SECONDS));
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("PriorityLaneQueue - Deve rejeitar peso não positivo")
+    void construtor_ComPesoInvalido_DeveLancarExcecao() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriorityLaneQueue(new int[] {1, 0}, 10,
+                        task -> 0));
+    }
+
+    private static PriorityLaneQueue newQueue(final int capacity) {
+        return new PriorityLaneQueue(new int[] {8, 3, 1}, capacity,
+                task -> ((LaneTask) task).lane);
+    }
+
+    private static final class LaneTask implements Runnable {
+
+        private final int lane;
+
+        private LaneTask(final int laneParam) {
+            this.lane = laneParam;
+        }
+
+        @Override
+        public void run() {
+            // Tarefa sem efeito
+        }
+    }
+}
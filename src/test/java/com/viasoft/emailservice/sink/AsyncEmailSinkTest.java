@@ -0,0 +1,161 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AsyncEmailSink.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class AsyncEmailSinkTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("write - Deve entregar os emails em lotes na thread dedicada, na ordem de chegada")
+    void write_ComVariosEmails_DeveEntregarEmLotesNaThreadDedicada() throws Exception {
+        // Given
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Integer> lotes = new CopyOnWriteArrayList<>();
+        Map<String, Boolean> threads = new ConcurrentHashMap<>();
+        InMemoryEmailSink memoria = new InMemoryEmailSink(100);
+        EmailSink destino = new EmailSink() {
+            @Override
+            public void write(final EmailPayload payload) {
+                fail("Os emails devem ser entregues em lote");
+            }
+
+            @Override
+            public void writeBatch(final List<EmailPayload> payloads) {
+                awaitQuietly(liberar);
+                threads.put(Thread.currentThread().getName(), true);
+                lotes.add(payloads.size());
+                memoria.writeBatch(payloads);
+            }
+        };
+        AsyncEmailSink sink = new AsyncEmailSink(destino, 64, 16, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            sink.write(new EmailPayload(EmailProvider.AWS, String.valueOf(i).getBytes(StandardCharsets.UTF_8)));
+        }
+        liberar.countDown();
+        sink.close();
+
+        // Then
+        assertEquals(20, memoria.getPayloads().size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(String.valueOf(i),
+                    new String(memoria.getPayloads().get(i).getJson(), StandardCharsets.UTF_8));
+        }
+        assertTrue(lotes.size() < 20);
+        assertTrue(lotes.stream().allMatch(tamanho -> tamanho <= 16));
+        assertEquals(Map.of("email-sink-flusher", true), threads);
+        assertEquals(20.0, meterRegistry.get("email.sink.written").counter().count());
+    }
+
+    @Test
+    @DisplayName("write - Deve entregar na thread de origem quando o buffer está cheio")
+    void write_ComBufferCheio_DeveEntregarNaThreadDeOrigem() {
+        // Given
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        EmailSink destino = new EmailSink() {
+            @Override
+            public void write(final EmailPayload payload) {
+                threads.add(Thread.currentThread().getName());
+            }
+
+            @Override
+            public void writeBatch(final List<EmailPayload> payloads) {
+                awaitQuietly(liberar);
+            }
+        };
+        AsyncEmailSink sink = new AsyncEmailSink(destino, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        sink.write(new EmailPayload(EmailProvider.OCI, "primeiro".getBytes(StandardCharsets.UTF_8)));
+        waitUntilBufferEmpty();
+        sink.write(new EmailPayload(EmailProvider.OCI, "segundo".getBytes(StandardCharsets.UTF_8)));
+        sink.write(new EmailPayload(EmailProvider.OCI, "terceiro".getBytes(StandardCharsets.UTF_8)));
+        liberar.countDown();
+        sink.close();
+
+        // Then
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+        assertEquals(1.0, meterRegistry.get("email.sink.overflow").counter().count());
+    }
+
+    @Test
+    @DisplayName("write - Deve registrar a falha de entrega sem propagá-la a quem produziu o email")
+    void write_ComFalhaNoDestino_DeveContarFalhaSemPropagar() {
+        // Given
+        EmailSink destino = payload -> {
+            throw new IllegalStateException("Provedor indisponível");
+        };
+        AsyncEmailSink sink = new AsyncEmailSink(destino, 8, 8, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        assertDoesNotThrow(() -> sink.write(new EmailPayload(EmailProvider.AWS, "{}".getBytes(StandardCharsets.UTF_8))));
+        sink.close();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("email.sink.failed").counter().count());
+        assertThrows(RuntimeException.class,
+                () -> sink.write(new EmailPayload(EmailProvider.AWS, "{}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    @DisplayName("write - Deve contar como falha apenas os emails do lote que falharam")
+    void write_ComFalhaDeParteDoLote_DeveContarFalhaPorEmail() {
+        // Given
+        EmailSink destino = payload -> {
+            if (new String(payload.getJson(), StandardCharsets.UTF_8).equals("recusado")) {
+                throw new IllegalStateException("Provedor recusou o email");
+            }
+        };
+        AsyncEmailSink sink = new AsyncEmailSink(destino, 8, 8, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        sink.write(new EmailPayload(EmailProvider.AWS, "{}".getBytes(StandardCharsets.UTF_8)));
+        sink.write(new EmailPayload(EmailProvider.AWS, "recusado".getBytes(StandardCharsets.UTF_8)));
+        sink.write(new EmailPayload(EmailProvider.AWS, "{}".getBytes(StandardCharsets.UTF_8)));
+        sink.close();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("email.sink.failed").counter().count());
+        assertEquals(2.0, meterRegistry.get("email.sink.written").counter().count());
+    }
+
+    private void waitUntilBufferEmpty() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("email.sink.buffer").gauge().value() > 0
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
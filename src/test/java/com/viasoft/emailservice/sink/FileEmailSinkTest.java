@@ -0,0 +1,67 @@
+package com.viasoft.emailservice.sink;
+
+import com.viasoft.emailservice.enums.EmailProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para FileEmailSink.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class FileEmailSinkTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("writeBatch - Deve gravar os emails no arquivo com o provedor e o JSON")
+    void writeBatch_ComEmails_DeveGravarNoArquivo() throws Exception {
+        // Given
+        Path arquivo = dir.resolve("emails.log");
+        FileEmailSink sink = new FileEmailSink(arquivo, 1024 * 1024, 2);
+
+        // When
+        sink.writeBatch(List.of(
+                new EmailPayload(EmailProvider.AWS, "{\"recipient\":\"a@teste.com\"}".getBytes(StandardCharsets.UTF_8)),
+                new EmailPayload(EmailProvider.OCI, "{\"recipientEmail\":\"b@teste.com\"}".getBytes(StandardCharsets.UTF_8))));
+        sink.close();
+
+        // Then
+        String conteudo = Files.readString(arquivo);
+        assertTrue(conteudo.contains("Provedor: AWS\n{\"recipient\":\"a@teste.com\"}"));
+        assertTrue(conteudo.contains("Provedor: OCI\n{\"recipientEmail\":\"b@teste.com\"}"));
+    }
+
+    @Test
+    @DisplayName("write - Deve rotacionar o arquivo ao atingir o tamanho máximo, mantendo a quantidade configurada")
+    void write_AcimaDoTamanhoMaximo_DeveRotacionarArquivos() throws Exception {
+        // Given
+        Path arquivo = dir.resolve("emails.log");
+        FileEmailSink sink = new FileEmailSink(arquivo, 250, 2);
+        String json = "{\"body\":\"" + "x".repeat(60) + "\"}";
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            sink.write(new EmailPayload(EmailProvider.AWS, json.getBytes(StandardCharsets.UTF_8)));
+        }
+        sink.close();
+
+        // Then
+        assertTrue(Files.exists(arquivo));
+        assertTrue(Files.exists(dir.resolve("emails.log.1")));
+        assertTrue(Files.exists(dir.resolve("emails.log.2")));
+        assertFalse(Files.exists(dir.resolve("emails.log.3")));
+        assertTrue(Files.size(arquivo) <= 250);
+    }
+}
@@ -0,0 +1,218 @@
+package com.viasoft.emailservice.sink;
+
+import com.sun.net.httpserver.HttpServer;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.EmailBatchDeliveryException;
+import com.viasoft.emailservice.exception.EmailDeliveryException;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para HttpEmailSink.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class HttpEmailSinkTest {
+
+    private final List<String> recebidos = new CopyOnWriteArrayList<>();
+    private final AtomicInteger status = new AtomicInteger(202);
+
+    private HttpServer server;
+    private HttpEmailSink sink;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/emails", exchange -> {
+            String corpo = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            recebidos.add(exchange.getRequestHeaders().getFirst(HttpEmailSink.PROVIDER_HEADER) + " " + corpo);
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        sink = new HttpEmailSink(
+                URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/emails"),
+                Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("writeBatch - Deve enviar cada email ao provedor com o JSON e o cabeçalho do provedor")
+    void writeBatch_ComEmails_DeveEnviarCadaEmail() {
+        // When
+        sink.writeBatch(List.of(
+                new EmailPayload(EmailProvider.AWS, "{\"id\":1}".getBytes(StandardCharsets.UTF_8)),
+                new EmailPayload(EmailProvider.OCI, "{\"id\":2}".getBytes(StandardCharsets.UTF_8))));
+
+        // Then
+        assertEquals(2, recebidos.size());
+        assertTrue(recebidos.contains("AWS {\"id\":1}"));
+        assertTrue(recebidos.contains("OCI {\"id\":2}"));
+    }
+
+    @Test
+    @DisplayName("write - Deve lançar EmailProcessingException quando o provedor recusa o email")
+    void write_ComRecusaDoProvedor_DeveLancarEmailProcessingException() {
+        // Given
+        status.set(503);
+
+        // When & Then
+        EmailProcessingException exception = assertThrows(EmailProcessingException.class,
+                () -> sink.write(new EmailPayload(EmailProvider.AWS, "{}".getBytes(StandardCharsets.UTF_8))));
+        assertTrue(exception.getMessage().contains("503"));
+    }
+
+    @Test
+    @DisplayName("writeBatch - Deve enviar cada email à API do seu provedor")
+    void writeBatch_ComEnderecoPorProvedor_DeveEnviarAoProvedor() throws Exception {
+        // Given
+        try (ProviderStandInServer ses = ProviderStandInServer.ses();
+             ProviderStandInServer oci = ProviderStandInServer.ociEmailDelivery();
+             HttpEmailSink providers = providerSink(ses, oci, Duration.ofSeconds(5), 16)) {
+
+            // When
+            providers.writeBatch(List.of(awsPayload(), ociPayload(), awsPayload()));
+
+            // Then
+            assertEquals(2, ses.getAccepted());
+            assertEquals(1, oci.getAccepted());
+            assertTrue(oci.getLastBody().contains("\"recipientEmail\""));
+        }
+    }
+
+    @Test
+    @DisplayName("writeBatch - Deve informar a falha de cada email sem falhar os entregues")
+    void writeBatch_ComUmProvedorLimitando_DeveInformarFalhaPorEmail() throws Exception {
+        // Given
+        try (ProviderStandInServer ses = ProviderStandInServer.ses();
+             ProviderStandInServer oci = ProviderStandInServer.ociEmailDelivery();
+             HttpEmailSink providers = providerSink(ses, oci, Duration.ofSeconds(5), 16)) {
+            ses.setThrottling(true);
+
+            // When
+            EmailBatchDeliveryException exception = assertThrows(EmailBatchDeliveryException.class,
+                    () -> providers.writeBatch(List.of(ociPayload(), awsPayload(), ociPayload())));
+
+            // Then
+            assertEquals(1, exception.getFailedCount());
+            assertNull(exception.getFailures().get(0));
+            assertInstanceOf(EmailDeliveryException.class, exception.getFailures().get(1));
+            assertNull(exception.getFailures().get(2));
+            assertEquals(2, oci.getAccepted());
+        }
+    }
+
+    @Test
+    @DisplayName("write - Deve lançar EmailDeliveryException com o provedor quando o envio é limitado")
+    void write_ComProvedorLimitandoEnvios_DeveLancarEmailDeliveryException() throws Exception {
+        // Given
+        try (ProviderStandInServer ses = ProviderStandInServer.ses();
+             ProviderStandInServer oci = ProviderStandInServer.ociEmailDelivery();
+             HttpEmailSink providers = providerSink(ses, oci, Duration.ofSeconds(5), 16)) {
+            ses.setThrottling(true);
+
+            // When
+            EmailDeliveryException exception = assertThrows(EmailDeliveryException.class,
+                    () -> providers.write(awsPayload()));
+
+            // Then
+            assertEquals(EmailProvider.AWS, exception.getProvider());
+            assertTrue(exception.getMessage().contains("429"));
+            assertEquals(0, ses.getAccepted());
+        }
+    }
+
+    @Test
+    @DisplayName("write - Deve lançar EmailDeliveryException quando o provedor não responde no prazo")
+    void write_ComProvedorLento_DeveLancarEmailDeliveryException() throws Exception {
+        // Given
+        try (ProviderStandInServer ses = ProviderStandInServer.ses();
+             ProviderStandInServer oci = ProviderStandInServer.ociEmailDelivery();
+             HttpEmailSink providers = providerSink(ses, oci, Duration.ofMillis(200), 16)) {
+            oci.setLatency(Duration.ofSeconds(2));
+
+            // When
+            EmailDeliveryException exception = assertThrows(EmailDeliveryException.class,
+                    () -> providers.write(ociPayload()));
+
+            // Then
+            assertEquals(EmailProvider.OCI, exception.getProvider());
+            assertEquals("Tempo de resposta do provedor esgotado", exception.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("writeAsync - Deve limitar os envios em andamento por provedor")
+    void writeAsync_ComMuitosEnvios_DeveLimitarEnviosEmAndamento() throws Exception {
+        // Given
+        try (ProviderStandInServer ses = ProviderStandInServer.ses();
+             ProviderStandInServer oci = ProviderStandInServer.ociEmailDelivery();
+             HttpEmailSink providers = providerSink(ses, oci, Duration.ofSeconds(5), 4)) {
+            ses.setLatency(Duration.ofMillis(50));
+            List<CompletableFuture<Void>> envios = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 20; i++) {
+                envios.add(providers.writeAsync(awsPayload()));
+            }
+            CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new)).join();
+
+            // Then
+            assertEquals(20, ses.getAccepted());
+            assertTrue(ses.getMaxActive() <= 4, "Pico de " + ses.getMaxActive() + " envios");
+        }
+    }
+
+    @Test
+    @DisplayName("HttpEmailSink - Deve rejeitar a falta do endereço de um provedor")
+    void construtor_SemEnderecoDoProvedor_DeveLancarExcecao() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new HttpEmailSink(
+                Map.of(EmailProvider.AWS, URI.create("http://127.0.0.1/emails")),
+                HttpClient.Version.HTTP_2, Duration.ofSeconds(1), Duration.ofSeconds(1), 16, 1));
+    }
+
+    private static HttpEmailSink providerSink(final ProviderStandInServer ses,
+                                              final ProviderStandInServer oci,
+                                              final Duration timeout,
+                                              final int maxInFlight) {
+        return new HttpEmailSink(Map.of(EmailProvider.AWS, ses.uri(), EmailProvider.OCI, oci.uri()),
+                HttpClient.Version.HTTP_2, Duration.ofSeconds(1), timeout, maxInFlight, 2);
+    }
+
+    private static EmailPayload awsPayload() {
+        return new EmailPayload(EmailProvider.AWS, ("{\"recipient\":\"destinatario@teste.com\","
+                + "\"recipientName\":\"João Silva\",\"sender\":\"remetente@teste.com\","
+                + "\"subject\":\"Assunto\",\"content\":\"Conteúdo\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static EmailPayload ociPayload() {
+        return new EmailPayload(EmailProvider.OCI, ("{\"recipientEmail\":\"destinatario@teste.com\","
+                + "\"recipientName\":\"João Silva\",\"senderEmail\":\"remetente@teste.com\","
+                + "\"subject\":\"Assunto\",\"body\":\"Conteúdo\"}").getBytes(StandardCharsets.UTF_8));
+    }
+}
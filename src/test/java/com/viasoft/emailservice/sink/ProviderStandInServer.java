@@ -0,0 +1,310 @@
+package com.viasoft.emailservice.sink;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor local que imita a API de envio de um provedor, para testes e
+ * medições sem acesso à rede. {@link #ses()} responde como o
+ * {@code SendEmail} do Amazon SES v2 e {@link #ociEmailDelivery()} como
+ * o {@code SubmitEmail} do OCI Email Delivery: mesmo caminho, mesmo
+ * formato de resposta e de erro, e recusa do corpo sem os campos do
+ * DTO adaptado do provedor. A latência de cada resposta e a recusa por
+ * excesso de envios podem ser ajustadas durante o uso.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+final class ProviderStandInServer implements AutoCloseable {
+
+    /**
+     * Caminho do SendEmail do Amazon SES v2.
+     */
+    static final String SES_PATH = "/v2/email/outbound-emails";
+
+    /**
+     * Caminho do SubmitEmail do OCI Email Delivery.
+     */
+    static final String OCI_PATH = "/20220926/actions/submitEmail";
+
+    static {
+        // Sem TCP_NODELAY, cabeçalhos e corpo da resposta em escritas
+        // separadas esperam o ACK atrasado do cliente, cerca de 40 ms.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    /**
+     * Servidor HTTP embutido.
+     */
+    private final HttpServer server;
+
+    /**
+     * Threads que atendem as requisições.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Caminho atendido.
+     */
+    private final String path;
+
+    /**
+     * Indica se imita o Amazon SES; caso contrário, o OCI.
+     */
+    private final boolean ses;
+
+    /**
+     * Campos exigidos no corpo, conforme o DTO do provedor.
+     */
+    private final List<String> requiredFields;
+
+    /**
+     * Emails aceitos.
+     */
+    private final AtomicLong accepted = new AtomicLong();
+
+    /**
+     * Requisições em atendimento.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Maior quantidade de requisições atendidas ao mesmo tempo.
+     */
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    /**
+     * Latência de cada resposta.
+     */
+    private volatile Duration latency = Duration.ZERO;
+
+    /**
+     * Indica se os envios são recusados por excesso.
+     */
+    private volatile boolean throttling;
+
+    /**
+     * Último corpo recebido.
+     */
+    private volatile String lastBody;
+
+    /**
+     * Cria e inicia o servidor em uma porta livre.
+     *
+     * @param pathParam caminho atendido
+     * @param sesParam true para imitar o Amazon SES
+     * @param requiredFieldsParam campos exigidos no corpo
+     * @throws IOException se o servidor não puder ser iniciado
+     */
+    private ProviderStandInServer(final String pathParam,
+                                  final boolean sesParam,
+                                  final List<String> requiredFieldsParam)
+            throws IOException {
+        this.path = pathParam;
+        this.ses = sesParam;
+        this.requiredFields = requiredFieldsParam;
+        this.server = HttpServer.create(
+                new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.executor = Executors.newFixedThreadPool(64);
+        server.setExecutor(executor);
+        server.createContext(pathParam, this::handle);
+        server.start();
+    }
+
+    /**
+     * Inicia um servidor que imita o Amazon SES v2.
+     *
+     * @return servidor iniciado
+     * @throws IOException se o servidor não puder ser iniciado
+     */
+    static ProviderStandInServer ses() throws IOException {
+        return new ProviderStandInServer(SES_PATH, true,
+                List.of("recipient", "sender", "subject", "content"));
+    }
+
+    /**
+     * Inicia um servidor que imita o OCI Email Delivery.
+     *
+     * @return servidor iniciado
+     * @throws IOException se o servidor não puder ser iniciado
+     */
+    static ProviderStandInServer ociEmailDelivery() throws IOException {
+        return new ProviderStandInServer(OCI_PATH, false,
+                List.of("recipientEmail", "senderEmail", "subject", "body"));
+    }
+
+    /**
+     * Obtém o endereço da API imitada.
+     *
+     * @return endereço do caminho de envio
+     */
+    URI uri() {
+        return URI.create("http://127.0.0.1:"
+                + server.getAddress().getPort() + path);
+    }
+
+    /**
+     * Define a latência de cada resposta.
+     *
+     * @param latencyParam latência
+     */
+    void setLatency(final Duration latencyParam) {
+        this.latency = latencyParam;
+    }
+
+    /**
+     * Liga ou desliga a recusa dos envios por excesso.
+     *
+     * @param throttlingParam true para recusar os envios
+     */
+    void setThrottling(final boolean throttlingParam) {
+        this.throttling = throttlingParam;
+    }
+
+    /**
+     * Obtém a quantidade de emails aceitos.
+     *
+     * @return emails aceitos
+     */
+    long getAccepted() {
+        return accepted.get();
+    }
+
+    /**
+     * Obtém a maior quantidade de requisições atendidas ao mesmo tempo.
+     *
+     * @return pico de requisições simultâneas
+     */
+    int getMaxActive() {
+        return maxActive.get();
+    }
+
+    /**
+     * Obtém o último corpo recebido.
+     *
+     * @return corpo da requisição
+     */
+    String getLastBody() {
+        return lastBody;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Atende uma requisição de envio.
+     *
+     * @param exchange requisição e resposta
+     * @throws IOException se a resposta não puder ser escrita
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8);
+            lastBody = body;
+            sleep();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, error("MethodNotAllowed",
+                        "Método não suportado"));
+            } else if (throttling) {
+                respond(exchange, 429, error(ses
+                        ? "TooManyRequestsException" : "TooManyRequests",
+                        "Maximum sending rate exceeded."));
+            } else if (!hasRequiredFields(body)) {
+                respond(exchange, 400, error(ses
+                        ? "BadRequestException" : "InvalidParameter",
+                        "Campos obrigatórios ausentes: " + requiredFields));
+            } else {
+                accepted.incrementAndGet();
+                String messageId = UUID.randomUUID().toString();
+                respond(exchange, 200, ses
+                        ? "{\"MessageId\":\"" + messageId + "\"}"
+                        : "{\"messageId\":\"" + messageId
+                                + "\",\"envelopeId\":\""
+                                + UUID.randomUUID() + "\"}");
+            }
+        } finally {
+            active.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    /**
+     * Verifica se o corpo traz os campos do DTO do provedor.
+     *
+     * @param body corpo da requisição
+     * @return true se todos os campos estão presentes
+     */
+    private boolean hasRequiredFields(final String body) {
+        return requiredFields.stream()
+                .allMatch(field -> body.contains("\"" + field + "\""));
+    }
+
+    /**
+     * Monta o corpo de erro no formato do provedor.
+     *
+     * @param code código do erro
+     * @param message mensagem do erro
+     * @return corpo JSON
+     */
+    private String error(final String code, final String message) {
+        return ses
+                ? "{\"__type\":\"" + code + "\",\"message\":\"" + message
+                        + "\"}"
+                : "{\"code\":\"" + code + "\",\"message\":\"" + message
+                        + "\"}";
+    }
+
+    /**
+     * Escreve a resposta com os cabeçalhos de rastreio do provedor.
+     *
+     * @param exchange requisição e resposta
+     * @param status código de status
+     * @param body corpo JSON
+     * @throws IOException se a resposta não puder ser escrita
+     */
+    private void respond(final HttpExchange exchange, final int status,
+                         final String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add(ses ? "x-amzn-RequestId"
+                : "opc-request-id", UUID.randomUUID().toString());
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Aguarda a latência configurada.
+     */
+    private void sleep() {
+        Duration current = latency;
+        if (current.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(current.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.viasoft.emailservice.util;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.viasoft.emailservice.enums.JsonOutputFormat;
 import com.viasoft.emailservice.exception.EmailProcessingException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class JsonSerializerTest {
@@ -22,16 +29,81 @@ class JsonSerializerTest {
     }
 
     @Test
-    @DisplayName("serialize deve serializar objeto corretamente")
-    void serialize_deveSerializarObjetoComIndentacao() {
+    @DisplayName("serialize deve serializar objeto de forma compacta por padrão")
+    void serialize_deveSerializarObjetoSemIndentacaoPorPadrao() {
         JsonSerializer serializer = new JsonSerializer();
         Dummy dummy = new Dummy("teste", 123);
 
         String json = serializer.serialize(dummy);
 
+        assertEquals("{\"name\":\"teste\",\"value\":123}", json);
+    }
+
+    @Test
+    @DisplayName("serializePretty deve serializar objeto com indentação")
+    void serializePretty_deveSerializarObjetoComIndentacao() {
+        JsonSerializer serializer = new JsonSerializer();
+        Dummy dummy = new Dummy("teste", 123);
+
+        String json = serializer.serializePretty(dummy);
+
         assertTrue(json.contains("\"name\""));
         assertTrue(json.contains("\"value\""));
         assertTrue(json.contains("\n")); // Deve estar indentado
+        assertEquals(json, serializer.serialize(dummy, JsonOutputFormat.PRETTY));
+    }
+
+    @Test
+    @DisplayName("serializeToBytes deve produzir o mesmo JSON em UTF-8 em cada formato")
+    void serializeToBytes_deveProduzirOJsonEmUtf8() {
+        JsonSerializer serializer = new JsonSerializer();
+        Dummy dummy = new Dummy("acentuação", 7);
+
+        for (JsonOutputFormat format : JsonOutputFormat.values()) {
+            byte[] json = serializer.serializeToBytes(dummy, format);
+
+            assertEquals(serializer.serialize(dummy, format),
+                    new String(json, StandardCharsets.UTF_8));
+        }
+        assertArrayEquals(serializer.serializeToBytes(dummy, JsonOutputFormat.COMPACT),
+                serializer.serializeToBytes(dummy));
+    }
+
+    @Test
+    @DisplayName("serialize deve escrever em OutputStream sem fechá-lo e em ByteBuffer")
+    void serialize_comSaida_deveEscreverOJsonSemFecharASaida() throws Exception {
+        JsonSerializer serializer = new JsonSerializer();
+        Dummy dummy = new Dummy("saida", 1);
+        byte[] expected = serializer.serializeToBytes(dummy);
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("A saída não deve ser fechada");
+            }
+        };
+        ByteBuffer target = ByteBuffer.allocate(256);
+        target.put((byte) ' ');
+
+        serializer.serialize(dummy, JsonOutputFormat.COMPACT, out);
+        serializer.serialize(dummy, JsonOutputFormat.COMPACT, out);
+        int written = serializer.serialize(dummy, JsonOutputFormat.COMPACT, target);
+
+        assertEquals(new String(expected, StandardCharsets.UTF_8).repeat(2),
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(expected.length, written);
+        assertEquals(1 + expected.length, target.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(target.array(), 1, target.position()));
+    }
+
+    @Test
+    @DisplayName("serialize deve preservar a posição do ByteBuffer sem espaço suficiente")
+    void serialize_comByteBufferPequeno_deveLancarBufferOverflowException() {
+        JsonSerializer serializer = new JsonSerializer();
+        ByteBuffer target = ByteBuffer.allocate(8);
+
+        assertThrows(BufferOverflowException.class,
+                () -> serializer.serialize(new Dummy("grande", 1), JsonOutputFormat.COMPACT, target));
+        assertEquals(0, target.position());
     }
 
     @Test
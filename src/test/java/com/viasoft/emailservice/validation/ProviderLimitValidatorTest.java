@@ -0,0 +1,168 @@
+package com.viasoft.emailservice.validation;
+
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailField;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.exception.ProviderLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.viasoft.emailservice.dto.EmailRequestFixture.emailRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProviderLimitValidator.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+class ProviderLimitValidatorTest {
+
+    private final ProviderLimitValidator validator = ProviderLimitValidator.defaults();
+
+    @Test
+    @DisplayName("fittingProviders - Deve indicar em uma passagem os provedores que comportam o email")
+    void fittingProviders_ComAssuntoEntreOsLimites_DeveIndicarSomenteAws() {
+        // Given
+        EmailRequestDTO request = emailRequest("a".repeat(110));
+
+        // When
+        int fitting = validator.fittingProviders(request);
+
+        // Then
+        assertTrue(ProviderLimitValidator.includes(fitting, EmailProvider.AWS));
+        assertFalse(ProviderLimitValidator.includes(fitting, EmailProvider.OCI));
+        assertTrue(validator.fits(request, EmailProvider.AWS));
+        assertFalse(validator.fits(request, EmailProvider.OCI));
+        assertEquals(0, validator.fittingProviders(emailRequest("a".repeat(121))));
+        assertEquals(0, validator.fittingProviders(null));
+    }
+
+    @Test
+    @DisplayName("check - Deve lançar ProviderLimitExceededException com todos os campos excedidos")
+    void check_ComCamposExcedidos_DeveReportarTodosOsCampos() {
+        // Given
+        EmailRequestDTO request = emailRequest("a".repeat(101));
+        request.setNomeDestinatario("n".repeat(51));
+
+        // When
+        ProviderLimitExceededException exception = assertThrows(ProviderLimitExceededException.class,
+                () -> validator.check(request, EmailProvider.OCI));
+
+        // Then
+        assertEquals(EmailProvider.OCI, exception.getProvider());
+        assertEquals("Nome do destinatário excede o limite de 50 caracteres para OCI; "
+                + "Assunto excede o limite de 100 caracteres para OCI", exception.getMessage());
+        assertEquals(List.of(EmailField.NOME_DESTINATARIO, EmailField.ASSUNTO),
+                exception.getResult().getFields());
+        assertDoesNotThrow(() -> validator.check(request, EmailProvider.AWS));
+    }
+
+    @Test
+    @DisplayName("validate - Deve devolver o mesmo resultado pré-alocado para a mesma combinação de campos")
+    void validate_ComMesmosCamposExcedidos_DeveReutilizarResultado() {
+        // Given
+        EmailRequestDTO first = emailRequest("a".repeat(101));
+        EmailRequestDTO second = emailRequest("b".repeat(500));
+
+        // When
+        ValidationResult result = validator.validate(first, EmailProvider.OCI);
+
+        // Then
+        assertSame(result, validator.validate(second, EmailProvider.OCI));
+        assertFalse(result.isValid());
+        assertTrue(result.violates(EmailField.ASSUNTO));
+        assertFalse(result.violates(EmailField.CONTEUDO));
+        assertEquals(Map.of("assunto", "Assunto excede o limite de 100 caracteres para OCI"),
+                result.getErrors());
+        ValidationResult valid = validator.validate(first, EmailProvider.AWS);
+        assertTrue(valid.isValid());
+        assertTrue(valid.getErrors().isEmpty());
+        assertSame(valid, validator.validate(emailRequest("Assunto"), EmailProvider.AWS));
+    }
+
+    @Test
+    @DisplayName("validate - Deve marcar cada campo excedido no bit do seu ordinal em EmailField")
+    void validate_ComUmCampoExcedido_DeveMarcarSomenteOCampo() {
+        for (EmailField field : EmailField.values()) {
+            // Given
+            EmailRequestDTO request = emailRequest("Assunto");
+            String value = "a".repeat(validator.maxLength(field, EmailProvider.OCI) + 1);
+            switch (field) {
+                case EMAIL_DESTINATARIO -> request.setEmailDestinatario(value);
+                case NOME_DESTINATARIO -> request.setNomeDestinatario(value);
+                case EMAIL_REMETENTE -> request.setEmailRemetente(value);
+                case ASSUNTO -> request.setAssunto(value);
+                case CONTEUDO -> request.setConteudo(value);
+            }
+
+            // When
+            ValidationResult result = validator.validate(request, EmailProvider.OCI);
+
+            // Then
+            assertEquals(List.of(field), result.getFields(), field.name());
+            assertSame(validator.result(EmailProvider.OCI, 1 << field.ordinal()), result, field.name());
+        }
+    }
+
+    @Test
+    @DisplayName("fittingProviders - Deve indicar todos os provedores para o email que cabe no menor limite")
+    void fittingProviders_ComEmailDentroDoPiso_DeveIndicarTodos() {
+        // Given
+        EmailRequestDTO request = emailRequest("a".repeat(100));
+
+        // When
+        int fitting = validator.fittingProviders(request);
+
+        // Then
+        assertEquals(ProviderLimits.OCI_MAX_SUBJECT_LENGTH, validator.floor().assunto());
+        for (EmailProvider provider : EmailProvider.values()) {
+            assertTrue(ProviderLimitValidator.includes(fitting, provider));
+        }
+    }
+
+    @Test
+    @DisplayName("ProviderLimitValidator - Deve rejeitar piso diferente do menor limite das linhas")
+    void construtor_ComPisoDivergente_DeveLancarExcecao() {
+        // Given
+        ProviderLimitValidator.Floor floor = new ProviderLimitValidator.Floor(
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE,
+                Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProviderLimitValidator(validator.rows(), floor));
+    }
+
+    @Test
+    @DisplayName("ProviderLimitValidator - Deve aceitar qualquer tamanho nos campos e provedores sem limite")
+    void construtor_ComLimitesParciais_DeveIgnorarCamposSemLimite() {
+        // Given
+        ProviderLimitValidator partial = ProviderLimitValidator.compile(List.of(
+                new ProviderLimits(EmailProvider.OCI, Map.of(EmailField.ASSUNTO, 10))));
+        EmailRequestDTO request = emailRequest("a".repeat(11));
+        request.setConteudo("c".repeat(10_000));
+
+        // When
+        int fitting = partial.fittingProviders(request);
+
+        // Then
+        assertTrue(ProviderLimitValidator.includes(fitting, EmailProvider.AWS));
+        assertFalse(ProviderLimitValidator.includes(fitting, EmailProvider.OCI));
+        assertEquals(Integer.MAX_VALUE, partial.maxLength(EmailField.CONTEUDO, EmailProvider.OCI));
+        assertEquals(ProviderLimits.AWS_MAX_SUBJECT_LENGTH,
+                validator.maxLength(EmailField.ASSUNTO, EmailProvider.AWS));
+    }
+
+    @Test
+    @DisplayName("ProviderLimitValidator - Deve rejeitar limites repetidos para o mesmo provedor")
+    void construtor_ComProvedorRepetido_DeveLancarExcecao() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ProviderLimitValidator.compile(List.of(
+                ProviderLimits.of(EmailProvider.AWS), ProviderLimits.of(EmailProvider.AWS))));
+    }
+}
@@ -0,0 +1,197 @@
+package com.viasoft.emailservice.reactive;
+
+import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.controller.EmailController;
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.enums.EmailProvider;
+import com.viasoft.emailservice.enums.EmailJobStatus;
+import com.viasoft.emailservice.exception.EmailProcessingException;
+import com.viasoft.emailservice.exception.handler.GlobalExceptionHandler;
+import com.viasoft.emailservice.exception.handler.ValidationResponseFactory;
+import com.viasoft.emailservice.service.EmailJobService;
+import com.viasoft.emailservice.service.EmailService;
+import com.viasoft.emailservice.service.IdempotencyService;
+import com.viasoft.emailservice.service.IdempotentResult;
+import com.viasoft.emailservice.validation.ProviderLimitValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ReactiveEmailController.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@WebFluxTest(ReactiveEmailController.class)
+@Import({ReactiveExceptionHandler.class, GlobalExceptionHandler.class,
+        ValidationResponseFactory.class})
+class ReactiveEmailControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private EmailJobService emailJobService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private EmailConfig emailConfig;
+
+    private EmailRequestDTO validEmailRequest;
+
+    @BeforeEach
+    void setUp() {
+        validEmailRequest = new EmailRequestDTO(
+                "destinatario@teste.com",
+                "João Silva",
+                "remetente@teste.com",
+                "Assunto de Teste",
+                "Conteúdo do email de teste"
+        );
+        when(emailConfig.getBatchMaxSize()).thenReturn(10);
+        when(emailService.submitItem(anyInt(), any(EmailRequestDTO.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        BatchItemResultDTO.aceito(invocation.getArgument(0))));
+        when(emailService.tryProcessEmail(any(EmailRequestDTO.class)))
+                .thenReturn(ProviderLimitValidator.defaults().validate(validEmailRequest, EmailProvider.AWS));
+    }
+
+    @Test
+    @DisplayName("Enviar email com dados válidos deve retornar 204 No Content")
+    void sendEmail_ComDadosValidos_DeveRetornar204() {
+        webTestClient.post().uri("/emails/send")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validEmailRequest)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(emailService, times(1)).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email que excede os limites do provedor deve retornar 400 com todos os campos excedidos")
+    void sendEmail_ComLimitesExcedidos_DeveRetornar400ComCampos() {
+        EmailRequestDTO excedeLimites = new EmailRequestDTO(
+                "destinatario@teste.com",
+                "João Silva",
+                "remetente@teste.com",
+                "a".repeat(121),
+                "c".repeat(257)
+        );
+        when(emailService.tryProcessEmail(any(EmailRequestDTO.class)))
+                .thenReturn(ProviderLimitValidator.defaults().validate(excedeLimites, EmailProvider.AWS));
+
+        webTestClient.post().uri("/emails/send")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validEmailRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Dados inválidos")
+                .jsonPath("$.errors.assunto").isEqualTo("Assunto excede o limite de 120 caracteres para AWS")
+                .jsonPath("$.errors.conteudo").isEqualTo("Conteúdo excede o limite de 256 caracteres para AWS");
+    }
+
+    @Test
+    @DisplayName("Enviar email agendado com Idempotency-Key repetida deve retornar o mesmo job")
+    void sendEmail_AgendadoComChaveRepetida_DeveRetornarMesmoJob() {
+        validEmailRequest.setEnviarEm(OffsetDateTime.now().plusHours(1));
+        EmailJobDTO job = new EmailJobDTO("job-1", EmailJobStatus.AGENDADO, null, LocalDateTime.now());
+        when(idempotencyService.submitJob(eq("chave-1"), any(EmailRequestDTO.class)))
+                .thenReturn(new IdempotentResult<>(job, true));
+
+        webTestClient.post().uri("/emails/send")
+                .header(EmailController.IDEMPOTENCY_KEY_HEADER, "chave-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validEmailRequest)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().valueEquals(EmailController.IDEMPOTENT_REPLAYED_HEADER, "true")
+                .expectBody().jsonPath("$.id").isEqualTo("job-1");
+
+        verify(emailJobService, never()).submit(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Enviar email inválido deve retornar 400 com o mesmo formato da variante servlet")
+    void sendEmail_ComEmailInvalido_DeveRetornar400() {
+        validEmailRequest.setEmailDestinatario("email-invalido");
+
+        webTestClient.post().uri("/emails/send")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validEmailRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors.emailDestinatario").exists();
+
+        verify(emailService, never()).tryProcessEmail(any(EmailRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Erro de processamento deve retornar 500 pelo GlobalExceptionHandler")
+    void sendEmail_ComErroDeProcessamento_DeveRetornar500() {
+        doThrow(new EmailProcessingException("Erro de processamento"))
+                .when(emailService).tryProcessEmail(any(EmailRequestDTO.class));
+
+        webTestClient.post().uri("/emails/send")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validEmailRequest)
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody().jsonPath("$.error").isEqualTo("Erro no processamento do email");
+    }
+
+    @Test
+    @DisplayName("Enviar lote deve retornar o resultado de cada item")
+    void sendBatch_DeveRetornarResultadoPorItem() {
+        webTestClient.post().uri("/emails/send/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(validEmailRequest, validEmailRequest))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.resultados[1].indice").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Enviar fluxo NDJSON deve emitir uma linha de resultado por item")
+    void sendStream_DeveEmitirUmResultadoPorItem() {
+        webTestClient.post().uri("/emails/send/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"emailDestinatario\":\"a@teste.com\"}\n"
+                        + "{\"emailDestinatario\":\"b@teste.com\"}\n")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BatchItemResultDTO.class)
+                .hasSize(2);
+
+        verify(emailService, times(2)).submitItem(anyInt(), any(EmailRequestDTO.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.viasoft.emailservice.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.dto.ErrorResponseDTO;
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Filtro de admissão reativo das requisições de envio de email.
+ * Equivalente ao {@code ConcurrencyLimitFilter} da variante servlet:
+ * recusa com 503 antes da leitura do corpo quando o limite adaptativo
+ * é atingido, e informa a latência das respostas 2xx ao limitador.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+public class ReactiveConcurrencyLimitFilter implements WebFilter {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReactiveConcurrencyLimitFilter.class);
+
+    /**
+     * Rota de envio síncrono protegida pelo limite de concorrência.
+     */
+    private static final String SEND_PATH = "/emails/send";
+
+    /**
+     * Segundos sugeridos ao cliente antes de uma nova tentativa.
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Serviço de limite adaptativo de concorrência.
+     */
+    private final ConcurrencyLimiterService limiter;
+
+    /**
+     * Mapper usado para escrever o corpo da resposta de erro.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construtor com injeção de dependências.
+     *
+     * @param limiterParam serviço de limite de concorrência
+     * @param objectMapperParam mapper JSON da aplicação
+     */
+    public ReactiveConcurrencyLimitFilter(
+            final ConcurrencyLimiterService limiterParam,
+            final ObjectMapper objectMapperParam) {
+        this.limiter = limiterParam;
+        this.objectMapper = objectMapperParam;
+    }
+
+    /**
+     * Admite ou recusa a requisição de envio conforme o limite atual.
+     *
+     * @param exchange troca HTTP atual
+     * @param chain cadeia de filtros
+     * @return conclusão do processamento
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange,
+                             final WebFilterChain chain) {
+        if (!HttpMethod.POST.equals(exchange.getRequest().getMethod())
+                || !SEND_PATH.equals(exchange.getRequest().getPath()
+                .pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        if (!limiter.tryAcquire()) {
+            return reject(exchange.getResponse());
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status =
+                            exchange.getResponse().getStatusCode();
+                    limiter.release(System.nanoTime() - start,
+                            status != null && status.is2xxSuccessful());
+                });
+    }
+
+    /**
+     * Escreve a resposta 503 de requisição recusada.
+     *
+     * @param response resposta HTTP
+     * @return conclusão da escrita
+     */
+    private Mono<Void> reject(final ServerHttpResponse response) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Requisição recusada: limite de {} requisições "
+                    + "simultâneas atingido", limiter.getLimit());
+        }
+
+        ErrorResponseDTO body = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço indisponível",
+                "Limite de requisições simultâneas atingido"
+        );
+
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                RETRY_AFTER_SECONDS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            DataBuffer buffer = response.bufferFactory()
+                    .wrap(objectMapper.writeValueAsBytes(body));
+            return response.writeWith(Mono.just(buffer));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.viasoft.emailservice.reactive;
+
+import com.viasoft.emailservice.config.EmailConfig;
+import com.viasoft.emailservice.controller.EmailController;
+import com.viasoft.emailservice.dto.BatchItemResultDTO;
+import com.viasoft.emailservice.dto.BatchResponseDTO;
+import com.viasoft.emailservice.dto.EmailJobDTO;
+import com.viasoft.emailservice.dto.EmailRequestDTO;
+import com.viasoft.emailservice.exception.InvalidEmailDataException;
+import com.viasoft.emailservice.exception.handler.ValidationResponseFactory;
+import com.viasoft.emailservice.service.EmailJobService;
+import com.viasoft.emailservice.service.EmailService;
+import com.viasoft.emailservice.service.IdempotencyService;
+import com.viasoft.emailservice.validation.ValidationResult;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Controller REST reativo para operações de email.
+ * Expõe o mesmo contrato de {@code /emails} da variante servlet sobre
+ * Spring WebFlux/Netty. Os itens de lotes e fluxos NDJSON são submetidos
+ * ao pipeline de processamento com {@code flatMapSequential}, limitado
+ * a {@value #MAX_IN_FLIGHT} itens em andamento, e os resultados são
+ * emitidos na ordem de leitura; o corpo é lido sob demanda, propagando
+ * a contrapressão até o cliente.
+ * O envio individual, que aguarda o pipeline, é executado no scheduler
+ * {@link Schedulers#boundedElastic()}, liberando as threads de evento
+ * do Netty.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/emails")
+@Tag(name = "Email", description = "API para processamento de emails")
+public class ReactiveEmailController {
+
+    /**
+     * Tipo de mídia NDJSON (um documento JSON por linha).
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * Logger para registrar eventos e operações da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReactiveEmailController.class);
+
+    /**
+     * Chave de erro usada quando um registro não pode ser lido.
+     */
+    private static final String ERRO_JSON = "json";
+
+    /**
+     * Quantidade máxima de itens em processamento ao mesmo tempo.
+     */
+    private static final int MAX_IN_FLIGHT = 64;
+
+    /**
+     * Serviço responsável pelo processamento de emails.
+     */
+    private final EmailService emailService;
+
+    /**
+     * Serviço responsável pelo processamento assíncrono de emails.
+     */
+    private final EmailJobService emailJobService;
+
+    /**
+     * Serviço responsável pelo envio idempotente de emails.
+     */
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * Configuração de email, usada para o limite de itens por lote.
+     */
+    private final EmailConfig emailConfig;
+
+    /**
+     * Fábrica das respostas de erro dos emails recusados.
+     */
+    private final ValidationResponseFactory validationResponses;
+
+    /**
+     * Scheduler onde o processamento bloqueante é executado.
+     */
+    private final Scheduler processingScheduler;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param emailServiceParam serviço de email
+     * @param emailJobServiceParam serviço de processamento assíncrono
+     * @param idempotencyServiceParam serviço de envio idempotente
+     * @param emailConfigParam configuração de email
+     * @param validationResponsesParam fábrica das respostas de erro
+     */
+    @Autowired
+    public ReactiveEmailController(
+            final EmailService emailServiceParam,
+            final EmailJobService emailJobServiceParam,
+            final IdempotencyService idempotencyServiceParam,
+            final EmailConfig emailConfigParam,
+            final ValidationResponseFactory validationResponsesParam) {
+        this.emailService = emailServiceParam;
+        this.emailJobService = emailJobServiceParam;
+        this.idempotencyService = idempotencyServiceParam;
+        this.emailConfig = emailConfigParam;
+        this.validationResponses = validationResponsesParam;
+        this.processingScheduler = Schedulers.boundedElastic();
+    }
+
+    /**
+     * Endpoint para processamento de email.
+     * Com o cabeçalho {@code Idempotency-Key}, uma nova tentativa com a
+     * mesma chave reaproveita o resultado do primeiro envio.
+     * Com data de envio ({@code enviarEm}), o email segue o fluxo
+     * assíncrono e é aceito como job; com a chave de idempotência, uma
+     * nova tentativa recebe o mesmo job em vez de agendar outro email.
+     * Um email que excede os limites do provedor é recusado sem
+     * exceção, com os erros de todos os campos excedidos, como na
+     * variante servlet.
+     *
+     * @param idempotencyKey chave de idempotência opcional
+     * @param emailRequest dados do email a ser processado
+     * @param uriBuilder construtor de URI relativo à requisição
+     * @return resposta HTTP 204 (No Content) em caso de sucesso, 202
+     *         (Accepted) com o job criado para emails agendados, ou 400
+     *         (Bad Request) com os campos que excedem os limites
+     */
+    @PostMapping("/send")
+    public Mono<ResponseEntity<?>> sendEmail(
+            @RequestHeader(value = EmailController.IDEMPOTENCY_KEY_HEADER,
+                    required = false) final String idempotencyKey,
+            @Valid @RequestBody final Mono<EmailRequestDTO> emailRequest,
+            final UriComponentsBuilder uriBuilder) {
+        return emailRequest.flatMap(request -> {
+            if (request.getEnviarEm() != null) {
+                return submitScheduled(idempotencyKey, request, uriBuilder)
+                        .<ResponseEntity<?>>map(response -> response);
+            }
+            return Mono.<ResponseEntity<?>>fromCallable(
+                            () -> process(idempotencyKey, request))
+                    .subscribeOn(processingScheduler);
+        });
+    }
+
+    /**
+     * Endpoint para processamento assíncrono de email.
+     *
+     * @param emailRequest dados do email a ser processado
+     * @param uriBuilder construtor de URI relativo à requisição
+     * @return resposta HTTP 202 (Accepted) com o job criado
+     */
+    @PostMapping("/send/async")
+    public Mono<ResponseEntity<EmailJobDTO>> sendEmailAsync(
+            @Valid @RequestBody final Mono<EmailRequestDTO> emailRequest,
+            final UriComponentsBuilder uriBuilder) {
+        return emailRequest
+                .flatMap(this::submit)
+                .map(job -> accepted(job, uriBuilder));
+    }
+
+    /**
+     * Endpoint para consulta da situação de um job assíncrono.
+     *
+     * @param id identificador do job
+     * @return resposta HTTP 200 com a situação do job
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmailJobDTO>> getJob(
+            @PathVariable final String id) {
+        return Mono.fromSupplier(
+                () -> ResponseEntity.ok(emailJobService.getJob(id)));
+    }
+
+    /**
+     * Endpoint para processamento de um lote de emails.
+     * Os itens são processados à medida que o array é decodificado.
+     *
+     * @param emailRequests itens do lote a serem processados
+     * @return resposta HTTP 200 com o resultado de cada item
+     */
+    @PostMapping("/send/batch")
+    public Mono<ResponseEntity<BatchResponseDTO>> sendBatch(
+            @RequestBody final Flux<EmailRequestDTO> emailRequests) {
+        int maxSize = emailConfig.getBatchMaxSize();
+        return emailRequests
+                .index()
+                .flatMapSequential(item -> {
+                    if (item.getT1() >= maxSize) {
+                        return Mono.error(new InvalidEmailDataException(
+                                "O lote excede o limite de " + maxSize
+                                        + " itens"));
+                    }
+                    return processItem(item.getT1().intValue(),
+                            item.getT2());
+                }, MAX_IN_FLIGHT)
+                .collectList()
+                .flatMap(resultados -> resultados.isEmpty()
+                        ? Mono.error(new InvalidEmailDataException(
+                                "O lote de emails não pode ser vazio"))
+                        : Mono.just(ResponseEntity.ok(
+                                new BatchResponseDTO(resultados))));
+    }
+
+    /**
+     * Endpoint para processamento de um fluxo NDJSON de emails.
+     * Cada resultado é emitido assim que o item correspondente termina.
+     * Um registro que não pode ser decodificado é reportado como
+     * rejeitado e encerra o fluxo.
+     *
+     * @param emailRequests fluxo de emails, um por linha
+     * @return fluxo NDJSON com o resultado de cada item
+     */
+    @PostMapping(value = "/send/stream",
+            consumes = APPLICATION_NDJSON,
+            produces = APPLICATION_NDJSON)
+    public Flux<BatchItemResultDTO> sendStream(
+            @RequestBody final Flux<EmailRequestDTO> emailRequests) {
+        int[] processed = new int[1];
+        return emailRequests
+                .index()
+                .flatMapSequential(item -> processItem(
+                        item.getT1().intValue(), item.getT2()),
+                        MAX_IN_FLIGHT)
+                .doOnNext(resultado -> processed[0]++)
+                .onErrorResume(DecodingException.class, e -> {
+                    LOGGER.warn("Fluxo NDJSON encerrado no item {}: {}",
+                            processed[0], e.getMessage());
+                    return Mono.just(BatchItemResultDTO.rejeitado(
+                            processed[0],
+                            Map.of(ERRO_JSON, String.valueOf(
+                                    e.getMessage()))));
+                });
+    }
+
+    /**
+     * Endpoint para verificação de saúde da API.
+     *
+     * @return status da aplicação
+     */
+    @GetMapping(value = "/health", produces = MediaType.TEXT_PLAIN_VALUE)
+    public Mono<String> health() {
+        return Mono.just("Email Service está funcionando!");
+    }
+
+    /**
+     * Enfileira um email no modo assíncrono, fora do event loop, pois o
+     * email é gravado em disco (diário ou agendamentos) antes de ser
+     * aceito.
+     *
+     * @param emailRequest dados do email
+     * @return job criado
+     */
+    private Mono<EmailJobDTO> submit(final EmailRequestDTO emailRequest) {
+        return Mono.fromCallable(() -> emailJobService.submit(emailRequest))
+                .subscribeOn(processingScheduler);
+    }
+
+    /**
+     * Aceita um email agendado como job, fora do event loop, de forma
+     * idempotente quando há chave: a repetição recebe o job aceito na
+     * primeira requisição.
+     *
+     * @param idempotencyKey chave de idempotência, ou null
+     * @param emailRequest dados do email
+     * @param uriBuilder construtor de URI relativo à requisição
+     * @return resposta HTTP 202 (Accepted) com o job
+     */
+    private Mono<ResponseEntity<EmailJobDTO>> submitScheduled(
+            final String idempotencyKey, final EmailRequestDTO emailRequest,
+            final UriComponentsBuilder uriBuilder) {
+        if (idempotencyKey == null) {
+            return submit(emailRequest).map(job -> accepted(job, uriBuilder));
+        }
+        return Mono.fromCallable(() -> idempotencyService.submitJob(
+                        idempotencyKey, emailRequest))
+                .subscribeOn(processingScheduler)
+                .map(result -> accepted(result.value(), result.replayed(),
+                        uriBuilder));
+    }
+
+    /**
+     * Monta a resposta de um job aceito, com o endereço de consulta.
+     *
+     * @param job job criado
+     * @param uriBuilder construtor de URI relativo à requisição
+     * @return resposta HTTP 202 (Accepted) com o job
+     */
+    private static ResponseEntity<EmailJobDTO> accepted(
+            final EmailJobDTO job, final UriComponentsBuilder uriBuilder) {
+        return accepted(job, false, uriBuilder);
+    }
+
+    /**
+     * Monta a resposta de um job aceito, com o endereço de consulta e,
+     * se o job foi reaproveitado pelo cache de idempotência, o cabeçalho
+     * que sinaliza a repetição.
+     *
+     * @param job job aceito
+     * @param replayed true se o job foi reaproveitado
+     * @param uriBuilder construtor de URI relativo à requisição
+     * @return resposta HTTP 202 (Accepted) com o job
+     */
+    private static ResponseEntity<EmailJobDTO> accepted(
+            final EmailJobDTO job, final boolean replayed,
+            final UriComponentsBuilder uriBuilder) {
+        URI location = uriBuilder.path("/emails/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.accepted().location(location);
+        if (replayed) {
+            response.header(EmailController.IDEMPOTENT_REPLAYED_HEADER,
+                    "true");
+        }
+        return response.body(job);
+    }
+
+    /**
+     * Monta a resposta de um email processado.
+     *
+     * @param replayed true se o resultado foi reaproveitado
+     * @return resposta HTTP 204 (No Content)
+     */
+    private static ResponseEntity<EmailJobDTO> noContent(
+            final boolean replayed) {
+        return replayed
+                ? ResponseEntity.noContent().header(
+                        EmailController.IDEMPOTENT_REPLAYED_HEADER,
+                        "true").<EmailJobDTO>build()
+                : ResponseEntity.noContent().<EmailJobDTO>build();
+    }
+
+    /**
+     * Processa um email, de forma idempotente quando há chave.
+     *
+     * @param idempotencyKey chave de idempotência, ou null
+     * @param emailRequest dados do email
+     * @return resposta HTTP 204 (No Content), ou 400 (Bad Request) com
+     *         os campos que excedem os limites do provedor
+     */
+    private ResponseEntity<?> process(final String idempotencyKey,
+                                      final EmailRequestDTO emailRequest) {
+        if (idempotencyKey != null) {
+            return noContent(idempotencyService.processEmail(idempotencyKey,
+                    emailRequest));
+        }
+        ValidationResult limits = emailService.tryProcessEmail(emailRequest);
+        return limits.isValid()
+                ? noContent(false)
+                : validationResponses.limitsExceeded(limits);
+    }
+
+    /**
+     * Submete um item ao pipeline de processamento.
+     *
+     * @param indice posição do item
+     * @param emailRequest dados do item
+     * @return resultado do item
+     */
+    private Mono<BatchItemResultDTO> processItem(
+            final int indice, final EmailRequestDTO emailRequest) {
+        return Mono.fromFuture(
+                () -> emailService.submitItem(indice, emailRequest));
+    }
+}
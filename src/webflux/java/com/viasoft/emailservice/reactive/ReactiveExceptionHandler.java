@@ -0,0 +1,101 @@
+package com.viasoft.emailservice.reactive;
+
+import com.viasoft.emailservice.dto.ErrorResponseDTO;
+import com.viasoft.emailservice.dto.ValidationErrorResponseDTO;
+import com.viasoft.emailservice.exception.handler.ValidationResponseFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Manipulador das exceções específicas do WebFlux.
+ *
+ * Converte as falhas de validação e de leitura do corpo da variante
+ * reativa nos mesmos DTOs de erro da variante servlet. As demais
+ * exceções continuam a cargo do
+ * {@link com.viasoft.emailservice.exception.handler.GlobalExceptionHandler},
+ * que também é aplicado aos controllers reativos.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Logger para registrar eventos e erros da classe.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    /**
+     * Fábrica das respostas de erros de validação.
+     */
+    private final ValidationResponseFactory validationResponses;
+
+    /**
+     * Construtor com injeção de dependência.
+     *
+     * @param validationResponsesParam fábrica das respostas de erros de
+     *                                 validação
+     */
+    public ReactiveExceptionHandler(
+            final ValidationResponseFactory validationResponsesParam) {
+        this.validationResponses = validationResponsesParam;
+    }
+
+    /**
+     * Trata exceções de validação de dados.
+     *
+     * @param ex exceção de validação
+     * @return resposta com detalhes dos erros de validação
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleBindException(
+            final WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            errors.put(error.getField(), error.getDefaultMessage());
+        }
+
+        LOGGER.warn("Erro de validação: {}", errors);
+
+        return validationResponses.validationErrors(errors);
+    }
+
+    /**
+     * Trata exceções de leitura do corpo da requisição.
+     *
+     * @param ex exceção de entrada inválida
+     * @return resposta com detalhes do erro
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInputException(
+            final ServerWebInputException ex) {
+        ErrorResponseDTO response = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Dados inválidos",
+                ex.getReason()
+        );
+
+        LOGGER.warn("Corpo da requisição inválido: {}", ex.getReason());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+}
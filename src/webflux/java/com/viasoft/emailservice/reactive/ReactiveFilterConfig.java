@@ -0,0 +1,37 @@
+package com.viasoft.emailservice.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viasoft.emailservice.service.ConcurrencyLimiterService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração dos filtros da variante reativa.
+ * Equivalente ao {@code WebFilterConfig} da variante servlet.
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveFilterConfig {
+
+    /**
+     * Registra o filtro de limite de concorrência.
+     *
+     * @param limiter serviço de limite de concorrência
+     * @param objectMapper mapper JSON da aplicação
+     * @return filtro de limite de concorrência
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mail.concurrency.enabled",
+            havingValue = "true", matchIfMissing = true)
+    public ReactiveConcurrencyLimitFilter concurrencyLimitFilter(
+            final ConcurrencyLimiterService limiter,
+            final ObjectMapper objectMapper) {
+        return new ReactiveConcurrencyLimitFilter(limiter, objectMapper);
+    }
+}
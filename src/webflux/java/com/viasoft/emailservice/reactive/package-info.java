@@ -0,0 +1,12 @@
+/**
+ * Pacote contendo a variante reativa da API de email.
+ *
+ * <p>Compilado apenas com o perfil Maven {@code webflux}. Expõe o mesmo
+ * contrato de {@code /emails} sobre Spring WebFlux/Netty, reutilizando
+ * os serviços, DTOs e o tratamento de erros da variante servlet.</p>
+ *
+ * @author Thiago Bianeck
+ * @version 1.0.0
+ * @since 2025
+ */
+package com.viasoft.emailservice.reactive;